@@ -6,6 +6,7 @@ export const envSchema = z.object({
   AUTH_SERVICE_URL: z.string(),
   ENQUIRY_SERVICE_URL: z.string(),
   PROPERTY_SERVICE_URL: z.string(),
+  PROPERTY_SERVICE_TIMEOUT_MS: z.coerce.number().int().positive().default(10000),
 });
 
 /** Type of validated env */
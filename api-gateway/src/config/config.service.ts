@@ -21,4 +21,9 @@ export class AppConfigService {
   get propertyServiceUrl(): string {
     return this.config.get('PROPERTY_SERVICE_URL', { infer: true });
   }
+
+  /** How long the gateway waits for the property service, in milliseconds */
+  get propertyServiceTimeoutMs(): number {
+    return this.config.get('PROPERTY_SERVICE_TIMEOUT_MS', { infer: true });
+  }
 }
@@ -77,22 +77,66 @@ export const BuyerPropertySwaggerConstant = {
       status: {
         name: 'status',
         type: String,
-        description: 'Filter by property status (Available, Sold, Rented)',
-        example: 'Available',
+        description:
+          'Filter by property status (Available, Sold, Rented), comma-separated for several',
+        example: 'Available,Rented',
         required: false,
       },
       type: {
         name: 'type',
         type: String,
-        description: 'Filter by property type (House, Land)',
+        description: 'Filter by property type (House, Land), comma-separated for several',
         example: 'House',
         required: false,
       },
       state: {
         name: 'state',
         type: String,
-        description: 'Filter by state name',
-        example: 'Bagmati',
+        description: 'Filter by state name, comma-separated for several',
+        example: 'Bagmati,Gandaki',
+        required: false,
+      },
+      city: {
+        name: 'city',
+        type: String,
+        description: 'Filter by city (exact match)',
+        example: 'Pokhara',
+        required: false,
+      },
+      createdFrom: {
+        name: 'createdFrom',
+        type: String,
+        description: 'Created on or after this date (yyyy-MM-dd)',
+        example: '2024-01-01',
+        required: false,
+      },
+      createdTo: {
+        name: 'createdTo',
+        type: String,
+        description: 'Created on or before this date (yyyy-MM-dd)',
+        example: '2024-12-31',
+        required: false,
+      },
+      updatedFrom: {
+        name: 'updatedFrom',
+        type: String,
+        description: 'Updated on or after this date (yyyy-MM-dd)',
+        example: '2024-06-01',
+        required: false,
+      },
+      updatedTo: {
+        name: 'updatedTo',
+        type: String,
+        description: 'Updated on or before this date (yyyy-MM-dd)',
+        example: '2024-06-30',
+        required: false,
+      },
+      sort: {
+        name: 'sort',
+        type: String,
+        description:
+          'Sort key (updatedAt, createdAt, title) with optional ,asc or ,desc; defaults to updatedAt,desc',
+        example: 'title,asc',
         required: false,
       },
     },
@@ -55,6 +55,10 @@ import { CreatePropertyDTO } from '../dtos/create-property.dto';
  * - PATCH  /property/:propertyId/archive  → Archive a property
  * - DELETE /property/delete/:propertyId   → Delete a property
  * - POST /property/admin/create           → Create a property
+ *
+ * @route /property
+ * @remarks
+ * Forwards the authenticated admin's user ID as `x-actor-id`, which property-service records as the actor of audited changes.
  */
 @Controller('property')
 @UseGuards(JwtGatewayGuard, RolesGuard)
@@ -107,6 +111,7 @@ export class AdminPropertyController {
         {
           headers: {
             'x-request-id': requestId,
+            'x-actor-id': req.user.id,
           },
         },
       ),
@@ -132,7 +137,7 @@ export class AdminPropertyController {
   @HttpCode(HttpStatus.OK)
   @ApiGetPendingProperties()
   async getPendingProperty(
-    @Req() req: Request,
+    @Req() req: RequestWithUserContext,
     @Query() query: PaginationQueryDto,
   ): Promise<IApiResponse<IProperty[]>> {
     const requestId = req.headers['x-request-id'] as string;
@@ -147,6 +152,7 @@ export class AdminPropertyController {
         {
           headers: {
             'x-request-id': requestId,
+            'x-actor-id': req.user.id,
           },
         },
       ),
@@ -174,7 +180,7 @@ export class AdminPropertyController {
   @HttpCode(HttpStatus.OK)
   @ApiApproveProperty()
   async approveProperty(
-    @Req() req: Request,
+    @Req() req: RequestWithUserContext,
     @Param('propertyId') propertyId: string,
   ): Promise<IApiResponse<{ approval: boolean; message: string }>> {
     const requestId = req.headers['x-request-id'] as string;
@@ -192,6 +198,7 @@ export class AdminPropertyController {
         {
           headers: {
             'x-request-id': requestId,
+            'x-actor-id': req.user.id,
           },
         },
       ),
@@ -219,7 +226,7 @@ export class AdminPropertyController {
   @HttpCode(HttpStatus.OK)
   @ApiRejectProperty()
   async rejectProperty(
-    @Req() req: Request,
+    @Req() req: RequestWithUserContext,
     @Param('propertyId') propertyId: string,
   ): Promise<IApiResponse<{ approval: boolean; message: string }>> {
     const requestId = req.headers['x-request-id'] as string;
@@ -237,6 +244,7 @@ export class AdminPropertyController {
         {
           headers: {
             'x-request-id': requestId,
+            'x-actor-id': req.user.id,
           },
         },
       ),
@@ -264,7 +272,7 @@ export class AdminPropertyController {
   @HttpCode(HttpStatus.OK)
   @ApiArchiveProperty()
   async archiveProperty(
-    @Req() req: Request,
+    @Req() req: RequestWithUserContext,
     @Param('propertyId') propertyId: string,
   ): Promise<IApiResponse<{ approval: boolean; message: string }>> {
     const requestId = req.headers['x-request-id'] as string;
@@ -282,6 +290,7 @@ export class AdminPropertyController {
         {
           headers: {
             'x-request-id': requestId,
+            'x-actor-id': req.user.id,
           },
         },
       ),
@@ -309,7 +318,7 @@ export class AdminPropertyController {
   @HttpCode(HttpStatus.OK)
   @ApiDeleteProperty()
   async deleteProperty(
-    @Req() req: Request,
+    @Req() req: RequestWithUserContext,
     @Param('propertyId') propertyId: string,
   ): Promise<IApiResponse<boolean>> {
     const requestId = req.headers['x-request-id'] as string;
@@ -324,6 +333,7 @@ export class AdminPropertyController {
         {
           headers: {
             'x-request-id': requestId,
+            'x-actor-id': req.user.id,
           },
         },
       ),
@@ -375,6 +385,7 @@ export class AdminPropertyController {
         {
           headers: {
             'x-request-id': requestId,
+            'x-actor-id': req.user.id,
             'Content-Type': 'application/json',
           },
         },
@@ -144,7 +144,7 @@ export class PropertyController {
   }
 
   /**
-   * Filters properties by status, type, and state.
+   * Filters properties by status, type, state, city and created/updated dates.
    *
    * @route GET /property/filter
    * @status 200 - OK
@@ -154,8 +154,9 @@ export class PropertyController {
    * @returns {Promise<IApiResponse<IProperty[]>>} Standardized response containing filtered properties
    *
    * @remarks
-   * - Filters can be combined
+   * - Filters can be combined; status, type and state accept comma-separated values
    * - All filter parameters are optional
+   * - Sortable by updatedAt (default), createdAt or title
    * - Includes pagination support
    * - Can optionally fetch only approved properties
    */
@@ -169,20 +170,12 @@ export class PropertyController {
     const requestId = req.headers['x-request-id'] as string;
 
     this.logger.log(
-      `[${requestId}] Filtering Properties - status: ${query.status}, type: ${query.type}, state: ${query.state}, page: ${query.page}, size: ${query.size}`,
+      `[${requestId}] Filtering Properties - ${JSON.stringify(query)}`,
     );
 
-    const { status, type, state, page, size } = query;
-
     const response = await firstValueFrom(
       this.httpService.get<IApiResponse<IProperty[]>>(
-        this.propertyUrlBuilder.filterPropertiesUrl(
-          status,
-          type,
-          state,
-          page,
-          size,
-        ),
+        this.propertyUrlBuilder.filterPropertiesUrl(query),
         {
           headers: {
             'x-request-id': requestId,
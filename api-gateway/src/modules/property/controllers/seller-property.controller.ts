@@ -54,6 +54,7 @@ import {
  * @remarks
  * Forwards requests to downstream services using HttpService.
  * Adds contextual data like user ID and request ID from headers.
+ * Forwards the authenticated user ID as `x-actor-id`, which property-service records as the actor of audited changes.
  */
 @Controller('property')
 @UseGuards(JwtGatewayGuard, RolesGuard)
@@ -115,6 +116,7 @@ export class SellerPropertyController {
         {
           headers: {
             'x-request-id': requestId,
+            'x-actor-id': req.user.id,
             'Content-Type': 'application/json',
           },
         },
@@ -171,6 +173,7 @@ export class SellerPropertyController {
         {
           headers: {
             'x-request-id': requestId,
+            'x-actor-id': req.user.id,
           },
         },
       ),
@@ -198,7 +201,7 @@ export class SellerPropertyController {
   @HttpCode(HttpStatus.OK)
   @ApiSubmitForApproval()
   async submitForPropertyApproval(
-    @Req() req: Request,
+    @Req() req: RequestWithUserContext,
     @Param('propertyId') propertyId: string,
   ): Promise<IApiResponse<{ approval: boolean; message: string }>> {
     const requestId = req.headers['x-request-id'] as string;
@@ -216,6 +219,7 @@ export class SellerPropertyController {
         {
           headers: {
             'x-request-id': requestId,
+            'x-actor-id': req.user.id,
           },
         },
       ),
@@ -245,7 +249,7 @@ export class SellerPropertyController {
   @HttpCode(HttpStatus.OK)
   @ApiUpdateProperty()
   async updateProperty(
-    @Req() req: Request,
+    @Req() req: RequestWithUserContext,
     @Param('propertyId') propertyId: string,
     @Body() updatePropertyDTO: UpdatePropertyDTO,
   ): Promise<IApiResponse<IProperty>> {
@@ -260,6 +264,7 @@ export class SellerPropertyController {
         {
           headers: {
             'x-request-id': requestId,
+            'x-actor-id': req.user.id,
             'Content-Type': 'application/json',
           },
         },
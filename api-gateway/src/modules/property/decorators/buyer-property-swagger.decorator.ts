@@ -70,6 +70,12 @@ export function ApiFilterProperties() {
     ApiQuery(BuyerPropertySwaggerConstant.QUERY.FILTERS.status),
     ApiQuery(BuyerPropertySwaggerConstant.QUERY.FILTERS.type),
     ApiQuery(BuyerPropertySwaggerConstant.QUERY.FILTERS.state),
+    ApiQuery(BuyerPropertySwaggerConstant.QUERY.FILTERS.city),
+    ApiQuery(BuyerPropertySwaggerConstant.QUERY.FILTERS.createdFrom),
+    ApiQuery(BuyerPropertySwaggerConstant.QUERY.FILTERS.createdTo),
+    ApiQuery(BuyerPropertySwaggerConstant.QUERY.FILTERS.updatedFrom),
+    ApiQuery(BuyerPropertySwaggerConstant.QUERY.FILTERS.updatedTo),
+    ApiQuery(BuyerPropertySwaggerConstant.QUERY.FILTERS.sort),
     ApiQuery(BuyerPropertySwaggerConstant.QUERY.PAGINATION.page),
     ApiQuery(BuyerPropertySwaggerConstant.QUERY.PAGINATION.limit),
 
@@ -4,83 +4,150 @@ import {
   IsNumber,
   Min,
   Max,
-  IsIn,
+  Matches,
+  MaxLength,
 } from 'class-validator';
 import { Type } from 'class-transformer';
 import { ApiProperty } from '@nestjs/swagger';
 
+const DATE_PATTERN = /^\d{4}-\d{2}-\d{2}$/;
+
 export class PropertyFilterQueryDto {
   /**
-   * Property status filter
-   * @example "Available"
+   * Property status filter, comma-separated for several
+   * @example "Available,Rented"
    */
   @ApiProperty({
-    description: 'Property status',
-    enum: ['Available', 'Rented', 'Sold'],
+    description: 'Property status, comma-separated for several (Available, Rented, Sold)',
     required: false,
-    example: 'Available',
+    example: 'Available,Rented',
   })
   @IsOptional()
   @IsString({ message: 'Status must be a string' })
-  @IsIn(['Available', 'Rented', 'Sold'], {
-    message: 'Status must be one of: Available, Rented, Sold',
+  @Matches(/^(Available|Rented|Sold)(,(Available|Rented|Sold))*$/i, {
+    message: 'Status must be a comma-separated list of: Available, Rented, Sold',
   })
   status?: string;
 
   /**
-   * Property type filter
+   * Property type filter, comma-separated for several
    * @example "House"
    */
   @ApiProperty({
-    description: 'Property type',
-    enum: ['House', 'Land'],
+    description: 'Property type, comma-separated for several (House, Land)',
     required: false,
     example: 'House',
   })
   @IsOptional()
   @IsString({ message: 'Type must be a string' })
-  @IsIn(['House', 'Land'], {
-    message: 'Type must be one of: House, Land',
+  @Matches(/^(House|Land)(,(House|Land))*$/i, {
+    message: 'Type must be a comma-separated list of: House, Land',
   })
   type?: string;
 
   /**
-   * Location state filter
-   * @example "Bagmati"
+   * Location state filter, comma-separated for several
+   * @example "Bagmati,Gandaki"
    */
   @ApiProperty({
-    description: 'Location state',
-    enum: [
-      'Koshi',
-      'Madhesh',
-      'Bagmati',
-      'Gandaki',
-      'Lumbini',
-      'Karnali',
-      'Sudurpashchim',
-    ],
+    description:
+      'Location state, comma-separated for several (Koshi, Madhesh, Bagmati, Gandaki, Lumbini, Karnali, Sudurpashchim)',
     required: false,
-    example: 'Bagmati',
+    example: 'Bagmati,Gandaki',
   })
   @IsOptional()
   @IsString({ message: 'State must be a string' })
-  @IsIn(
-    [
-      'Koshi',
-      'Madhesh',
-      'Bagmati',
-      'Gandaki',
-      'Lumbini',
-      'Karnali',
-      'Sudurpashchim',
-    ],
+  @Matches(
+    /^(Koshi|Madhesh|Bagmati|Gandaki|Lumbini|Karnali|Sudurpashchim)(,(Koshi|Madhesh|Bagmati|Gandaki|Lumbini|Karnali|Sudurpashchim))*$/i,
     {
       message:
-        'State must be one of: Koshi, Madhesh, Bagmati, Gandaki, Lumbini, Karnali, Sudurpashchim',
+        'State must be a comma-separated list of: Koshi, Madhesh, Bagmati, Gandaki, Lumbini, Karnali, Sudurpashchim',
     },
   )
   state?: string;
 
+  /**
+   * Location city filter (exact match)
+   * @example "Pokhara"
+   */
+  @ApiProperty({
+    description: 'Location city (exact match)',
+    required: false,
+    example: 'Pokhara',
+  })
+  @IsOptional()
+  @IsString({ message: 'City must be a string' })
+  @MaxLength(255, { message: 'City cannot exceed 255 characters' })
+  city?: string;
+
+  /**
+   * Created on or after this date
+   * @example "2024-01-01"
+   */
+  @ApiProperty({
+    description: 'Created on or after this date (yyyy-MM-dd)',
+    required: false,
+    example: '2024-01-01',
+  })
+  @IsOptional()
+  @Matches(DATE_PATTERN, { message: 'createdFrom must be a date (yyyy-MM-dd)' })
+  createdFrom?: string;
+
+  /**
+   * Created on or before this date
+   * @example "2024-12-31"
+   */
+  @ApiProperty({
+    description: 'Created on or before this date (yyyy-MM-dd)',
+    required: false,
+    example: '2024-12-31',
+  })
+  @IsOptional()
+  @Matches(DATE_PATTERN, { message: 'createdTo must be a date (yyyy-MM-dd)' })
+  createdTo?: string;
+
+  /**
+   * Updated on or after this date
+   * @example "2024-06-01"
+   */
+  @ApiProperty({
+    description: 'Updated on or after this date (yyyy-MM-dd)',
+    required: false,
+    example: '2024-06-01',
+  })
+  @IsOptional()
+  @Matches(DATE_PATTERN, { message: 'updatedFrom must be a date (yyyy-MM-dd)' })
+  updatedFrom?: string;
+
+  /**
+   * Updated on or before this date
+   * @example "2024-06-30"
+   */
+  @ApiProperty({
+    description: 'Updated on or before this date (yyyy-MM-dd)',
+    required: false,
+    example: '2024-06-30',
+  })
+  @IsOptional()
+  @Matches(DATE_PATTERN, { message: 'updatedTo must be a date (yyyy-MM-dd)' })
+  updatedTo?: string;
+
+  /**
+   * Sort key with optional direction
+   * @example "title,asc"
+   */
+  @ApiProperty({
+    description:
+      'Sort key (updatedAt, createdAt, title) with optional direction; defaults to updatedAt,desc',
+    required: false,
+    example: 'title,asc',
+  })
+  @IsOptional()
+  @Matches(/^(updatedAt|createdAt|title)(,(asc|desc))?$/, {
+    message: 'Sort must be one of updatedAt, createdAt, title, optionally followed by ,asc or ,desc',
+  })
+  sort?: string;
+
   /**
    * Page number (0-indexed)
    * @example 0
@@ -2,12 +2,33 @@ import { Module } from '@nestjs/common';
 import { PropertyController } from './controllers/property.controller';
 import { HttpModule } from '@nestjs/axios';
 import { ConfigModule } from '../../config/config.module';
+import { AppConfigService } from '../../config/config.service';
 import { PropertyUrlBuilder } from './utils/property-url.builder';
 import { AdminPropertyController } from './controllers/admin-property.controller';
 import { SellerPropertyController } from './controllers/seller-property.controller';
 
+/**
+ * PropertyModule
+ *
+ * Calls to the property service give up after PROPERTY_SERVICE_TIMEOUT_MS and pass the same budget
+ * as `x-request-timeout-ms`, so the service stops working on a request the gateway has abandoned.
+ */
 @Module({
-  imports: [HttpModule, ConfigModule],
+  imports: [
+    HttpModule.registerAsync({
+      imports: [ConfigModule],
+      inject: [AppConfigService],
+      useFactory: (configService: AppConfigService) => ({
+        timeout: configService.propertyServiceTimeoutMs,
+        headers: {
+          'x-request-timeout-ms': String(
+            configService.propertyServiceTimeoutMs,
+          ),
+        },
+      }),
+    }),
+    ConfigModule,
+  ],
   controllers: [
     PropertyController,
     AdminPropertyController,
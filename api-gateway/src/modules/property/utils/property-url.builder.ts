@@ -1,5 +1,6 @@
 import { Injectable } from '@nestjs/common';
 import { AppConfigService } from '../../../config/config.service';
+import { PropertyFilterQueryDto } from '../dtos/property-query-filter.dto';
 
 @Injectable()
 export class PropertyUrlBuilder {
@@ -132,39 +133,18 @@ export class PropertyUrlBuilder {
   }
 
   /**
-   * Delete property URL
+   * Filter properties URL; every filter set on the query is forwarded as-is.
    *
-   * @private
-   * @param {string} propertyId
-   * @returns {string}
-   */
-  deletePropertyUrl(propertyId: string): string {
-    return `${this.configService.propertyServiceUrl}/properties/delete/${propertyId}`;
-  }
-
-  /**
-   * Delete property URL
-   *
-   * @private
+   * @param {PropertyFilterQueryDto} filter - Filter, sort and pagination parameters
    * @returns {string}
-   * @param status
-   * @param type
-   * @param state
-   * @param page
-   * @param size
    */
-  filterPropertiesUrl(
-    status?: string,
-    type?: string,
-    state?: string,
-    page: number = 1,
-    size: number = 10,
-  ): string {
+  filterPropertiesUrl(filter: PropertyFilterQueryDto): string {
     const params = new URLSearchParams();
+    const { page = 1, size = 10, ...filters } = filter;
 
-    if (status) params.append('status', status);
-    if (type) params.append('type', type);
-    if (state) params.append('state', state);
+    for (const [key, value] of Object.entries(filters)) {
+      if (value) params.append(key, String(value));
+    }
     params.append('page', page.toString());
     params.append('size', size.toString());
 
@@ -3,6 +3,7 @@ import {
   Column,
   CreateDateColumn,
   Entity,
+  Index,
   PrimaryGeneratedColumn,
 } from 'typeorm';
 import { IEnquiry } from 'src/enquiry/interfaces/enquiry.interface';
@@ -13,6 +14,7 @@ export class Enquiry extends BaseEntity implements IEnquiry {
   @PrimaryGeneratedColumn('uuid')
   enquiry_id: string;
 
+  @Index('IDX_enquiry_property_id')
   @Column({ type: 'uuid', nullable: false })
   property_id: string;
 
@@ -0,0 +1,19 @@
+import { MigrationInterface, QueryRunner } from 'typeorm';
+
+export class AddEnquiryPropertyIdIndex1760868000000
+  implements MigrationInterface
+{
+  name = 'AddEnquiryPropertyIdIndex1760868000000';
+
+  public async up(queryRunner: QueryRunner): Promise<void> {
+    await queryRunner.query(`
+            CREATE INDEX "IDX_enquiry_property_id" ON "enquiry" ("property_id")
+        `);
+  }
+
+  public async down(queryRunner: QueryRunner): Promise<void> {
+    await queryRunner.query(`
+            DROP INDEX "public"."IDX_enquiry_property_id"
+        `);
+  }
+}
@@ -0,0 +1,20 @@
+import { ApiProperty } from '@nestjs/swagger';
+import { ArrayMaxSize, IsArray, IsUUID } from 'class-validator';
+
+/**
+ * DTO for counting enquiries of several properties in one call.
+ */
+export class EnquiryCountsDto {
+  /** Property IDs to count enquiries for (at most 100, one listing page) */
+  @ApiProperty({
+    description: 'Property IDs',
+    type: String,
+    format: 'uuid',
+    isArray: true,
+    maxItems: 100,
+  })
+  @IsArray()
+  @ArrayMaxSize(100)
+  @IsUUID('all', { each: true })
+  property_ids: string[];
+}
@@ -25,6 +25,7 @@ import {
   ApiResponse as SwaggerApiResponse,
 } from '@nestjs/swagger';
 import { CreateEnquiryDto } from './dtos/create-enquiry.dto';
+import { EnquiryCountsDto } from './dtos/enquiry-counts.dto';
 
 /**
  * Controller for handling Enquiry endpoints
@@ -106,6 +107,33 @@ export class EnquiryController {
     );
   }
 
+  /**
+   * Count enquiries for several properties in one call
+   * (used by property-service to decorate listing pages)
+   * @param dto Property IDs to count
+   * @param req Express request for x-request-id
+   * @returns Map of property_id to enquiry count
+   */
+  @Post('/property/counts')
+  @HttpCode(HttpStatus.OK)
+  @ApiOperation({ summary: 'Count enquiries for several properties' })
+  @ApiBody({ type: EnquiryCountsDto })
+  @SwaggerApiResponse({ status: 200, type: ApiResponse })
+  async countPropertyEnquiries(
+    @Body() dto: EnquiryCountsDto,
+    @Req() req: Request,
+  ): Promise<IApiResponse<Record<string, number>>> {
+    const counts = await this.enquiryService.countByPropertyIds(
+      dto.property_ids,
+    );
+    return ApiResponse.ok(
+      counts,
+      'Enquiry counts retrieved successfully',
+      HttpStatus.OK,
+      req.headers['x-request-id'] as string,
+    );
+  }
+
   /**
    * Get enquiries for a property with pagination
    * @param propertyId
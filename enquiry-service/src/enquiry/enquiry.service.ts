@@ -99,6 +99,32 @@ export class EnquiryService {
     };
   }
 
+  /**
+   * Counts enquiries for several properties with a single grouped query.
+   * @param property_ids UUIDs of the properties
+   * @returns Map of property_id to enquiry count; properties without enquiries map to 0
+   */
+  async countByPropertyIds(
+    property_ids: string[],
+  ): Promise<Record<string, number>> {
+    const counts: Record<string, number> = {};
+    if (!property_ids.length) return counts;
+
+    const rows: { property_id: string; count: string }[] =
+      await this.enquiryRepository
+        .createQueryBuilder('enquiry')
+        .select('enquiry.property_id', 'property_id')
+        .addSelect('COUNT(*)', 'count')
+        .where('enquiry.property_id IN (:...property_ids)', { property_ids })
+        .groupBy('enquiry.property_id')
+        .getRawMany();
+
+    for (const id of property_ids) counts[id] = 0;
+    // COUNT(*) comes back from pg as a bigint string
+    for (const row of rows) counts[row.property_id] = Number(row.count);
+    return counts;
+  }
+
   /**
    * Retrieves an enquiry by ID.
    * @param enquiry_id UUID of the enquiry
@@ -0,0 +1,13 @@
+package com.realState.property_read_service;
+
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.autoconfigure.SpringBootApplication;
+
+@SpringBootApplication
+public class PropertyReadServiceApplication {
+
+	public static void main(String[] args) {
+		SpringApplication.run(PropertyReadServiceApplication.class, args);
+	}
+
+}
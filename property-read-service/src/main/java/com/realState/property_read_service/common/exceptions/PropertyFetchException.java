@@ -0,0 +1,15 @@
+package com.realState.property_read_service.common.exceptions;
+
+/**
+ * Exception thrown when a property retrieval operation fails.
+ */
+public class PropertyFetchException extends RuntimeException {
+
+    public PropertyFetchException(String message) {
+        super(message);
+    }
+
+    public PropertyFetchException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
\ No newline at end of file
@@ -0,0 +1,13 @@
+package com.realState.property_read_service.common.exceptions;
+
+/**
+ * Thrown when a property with the given ID is not found.
+ * <p>
+ * Not-found is an expected outcome (stale links, scrapers), so the exception is stackless: it
+ * skips the stack walk on construction and logs as a single line.
+ */
+public class PropertyNotFoundException extends RuntimeException {
+    public PropertyNotFoundException(String message) {
+        super(message, null, false, false);
+    }
+}
@@ -0,0 +1,37 @@
+package com.realState.property_read_service.common.handler;
+
+import com.realState.property_read_service.common.exceptions.PropertyNotFoundException;
+import com.realState.property_read_service.common.utils.ApiResponse;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+
+/**
+ * Global exception handler for the reactive read API; error bodies match property-service.
+ */
+@RestControllerAdvice
+public class GlobalExceptionHandler {
+    /**
+     * Helper method to build consistent ApiResponse for any exception.
+     */
+    private ResponseEntity<ApiResponse<Object>> buildResponse(String errorName, String message, HttpStatus status) {
+        ApiResponse<Object> response = ApiResponse.error(errorName, message, status.value());
+        return new ResponseEntity<>(response, status);
+    }
+
+    @ExceptionHandler(PropertyNotFoundException.class)
+    public ResponseEntity<ApiResponse<Object>> handlePropertyNotFound(PropertyNotFoundException ex) {
+        return buildResponse("PROPERTY_NOT_FOUND", ex.getMessage(), HttpStatus.NOT_FOUND);
+    }
+
+    @ExceptionHandler(IllegalArgumentException.class)
+    public ResponseEntity<ApiResponse<Object>> handleIllegalArgument(IllegalArgumentException ex) {
+        return buildResponse("INVALID_ARGUMENT", ex.getMessage(), HttpStatus.BAD_REQUEST);
+    }
+
+    @ExceptionHandler(RuntimeException.class)
+    public ResponseEntity<ApiResponse<Object>> handleRuntimeException(RuntimeException ex) {
+        return buildResponse("RUNTIME_EXCEPTION", ex.getMessage(), HttpStatus.INTERNAL_SERVER_ERROR);
+    }
+}
@@ -0,0 +1,32 @@
+package com.realState.property_read_service.common.utils;
+
+import java.nio.ByteBuffer;
+import java.util.UUID;
+
+/**
+ * Converts between UUIDs and the BINARY(16) columns property-service writes them to.
+ */
+public final class UuidBytes {
+
+    // Private constructor to prevent instantiation
+    private UuidBytes() {
+    }
+
+    public static byte[] toBytes(UUID uuid) {
+        return ByteBuffer.allocate(16)
+                .putLong(uuid.getMostSignificantBits())
+                .putLong(uuid.getLeastSignificantBits())
+                .array();
+    }
+
+    /**
+     * @return the UUID, or null for a null column
+     */
+    public static UUID fromBytes(byte[] bytes) {
+        if (bytes == null) {
+            return null;
+        }
+        ByteBuffer buffer = ByteBuffer.wrap(bytes);
+        return new UUID(buffer.getLong(), buffer.getLong());
+    }
+}
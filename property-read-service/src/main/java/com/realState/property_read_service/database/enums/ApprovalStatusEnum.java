@@ -0,0 +1,9 @@
+package com.realState.property_read_service.database.enums;
+
+public enum ApprovalStatusEnum {
+    draft,
+    pending_approval,
+    approved,
+    rejected,
+    archived
+}
@@ -0,0 +1,54 @@
+package com.realState.property_read_service.database.enums;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Sort keys a client may pick through {@code ?sort=} on the filter endpoint; the same keys and
+ * default directions as property-service.
+ */
+public enum PropertySortEnum {
+    UPDATED_AT("updatedAt", "p.updated_at", false),
+    CREATED_AT("createdAt", "p.created_at", false),
+    TITLE("title", "p.title", true);
+
+    private static final Map<String, PropertySortEnum> BY_NAME = new HashMap<>();
+
+    static {
+        for (PropertySortEnum sort : values()) {
+            BY_NAME.put(sort.attribute.toLowerCase(), sort);
+        }
+    }
+
+    private final String attribute;
+    private final String column;
+    private final boolean ascendingByDefault;
+
+    PropertySortEnum(String attribute, String column, boolean ascendingByDefault) {
+        this.attribute = attribute;
+        this.column = column;
+        this.ascendingByDefault = ascendingByDefault;
+    }
+
+    /** Name used in the request parameter, the same as property-service's attribute name. */
+    public String getAttribute() {
+        return attribute;
+    }
+
+    /** Column of the properties table (aliased {@code p}) to order by. */
+    public String getColumn() {
+        return column;
+    }
+
+    /** Direction used when the request names the key without one: newest first for dates, A-Z for titles. */
+    public boolean isAscendingByDefault() {
+        return ascendingByDefault;
+    }
+
+    /**
+     * @return the sort key with this name (ignoring case), or null if there is none
+     */
+    public static PropertySortEnum find(String name) {
+        return name == null ? null : BY_NAME.get(name.trim().toLowerCase());
+    }
+}
@@ -0,0 +1,11 @@
+package com.realState.property_read_service.database.enums;
+
+public enum StateEnum {
+    Koshi,
+    Madhesh,
+    Bagmati,
+    Gandaki,
+    Lumbini,
+    Karnali,
+    Sudurpashchim
+}
\ No newline at end of file
@@ -0,0 +1,7 @@
+package com.realState.property_read_service.database.enums;
+
+public enum StatusEnum {
+    Available,
+    Sold,
+    Rented
+}
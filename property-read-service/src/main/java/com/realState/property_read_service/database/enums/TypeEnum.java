@@ -0,0 +1,6 @@
+package com.realState.property_read_service.database.enums;
+
+public enum TypeEnum {
+    House,
+    Land
+}
\ No newline at end of file
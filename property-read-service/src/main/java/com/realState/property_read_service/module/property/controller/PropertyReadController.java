@@ -0,0 +1,231 @@
+package com.realState.property_read_service.module.property.controller;
+
+import com.realState.property_read_service.common.utils.ApiResponse;
+import com.realState.property_read_service.common.utils.EnumLookup;
+import com.realState.property_read_service.database.enums.PropertySortEnum;
+import com.realState.property_read_service.database.enums.StateEnum;
+import com.realState.property_read_service.database.enums.StatusEnum;
+import com.realState.property_read_service.database.enums.TypeEnum;
+import com.realState.property_read_service.module.property.dto.PropertyDTO;
+import com.realState.property_read_service.module.property.dto.PropertyFilterDTO;
+import com.realState.property_read_service.module.property.dto.PropertyFilterQueryDTO;
+import com.realState.property_read_service.module.property.service.PropertyReadService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import org.springdoc.core.annotations.ParameterObject;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Reactive buyer read endpoints. Paths, parameters, parsing and response bodies mirror
+ * property-service's buyer GETs (the filter included, but not its {@code fields=} variants), so the
+ * gateway can route these to either service.
+ */
+@RestController
+@RequestMapping(value = { "/properties" })
+public class PropertyReadController {
+
+    private static final EnumLookup<StatusEnum> STATUSES = new EnumLookup<>(StatusEnum.class);
+    private static final EnumLookup<TypeEnum> TYPES = new EnumLookup<>(TypeEnum.class);
+    private static final EnumLookup<StateEnum> STATES = new EnumLookup<>(StateEnum.class);
+
+    private final PropertyReadService propertyReadService;
+
+    public PropertyReadController(PropertyReadService propertyReadService) {
+        this.propertyReadService = propertyReadService;
+    }
+
+    /** Converts a 1-indexed page number to a 0-indexed one, treating invalid values as the first page. */
+    private static int toPageIndex(int page) {
+        return Math.max(page, 1) - 1;
+    }
+
+    /** Defaults invalid page sizes to 10 and caps them at 100 to prevent abuse. */
+    private static int toPageSize(int size) {
+        return size < 1 ? 10 : Math.min(size, 100);
+    }
+
+    /** Parses the raw filter parameters exactly as property-service does. */
+    private static PropertyFilterDTO buildFilterDTO(PropertyFilterQueryDTO query) {
+        PropertyFilterDTO filterDTO = new PropertyFilterDTO();
+        filterDTO.setStatuses(STATUSES.parseAll(query.getStatus(), "status"));
+        filterDTO.setTypes(TYPES.parseAll(query.getType(), "type"));
+        filterDTO.setStates(STATES.parseAll(query.getState(), "state"));
+
+        if (query.getCity() != null && !query.getCity().isBlank()) {
+            filterDTO.setCity(query.getCity().trim());
+        }
+
+        // Dates are whole days: from is inclusive at 00:00, to is inclusive up to the end of that day
+        filterDTO.setCreatedFrom(startOfDay(query.getCreatedFrom(), "createdFrom", 0));
+        filterDTO.setCreatedTo(startOfDay(query.getCreatedTo(), "createdTo", 1));
+        filterDTO.setUpdatedFrom(startOfDay(query.getUpdatedFrom(), "updatedFrom", 0));
+        filterDTO.setUpdatedTo(startOfDay(query.getUpdatedTo(), "updatedTo", 1));
+        requireOrdered(filterDTO.getCreatedFrom(), filterDTO.getCreatedTo(), "createdFrom", "createdTo");
+        requireOrdered(filterDTO.getUpdatedFrom(), filterDTO.getUpdatedTo(), "updatedFrom", "updatedTo");
+
+        if (query.getSort() != null && !query.getSort().isBlank()) {
+            String[] parts = query.getSort().split(",", 2);
+            PropertySortEnum sort = PropertySortEnum.find(parts[0]);
+            if (sort == null) {
+                throw new IllegalArgumentException("Invalid sort key: '" + parts[0].trim()
+                        + "' (allowed: updatedAt, createdAt, title)");
+            }
+            filterDTO.setSort(sort);
+            filterDTO.setAscending(parts.length == 1 ? sort.isAscendingByDefault() : isAscending(parts[1]));
+        }
+
+        filterDTO.setPage(toPageIndex(query.getPage()));
+        filterDTO.setSize(toPageSize(query.getSize()));
+        return filterDTO;
+    }
+
+    /** Parses a yyyy-MM-dd date into the start of that day, shifted by {@code plusDays}; null stays null. */
+    private static LocalDateTime startOfDay(String date, String parameter, int plusDays) {
+        if (date == null || date.isBlank()) {
+            return null;
+        }
+        try {
+            return LocalDate.parse(date.trim()).plusDays(plusDays).atStartOfDay();
+        } catch (DateTimeParseException ex) {
+            throw new IllegalArgumentException("Invalid " + parameter + ": '" + date.trim() + "' (expected yyyy-MM-dd)");
+        }
+    }
+
+    private static void requireOrdered(LocalDateTime from, LocalDateTime to, String fromName, String toName) {
+        if (from != null && to != null && !from.isBefore(to)) {
+            throw new IllegalArgumentException(fromName + " must not be after " + toName);
+        }
+    }
+
+    private static boolean isAscending(String direction) {
+        return switch (direction.trim().toLowerCase()) {
+            case "asc" -> true;
+            case "desc" -> false;
+            default -> throw new IllegalArgumentException("Invalid sort direction: '" + direction.trim()
+                    + "' (allowed: asc, desc)");
+        };
+    }
+
+    // ================= Buyer APIs =================
+    /**
+     * 1. Get filtered properties.
+     */
+    @Operation(
+            summary = "Get filtered properties",
+            description = "Get approved properties matching any of the given statuses, types and states, a city and "
+                    + "created/updated date ranges, sorted by updatedAt (default), createdAt or title (Buyer)",
+            tags = { "Buyer APIs" }
+    )
+    @GetMapping("/filter")
+    public Mono<ApiResponse<List<PropertyDTO>>> filterPropertiesWithParams(
+            @ParameterObject PropertyFilterQueryDTO query) {
+        return propertyReadService.filterProperties(buildFilterDTO(query));
+    }
+
+    /**
+     * 2. Get all approved properties.
+     */
+    @Operation(
+            summary = "Get all approved properties",
+            description = "Get all approved properties (Buyer)",
+            tags = { "Buyer APIs" }
+    )
+    @ApiResponses(value = {
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(
+                    responseCode = "200",
+                    description = "Approved properties retrieved successfully"
+            )
+    })
+    @GetMapping("/approved")
+    public Mono<ApiResponse<List<PropertyDTO>>> getApprovedProperty(
+            @RequestParam(defaultValue = "1") int page,
+            @RequestParam(defaultValue = "10") int size) {
+        return propertyReadService.getApprovedProperty(toPageIndex(page), toPageSize(size));
+    }
+
+    /**
+     * 2a. Stream all approved properties as newline-delimited JSON.
+     */
+    @Operation(
+            summary = "Stream all approved properties",
+            description = "Streams every approved property as newline-delimited JSON; rows are read as the client consumes them (Buyer)",
+            tags = { "Buyer APIs" }
+    )
+    @GetMapping(value = "/approved/stream", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public Flux<PropertyDTO> streamApprovedProperties() {
+        return propertyReadService.streamApprovedProperties();
+    }
+
+    /**
+     * 3. Get approved properties near a point.
+     */
+    @Operation(
+            summary = "Get nearby properties",
+            description = "Get approved properties within radiusKm of the given coordinates, nearest first (Buyer)",
+            tags = { "Buyer APIs" }
+    )
+    @ApiResponses(value = {
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(
+                    responseCode = "200",
+                    description = "Nearby properties retrieved successfully"
+            ),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(
+                    responseCode = "400",
+                    description = "Invalid coordinates or radius"
+            )
+    })
+    @GetMapping("/nearby")
+    public Mono<ApiResponse<List<PropertyDTO>>> getNearbyProperties(
+            @RequestParam double lat,
+            @RequestParam double lng,
+            @RequestParam(defaultValue = "10") double radiusKm,
+            @RequestParam(defaultValue = "20") int limit) {
+        if (lat < -90 || lat > 90 || lng < -180 || lng > 180) {
+            throw new IllegalArgumentException("Invalid coordinates: lat must be in [-90, 90], lng in [-180, 180]");
+        }
+        if (radiusKm <= 0 || radiusKm > 100) {
+            throw new IllegalArgumentException("radiusKm must be greater than 0 and at most 100");
+        }
+        return propertyReadService.getNearbyProperties(lat, lng, radiusKm, toPageSize(limit));
+    }
+
+    /**
+     * 4. Get property details by ID.
+     */
+    @Operation(
+            summary = "Get property details by ID",
+            description = "Get property details by ID (Buyer)",
+            tags = { "Buyer APIs" }
+    )
+    @ApiResponses(value = {
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(
+                    responseCode = "200",
+                    description = "Property details retrieved successfully"
+            ),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(
+                    responseCode = "404",
+                    description = "Property not found"
+            ),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(
+                    responseCode = "400",
+                    description = "Invalid property ID format"
+            )
+    })
+    @GetMapping("/{id}")
+    public Mono<ApiResponse<PropertyDTO>> getPropertyById(
+            @Parameter(description = "Property ID (UUID format)", required = true)
+            @PathVariable String id) {
+        UUID propertyId = UUID.fromString(id);
+        return propertyReadService.getPropertyById(propertyId).map(ApiResponse::success);
+    }
+}
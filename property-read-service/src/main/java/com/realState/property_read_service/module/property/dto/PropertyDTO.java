@@ -0,0 +1,107 @@
+package com.realState.property_read_service.module.property.dto;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+import com.realState.property_read_service.database.enums.ApprovalStatusEnum;
+import com.realState.property_read_service.database.enums.StatusEnum;
+import com.realState.property_read_service.database.enums.TypeEnum;
+import com.realState.property_read_service.module.location.dto.LocationDTO;
+
+/**
+ * Data Transfer Object representing a Property.
+ */
+public class PropertyDTO {
+
+    private UUID id;
+    private String title;
+    private String description;
+    private TypeEnum type;
+    private StatusEnum status;
+    private ApprovalStatusEnum approvalStatus;
+    private LocationDTO location;
+    private UUID ownerId;
+    private LocalDateTime createdAt;
+    private LocalDateTime updatedAt;
+
+    // Getters and Setters
+    public UUID getId() {
+        return id;
+    }
+
+    public void setId(UUID id) {
+        this.id = id;
+    }
+
+    public String getTitle() {
+        return title;
+    }
+
+    public void setTitle(String title) {
+        this.title = title;
+    }
+
+    public String getDescription() {
+        return description;
+    }
+
+    public void setDescription(String description) {
+        this.description = description;
+    }
+
+    public TypeEnum getType() {
+        return type;
+    }
+
+    public void setType(TypeEnum type) {
+        this.type = type;
+    }
+
+    public StatusEnum getStatus() {
+        return status;
+    }
+
+    public void setStatus(StatusEnum status) {
+        this.status = status;
+    }
+
+    public ApprovalStatusEnum getApprovalStatus() {
+        return approvalStatus;
+    }
+
+    public void setApprovalStatus(ApprovalStatusEnum approvalStatus) {
+        this.approvalStatus = approvalStatus;
+    }
+
+    public LocationDTO getLocation() {
+        return location;
+    }
+
+    public void setLocation(LocationDTO location) {
+        this.location = location;
+    }
+
+    public UUID getOwnerId() {
+        return ownerId;
+    }
+
+    public void setOwnerId(UUID ownerId) {
+        this.ownerId = ownerId;
+    }
+
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+
+    public void setCreatedAt(LocalDateTime createdAt) {
+        this.createdAt = createdAt;
+    }
+
+    public LocalDateTime getUpdatedAt() {
+        return updatedAt;
+    }
+
+    public void setUpdatedAt(LocalDateTime updatedAt) {
+        this.updatedAt = updatedAt;
+    }
+
+}
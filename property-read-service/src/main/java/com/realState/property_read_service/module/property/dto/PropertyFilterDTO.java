@@ -0,0 +1,128 @@
+package com.realState.property_read_service.module.property.dto;
+
+import java.time.LocalDateTime;
+import java.util.EnumSet;
+import java.util.Set;
+
+import com.realState.property_read_service.database.enums.PropertySortEnum;
+import com.realState.property_read_service.database.enums.StateEnum;
+import com.realState.property_read_service.database.enums.StatusEnum;
+import com.realState.property_read_service.database.enums.TypeEnum;
+
+/**
+ * Parsed buyer filter. Empty value sets and null bounds mean "no restriction"; date ranges are
+ * half-open ({@code from <= value < to}).
+ */
+public class PropertyFilterDTO {
+    private Set<StatusEnum> statuses = EnumSet.noneOf(StatusEnum.class);
+    private Set<TypeEnum> types = EnumSet.noneOf(TypeEnum.class);
+    private Set<StateEnum> states = EnumSet.noneOf(StateEnum.class);
+    private String city;
+    private LocalDateTime createdFrom;
+    private LocalDateTime createdTo;
+    private LocalDateTime updatedFrom;
+    private LocalDateTime updatedTo;
+    private PropertySortEnum sort = PropertySortEnum.UPDATED_AT;
+    private boolean ascending;
+    private int page;
+    private int size;
+
+    public PropertyFilterDTO() {}
+
+    // getter & setter
+    public Set<StatusEnum> getStatuses() {
+        return statuses;
+    }
+
+    public void setStatuses(Set<StatusEnum> statuses) {
+        this.statuses = statuses;
+    }
+
+    public Set<TypeEnum> getTypes() {
+        return types;
+    }
+
+    public void setTypes(Set<TypeEnum> types) {
+        this.types = types;
+    }
+
+    public Set<StateEnum> getStates() {
+        return states;
+    }
+
+    public void setStates(Set<StateEnum> states) {
+        this.states = states;
+    }
+
+    public String getCity() {
+        return city;
+    }
+
+    public void setCity(String city) {
+        this.city = city;
+    }
+
+    public LocalDateTime getCreatedFrom() {
+        return createdFrom;
+    }
+
+    public void setCreatedFrom(LocalDateTime createdFrom) {
+        this.createdFrom = createdFrom;
+    }
+
+    public LocalDateTime getCreatedTo() {
+        return createdTo;
+    }
+
+    public void setCreatedTo(LocalDateTime createdTo) {
+        this.createdTo = createdTo;
+    }
+
+    public LocalDateTime getUpdatedFrom() {
+        return updatedFrom;
+    }
+
+    public void setUpdatedFrom(LocalDateTime updatedFrom) {
+        this.updatedFrom = updatedFrom;
+    }
+
+    public LocalDateTime getUpdatedTo() {
+        return updatedTo;
+    }
+
+    public void setUpdatedTo(LocalDateTime updatedTo) {
+        this.updatedTo = updatedTo;
+    }
+
+    public PropertySortEnum getSort() {
+        return sort;
+    }
+
+    public void setSort(PropertySortEnum sort) {
+        this.sort = sort;
+    }
+
+    public boolean isAscending() {
+        return ascending;
+    }
+
+    public void setAscending(boolean ascending) {
+        this.ascending = ascending;
+    }
+
+    public int getPage() {
+        return page;
+    }
+
+    public void setPage(int page) {
+        this.page = page;
+    }
+
+    public int getSize() {
+        return size;
+    }
+
+    public void setSize(int size) {
+        this.size = size;
+    }
+}
@@ -0,0 +1,143 @@
+package com.realState.property_read_service.module.property.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+/**
+ * Raw query parameters of the buyer filter endpoints, bound as-is and parsed into a
+ * {@link PropertyFilterDTO} by the controller.
+ */
+public class PropertyFilterQueryDTO {
+
+    @Schema(description = "Comma-separated statuses (any of), e.g. Available,Rented")
+    private String status;
+
+    @Schema(description = "Comma-separated types (any of), e.g. House")
+    private String type;
+
+    @Schema(description = "Comma-separated location states (any of), e.g. Bagmati,Gandaki")
+    private String state;
+
+    @Schema(description = "Exact location city, e.g. Kathmandu")
+    private String city;
+
+    @Schema(description = "Created on or after this date (yyyy-MM-dd)")
+    private String createdFrom;
+
+    @Schema(description = "Created on or before this date (yyyy-MM-dd)")
+    private String createdTo;
+
+    @Schema(description = "Updated on or after this date (yyyy-MM-dd)")
+    private String updatedFrom;
+
+    @Schema(description = "Updated on or before this date (yyyy-MM-dd)")
+    private String updatedTo;
+
+    @Schema(description = "Sort key updatedAt, createdAt or title, optionally followed by ,asc or ,desc",
+            example = "updatedAt,desc")
+    private String sort;
+
+    @Schema(description = "Page number (1-indexed)", defaultValue = "1")
+    private int page = 1;
+
+    @Schema(description = "Page size (max 100)", defaultValue = "10")
+    private int size = 10;
+
+    public PropertyFilterQueryDTO() {}
+
+    public PropertyFilterQueryDTO(String status, String type, String state, int page, int size) {
+        this.status = status;
+        this.type = type;
+        this.state = state;
+        this.page = page;
+        this.size = size;
+    }
+
+    // getter & setter
+    public String getStatus() {
+        return status;
+    }
+
+    public void setStatus(String status) {
+        this.status = status;
+    }
+
+    public String getType() {
+        return type;
+    }
+
+    public void setType(String type) {
+        this.type = type;
+    }
+
+    public String getState() {
+        return state;
+    }
+
+    public void setState(String state) {
+        this.state = state;
+    }
+
+    public String getCity() {
+        return city;
+    }
+
+    public void setCity(String city) {
+        this.city = city;
+    }
+
+    public String getCreatedFrom() {
+        return createdFrom;
+    }
+
+    public void setCreatedFrom(String createdFrom) {
+        this.createdFrom = createdFrom;
+    }
+
+    public String getCreatedTo() {
+        return createdTo;
+    }
+
+    public void setCreatedTo(String createdTo) {
+        this.createdTo = createdTo;
+    }
+
+    public String getUpdatedFrom() {
+        return updatedFrom;
+    }
+
+    public void setUpdatedFrom(String updatedFrom) {
+        this.updatedFrom = updatedFrom;
+    }
+
+    public String getUpdatedTo() {
+        return updatedTo;
+    }
+
+    public void setUpdatedTo(String updatedTo) {
+        this.updatedTo = updatedTo;
+    }
+
+    public String getSort() {
+        return sort;
+    }
+
+    public void setSort(String sort) {
+        this.sort = sort;
+    }
+
+    public int getPage() {
+        return page;
+    }
+
+    public void setPage(int page) {
+        this.page = page;
+    }
+
+    public int getSize() {
+        return size;
+    }
+
+    public void setSize(int size) {
+        this.size = size;
+    }
+}
@@ -0,0 +1,249 @@
+package com.realState.property_read_service.module.property.repository;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Repository;
+
+import com.realState.property_read_service.common.utils.UuidBytes;
+import com.realState.property_read_service.database.enums.ApprovalStatusEnum;
+import com.realState.property_read_service.database.enums.StateEnum;
+import com.realState.property_read_service.database.enums.StatusEnum;
+import com.realState.property_read_service.database.enums.TypeEnum;
+import com.realState.property_read_service.module.location.dto.LocationDTO;
+import com.realState.property_read_service.module.property.dto.PropertyDTO;
+import com.realState.property_read_service.module.property.dto.PropertyFilterDTO;
+
+import io.r2dbc.spi.Readable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Read-only queries over the tables owned by property-service.
+ * <p>
+ * R2DBC has no entity relationships, so every query joins properties to locations explicitly and
+ * maps the row straight to a PropertyDTO; a listing page is one statement, with no lazy loading.
+ * Result rows are emitted as the driver decodes them, so a slow subscriber slows the fetch down
+ * instead of buffering the whole result.
+ */
+@Repository
+public class PropertyReadRepository {
+
+    private static final String SELECT_PROPERTY = """
+            SELECT p.id, p.title, p.description, p.type, p.status, p.approval_status, p.owner_id,
+                   p.created_at, p.updated_at,
+                   l.id AS location_id, l.address, l.city, l.state, l.country, l.zipcode,
+                   l.latitude, l.longitude, l.created_at AS location_created_at, l.updated_at AS location_updated_at
+            FROM properties p
+            JOIN locations l ON l.id = p.location_id
+            """;
+
+    // Cold-stored listings carry their location flattened into the row, aliased like SELECT_PROPERTY
+    private static final String SELECT_ARCHIVED = """
+            SELECT a.id, a.title, a.description, a.type, a.status, a.approval_status, a.owner_id,
+                   a.created_at, a.updated_at,
+                   a.location_id, a.address, a.city, a.state, a.country, a.zipcode,
+                   a.latitude, a.longitude, a.location_created_at, a.location_updated_at
+            FROM properties_archive a
+            """;
+
+    private static final String COUNT_PROPERTY = """
+            SELECT COUNT(*)
+            FROM properties p
+            JOIN locations l ON l.id = p.location_id
+            """;
+
+    private static final String APPROVED = "p.approval_status = 'approved'";
+
+    // Great-circle distance in km; the bounding box in front of it lets MySQL use the coordinates first
+    private static final String DISTANCE_KM = """
+            (6371 * ACOS(LEAST(1, COS(RADIANS(:lat)) * COS(RADIANS(l.latitude))
+                * COS(RADIANS(l.longitude) - RADIANS(:lng)) + SIN(RADIANS(:lat)) * SIN(RADIANS(l.latitude)))))""";
+
+    private final DatabaseClient databaseClient;
+
+    public PropertyReadRepository(DatabaseClient databaseClient) {
+        this.databaseClient = databaseClient;
+    }
+
+    /**
+     * Approved properties, most recently updated first.
+     */
+    public Flux<PropertyDTO> findApproved(long offset, int limit) {
+        return databaseClient.sql(SELECT_PROPERTY + " WHERE " + APPROVED
+                        + " ORDER BY p.updated_at DESC LIMIT :limit OFFSET :offset")
+                .bind("limit", limit)
+                .bind("offset", offset)
+                .map(PropertyReadRepository::mapRow)
+                .all();
+    }
+
+    public Mono<Long> countApproved() {
+        return databaseClient.sql(COUNT_PROPERTY + " WHERE " + APPROVED)
+                .map(row -> row.get(0, Long.class))
+                .one();
+    }
+
+    /**
+     * Every approved property, streamed in update order for clients that page through the whole catalog.
+     */
+    public Flux<PropertyDTO> streamApproved() {
+        return databaseClient.sql(SELECT_PROPERTY + " WHERE " + APPROVED + " ORDER BY p.updated_at DESC")
+                .map(PropertyReadRepository::mapRow)
+                .all();
+    }
+
+    /**
+     * Approved properties matching the filter, in its sort order with the id as tie-breaker.
+     */
+    public Flux<PropertyDTO> findApprovedFiltered(PropertyFilterDTO filter, long offset, int limit) {
+        String direction = filter.isAscending() ? " ASC" : " DESC";
+        DatabaseClient.GenericExecuteSpec spec = databaseClient.sql(SELECT_PROPERTY + where(filter)
+                        + " ORDER BY " + filter.getSort().getColumn() + direction + ", p.id" + direction
+                        + " LIMIT :limit OFFSET :offset")
+                .bind("limit", limit)
+                .bind("offset", offset);
+        return bindFilter(spec, filter).map(PropertyReadRepository::mapRow).all();
+    }
+
+    public Mono<Long> countApprovedFiltered(PropertyFilterDTO filter) {
+        return bindFilter(databaseClient.sql(COUNT_PROPERTY + where(filter)), filter)
+                .map(row -> row.get(0, Long.class))
+                .one();
+    }
+
+    /**
+     * A property by id, whatever its approval status, falling back to cold storage when it is no
+     * longer in properties (matches property-service's detail endpoint).
+     */
+    public Mono<PropertyDTO> findById(UUID id) {
+        byte[] key = UuidBytes.toBytes(id);
+        return databaseClient.sql(SELECT_PROPERTY + " WHERE p.id = :id")
+                .bind("id", key)
+                .map(PropertyReadRepository::mapRow)
+                .one()
+                .switchIfEmpty(Mono.defer(() -> databaseClient.sql(SELECT_ARCHIVED + " WHERE a.id = :id")
+                        .bind("id", key)
+                        .map(PropertyReadRepository::mapRow)
+                        .one()));
+    }
+
+    /**
+     * Approved properties within {@code radiusKm} of a point, nearest first.
+     */
+    public Flux<PropertyDTO> findApprovedNearby(double latitude, double longitude, double radiusKm, int limit) {
+        double latDelta = Math.toDegrees(radiusKm / 6371);
+        double lngDelta = Math.toDegrees(radiusKm / (6371 * Math.max(Math.cos(Math.toRadians(latitude)), 0.01)));
+        return databaseClient.sql(SELECT_PROPERTY + " WHERE " + APPROVED
+                        + " AND l.latitude BETWEEN :minLat AND :maxLat"
+                        + " AND l.longitude BETWEEN :minLng AND :maxLng"
+                        + " AND " + DISTANCE_KM + " <= :radius"
+                        + " ORDER BY " + DISTANCE_KM + " LIMIT :limit")
+                .bind("lat", latitude)
+                .bind("lng", longitude)
+                .bind("minLat", latitude - latDelta)
+                .bind("maxLat", latitude + latDelta)
+                .bind("minLng", longitude - lngDelta)
+                .bind("maxLng", longitude + lngDelta)
+                .bind("radius", radiusKm)
+                .bind("limit", limit)
+                .map(PropertyReadRepository::mapRow)
+                .all();
+    }
+
+    // Value sets match any of their values; an IN list is expanded from the bound collection
+    private static String where(PropertyFilterDTO filter) {
+        List<String> conditions = new ArrayList<>();
+        conditions.add(APPROVED);
+        if (!filter.getStatuses().isEmpty()) {
+            conditions.add("p.status IN (:statuses)");
+        }
+        if (!filter.getTypes().isEmpty()) {
+            conditions.add("p.type IN (:types)");
+        }
+        if (!filter.getStates().isEmpty()) {
+            conditions.add("l.state IN (:states)");
+        }
+        if (filter.getCity() != null) {
+            conditions.add("l.city = :city");
+        }
+        // Date ranges are half-open: from <= value < to
+        if (filter.getCreatedFrom() != null) {
+            conditions.add("p.created_at >= :createdFrom");
+        }
+        if (filter.getCreatedTo() != null) {
+            conditions.add("p.created_at < :createdTo");
+        }
+        if (filter.getUpdatedFrom() != null) {
+            conditions.add("p.updated_at >= :updatedFrom");
+        }
+        if (filter.getUpdatedTo() != null) {
+            conditions.add("p.updated_at < :updatedTo");
+        }
+        return " WHERE " + String.join(" AND ", conditions);
+    }
+
+    private static DatabaseClient.GenericExecuteSpec bindFilter(DatabaseClient.GenericExecuteSpec spec,
+            PropertyFilterDTO filter) {
+        if (!filter.getStatuses().isEmpty()) {
+            spec = spec.bind("statuses", names(filter.getStatuses()));
+        }
+        if (!filter.getTypes().isEmpty()) {
+            spec = spec.bind("types", names(filter.getTypes()));
+        }
+        if (!filter.getStates().isEmpty()) {
+            spec = spec.bind("states", names(filter.getStates()));
+        }
+        if (filter.getCity() != null) {
+            spec = spec.bind("city", filter.getCity());
+        }
+        if (filter.getCreatedFrom() != null) {
+            spec = spec.bind("createdFrom", filter.getCreatedFrom());
+        }
+        if (filter.getCreatedTo() != null) {
+            spec = spec.bind("createdTo", filter.getCreatedTo());
+        }
+        if (filter.getUpdatedFrom() != null) {
+            spec = spec.bind("updatedFrom", filter.getUpdatedFrom());
+        }
+        if (filter.getUpdatedTo() != null) {
+            spec = spec.bind("updatedTo", filter.getUpdatedTo());
+        }
+        return spec;
+    }
+
+    private static List<String> names(Set<? extends Enum<?>> values) {
+        return values.stream().map(Enum::name).toList();
+    }
+
+    private static PropertyDTO mapRow(Readable row) {
+        LocationDTO location = new LocationDTO();
+        location.setId(row.get("location_id", Long.class));
+        location.setAddress(row.get("address", String.class));
+        location.setCity(row.get("city", String.class));
+        location.setState(StateEnum.valueOf(row.get("state", String.class)));
+        location.setCountry(row.get("country", String.class));
+        location.setZipcode(row.get("zipcode", Integer.class));
+        location.setLatitude(row.get("latitude", Float.class));
+        location.setLongitude(row.get("longitude", Float.class));
+        location.setCreatedAt(row.get("location_created_at", LocalDateTime.class));
+        location.setUpdatedAt(row.get("location_updated_at", LocalDateTime.class));
+
+        PropertyDTO dto = new PropertyDTO();
+        dto.setId(UuidBytes.fromBytes(row.get("id", byte[].class)));
+        dto.setTitle(row.get("title", String.class));
+        dto.setDescription(row.get("description", String.class));
+        dto.setType(TypeEnum.valueOf(row.get("type", String.class)));
+        dto.setStatus(StatusEnum.valueOf(row.get("status", String.class)));
+        dto.setApprovalStatus(ApprovalStatusEnum.valueOf(row.get("approval_status", String.class)));
+        dto.setOwnerId(UuidBytes.fromBytes(row.get("owner_id", byte[].class)));
+        dto.setCreatedAt(row.get("created_at", LocalDateTime.class));
+        dto.setUpdatedAt(row.get("updated_at", LocalDateTime.class));
+        dto.setLocation(location);
+        return dto;
+    }
+}
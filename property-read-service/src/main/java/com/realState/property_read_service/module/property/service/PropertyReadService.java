@@ -0,0 +1,61 @@
+package com.realState.property_read_service.module.property.service;
+
+import java.util.List;
+import java.util.UUID;
+
+import com.realState.property_read_service.common.utils.ApiResponse;
+import com.realState.property_read_service.module.property.dto.PropertyDTO;
+import com.realState.property_read_service.module.property.dto.PropertyFilterDTO;
+
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Non-blocking buyer reads. Responses are shaped exactly like property-service's buyer endpoints.
+ */
+public interface PropertyReadService {
+
+    /**
+     * 1. Get a page of approved properties.
+     *
+     * @param page 0-indexed page number
+     * @param size page size
+     * @return properties with pagination metadata
+     */
+    Mono<ApiResponse<List<PropertyDTO>>> getApprovedProperty(int page, int size);
+
+    /**
+     * 2. Stream every approved property.
+     *
+     * @return properties emitted as they are read, at the pace the subscriber requests them
+     */
+    Flux<PropertyDTO> streamApprovedProperties();
+
+    /**
+     * 3. Get a page of approved properties matching the filter.
+     *
+     * @param filter parsed filter, sort and 0-indexed paging
+     * @return properties with pagination metadata
+     */
+    Mono<ApiResponse<List<PropertyDTO>>> filterProperties(PropertyFilterDTO filter);
+
+    /**
+     * 4. Get a property by its ID.
+     *
+     * @param id the property UUID
+     * @return the property, or an error signal with PropertyNotFoundException
+     */
+    Mono<PropertyDTO> getPropertyById(UUID id);
+
+    /**
+     * 5. Get approved properties near a point, nearest first.
+     *
+     * @param latitude  centre latitude in degrees
+     * @param longitude centre longitude in degrees
+     * @param radiusKm  search radius in kilometres
+     * @param limit     maximum number of results
+     * @return matching properties
+     */
+    Mono<ApiResponse<List<PropertyDTO>>> getNearbyProperties(double latitude, double longitude, double radiusKm,
+            int limit);
+}
@@ -0,0 +1,107 @@
+package com.realState.property_read_service.module.property.service.impl;
+
+import java.util.List;
+import java.util.UUID;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+
+import com.realState.property_read_service.common.exceptions.PropertyFetchException;
+import com.realState.property_read_service.common.exceptions.PropertyNotFoundException;
+import com.realState.property_read_service.common.utils.ApiResponse;
+import com.realState.property_read_service.module.property.dto.PropertyDTO;
+import com.realState.property_read_service.module.property.dto.PropertyFilterDTO;
+import com.realState.property_read_service.module.property.repository.PropertyReadRepository;
+import com.realState.property_read_service.module.property.service.PropertyReadService;
+
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Implementation of {@link PropertyReadService} on top of R2DBC.
+ * <p>
+ * A page and its total count are issued concurrently on separate pooled connections and combined
+ * once both arrive; no thread waits on either query.
+ */
+@Service
+public class PropertyReadServiceImpl implements PropertyReadService {
+
+    private static final Logger logger = LoggerFactory.getLogger(PropertyReadServiceImpl.class);
+
+    private final PropertyReadRepository propertyReadRepository;
+
+    public PropertyReadServiceImpl(PropertyReadRepository propertyReadRepository) {
+        this.propertyReadRepository = propertyReadRepository;
+    }
+
+    @Override
+    public Mono<ApiResponse<List<PropertyDTO>>> getApprovedProperty(int page, int size) {
+        long offset = (long) page * size;
+        return page(propertyReadRepository.findApproved(offset, size), propertyReadRepository.countApproved(),
+                page, size, "Fetched approved properties successfully")
+                .onErrorMap(ex -> {
+                    logger.error("Failed to fetch approved properties", ex);
+                    return new PropertyFetchException("Failed to fetch approved properties", ex);
+                });
+    }
+
+    @Override
+    public Flux<PropertyDTO> streamApprovedProperties() {
+        return propertyReadRepository.streamApproved()
+                .onErrorMap(ex -> {
+                    logger.error("Failed to stream approved properties", ex);
+                    return new PropertyFetchException("Failed to stream approved properties", ex);
+                });
+    }
+
+    @Override
+    public Mono<ApiResponse<List<PropertyDTO>>> filterProperties(PropertyFilterDTO filter) {
+        int page = filter.getPage();
+        int size = filter.getSize();
+        long offset = (long) page * size;
+        return page(propertyReadRepository.findApprovedFiltered(filter, offset, size),
+                propertyReadRepository.countApprovedFiltered(filter),
+                page, size, "Filtered properties fetched successfully")
+                .doOnNext(response -> logger.info("Filtered properties - status: {}, type: {}, state: {}, city: {}, found: {}, page: {}",
+                        filter.getStatuses(), filter.getTypes(), filter.getStates(), filter.getCity(),
+                        response.getData().size(), page + 1))
+                .onErrorMap(ex -> {
+                    logger.error("Failed to fetch filtered properties", ex);
+                    return new PropertyFetchException("Failed to Fetch Properties", ex);
+                });
+    }
+
+    @Override
+    public Mono<PropertyDTO> getPropertyById(UUID id) {
+        return propertyReadRepository.findById(id)
+                .onErrorMap(ex -> {
+                    logger.error("Failed to fetch property {}", id, ex);
+                    return new PropertyFetchException("Failed to fetch property", ex);
+                })
+                .switchIfEmpty(Mono.error(() -> new PropertyNotFoundException("Property not found with id=" + id)));
+    }
+
+    @Override
+    public Mono<ApiResponse<List<PropertyDTO>>> getNearbyProperties(double latitude, double longitude,
+            double radiusKm, int limit) {
+        return propertyReadRepository.findApprovedNearby(latitude, longitude, radiusKm, limit)
+                .collectList()
+                .map(properties -> ApiResponse.success(properties, "Fetched nearby properties successfully"))
+                .onErrorMap(ex -> {
+                    logger.error("Failed to fetch nearby properties", ex);
+                    return new PropertyFetchException("Failed to fetch nearby properties", ex);
+                });
+    }
+
+    private static Mono<ApiResponse<List<PropertyDTO>>> page(Flux<PropertyDTO> content, Mono<Long> count, int page,
+            int size, String message) {
+        return Mono.zip(content.collectList(), count)
+                .map(tuple -> {
+                    long total = tuple.getT2();
+                    int totalPages = (int) ((total + size - 1) / size);
+                    ApiResponse.MetaData meta = new ApiResponse.MetaData(total, totalPages, page + 1, size);
+                    return ApiResponse.success(tuple.getT1(), meta, message);
+                });
+    }
+}
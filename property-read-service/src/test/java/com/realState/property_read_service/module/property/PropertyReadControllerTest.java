@@ -0,0 +1,130 @@
+package com.realState.property_read_service.module.property;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.reactive.AutoConfigureWebTestClient;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.reactive.server.WebTestClient;
+
+import com.realState.property_read_service.module.property.dto.PropertyDTO;
+
+import reactor.test.StepVerifier;
+
+/**
+ * Checks that the reactive buyer endpoints answer with the same envelope and paging as property-service.
+ */
+@SpringBootTest
+@AutoConfigureWebTestClient
+@ActiveProfiles("test")
+class PropertyReadControllerTest {
+
+	@Autowired
+	private WebTestClient webTestClient;
+
+	@Test
+	void approvedListingIsPagedNewestFirst() {
+		webTestClient.get().uri("/properties/approved?page=1&size=2")
+				.exchange()
+				.expectStatus().isOk()
+				.expectBody()
+				.jsonPath("$.success").isEqualTo(true)
+				.jsonPath("$.data.length()").isEqualTo(2)
+				.jsonPath("$.data[0].title").isEqualTo("Patan Family Home")
+				.jsonPath("$.data[0].location.city").isEqualTo("Lalitpur")
+				.jsonPath("$.meta.totalItems").isEqualTo(3)
+				.jsonPath("$.meta.totalPages").isEqualTo(2)
+				.jsonPath("$.meta.currentPage").isEqualTo(1);
+	}
+
+	@Test
+	void filterMatchesStatusTypeAndState() {
+		webTestClient.get().uri("/properties/filter?type=house&state=bagmati")
+				.exchange()
+				.expectStatus().isOk()
+				.expectBody()
+				.jsonPath("$.data.length()").isEqualTo(2)
+				.jsonPath("$.meta.totalItems").isEqualTo(2);
+
+		webTestClient.get().uri("/properties/filter?status=nope")
+				.exchange()
+				.expectStatus().isBadRequest()
+				.expectBody()
+				.jsonPath("$.errorCode").isEqualTo("INVALID_ARGUMENT");
+	}
+
+	@Test
+	void filterMatchesAnyOfManyValuesCityDatesAndSort() {
+		webTestClient.get().uri("/properties/filter?status=available,sold&state=Bagmati,Gandaki&sort=title")
+				.exchange()
+				.expectStatus().isOk()
+				.expectBody()
+				.jsonPath("$.data.length()").isEqualTo(3)
+				.jsonPath("$.data[0].title").isEqualTo("Lakeside Plot")
+				.jsonPath("$.data[2].title").isEqualTo("Thamel Apartment House");
+
+		webTestClient.get().uri("/properties/filter?city=Pokhara")
+				.exchange()
+				.expectStatus().isOk()
+				.expectBody()
+				.jsonPath("$.data.length()").isEqualTo(1)
+				.jsonPath("$.data[0].title").isEqualTo("Lakeside Plot");
+
+		webTestClient.get().uri("/properties/filter?updatedFrom=2025-01-04&updatedTo=2025-01-05&sort=updatedAt,asc")
+				.exchange()
+				.expectStatus().isOk()
+				.expectBody()
+				.jsonPath("$.meta.totalItems").isEqualTo(2)
+				.jsonPath("$.data[0].title").isEqualTo("Lakeside Plot")
+				.jsonPath("$.data[1].title").isEqualTo("Patan Family Home");
+	}
+
+	@Test
+	void detailReturnsPropertyOr404() {
+		webTestClient.get().uri("/properties/11111111-1111-1111-1111-111111111111")
+				.exchange()
+				.expectStatus().isOk()
+				.expectBody()
+				.jsonPath("$.data.id").isEqualTo("11111111-1111-1111-1111-111111111111")
+				.jsonPath("$.data.ownerId").isEqualTo("aaaaaaaa-aaaa-aaaa-aaaa-aaaaaaaaaaaa");
+
+		// Cold-stored listings are still served, with their flattened location
+		webTestClient.get().uri("/properties/55555555-5555-5555-5555-555555555555")
+				.exchange()
+				.expectStatus().isOk()
+				.expectBody()
+				.jsonPath("$.data.approvalStatus").isEqualTo("rejected")
+				.jsonPath("$.data.location.city").isEqualTo("Dharan");
+
+		webTestClient.get().uri("/properties/99999999-9999-9999-9999-999999999999")
+				.exchange()
+				.expectStatus().isNotFound()
+				.expectBody()
+				.jsonPath("$.errorCode").isEqualTo("PROPERTY_NOT_FOUND");
+	}
+
+	@Test
+	void nearbyReturnsClosestApprovedPropertiesFirst() {
+		// Kathmandu city centre: Thamel (~1 km) before Patan (~5 km); Pokhara is ~140 km away
+		webTestClient.get().uri("/properties/nearby?lat=27.7050&lng=85.3140&radiusKm=10")
+				.exchange()
+				.expectStatus().isOk()
+				.expectBody()
+				.jsonPath("$.data.length()").isEqualTo(2)
+				.jsonPath("$.data[0].title").isEqualTo("Thamel Apartment House")
+				.jsonPath("$.data[1].title").isEqualTo("Patan Family Home");
+	}
+
+	@Test
+	void streamEmitsEveryApprovedProperty() {
+		StepVerifier.create(webTestClient.get().uri("/properties/approved/stream")
+						.accept(MediaType.APPLICATION_NDJSON)
+						.exchange()
+						.expectStatus().isOk()
+						.returnResult(PropertyDTO.class)
+						.getResponseBody())
+				.expectNextCount(3)
+				.verifyComplete();
+	}
+}
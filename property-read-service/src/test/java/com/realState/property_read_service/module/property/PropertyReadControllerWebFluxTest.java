@@ -0,0 +1,101 @@
+package com.realState.property_read_service.module.property;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import java.time.LocalDateTime;
+import java.util.EnumSet;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.reactive.WebFluxTest;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.reactive.server.WebTestClient;
+
+import com.realState.property_read_service.common.utils.ApiResponse;
+import com.realState.property_read_service.database.enums.PropertySortEnum;
+import com.realState.property_read_service.database.enums.StateEnum;
+import com.realState.property_read_service.database.enums.StatusEnum;
+import com.realState.property_read_service.database.enums.TypeEnum;
+import com.realState.property_read_service.module.property.controller.PropertyReadController;
+import com.realState.property_read_service.module.property.dto.PropertyDTO;
+import com.realState.property_read_service.module.property.dto.PropertyFilterDTO;
+import com.realState.property_read_service.module.property.service.PropertyReadService;
+
+import reactor.core.publisher.Mono;
+
+/**
+ * Checks that the filter parameters are parsed like property-service parses them, without a database.
+ */
+@WebFluxTest(PropertyReadController.class)
+class PropertyReadControllerWebFluxTest {
+
+	@Autowired
+	private WebTestClient webTestClient;
+
+	@MockitoBean
+	private PropertyReadService propertyReadService;
+
+	@Test
+	void filterParametersAreParsedIntoTheSharedContract() {
+		when(propertyReadService.filterProperties(any()))
+				.thenReturn(Mono.just(ApiResponse.success(List.<PropertyDTO>of(), "Filtered properties fetched successfully")));
+
+		webTestClient.get().uri("/properties/filter?status=rented, AVAILABLE&type=house&state=bagmati,Koshi"
+						+ "&city= Kathmandu &createdFrom=2025-01-01&createdTo=2025-01-31&sort=title&page=2&size=500")
+				.exchange()
+				.expectStatus().isOk();
+
+		ArgumentCaptor<PropertyFilterDTO> captor = ArgumentCaptor.forClass(PropertyFilterDTO.class);
+		verify(propertyReadService).filterProperties(captor.capture());
+		PropertyFilterDTO filter = captor.getValue();
+		assertEquals(EnumSet.of(StatusEnum.Available, StatusEnum.Rented), filter.getStatuses());
+		assertEquals(EnumSet.of(TypeEnum.House), filter.getTypes());
+		assertEquals(EnumSet.of(StateEnum.Bagmati, StateEnum.Koshi), filter.getStates());
+		assertEquals("Kathmandu", filter.getCity());
+		assertEquals(LocalDateTime.of(2025, 1, 1, 0, 0), filter.getCreatedFrom());
+		assertEquals(LocalDateTime.of(2025, 2, 1, 0, 0), filter.getCreatedTo());
+		assertNull(filter.getUpdatedFrom());
+		assertEquals(PropertySortEnum.TITLE, filter.getSort());
+		assertTrue(filter.isAscending());
+		assertEquals(1, filter.getPage());
+		assertEquals(100, filter.getSize());
+	}
+
+	@Test
+	void unsortedFiltersDefaultToNewestFirst() {
+		when(propertyReadService.filterProperties(any()))
+				.thenReturn(Mono.just(ApiResponse.success(List.<PropertyDTO>of(), "Filtered properties fetched successfully")));
+
+		webTestClient.get().uri("/properties/filter").exchange().expectStatus().isOk();
+
+		ArgumentCaptor<PropertyFilterDTO> captor = ArgumentCaptor.forClass(PropertyFilterDTO.class);
+		verify(propertyReadService).filterProperties(captor.capture());
+		assertTrue(captor.getValue().getStatuses().isEmpty());
+		assertEquals(PropertySortEnum.UPDATED_AT, captor.getValue().getSort());
+		assertFalse(captor.getValue().isAscending());
+		assertEquals(0, captor.getValue().getPage());
+		assertEquals(10, captor.getValue().getSize());
+	}
+
+	@Test
+	void invalidFiltersAreRejectedBeforeTheService() {
+		for (String query : List.of("status=nope", "sort=price", "sort=title,up", "createdFrom=01-01-2025",
+				"updatedFrom=2025-02-01&updatedTo=2025-01-01")) {
+			webTestClient.get().uri("/properties/filter?" + query)
+					.exchange()
+					.expectStatus().isBadRequest()
+					.expectBody()
+					.jsonPath("$.errorCode").isEqualTo("INVALID_ARGUMENT");
+		}
+		verifyNoInteractions(propertyReadService);
+	}
+}
@@ -0,0 +1,17 @@
+DELETE FROM properties_archive;
+DELETE FROM properties;
+DELETE FROM locations;
+
+INSERT INTO locations (id, address, city, country, latitude, longitude, state, zipcode, created_at, updated_at) VALUES
+    (1, 'Thamel Marg', 'Kathmandu', 'Nepal', 27.7154, 85.3123, 'Bagmati', 44600, TIMESTAMP '2025-01-01 10:00:00', TIMESTAMP '2025-01-01 10:00:00'),
+    (2, 'Lakeside Road', 'Pokhara', 'Nepal', 28.2096, 83.9856, 'Gandaki', 33700, TIMESTAMP '2025-01-01 10:00:00', TIMESTAMP '2025-01-01 10:00:00'),
+    (3, 'Jawalakhel Chowk', 'Lalitpur', 'Nepal', 27.6727, 85.3142, 'Bagmati', 44700, TIMESTAMP '2025-01-01 10:00:00', TIMESTAMP '2025-01-01 10:00:00');
+
+INSERT INTO properties (id, location_id, owner_id, title, description, type, status, approval_status, created_at, updated_at) VALUES
+    (X'11111111111111111111111111111111', 1, X'aaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaa', 'Thamel Apartment House', 'Near the tourist hub', 'House', 'Available', 'approved', TIMESTAMP '2025-01-02 10:00:00', TIMESTAMP '2025-01-03 10:00:00'),
+    (X'22222222222222222222222222222222', 2, X'aaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaa', 'Lakeside Plot', 'Lake view land', 'Land', 'Available', 'approved', TIMESTAMP '2025-01-02 10:00:00', TIMESTAMP '2025-01-04 10:00:00'),
+    (X'33333333333333333333333333333333', 3, X'bbbbbbbbbbbbbbbbbbbbbbbbbbbbbbbb', 'Patan Family Home', 'Quiet neighbourhood', 'House', 'Sold', 'approved', TIMESTAMP '2025-01-02 10:00:00', TIMESTAMP '2025-01-05 10:00:00'),
+    (X'44444444444444444444444444444444', 1, X'bbbbbbbbbbbbbbbbbbbbbbbbbbbbbbbb', 'Draft Listing', 'Not yet submitted', 'House', 'Available', 'draft', TIMESTAMP '2025-01-02 10:00:00', TIMESTAMP '2025-01-06 10:00:00');
+
+INSERT INTO properties_archive (id, owner_id, title, description, type, status, approval_status, created_at, updated_at, location_id, address, city, country, latitude, longitude, state, zipcode, location_created_at, location_updated_at, archived_at) VALUES
+    (X'55555555555555555555555555555555', X'bbbbbbbbbbbbbbbbbbbbbbbbbbbbbbbb', 'Rejected Listing', 'Moved to cold storage', 'Land', 'Available', 'rejected', TIMESTAMP '2025-01-02 10:00:00', TIMESTAMP '2025-01-07 10:00:00', 4, 'Bhanu Chowk', 'Dharan', 'Nepal', 26.8120, 87.2830, 'Koshi', 56700, TIMESTAMP '2025-01-01 10:00:00', TIMESTAMP '2025-01-01 10:00:00', TIMESTAMP '2025-03-01 10:00:00');
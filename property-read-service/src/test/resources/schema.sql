@@ -0,0 +1,49 @@
+CREATE TABLE IF NOT EXISTS locations (
+    id BIGINT AUTO_INCREMENT PRIMARY KEY,
+    address VARCHAR(255) NOT NULL,
+    city VARCHAR(255) NOT NULL,
+    country VARCHAR(255) NOT NULL,
+    latitude REAL,
+    longitude REAL,
+    state VARCHAR(32) NOT NULL,
+    zipcode INT,
+    created_at TIMESTAMP NOT NULL,
+    updated_at TIMESTAMP NOT NULL
+);
+
+CREATE TABLE IF NOT EXISTS properties (
+    id BINARY(16) PRIMARY KEY,
+    location_id BIGINT NOT NULL,
+    owner_id BINARY(16) NOT NULL,
+    title VARCHAR(255) NOT NULL,
+    description VARCHAR(2000),
+    type VARCHAR(32) NOT NULL,
+    status VARCHAR(32) NOT NULL,
+    approval_status VARCHAR(32) NOT NULL,
+    created_at TIMESTAMP NOT NULL,
+    updated_at TIMESTAMP NOT NULL,
+    FOREIGN KEY (location_id) REFERENCES locations (id)
+);
+
+CREATE TABLE IF NOT EXISTS properties_archive (
+    id BINARY(16) PRIMARY KEY,
+    owner_id BINARY(16),
+    title VARCHAR(255) NOT NULL,
+    description VARCHAR(2000),
+    type VARCHAR(32) NOT NULL,
+    status VARCHAR(32) NOT NULL,
+    approval_status VARCHAR(32) NOT NULL,
+    created_at TIMESTAMP NOT NULL,
+    updated_at TIMESTAMP NOT NULL,
+    location_id BIGINT NOT NULL,
+    address VARCHAR(255) NOT NULL,
+    city VARCHAR(255) NOT NULL,
+    country VARCHAR(255) NOT NULL,
+    latitude REAL,
+    longitude REAL,
+    state VARCHAR(32) NOT NULL,
+    zipcode INT,
+    location_created_at TIMESTAMP NOT NULL,
+    location_updated_at TIMESTAMP NOT NULL,
+    archived_at TIMESTAMP NOT NULL
+);
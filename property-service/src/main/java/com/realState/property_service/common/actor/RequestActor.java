@@ -0,0 +1,34 @@
+package com.realState.property_service.common.actor;
+
+/**
+ * Holds the identity of whoever issued the request being handled on the current thread.
+ * <p>
+ * Set by the actor filter from the {@code X-Actor-Id} header and read when changes are audited.
+ * Threads without a request (background jobs, async ingestion) act as {@value #SYSTEM}.
+ */
+public final class RequestActor {
+
+    public static final String SYSTEM = "system";
+
+    private static final ThreadLocal<String> ACTOR = new ThreadLocal<>();
+
+    // Private constructor to prevent instantiation
+    private RequestActor() {
+    }
+
+    public static void set(String actor) {
+        ACTOR.set(actor);
+    }
+
+    public static void clear() {
+        ACTOR.remove();
+    }
+
+    /**
+     * @return the current actor, or {@value #SYSTEM} outside a request that named one
+     */
+    public static String current() {
+        String actor = ACTOR.get();
+        return actor != null ? actor : SYSTEM;
+    }
+}
@@ -0,0 +1,34 @@
+package com.realState.property_service.common.cache;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.springframework.stereotype.Component;
+
+import com.realState.property_service.common.utils.TransactionUtils;
+
+/**
+ * Monotonic version of the property catalog.
+ * <p>
+ * Every write in PropertyService bumps the version once its transaction commits, so any cached
+ * response built against an older version is treated as stale. Readers must capture the version
+ * <b>before</b> loading data and store the result under that captured version.
+ */
+@Component
+public class CatalogVersion {
+
+    private final AtomicLong version = new AtomicLong();
+
+    /**
+     * @return the current catalog version
+     */
+    public long current() {
+        return version.get();
+    }
+
+    /**
+     * Bumps the version after the current transaction commits (or immediately outside a transaction).
+     */
+    public void bumpAfterCommit() {
+        TransactionUtils.afterCommit(version::incrementAndGet);
+    }
+}
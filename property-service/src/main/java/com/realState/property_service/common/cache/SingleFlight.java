@@ -0,0 +1,123 @@
+package com.realState.property_service.common.cache;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import com.realState.property_service.common.deadline.RequestDeadline;
+import com.realState.property_service.common.exceptions.DeadlineExceededException;
+import com.realState.property_service.common.exceptions.OverloadedException;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Coalesces concurrent identical calls: while a load for a key is in flight, later callers for the
+ * same key wait for and share its result instead of issuing their own query.
+ * <p>
+ * Nothing is cached once the leading call finishes, so callers never see data older than a call
+ * that was already running when they arrived. Exceptions are shared too: waiters get the leader's
+ * exception (e.g. not found). Waiters per key are capped; beyond the cap callers are rejected with
+ * {@link OverloadedException} rather than parking more request threads behind one slow query.
+ * <p>
+ * Use it outside transactions, so waiting callers do not hold database connections.
+ *
+ * @param <K> key type
+ * @param <V> result type
+ */
+public class SingleFlight<K, V> {
+
+    private static final class Call<V> {
+        final CompletableFuture<V> result = new CompletableFuture<>();
+        final AtomicInteger waiters = new AtomicInteger();
+    }
+
+    private final ConcurrentHashMap<K, Call<V>> inFlight = new ConcurrentHashMap<>();
+    private final boolean enabled;
+    private final int maxWaiters;
+
+    private final Counter leaders;
+    private final Counter coalesced;
+    private final Counter rejected;
+
+    /**
+     * @param name       value of the {@code flight} metric tag
+     * @param maxWaiters maximum number of callers waiting on one in-flight key
+     */
+    public SingleFlight(MeterRegistry meterRegistry, String name, boolean enabled, int maxWaiters) {
+        this.enabled = enabled;
+        this.maxWaiters = maxWaiters;
+
+        this.leaders = meterRegistry.counter("property.singleflight.calls", "flight", name, "result", "leader");
+        this.coalesced = meterRegistry.counter("property.singleflight.calls", "flight", name, "result", "coalesced");
+        this.rejected = meterRegistry.counter("property.singleflight.calls", "flight", name, "result", "rejected");
+        Gauge.builder("property.singleflight.inflight", inFlight, ConcurrentHashMap::size)
+                .tag("flight", name)
+                .register(meterRegistry);
+    }
+
+    /**
+     * Runs the loader, or joins an identical call that is already running.
+     *
+     * @throws OverloadedException if too many callers are already waiting on this key
+     */
+    public V execute(K key, Supplier<V> loader) {
+        if (!enabled) {
+            return loader.get();
+        }
+
+        Call<V> call = new Call<>();
+        Call<V> existing = inFlight.putIfAbsent(key, call);
+        if (existing != null) {
+            return await(existing);
+        }
+
+        leaders.increment();
+        try {
+            V value = loader.get();
+            call.result.complete(value);
+            return value;
+        } catch (RuntimeException | Error ex) {
+            call.result.completeExceptionally(ex);
+            throw ex;
+        } finally {
+            inFlight.remove(key, call);
+        }
+    }
+
+    private V await(Call<V> call) {
+        if (call.waiters.incrementAndGet() > maxWaiters) {
+            call.waiters.decrementAndGet();
+            rejected.increment();
+            throw new OverloadedException("Too many identical requests in flight, retry later");
+        }
+        coalesced.increment();
+        try {
+            // Waiters give up at their own request deadline; the leader keeps going for the others
+            if (RequestDeadline.isSet()) {
+                return call.result.get(Math.max(0, RequestDeadline.remainingMillis()), TimeUnit.MILLISECONDS);
+            }
+            return call.result.get();
+        } catch (TimeoutException ex) {
+            throw new DeadlineExceededException("Request deadline passed while waiting for a coalesced call");
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for a coalesced call", ex);
+        } catch (ExecutionException ex) {
+            if (ex.getCause() instanceof RuntimeException runtime) {
+                throw runtime;
+            }
+            if (ex.getCause() instanceof Error error) {
+                throw error;
+            }
+            throw new IllegalStateException(ex.getCause());
+        } finally {
+            call.waiters.decrementAndGet();
+        }
+    }
+}
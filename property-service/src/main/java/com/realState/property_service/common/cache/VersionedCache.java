@@ -0,0 +1,96 @@
+package com.realState.property_service.common.cache;
+
+import com.realState.property_service.common.utils.TransactionUtils;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Size-bounded local cache whose loads are guarded by the {@link CatalogVersion}.
+ * <p>
+ * Writes evict affected keys after commit. Loads record the catalog version seen before querying
+ * and are only stored if no write committed in the meantime, so a slow read cannot put back a value
+ * that a concurrent write already invalidated. Entries also expire after a TTL to bound staleness
+ * against writes made by other instances.
+ *
+ * @param <K> key type
+ * @param <V> value type
+ */
+public class VersionedCache<K, V> {
+
+    private record Entry<V>(V value, long expiresAtNanos) {
+    }
+
+    private final CatalogVersion catalogVersion;
+    private final LruCache<K, Entry<V>> entries;
+    private final boolean enabled;
+    private final long ttlNanos;
+
+    private final Counter hits;
+    private final Counter misses;
+
+    /**
+     * @param metricPrefix prefix for the {@code .requests} counter and {@code .entries} gauge
+     */
+    public VersionedCache(CatalogVersion catalogVersion, MeterRegistry meterRegistry, String metricPrefix,
+            boolean enabled, int maxEntries, long ttlSeconds) {
+        this.catalogVersion = catalogVersion;
+        this.entries = new LruCache<>(maxEntries);
+        this.enabled = enabled;
+        this.ttlNanos = ttlSeconds * 1_000_000_000L;
+
+        this.hits = meterRegistry.counter(metricPrefix + ".requests", "result", "hit");
+        this.misses = meterRegistry.counter(metricPrefix + ".requests", "result", "miss");
+        Gauge.builder(metricPrefix + ".entries", entries, LruCache::size).register(meterRegistry);
+    }
+
+    /**
+     * @return the cached value, or null when absent or expired
+     */
+    public V get(K key) {
+        if (!enabled) {
+            return null;
+        }
+        Entry<V> entry = entries.get(key);
+        if (entry == null || entry.expiresAtNanos() - System.nanoTime() < 0) {
+            misses.increment();
+            return null;
+        }
+        hits.increment();
+        return entry.value();
+    }
+
+    /**
+     * Captures the version a subsequent {@link #put} must be checked against.
+     * Call this before querying the database.
+     */
+    public long loadVersion() {
+        return catalogVersion.current();
+    }
+
+    /**
+     * Stores a loaded value unless a write committed since {@code loadVersion} was captured.
+     */
+    public void put(K key, V value, long loadVersion) {
+        if (enabled && value != null && catalogVersion.current() == loadVersion) {
+            entries.put(key, new Entry<>(value, System.nanoTime() + ttlNanos));
+        }
+    }
+
+    /**
+     * Evicts the given key once the current transaction commits.
+     */
+    public void evictAfterCommit(K key) {
+        if (key != null) {
+            TransactionUtils.afterCommit(() -> entries.remove(key));
+        }
+    }
+
+    /**
+     * Drops every entry.
+     */
+    public void clear() {
+        entries.clear();
+    }
+}
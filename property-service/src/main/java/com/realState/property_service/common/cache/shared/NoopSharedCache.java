@@ -0,0 +1,49 @@
+package com.realState.property_service.common.cache.shared;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * Default when no shared tier is configured: every lookup misses and writes go nowhere.
+ */
+@Component
+@ConditionalOnProperty(name = "property.cache.shared.type", havingValue = "none", matchIfMissing = true)
+public class NoopSharedCache implements SharedCache {
+
+    @Override
+    public boolean isEnabled() {
+        return false;
+    }
+
+    @Override
+    public List<byte[]> getAll(List<String> keys) {
+        return new ArrayList<>(Collections.nCopies(keys.size(), null));
+    }
+
+    @Override
+    public void putAll(Map<String, byte[]> entries, long ttlMillis) {
+    }
+
+    @Override
+    public void delete(Collection<String> keys) {
+    }
+
+    @Override
+    public long increment(String key) {
+        return 0;
+    }
+
+    @Override
+    public void publish(String channel, String message) {
+    }
+
+    @Override
+    public void subscribe(String channel, Subscriber subscriber) {
+    }
+}
@@ -0,0 +1,171 @@
+package com.realState.property_service.common.cache.shared;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * One blocking connection speaking the Redis serialization protocol (RESP2).
+ * <p>
+ * Commands are arrays of bulk strings. {@link #pipeline} writes a whole batch before reading any
+ * reply, so N commands cost one network round trip. Replies decode to String (status), Long
+ * (integer), byte[] (bulk, null when absent) or List (array); error replies are thrown.
+ */
+final class RedisConnection implements Closeable {
+
+    private static final byte[] CRLF = { '\r', '\n' };
+
+    private final Socket socket;
+    private final OutputStream out;
+    private final InputStream in;
+
+    RedisConnection(String host, int port, int timeoutMillis) throws IOException {
+        this.socket = new Socket();
+        socket.setTcpNoDelay(true);
+        socket.connect(new InetSocketAddress(host, port), timeoutMillis);
+        socket.setSoTimeout(timeoutMillis);
+        this.out = new BufferedOutputStream(socket.getOutputStream(), 8192);
+        this.in = new BufferedInputStream(socket.getInputStream(), 8192);
+    }
+
+    static byte[] bytes(String value) {
+        return value.getBytes(StandardCharsets.UTF_8);
+    }
+
+    static byte[][] command(String... parts) {
+        byte[][] command = new byte[parts.length][];
+        for (int i = 0; i < parts.length; i++) {
+            command[i] = bytes(parts[i]);
+        }
+        return command;
+    }
+
+    Object execute(byte[]... command) throws IOException {
+        return pipeline(Collections.singletonList(command)).get(0);
+    }
+
+    /**
+     * Sends every command, then reads one reply per command, in order.
+     */
+    List<Object> pipeline(List<byte[][]> commands) throws IOException {
+        for (byte[][] command : commands) {
+            write(command);
+        }
+        out.flush();
+        List<Object> replies = new ArrayList<>(commands.size());
+        SharedCacheException error = null;
+        for (int i = 0; i < commands.size(); i++) {
+            try {
+                replies.add(read());
+            } catch (SharedCacheException ex) {
+                // Keep reading so the connection stays in step; report the first error
+                replies.add(null);
+                error = error != null ? error : ex;
+            }
+        }
+        if (error != null) {
+            throw error;
+        }
+        return replies;
+    }
+
+    /**
+     * Blocks for the next pushed message (subscriber connections), without a read timeout.
+     */
+    Object readPush() throws IOException {
+        socket.setSoTimeout(0);
+        return read();
+    }
+
+    private void write(byte[][] command) throws IOException {
+        out.write('*');
+        writeNumber(command.length);
+        for (byte[] argument : command) {
+            out.write('$');
+            writeNumber(argument.length);
+            out.write(argument);
+            out.write(CRLF);
+        }
+    }
+
+    private void writeNumber(long value) throws IOException {
+        out.write(bytes(Long.toString(value)));
+        out.write(CRLF);
+    }
+
+    private Object read() throws IOException {
+        int type = in.read();
+        switch (type) {
+            case '+':
+                return readLine();
+            case '-':
+                throw new SharedCacheException("Redis error: " + readLine());
+            case ':':
+                return Long.parseLong(readLine());
+            case '$': {
+                int length = Integer.parseInt(readLine());
+                if (length < 0) {
+                    return null;
+                }
+                byte[] value = in.readNBytes(length);
+                if (value.length < length || in.read() != '\r' || in.read() != '\n') {
+                    throw new EOFException("Truncated Redis bulk reply");
+                }
+                return value;
+            }
+            case '*': {
+                int length = Integer.parseInt(readLine());
+                if (length < 0) {
+                    return null;
+                }
+                List<Object> values = new ArrayList<>(length);
+                for (int i = 0; i < length; i++) {
+                    values.add(read());
+                }
+                return values;
+            }
+            case -1:
+                throw new EOFException("Redis closed the connection");
+            default:
+                throw new IOException("Unexpected Redis reply type: " + (char) type);
+        }
+    }
+
+    private String readLine() throws IOException {
+        StringBuilder line = new StringBuilder();
+        int c;
+        while ((c = in.read()) != '\r') {
+            if (c == -1) {
+                throw new EOFException("Redis closed the connection");
+            }
+            line.append((char) c);
+        }
+        if (in.read() != '\n') {
+            throw new IOException("Malformed Redis reply line");
+        }
+        return line.toString();
+    }
+
+    boolean isOpen() {
+        return !socket.isClosed();
+    }
+
+    @Override
+    public void close() {
+        try {
+            socket.close();
+        } catch (IOException ex) {
+            // Nothing left to release
+        }
+    }
+}
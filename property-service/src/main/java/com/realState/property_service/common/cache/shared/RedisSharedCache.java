@@ -0,0 +1,237 @@
+package com.realState.property_service.common.cache.shared;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import jakarta.annotation.PreDestroy;
+
+/**
+ * {@link SharedCache} backed by a Redis server (e.g. the redis service in docker-compose).
+ * <p>
+ * Commands run on a small pool of blocking connections with short timeouts: the shared tier is an
+ * optimization, so a slow or unreachable Redis must cost a request a few milliseconds at most. Each
+ * subscription holds its own connection on a daemon thread and reconnects with backoff.
+ */
+@Component
+@ConditionalOnProperty(name = "property.cache.shared.type", havingValue = "redis")
+public class RedisSharedCache implements SharedCache {
+
+    private static final Logger logger = LoggerFactory.getLogger(RedisSharedCache.class);
+
+    private static final long MAX_RECONNECT_DELAY_MS = 30_000;
+
+    private final String host;
+    private final int port;
+    private final String password;
+    private final int database;
+    private final int timeoutMillis;
+    private final Semaphore permits;
+    private final ConcurrentLinkedDeque<RedisConnection> idle = new ConcurrentLinkedDeque<>();
+    private final List<RedisConnection> subscriptions = new CopyOnWriteArrayList<>();
+    private volatile boolean running = true;
+
+    @FunctionalInterface
+    private interface Call<T> {
+        T apply(RedisConnection connection) throws IOException;
+    }
+
+    public RedisSharedCache(@Value("${property.cache.shared.redis.host:localhost}") String host,
+            @Value("${property.cache.shared.redis.port:6379}") int port,
+            @Value("${property.cache.shared.redis.password:}") String password,
+            @Value("${property.cache.shared.redis.database:0}") int database,
+            @Value("${property.cache.shared.redis.timeout-ms:100}") int timeoutMillis,
+            @Value("${property.cache.shared.redis.pool-size:8}") int poolSize) {
+        this.host = host;
+        this.port = port;
+        this.password = password;
+        this.database = database;
+        this.timeoutMillis = timeoutMillis;
+        this.permits = new Semaphore(poolSize);
+    }
+
+    @Override
+    public boolean isEnabled() {
+        return true;
+    }
+
+    @Override
+    public List<byte[]> getAll(List<String> keys) {
+        if (keys.isEmpty()) {
+            return List.of();
+        }
+        byte[][] command = new byte[keys.size() + 1][];
+        command[0] = RedisConnection.bytes("MGET");
+        for (int i = 0; i < keys.size(); i++) {
+            command[i + 1] = RedisConnection.bytes(keys.get(i));
+        }
+        List<?> reply = (List<?>) call(connection -> connection.execute(command));
+        List<byte[]> values = new ArrayList<>(reply.size());
+        for (Object value : reply) {
+            values.add((byte[]) value);
+        }
+        return values;
+    }
+
+    @Override
+    public void putAll(Map<String, byte[]> entries, long ttlMillis) {
+        if (entries.isEmpty()) {
+            return;
+        }
+        byte[] px = RedisConnection.bytes("PX");
+        byte[] ttl = RedisConnection.bytes(Long.toString(ttlMillis));
+        List<byte[][]> commands = new ArrayList<>(entries.size());
+        entries.forEach((key, value) -> commands.add(
+                new byte[][] { RedisConnection.bytes("SET"), RedisConnection.bytes(key), value, px, ttl }));
+        call(connection -> connection.pipeline(commands));
+    }
+
+    @Override
+    public void delete(Collection<String> keys) {
+        if (keys.isEmpty()) {
+            return;
+        }
+        List<String> command = new ArrayList<>(keys.size() + 1);
+        command.add("DEL");
+        command.addAll(keys);
+        call(connection -> connection.execute(RedisConnection.command(command.toArray(String[]::new))));
+    }
+
+    @Override
+    public long increment(String key) {
+        return (Long) call(connection -> connection.execute(RedisConnection.command("INCR", key)));
+    }
+
+    @Override
+    public void publish(String channel, String message) {
+        call(connection -> connection.execute(RedisConnection.command("PUBLISH", channel, message)));
+    }
+
+    @Override
+    public void subscribe(String channel, Subscriber subscriber) {
+        Thread thread = new Thread(() -> listen(channel, subscriber), "shared-cache-subscriber");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    private void listen(String channel, Subscriber subscriber) {
+        long delay = 500;
+        while (running) {
+            RedisConnection connection = null;
+            try {
+                connection = open();
+                subscriptions.add(connection);
+                connection.execute(RedisConnection.command("SUBSCRIBE", channel));
+                delay = 500;
+                subscriber.onSubscribed();
+                while (running) {
+                    if (connection.readPush() instanceof List<?> push && push.size() == 3
+                            && "message".equals(text(push.get(0)))) {
+                        subscriber.onMessage(text(push.get(2)));
+                    }
+                }
+            } catch (Exception ex) {
+                if (running) {
+                    logger.warn("Shared cache subscription to {} lost, retrying in {} ms: {}", channel, delay,
+                            ex.getMessage());
+                }
+            } finally {
+                if (connection != null) {
+                    subscriptions.remove(connection);
+                    connection.close();
+                }
+            }
+            if (!sleep(delay)) {
+                return;
+            }
+            delay = Math.min(delay * 2, MAX_RECONNECT_DELAY_MS);
+        }
+    }
+
+    private <T> T call(Call<T> call) {
+        try {
+            if (!permits.tryAcquire(timeoutMillis, TimeUnit.MILLISECONDS)) {
+                throw new SharedCacheException("No shared cache connection available");
+            }
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new SharedCacheException("Interrupted waiting for a shared cache connection", ex);
+        }
+        RedisConnection connection = null;
+        try {
+            connection = idle.pollFirst();
+            if (connection == null) {
+                connection = open();
+            }
+            T result = call.apply(connection);
+            idle.offerFirst(connection);
+            return result;
+        } catch (SharedCacheException ex) {
+            // An error reply leaves the connection usable
+            if (connection != null) {
+                idle.offerFirst(connection);
+            }
+            throw ex;
+        } catch (IOException ex) {
+            if (connection != null) {
+                connection.close();
+            }
+            throw new SharedCacheException("Shared cache call failed: " + ex.getMessage(), ex);
+        } finally {
+            permits.release();
+        }
+    }
+
+    private RedisConnection open() throws IOException {
+        RedisConnection connection = new RedisConnection(host, port, timeoutMillis);
+        try {
+            if (!password.isEmpty()) {
+                connection.execute(RedisConnection.command("AUTH", password));
+            }
+            if (database != 0) {
+                connection.execute(RedisConnection.command("SELECT", Integer.toString(database)));
+            }
+            return connection;
+        } catch (IOException | RuntimeException ex) {
+            connection.close();
+            throw ex;
+        }
+    }
+
+    private static String text(Object value) {
+        return value instanceof byte[] bytes ? new String(bytes, StandardCharsets.UTF_8) : String.valueOf(value);
+    }
+
+    private static boolean sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+            return true;
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    @PreDestroy
+    public void close() {
+        running = false;
+        subscriptions.forEach(RedisConnection::close);
+        RedisConnection connection;
+        while ((connection = idle.pollFirst()) != null) {
+            connection.close();
+        }
+    }
+}
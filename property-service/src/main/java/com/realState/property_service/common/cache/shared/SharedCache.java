@@ -0,0 +1,58 @@
+package com.realState.property_service.common.cache.shared;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * A cache shared by every property-service instance, sitting under each instance's local caches.
+ * <p>
+ * Values are opaque byte arrays; callers own their encoding. Every method is one round trip, and
+ * failures surface as {@link SharedCacheException} so callers can fall back to the database.
+ */
+public interface SharedCache {
+
+    /**
+     * Notified of messages on a subscribed channel, from a background thread.
+     */
+    interface Subscriber {
+        void onMessage(String message);
+
+        /**
+         * Called after every (re)subscription. Messages published while disconnected are lost, so
+         * anything cached locally on the strength of them should be dropped here.
+         */
+        void onSubscribed();
+    }
+
+    /**
+     * @return false for the no-op implementation, so callers can skip encoding work entirely
+     */
+    boolean isEnabled();
+
+    /**
+     * @return the values of the given keys in order, with null for missing keys
+     */
+    List<byte[]> getAll(List<String> keys);
+
+    /**
+     * Stores every entry with the given time to live.
+     */
+    void putAll(Map<String, byte[]> entries, long ttlMillis);
+
+    void delete(Collection<String> keys);
+
+    /**
+     * Atomically increments a counter, creating it at 1.
+     *
+     * @return the new value
+     */
+    long increment(String key);
+
+    void publish(String channel, String message);
+
+    /**
+     * Starts delivering messages published on the channel, reconnecting as needed.
+     */
+    void subscribe(String channel, Subscriber subscriber);
+}
@@ -0,0 +1,14 @@
+package com.realState.property_service.common.cache.shared;
+
+/**
+ * Thrown when the shared cache cannot be reached or rejects a command.
+ */
+public class SharedCacheException extends RuntimeException {
+    public SharedCacheException(String message) {
+        super(message);
+    }
+
+    public SharedCacheException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
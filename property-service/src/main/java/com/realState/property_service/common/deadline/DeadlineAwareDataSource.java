@@ -0,0 +1,140 @@
+package com.realState.property_service.common.deadline;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLTimeoutException;
+import java.sql.Statement;
+import java.util.function.Supplier;
+
+import javax.sql.DataSource;
+
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import io.micrometer.core.instrument.Counter;
+
+/**
+ * DataSource wrapper that bounds every JDBC statement by the current {@link RequestDeadline}.
+ * <p>
+ * When a statement is created on a thread with a deadline, its query timeout is set to the
+ * remaining budget (rounded up to whole seconds, the JDBC granularity); the driver then cancels it
+ * server-side once the budget is spent, so MySQL stops working on a query nobody is waiting for.
+ * Statements about to be created or executed after the deadline has already passed are refused
+ * without a round trip. Threads without a deadline are not affected.
+ */
+public class DeadlineAwareDataSource extends DelegatingDataSource {
+
+    private final Supplier<Counter> cancelled;
+    private final Supplier<Counter> skipped;
+
+    /**
+     * Counters are supplied lazily because the DataSource is wrapped before the meter registry exists.
+     *
+     * @param cancelled counts statements the driver cancelled at their query timeout
+     * @param skipped   counts statements refused because the deadline had already passed
+     */
+    public DeadlineAwareDataSource(DataSource target, Supplier<Counter> cancelled, Supplier<Counter> skipped) {
+        super(target);
+        this.cancelled = cancelled;
+        this.skipped = skipped;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        checkDeadline();
+        return wrap(obtainTargetDataSource().getConnection());
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        checkDeadline();
+        return wrap(obtainTargetDataSource().getConnection(username, password));
+    }
+
+    private Connection wrap(Connection connection) {
+        return (Connection) Proxy.newProxyInstance(DeadlineAwareDataSource.class.getClassLoader(),
+                new Class<?>[] { Connection.class }, new ConnectionHandler(connection));
+    }
+
+    private void checkDeadline() throws SQLTimeoutException {
+        if (RequestDeadline.isExpired()) {
+            skipped.get().increment();
+            throw new SQLTimeoutException("Request deadline exceeded before the statement was sent");
+        }
+    }
+
+    private static Object invoke(Object target, Method method, Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException ex) {
+            throw ex.getTargetException();
+        }
+    }
+
+    private static boolean isIdentityMethod(Method method) {
+        return method.getName().equals("equals") || method.getName().equals("hashCode");
+    }
+
+    private static Object identity(Object proxy, Method method, Object[] args) {
+        return method.getName().equals("equals") ? proxy == args[0] : System.identityHashCode(proxy);
+    }
+
+    private class ConnectionHandler implements InvocationHandler {
+
+        private final Connection target;
+
+        ConnectionHandler(Connection target) {
+            this.target = target;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            if (isIdentityMethod(method)) {
+                return identity(proxy, method, args);
+            }
+            String name = method.getName();
+            boolean createsStatement = name.equals("createStatement") || name.equals("prepareStatement")
+                    || name.equals("prepareCall");
+            if (!createsStatement || !RequestDeadline.isSet()) {
+                return DeadlineAwareDataSource.invoke(target, method, args);
+            }
+
+            checkDeadline();
+            Statement statement = (Statement) DeadlineAwareDataSource.invoke(target, method, args);
+            long remainingMillis = RequestDeadline.remainingMillis();
+            statement.setQueryTimeout((int) Math.max(1, (remainingMillis + 999) / 1000));
+            return Proxy.newProxyInstance(DeadlineAwareDataSource.class.getClassLoader(),
+                    new Class<?>[] { method.getReturnType() }, new StatementHandler(statement));
+        }
+    }
+
+    private class StatementHandler implements InvocationHandler {
+
+        private final Statement target;
+
+        StatementHandler(Statement target) {
+            this.target = target;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            if (isIdentityMethod(method)) {
+                return identity(proxy, method, args);
+            }
+            if (!method.getName().startsWith("execute")) {
+                return DeadlineAwareDataSource.invoke(target, method, args);
+            }
+
+            checkDeadline();
+            try {
+                return DeadlineAwareDataSource.invoke(target, method, args);
+            } catch (SQLTimeoutException ex) {
+                cancelled.get().increment();
+                throw ex;
+            }
+        }
+    }
+}
@@ -0,0 +1,38 @@
+package com.realState.property_service.common.deadline;
+
+import javax.sql.DataSource;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import org.springframework.util.function.SingletonSupplier;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Wraps the application DataSource in a {@link DeadlineAwareDataSource}, so JPA, Spring Data and
+ * JdbcTemplate statements all honour the request deadline.
+ */
+@Component
+@ConditionalOnProperty(name = "property.deadline.enabled", havingValue = "true", matchIfMissing = true)
+public class DeadlineDataSourcePostProcessor implements BeanPostProcessor {
+
+    private final ObjectProvider<MeterRegistry> meterRegistry;
+
+    public DeadlineDataSourcePostProcessor(ObjectProvider<MeterRegistry> meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    public Object postProcessAfterInitialization(Object bean, String beanName) {
+        if (!(bean instanceof DataSource dataSource) || bean instanceof DeadlineAwareDataSource) {
+            return bean;
+        }
+        return new DeadlineAwareDataSource(dataSource,
+                SingletonSupplier.of(() -> meterRegistry.getObject()
+                        .counter("property.deadline.statements", "result", "cancelled")),
+                SingletonSupplier.of(() -> meterRegistry.getObject()
+                        .counter("property.deadline.statements", "result", "skipped")));
+    }
+}
@@ -0,0 +1,55 @@
+package com.realState.property_service.common.deadline;
+
+/**
+ * Holds the deadline of the request being handled on the current thread.
+ * <p>
+ * Set by the deadline filter for the duration of a request and read wherever work can be bounded
+ * or abandoned, most importantly when JDBC statements are created. Threads without a deadline
+ * (background jobs, startup) are unbounded.
+ */
+public final class RequestDeadline {
+
+    private static final ThreadLocal<Long> DEADLINE_NANOS = new ThreadLocal<>();
+
+    // Private constructor to prevent instantiation
+    private RequestDeadline() {
+    }
+
+    /**
+     * @param deadlineNanos absolute deadline on the {@link System#nanoTime()} clock
+     */
+    public static void set(long deadlineNanos) {
+        DEADLINE_NANOS.set(deadlineNanos);
+    }
+
+    public static void clear() {
+        DEADLINE_NANOS.remove();
+    }
+
+    /**
+     * @return true if the current thread is working under a deadline
+     */
+    public static boolean isSet() {
+        return DEADLINE_NANOS.get() != null;
+    }
+
+    /**
+     * @return milliseconds left before the deadline (negative once passed), or
+     *         {@link Long#MAX_VALUE} when there is no deadline
+     */
+    public static long remainingMillis() {
+        Long deadline = DEADLINE_NANOS.get();
+        if (deadline == null) {
+            return Long.MAX_VALUE;
+        }
+        return (deadline - System.nanoTime()) / 1_000_000;
+    }
+
+    /**
+     * @return true if the current thread has a deadline and it has passed
+     */
+    public static boolean isExpired() {
+        Long deadline = DEADLINE_NANOS.get();
+        return deadline != null && deadline - System.nanoTime() <= 0;
+    }
+}
@@ -0,0 +1,14 @@
+package com.realState.property_service.common.exceptions;
+
+/**
+ * Thrown when a request's deadline passed before its work could complete.
+ */
+public class DeadlineExceededException extends RuntimeException {
+    public DeadlineExceededException(String message) {
+        super(message);
+    }
+
+    public DeadlineExceededException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
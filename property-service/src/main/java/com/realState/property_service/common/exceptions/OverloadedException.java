@@ -0,0 +1,14 @@
+package com.realState.property_service.common.exceptions;
+
+/**
+ * Thrown when a request is shed because the service is protecting itself from overload.
+ */
+public class OverloadedException extends RuntimeException {
+    public OverloadedException(String message) {
+        super(message);
+    }
+
+    public OverloadedException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
@@ -0,0 +1,14 @@
+package com.realState.property_service.common.exceptions.property;
+
+/**
+ * Thrown when the asynchronous property ingestion queue has no room for another request.
+ */
+public class IngestQueueFullException extends RuntimeException {
+    public IngestQueueFullException(String message) {
+        super(message);
+    }
+
+    public IngestQueueFullException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
@@ -0,0 +1,10 @@
+package com.realState.property_service.common.exceptions.property;
+
+/**
+ * Thrown when a listing expiry run is requested while another one is still running on this instance.
+ */
+public class ListingExpiryInProgressException extends RuntimeException {
+    public ListingExpiryInProgressException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,14 @@
+package com.realState.property_service.common.exceptions.property;
+
+/**
+ * Thrown when a moderator acts on a property whose moderation lease they no longer hold.
+ */
+public class ModerationLeaseException extends RuntimeException {
+    public ModerationLeaseException(String message) {
+        super(message);
+    }
+
+    public ModerationLeaseException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
@@ -0,0 +1,10 @@
+package com.realState.property_service.common.exceptions.savedsearch;
+
+/**
+ * Thrown when an active saved search with the given ID is not found.
+ */
+public class SavedSearchNotFoundException extends RuntimeException {
+    public SavedSearchNotFoundException(String message) {
+        super(message, null, false, false);
+    }
+}
@@ -0,0 +1,52 @@
+package com.realState.property_service.common.filter;
+
+import java.io.IOException;
+
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import com.realState.property_service.common.actor.RequestActor;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+/**
+ * Publishes the caller named in {@value #ACTOR_HEADER} (user, moderator or service id, as passed by
+ * the gateway) to {@link RequestActor} for the duration of the request.
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 6)
+public class ActorFilter extends OncePerRequestFilter {
+
+    public static final String ACTOR_HEADER = "X-Actor-Id";
+
+    // Matches the width of property_audit.actor
+    private static final int MAX_ACTOR_LENGTH = 100;
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !request.getRequestURI().substring(request.getContextPath().length()).startsWith("/properties");
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        String actor = request.getHeader(ACTOR_HEADER);
+        if (actor == null || actor.isBlank()) {
+            chain.doFilter(request, response);
+            return;
+        }
+
+        actor = actor.trim();
+        RequestActor.set(actor.length() > MAX_ACTOR_LENGTH ? actor.substring(0, MAX_ACTOR_LENGTH) : actor);
+        try {
+            chain.doFilter(request, response);
+        } finally {
+            RequestActor.clear();
+        }
+    }
+}
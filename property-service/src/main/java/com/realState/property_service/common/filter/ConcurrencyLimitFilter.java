@@ -0,0 +1,162 @@
+package com.realState.property_service.common.filter;
+
+import java.io.IOException;
+import java.util.EnumMap;
+import java.util.Map;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.core.env.Environment;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.realState.property_service.common.limiter.AdaptiveConcurrencyLimiter;
+import com.realState.property_service.common.utils.ApiResponse;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+/**
+ * Sheds load in front of the property endpoints before requests tie up Tomcat threads and
+ * Hikari connections.
+ * <p>
+ * Each endpoint class (buyer reads, seller writes and dashboards, admin operations) has its own
+ * {@link AdaptiveConcurrencyLimiter}, so a burst of one kind cannot starve the others. List scans
+ * are low priority within their class and are rejected before single-property lookups. Rejected
+ * requests get an immediate 503 with Retry-After instead of waiting in a queue, which also keeps
+ * gateway retries from piling onto an already slow database.
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 10)
+@ConditionalOnProperty(name = "property.limiter.enabled", havingValue = "true", matchIfMissing = true)
+public class ConcurrencyLimitFilter extends OncePerRequestFilter {
+
+    enum EndpointClass {
+        buyer_read, seller_write, admin
+    }
+
+    private final ObjectMapper objectMapper;
+    private final String retryAfterSeconds;
+    private final Map<EndpointClass, AdaptiveConcurrencyLimiter> limiters = new EnumMap<>(EndpointClass.class);
+    private final Map<EndpointClass, Counter> rejectedHigh = new EnumMap<>(EndpointClass.class);
+    private final Map<EndpointClass, Counter> rejectedLow = new EnumMap<>(EndpointClass.class);
+
+    public ConcurrencyLimitFilter(ObjectMapper objectMapper,
+            MeterRegistry meterRegistry,
+            Environment environment,
+            @Value("${property.limiter.min-limit:4}") int minLimit,
+            @Value("${property.limiter.tolerance:2.0}") double tolerance,
+            @Value("${property.limiter.low-priority-share:0.7}") double lowPriorityShare,
+            @Value("${property.limiter.retry-after-seconds:1}") int retryAfterSeconds) {
+        this.objectMapper = objectMapper;
+        this.retryAfterSeconds = String.valueOf(retryAfterSeconds);
+
+        for (EndpointClass endpointClass : EndpointClass.values()) {
+            String prefix = "property.limiter." + endpointClass.name().replace('_', '-');
+            int initialLimit = environment.getProperty(prefix + ".initial-limit", Integer.class, 20);
+            int maxLimit = environment.getProperty(prefix + ".max-limit", Integer.class, 200);
+            AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(initialLimit, minLimit, maxLimit,
+                    tolerance, lowPriorityShare);
+            limiters.put(endpointClass, limiter);
+
+            String tag = endpointClass.name();
+            Gauge.builder("property.limiter.limit", limiter, AdaptiveConcurrencyLimiter::getLimit)
+                    .tag("endpoint_class", tag).register(meterRegistry);
+            Gauge.builder("property.limiter.inflight", limiter, AdaptiveConcurrencyLimiter::getInFlight)
+                    .tag("endpoint_class", tag).register(meterRegistry);
+            rejectedHigh.put(endpointClass, meterRegistry.counter("property.limiter.rejected",
+                    "endpoint_class", tag, "priority", "high"));
+            rejectedLow.put(endpointClass, meterRegistry.counter("property.limiter.rejected",
+                    "endpoint_class", tag, "priority", "low"));
+        }
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !pathOf(request).startsWith("/properties");
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        String path = pathOf(request);
+        String method = request.getMethod();
+        EndpointClass endpointClass = classify(method, path);
+        boolean lowPriority = isListScan(method, path);
+        AdaptiveConcurrencyLimiter limiter = limiters.get(endpointClass);
+
+        if (!limiter.tryAcquire(lowPriority)) {
+            (lowPriority ? rejectedLow : rejectedHigh).get(endpointClass).increment();
+            reject(response);
+            return;
+        }
+
+        long start = System.nanoTime();
+        boolean dropped = true;
+        try {
+            chain.doFilter(request, response);
+            // A 503 is load already shed further in (coalescing waiter cap, open circuit breaker); counting
+            // it as a drop would shrink the limit because of shedding and shed even more
+            int status = response.getStatus();
+            dropped = status >= 500 && status != HttpStatus.SERVICE_UNAVAILABLE.value();
+        } finally {
+            limiter.release(System.nanoTime() - start, dropped);
+        }
+    }
+
+    private static String pathOf(HttpServletRequest request) {
+        return request.getRequestURI().substring(request.getContextPath().length());
+    }
+
+    static EndpointClass classify(String method, String path) {
+        if (path.startsWith("/properties/moderation") || path.startsWith("/properties/admin")
+                || path.startsWith("/properties/pending") || path.startsWith("/properties/delete/")
+                || path.endsWith("/approve") || path.endsWith("/reject") || path.endsWith("/archive")
+                || path.endsWith("/history")
+                || ("GET".equals(method) && isRoot(path))) {
+            return EndpointClass.admin;
+        }
+        // Seller dashboards and async create status share the seller class with the writes
+        if (path.startsWith("/properties/owner/") || path.startsWith("/properties/ingest/")
+                || path.endsWith("/views")) {
+            return EndpointClass.seller_write;
+        }
+        if ("GET".equals(method) || path.equals("/properties/batch")) {
+            return EndpointClass.buyer_read;
+        }
+        return EndpointClass.seller_write;
+    }
+
+    /** Paged listings cost a scan plus a count; single-id and batch lookups are index hits. */
+    static boolean isListScan(String method, String path) {
+        if ("GET".equals(method)) {
+            return isRoot(path) || path.startsWith("/properties/approved") || path.startsWith("/properties/filter")
+                    || path.startsWith("/properties/pending");
+        }
+        return "POST".equals(method) && path.startsWith("/properties/owner/");
+    }
+
+    private static boolean isRoot(String path) {
+        return path.equals("/properties") || path.equals("/properties/");
+    }
+
+    private void reject(HttpServletResponse response) throws IOException {
+        HttpStatus status = HttpStatus.SERVICE_UNAVAILABLE;
+        response.setStatus(status.value());
+        response.setHeader(HttpHeaders.RETRY_AFTER, retryAfterSeconds);
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        objectMapper.writeValue(response.getOutputStream(),
+                ApiResponse.error("OVERLOADED", "Service is overloaded, retry later", status.value()));
+    }
+}
@@ -0,0 +1,121 @@
+package com.realState.property_service.common.filter;
+
+import java.io.IOException;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.core.env.Environment;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.realState.property_service.common.deadline.RequestDeadline;
+import com.realState.property_service.common.filter.ConcurrencyLimitFilter.EndpointClass;
+import com.realState.property_service.common.utils.ApiResponse;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+/**
+ * Gives every property request a deadline and publishes it to {@link RequestDeadline} for the
+ * duration of the request.
+ * <p>
+ * The gateway can pass its own budget, either as {@value #DEADLINE_HEADER} (absolute, epoch
+ * milliseconds) or {@value #TIMEOUT_HEADER} (milliseconds remaining, immune to clock skew).
+ * The effective deadline is the earlier of that budget and the endpoint class default, so a
+ * request without the header is still bounded. Requests that arrive already expired are answered
+ * with 504 without doing any work.
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 5)
+@ConditionalOnProperty(name = "property.deadline.enabled", havingValue = "true", matchIfMissing = true)
+public class DeadlineFilter extends OncePerRequestFilter {
+
+    private static final Logger logger = LoggerFactory.getLogger(DeadlineFilter.class);
+
+    public static final String DEADLINE_HEADER = "X-Request-Deadline";
+    public static final String TIMEOUT_HEADER = "X-Request-Timeout-Ms";
+
+    private final ObjectMapper objectMapper;
+    private final Map<EndpointClass, Long> defaultTimeoutMs = new EnumMap<>(EndpointClass.class);
+    private final Map<EndpointClass, Counter> expiredOnArrival = new EnumMap<>(EndpointClass.class);
+
+    public DeadlineFilter(ObjectMapper objectMapper, MeterRegistry meterRegistry, Environment environment) {
+        this.objectMapper = objectMapper;
+        for (EndpointClass endpointClass : EndpointClass.values()) {
+            String property = "property.deadline." + endpointClass.name().replace('_', '-') + "-ms";
+            defaultTimeoutMs.put(endpointClass, environment.getProperty(property, Long.class, 10_000L));
+            expiredOnArrival.put(endpointClass, meterRegistry.counter("property.deadline.expired.on.arrival",
+                    "endpoint_class", endpointClass.name()));
+        }
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !pathOf(request).startsWith("/properties");
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        EndpointClass endpointClass = ConcurrencyLimitFilter.classify(request.getMethod(), pathOf(request));
+        long budgetMs = Math.min(defaultTimeoutMs.get(endpointClass), requestedBudgetMs(request));
+
+        if (budgetMs <= 0) {
+            expiredOnArrival.get(endpointClass).increment();
+            reject(response);
+            return;
+        }
+
+        RequestDeadline.set(System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(budgetMs));
+        try {
+            chain.doFilter(request, response);
+        } finally {
+            RequestDeadline.clear();
+        }
+    }
+
+    /**
+     * @return the budget the caller asked for, or {@link Long#MAX_VALUE} if it sent none
+     */
+    private static long requestedBudgetMs(HttpServletRequest request) {
+        long budget = Long.MAX_VALUE;
+        try {
+            String timeout = request.getHeader(TIMEOUT_HEADER);
+            if (timeout != null) {
+                budget = Long.parseLong(timeout.trim());
+            }
+            String deadline = request.getHeader(DEADLINE_HEADER);
+            if (deadline != null) {
+                budget = Math.min(budget, Long.parseLong(deadline.trim()) - System.currentTimeMillis());
+            }
+        } catch (NumberFormatException ex) {
+            logger.debug("Ignoring malformed deadline header: {}", ex.getMessage());
+        }
+        return budget;
+    }
+
+    private static String pathOf(HttpServletRequest request) {
+        return request.getRequestURI().substring(request.getContextPath().length());
+    }
+
+    private void reject(HttpServletResponse response) throws IOException {
+        HttpStatus status = HttpStatus.GATEWAY_TIMEOUT;
+        response.setStatus(status.value());
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        objectMapper.writeValue(response.getOutputStream(),
+                ApiResponse.error("DEADLINE_EXCEEDED", "Request deadline already passed", status.value()));
+    }
+}
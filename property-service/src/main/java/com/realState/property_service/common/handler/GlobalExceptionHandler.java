@@ -1,11 +1,19 @@
 package com.realState.property_service.common.handler;
 
+import com.realState.property_service.common.deadline.RequestDeadline;
+import com.realState.property_service.common.exceptions.DeadlineExceededException;
 import com.realState.property_service.common.exceptions.DuplicateResourceException;
+import com.realState.property_service.common.exceptions.OverloadedException;
 import com.realState.property_service.common.exceptions.location.LocationCreationException;
+import com.realState.property_service.common.exceptions.property.IngestQueueFullException;
+import com.realState.property_service.common.exceptions.property.ListingExpiryInProgressException;
+import com.realState.property_service.common.exceptions.property.ModerationLeaseException;
 import com.realState.property_service.common.exceptions.property.PropertyMappingException;
 import com.realState.property_service.common.exceptions.property.PropertyNotFoundException;
 import com.realState.property_service.common.exceptions.property.PropertySaveException;
+import com.realState.property_service.common.exceptions.savedsearch.SavedSearchNotFoundException;
 import com.realState.property_service.common.utils.ApiResponse;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.ExceptionHandler;
@@ -31,6 +39,11 @@ public class GlobalExceptionHandler {
         return buildResponse("PROPERTY_NOT_FOUND", ex.getMessage(), HttpStatus.NOT_FOUND);
     }
 
+    @ExceptionHandler(SavedSearchNotFoundException.class)
+    public ResponseEntity<ApiResponse<Object>> handleSavedSearchNotFound(SavedSearchNotFoundException ex) {
+        return buildResponse("SAVED_SEARCH_NOT_FOUND", ex.getMessage(), HttpStatus.NOT_FOUND);
+    }
+
     @ExceptionHandler(LocationCreationException.class)
     public ResponseEntity<ApiResponse<Object>> handleLocationCreation(LocationCreationException ex) {
         return buildResponse("LOCATION_CREATION_FAILED", ex.getMessage(), HttpStatus.BAD_REQUEST);
@@ -51,13 +64,48 @@ public class GlobalExceptionHandler {
         return buildResponse("DUPLICATE_RESOURCE", ex.getMessage(), HttpStatus.CONFLICT);
     }
 
+    @ExceptionHandler(ModerationLeaseException.class)
+    public ResponseEntity<ApiResponse<Object>> handleModerationLease(ModerationLeaseException ex) {
+        return buildResponse("MODERATION_LEASE_LOST", ex.getMessage(), HttpStatus.CONFLICT);
+    }
+
+    @ExceptionHandler(ListingExpiryInProgressException.class)
+    public ResponseEntity<ApiResponse<Object>> handleListingExpiryInProgress(ListingExpiryInProgressException ex) {
+        return buildResponse("EXPIRY_IN_PROGRESS", ex.getMessage(), HttpStatus.CONFLICT);
+    }
+
+    @ExceptionHandler(IngestQueueFullException.class)
+    public ResponseEntity<ApiResponse<Object>> handleIngestQueueFull(IngestQueueFullException ex) {
+        HttpStatus status = HttpStatus.TOO_MANY_REQUESTS;
+        return ResponseEntity.status(status)
+                .header(HttpHeaders.RETRY_AFTER, "1")
+                .body(ApiResponse.error("INGEST_QUEUE_FULL", ex.getMessage(), status.value()));
+    }
+
+    @ExceptionHandler(OverloadedException.class)
+    public ResponseEntity<ApiResponse<Object>> handleOverloaded(OverloadedException ex) {
+        HttpStatus status = HttpStatus.SERVICE_UNAVAILABLE;
+        return ResponseEntity.status(status)
+                .header(HttpHeaders.RETRY_AFTER, "1")
+                .body(ApiResponse.error("OVERLOADED", ex.getMessage(), status.value()));
+    }
+
     @ExceptionHandler(IllegalArgumentException.class)
     public ResponseEntity<ApiResponse<Object>> handleIllegalArgument(IllegalArgumentException ex) {
         return buildResponse("INVALID_ARGUMENT", ex.getMessage(), HttpStatus.BAD_REQUEST);
     }
 
+    @ExceptionHandler(DeadlineExceededException.class)
+    public ResponseEntity<ApiResponse<Object>> handleDeadlineExceeded(DeadlineExceededException ex) {
+        return buildResponse("DEADLINE_EXCEEDED", ex.getMessage(), HttpStatus.GATEWAY_TIMEOUT);
+    }
+
     @ExceptionHandler(RuntimeException.class)
     public ResponseEntity<ApiResponse<Object>> handleRuntimeException(RuntimeException ex) {
+        // Whatever failed (cancelled statement, refused connection), the caller has stopped waiting
+        if (RequestDeadline.isExpired()) {
+            return buildResponse("DEADLINE_EXCEEDED", "Request deadline exceeded", HttpStatus.GATEWAY_TIMEOUT);
+        }
         return buildResponse("RUNTIME_EXCEPTION", ex.getMessage(), HttpStatus.INTERNAL_SERVER_ERROR);
     }
 
@@ -0,0 +1,135 @@
+package com.realState.property_service.common.limiter;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Concurrency limit that adapts to observed latency (gradient style) and backs off on errors (AIMD).
+ * <p>
+ * Latency samples are collected in short windows. At the end of each window the limit is scaled
+ * by {@code tolerance * minRtt / windowRtt} (clamped to [0.5, 1]) plus a {@code sqrt(limit)}
+ * headroom for queueing, then smoothed: while the database keeps up the ratio stays at 1 and the
+ * limit grows, and once latency climbs above the no-load baseline it shrinks proportionally. A
+ * window containing a failure multiplies the limit by 0.9 instead. The limit only grows when
+ * the window actually used at least half of it, so an idle service does not inflate its limit.
+ * The baseline {@code minRtt} is re-learned periodically so a permanently slower backend becomes
+ * the new normal instead of pinning the limit at its minimum.
+ * <p>
+ * Low-priority requests (list scans) may only use {@code lowPriorityShare} of the limit, so under
+ * pressure they are shed first and cheap lookups keep the remaining slots.
+ */
+public class AdaptiveConcurrencyLimiter {
+
+    private static final double SMOOTHING = 0.2;
+    private static final double BACKOFF_RATIO = 0.9;
+    private static final int WINDOW_SAMPLES = 50;
+    private static final long WINDOW_MAX_NANOS = TimeUnit.SECONDS.toNanos(1);
+    private static final int WINDOW_MIN_SAMPLES = 10;
+    private static final int MIN_RTT_RESET_WINDOWS = 600;
+
+    private final int minLimit;
+    private final int maxLimit;
+    private final double tolerance;
+    private final double lowPriorityShare;
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private volatile double limit;
+
+    // Window state, guarded by this
+    private long windowStart = System.nanoTime();
+    private int windowCount;
+    private long windowRttSum;
+    private boolean windowDropped;
+    private int windowMaxInFlight;
+    private long minRtt = Long.MAX_VALUE;
+    private int windowsSinceReset;
+
+    public AdaptiveConcurrencyLimiter(int initialLimit, int minLimit, int maxLimit, double tolerance,
+            double lowPriorityShare) {
+        if (minLimit < 1 || maxLimit < minLimit) {
+            throw new IllegalArgumentException("Limits must satisfy 1 <= minLimit <= maxLimit");
+        }
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+        this.tolerance = tolerance;
+        this.lowPriorityShare = lowPriorityShare;
+        this.limit = Math.max(minLimit, Math.min(maxLimit, initialLimit));
+    }
+
+    /**
+     * Takes a slot if one is available for the given priority.
+     *
+     * @return true if the request may proceed; it must then call {@link #release}
+     */
+    public boolean tryAcquire(boolean lowPriority) {
+        int allowed = lowPriority ? Math.max(1, (int) (limit * lowPriorityShare)) : (int) limit;
+        while (true) {
+            int current = inFlight.get();
+            if (current >= allowed) {
+                return false;
+            }
+            if (inFlight.compareAndSet(current, current + 1)) {
+                return true;
+            }
+        }
+    }
+
+    /**
+     * Returns a slot and feeds the request's latency into the limit calculation.
+     *
+     * @param rttNanos time the request held the slot
+     * @param dropped  true if the request failed in a way that signals overload
+     */
+    public void release(long rttNanos, boolean dropped) {
+        int current = inFlight.getAndDecrement();
+        sample(rttNanos, dropped, current);
+    }
+
+    public int getLimit() {
+        return (int) limit;
+    }
+
+    public int getInFlight() {
+        return inFlight.get();
+    }
+
+    private synchronized void sample(long rttNanos, boolean dropped, int inFlightAtRelease) {
+        windowCount++;
+        windowRttSum += rttNanos;
+        windowDropped |= dropped;
+        windowMaxInFlight = Math.max(windowMaxInFlight, inFlightAtRelease);
+
+        long now = System.nanoTime();
+        boolean full = windowCount >= WINDOW_SAMPLES
+                || (windowCount >= WINDOW_MIN_SAMPLES && now - windowStart >= WINDOW_MAX_NANOS);
+        if (!full) {
+            return;
+        }
+
+        double current = limit;
+        if (windowDropped) {
+            // Multiplicative decrease is applied unsmoothed so overload is relieved within one window
+            limit = Math.max(minLimit, current * BACKOFF_RATIO);
+        } else {
+            long windowRtt = Math.max(1, windowRttSum / windowCount);
+            if (++windowsSinceReset >= MIN_RTT_RESET_WINDOWS) {
+                minRtt = windowRtt;
+                windowsSinceReset = 0;
+            } else {
+                minRtt = Math.min(minRtt, windowRtt);
+            }
+
+            double gradient = Math.max(0.5, Math.min(1.0, tolerance * minRtt / windowRtt));
+            double next = current * gradient + Math.sqrt(current);
+            if (next > current && windowMaxInFlight < current / 2) {
+                next = current;
+            }
+            limit = Math.max(minLimit, Math.min(maxLimit, current * (1 - SMOOTHING) + next * SMOOTHING));
+        }
+
+        windowStart = now;
+        windowCount = 0;
+        windowRttSum = 0;
+        windowDropped = false;
+        windowMaxInFlight = 0;
+    }
+}
@@ -0,0 +1,111 @@
+package com.realState.property_service.common.resilience;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Consecutive-failure circuit breaker.
+ * <p>
+ * While CLOSED every call is allowed. After {@code failureThreshold} consecutive failures it OPENs
+ * and rejects calls for {@code openNanos}, so a struggling database is not hammered by every
+ * request. It then goes HALF_OPEN and lets a single probe through: a success closes it, a failure
+ * opens it again for another period.
+ */
+public class CircuitBreaker {
+
+    public enum State {
+        CLOSED, OPEN, HALF_OPEN
+    }
+
+    /**
+     * Notified on every state change, e.g. to count transitions.
+     */
+    public interface Listener {
+        void onTransition(State from, State to);
+    }
+
+    private final int failureThreshold;
+    private final long openNanos;
+    private final Listener listener;
+
+    private final AtomicInteger consecutiveFailures = new AtomicInteger();
+    private final AtomicBoolean probeInFlight = new AtomicBoolean();
+    private volatile State state = State.CLOSED;
+    private volatile long openedAt;
+
+    public CircuitBreaker(int failureThreshold, long openMillis, Listener listener) {
+        if (failureThreshold < 1) {
+            throw new IllegalArgumentException("failureThreshold must be positive");
+        }
+        this.failureThreshold = failureThreshold;
+        this.openNanos = TimeUnit.MILLISECONDS.toNanos(openMillis);
+        this.listener = listener;
+    }
+
+    /**
+     * @return true if the caller may attempt the protected call; it must then report the outcome
+     *         with {@link #onSuccess}, {@link #onFailure} or {@link #onIgnored}
+     */
+    public boolean tryAcquire() {
+        State current = state;
+        if (current == State.CLOSED) {
+            return true;
+        }
+        if (current == State.OPEN && System.nanoTime() - openedAt < openNanos) {
+            return false;
+        }
+        // Open period is over (or already half open): exactly one probe at a time
+        if (!probeInFlight.compareAndSet(false, true)) {
+            return false;
+        }
+        transition(State.HALF_OPEN);
+        return true;
+    }
+
+    public void onSuccess() {
+        consecutiveFailures.set(0);
+        if (state != State.CLOSED) {
+            probeInFlight.set(false);
+            transition(State.CLOSED);
+        }
+    }
+
+    public void onFailure() {
+        if (state == State.HALF_OPEN) {
+            open();
+            probeInFlight.set(false);
+            return;
+        }
+        if (consecutiveFailures.incrementAndGet() >= failureThreshold && state == State.CLOSED) {
+            open();
+        }
+    }
+
+    /**
+     * Reports a call that never reached the protected resource (e.g. it was shed): the state is left
+     * as it is and a half-open breaker lets the next probe through.
+     */
+    public void onIgnored() {
+        probeInFlight.set(false);
+    }
+
+    public State getState() {
+        return state;
+    }
+
+    private void open() {
+        openedAt = System.nanoTime();
+        transition(State.OPEN);
+    }
+
+    private synchronized void transition(State next) {
+        State previous = state;
+        if (previous != next) {
+            state = next;
+            if (listener != null) {
+                listener.onTransition(previous, next);
+            }
+        }
+    }
+}
@@ -2,6 +2,8 @@ package com.realState.property_service.common.utils;
 
 import java.time.LocalDateTime;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
+
 /**
  * Standard API response wrapper for REST endpoints.
  * <p>
@@ -33,6 +35,14 @@ public class ApiResponse<T> {
     /** Optional pagination metadata */
     private MetaData meta;
 
+    /** True when the payload is a cached copy served instead of a fresh read; omitted otherwise */
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private Boolean stale;
+
+    /** When a stale payload was last read from the database; omitted for fresh responses */
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private LocalDateTime dataAsOf;
+
     // ===== Inner MetaData Class =====
 
     /**
@@ -150,6 +160,25 @@ public class ApiResponse<T> {
     public MetaData getMeta() { return meta; }
     public void setMeta(MetaData meta) { this.meta = meta; }
 
+    public Boolean getStale() { return stale; }
+    public void setStale(Boolean stale) { this.stale = stale; }
+
+    public LocalDateTime getDataAsOf() { return dataAsOf; }
+    public void setDataAsOf(LocalDateTime dataAsOf) { this.dataAsOf = dataAsOf; }
+
+    /**
+     * Copies this response, flagging the payload as stale.
+     *
+     * @param dataAsOf when the payload was read from the database
+     * @return a new response sharing this one's payload and metadata
+     */
+    public ApiResponse<T> asStale(LocalDateTime dataAsOf) {
+        ApiResponse<T> copy = new ApiResponse<>(success, errorCode, message, status, data, meta);
+        copy.stale = Boolean.TRUE;
+        copy.dataAsOf = dataAsOf;
+        return copy;
+    }
+
     // ===== Static Factory Methods =====
 
     /**
@@ -0,0 +1,69 @@
+package com.realState.property_service.common.utils;
+
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Precomputed, case-insensitive name table for parsing enum request parameters.
+ * <p>
+ * Unknown names are a plain map miss rather than an {@link Enum#valueOf} exception, so parsing
+ * user input costs one hash lookup per value.
+ *
+ * @param <E> enum type
+ */
+public final class EnumLookup<E extends Enum<E>> {
+
+    private final Class<E> type;
+    private final Map<String, E> byName;
+    private final String allowed;
+
+    public EnumLookup(Class<E> type) {
+        this.type = type;
+        Map<String, E> names = new HashMap<>();
+        for (E constant : type.getEnumConstants()) {
+            names.put(constant.name().toLowerCase(Locale.ROOT), constant);
+        }
+        this.byName = Collections.unmodifiableMap(names);
+        this.allowed = Stream.of(type.getEnumConstants()).map(Enum::name).collect(Collectors.joining(", "));
+    }
+
+    /**
+     * @return the constant with this name (ignoring case and surrounding blanks), or null if there is none
+     */
+    public E find(String name) {
+        return name == null ? null : byName.get(name.trim().toLowerCase(Locale.ROOT));
+    }
+
+    /**
+     * Parses a comma-separated list of names, ignoring blanks and duplicates.
+     *
+     * @param values    e.g. {@code "Available,Rented"}; null means no values
+     * @param parameter request parameter name, used in the error message
+     * @return the parsed constants in declaration order (empty if none were given)
+     * @throws IllegalArgumentException if a value names no constant
+     */
+    public Set<E> parseAll(String values, String parameter) {
+        Set<E> parsed = EnumSet.noneOf(type);
+        if (values == null) {
+            return parsed;
+        }
+        for (String name : values.split(",")) {
+            if (name.isBlank()) {
+                continue;
+            }
+            E constant = find(name);
+            if (constant == null) {
+                throw new IllegalArgumentException("Invalid filter value for " + parameter + ": '" + name.trim()
+                        + "' (allowed: " + allowed + ")");
+            }
+            parsed.add(constant);
+        }
+        return parsed;
+    }
+}
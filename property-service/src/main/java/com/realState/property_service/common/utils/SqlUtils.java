@@ -0,0 +1,27 @@
+package com.realState.property_service.common.utils;
+
+/**
+ * Helpers for building SQL that JPA cannot express.
+ */
+public final class SqlUtils {
+
+    // Private constructor to prevent instantiation
+    private SqlUtils() {
+    }
+
+    /**
+     * Builds a multi-row INSERT, which MySQL executes as one statement and one round trip.
+     *
+     * @param insert the statement up to and including {@code VALUES }
+     * @param row    the placeholder group of one row, e.g. {@code (?, ?, ?)}
+     * @param rows   the number of rows, at least one
+     * @return the statement with {@code rows} comma-separated placeholder groups
+     */
+    public static String multiRowInsert(String insert, String row, int rows) {
+        StringBuilder sql = new StringBuilder(insert.length() + rows * (row.length() + 2)).append(insert);
+        for (int i = 0; i < rows; i++) {
+            sql.append(i == 0 ? "" : ", ").append(row);
+        }
+        return sql.toString();
+    }
+}
@@ -0,0 +1,35 @@
+package com.realState.property_service.common.utils;
+
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Helpers for hooking work onto the current Spring-managed transaction.
+ */
+public final class TransactionUtils {
+
+    // Private constructor to prevent instantiation
+    private TransactionUtils() {
+    }
+
+    /**
+     * Runs the given action once the current transaction commits.
+     * <p>
+     * Falls back to running immediately when no transaction synchronization is active,
+     * so callers do not need to know whether they are inside a transaction.
+     *
+     * @param action the action to run after commit
+     */
+    public static void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+}
@@ -0,0 +1,22 @@
+package com.realState.property_service.common.utils;
+
+import java.nio.ByteBuffer;
+import java.util.UUID;
+
+/**
+ * Converts UUIDs to the BINARY(16) layout Hibernate uses for UUID columns, for statements written
+ * with plain JDBC.
+ */
+public final class UuidBytes {
+
+    // Private constructor to prevent instantiation
+    private UuidBytes() {
+    }
+
+    public static byte[] toBytes(UUID uuid) {
+        return ByteBuffer.allocate(16)
+                .putLong(uuid.getMostSignificantBits())
+                .putLong(uuid.getLeastSignificantBits())
+                .array();
+    }
+}
@@ -1,6 +1,9 @@
 package com.realState.property_service.database.entity;
 
 import com.realState.property_service.database.enums.StateEnum;
+
+import org.hibernate.annotations.DynamicUpdate;
+
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.EnumType;
@@ -11,6 +14,7 @@ import jakarta.persistence.Id;
 import jakarta.persistence.Table;
 
 @Entity()
+@DynamicUpdate
 @Table(name = "locations")
 public class Location extends Base {
 
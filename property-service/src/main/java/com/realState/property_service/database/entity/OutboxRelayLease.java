@@ -0,0 +1,45 @@
+package com.realState.property_service.database.entity;
+
+import java.time.LocalDateTime;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+
+/**
+ * The right to publish an outbox, held by one relay instance until it expires.
+ */
+@Entity
+@Table(name = "outbox_relay_lease")
+public class OutboxRelayLease {
+
+    @Id
+    @Column(length = 64)
+    private String name;
+
+    @Column(length = 100)
+    private String owner;
+
+    @Column(name = "expires_at")
+    private LocalDateTime expiresAt;
+
+    public OutboxRelayLease() {
+    }
+
+    public OutboxRelayLease(String name) {
+        this.name = name;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public String getOwner() {
+        return owner;
+    }
+
+    public LocalDateTime getExpiresAt() {
+        return expiresAt;
+    }
+}
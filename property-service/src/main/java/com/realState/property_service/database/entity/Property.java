@@ -1,11 +1,14 @@
 package com.realState.property_service.database.entity;
 
+import java.time.LocalDateTime;
 import java.util.UUID;
 
 import com.realState.property_service.database.enums.ApprovalStatusEnum;
 import com.realState.property_service.database.enums.StatusEnum;
 import com.realState.property_service.database.enums.TypeEnum;
 
+import org.hibernate.annotations.DynamicUpdate;
+
 import jakarta.persistence.CascadeType;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
@@ -19,6 +22,7 @@ import jakarta.persistence.Table;
 import jakarta.persistence.GenerationType;
 
 @Entity
+@DynamicUpdate
 @Table(name = "properties")
 public class Property extends Base {
     @Id
@@ -50,6 +54,16 @@ public class Property extends Base {
     @Column(name = "owner_id", columnDefinition = "BINARY(16)")
     private UUID ownerId;
 
+    // Moderation queue lease: which claim currently holds this pending property, and until when
+    @Column(name = "moderation_lease_token", columnDefinition = "BINARY(16)")
+    private UUID moderationLeaseToken;
+
+    @Column(name = "moderation_lease_owner", length = 100)
+    private String moderationLeaseOwner;
+
+    @Column(name = "moderation_lease_expires_at")
+    private LocalDateTime moderationLeaseExpiresAt;
+
     public UUID getId() {
         return id;
     }
@@ -114,4 +128,28 @@ public class Property extends Base {
         this.ownerId = ownerId;
     }
 
+    public UUID getModerationLeaseToken() {
+        return moderationLeaseToken;
+    }
+
+    public void setModerationLeaseToken(UUID moderationLeaseToken) {
+        this.moderationLeaseToken = moderationLeaseToken;
+    }
+
+    public String getModerationLeaseOwner() {
+        return moderationLeaseOwner;
+    }
+
+    public void setModerationLeaseOwner(String moderationLeaseOwner) {
+        this.moderationLeaseOwner = moderationLeaseOwner;
+    }
+
+    public LocalDateTime getModerationLeaseExpiresAt() {
+        return moderationLeaseExpiresAt;
+    }
+
+    public void setModerationLeaseExpiresAt(LocalDateTime moderationLeaseExpiresAt) {
+        this.moderationLeaseExpiresAt = moderationLeaseExpiresAt;
+    }
+
 }
\ No newline at end of file
@@ -0,0 +1,173 @@
+package com.realState.property_service.database.entity;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import org.hibernate.annotations.Immutable;
+
+import com.realState.property_service.database.enums.ApprovalStatusEnum;
+import com.realState.property_service.database.enums.StateEnum;
+import com.realState.property_service.database.enums.StatusEnum;
+import com.realState.property_service.database.enums.TypeEnum;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+
+/**
+ * A cold property, moved out of properties together with its location by the cold storage mover.
+ * Rows are written with one INSERT ... SELECT per chunk and only read afterwards.
+ */
+@Entity
+@Immutable
+@Table(name = "properties_archive")
+public class PropertyArchive {
+
+    @Id
+    private UUID id;
+
+    @Column(name = "owner_id", columnDefinition = "BINARY(16)")
+    private UUID ownerId;
+
+    @Column(nullable = false, length = 150)
+    private String title;
+
+    @Column(length = 500)
+    private String description;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private TypeEnum type;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private StatusEnum status;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "approval_status", nullable = false)
+    private ApprovalStatusEnum approvalStatus;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+
+    // The location, flattened
+    @Column(name = "location_id", nullable = false)
+    private long locationId;
+
+    @Column(nullable = false)
+    private String address;
+
+    @Column(nullable = false)
+    private String city;
+
+    @Column(nullable = false)
+    private String country;
+
+    @Column(nullable = true)
+    private float latitude;
+
+    @Column(nullable = true)
+    private float longitude;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private StateEnum state;
+
+    @Column(nullable = false)
+    private int zipcode;
+
+    @Column(name = "location_created_at", nullable = false)
+    private LocalDateTime locationCreatedAt;
+
+    @Column(name = "location_updated_at", nullable = false)
+    private LocalDateTime locationUpdatedAt;
+
+    @Column(name = "archived_at", nullable = false)
+    private LocalDateTime archivedAt;
+
+    public UUID getId() {
+        return id;
+    }
+
+    public UUID getOwnerId() {
+        return ownerId;
+    }
+
+    public String getTitle() {
+        return title;
+    }
+
+    public String getDescription() {
+        return description;
+    }
+
+    public TypeEnum getType() {
+        return type;
+    }
+
+    public StatusEnum getStatus() {
+        return status;
+    }
+
+    public ApprovalStatusEnum getApprovalStatus() {
+        return approvalStatus;
+    }
+
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+
+    public LocalDateTime getUpdatedAt() {
+        return updatedAt;
+    }
+
+    public long getLocationId() {
+        return locationId;
+    }
+
+    public String getAddress() {
+        return address;
+    }
+
+    public String getCity() {
+        return city;
+    }
+
+    public String getCountry() {
+        return country;
+    }
+
+    public float getLatitude() {
+        return latitude;
+    }
+
+    public float getLongitude() {
+        return longitude;
+    }
+
+    public StateEnum getState() {
+        return state;
+    }
+
+    public int getZipcode() {
+        return zipcode;
+    }
+
+    public LocalDateTime getLocationCreatedAt() {
+        return locationCreatedAt;
+    }
+
+    public LocalDateTime getLocationUpdatedAt() {
+        return locationUpdatedAt;
+    }
+
+    public LocalDateTime getArchivedAt() {
+        return archivedAt;
+    }
+}
@@ -0,0 +1,97 @@
+package com.realState.property_service.database.entity;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import org.hibernate.annotations.Immutable;
+
+import com.realState.property_service.database.enums.ApprovalStatusEnum;
+import com.realState.property_service.database.enums.PropertyEventTypeEnum;
+import com.realState.property_service.database.enums.StatusEnum;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+
+/**
+ * One entry of a property's append-only change history. Rows are inserted in batches by the audit
+ * writer over JDBC; JPA only reads them.
+ */
+@Entity
+@Immutable
+@Table(name = "property_audit")
+public class PropertyAudit {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private long id;
+
+    @Column(name = "property_id", nullable = false, columnDefinition = "BINARY(16)")
+    private UUID propertyId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "event_type", nullable = false)
+    private PropertyEventTypeEnum eventType;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "previous_approval_status")
+    private ApprovalStatusEnum previousApprovalStatus;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "approval_status")
+    private ApprovalStatusEnum approvalStatus;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status")
+    private StatusEnum status;
+
+    @Column(nullable = false, length = 100)
+    private String actor;
+
+    @Column(name = "occurred_at", nullable = false)
+    private LocalDateTime occurredAt;
+
+    @Column(name = "recorded_at", nullable = false)
+    private LocalDateTime recordedAt;
+
+    public long getId() {
+        return id;
+    }
+
+    public UUID getPropertyId() {
+        return propertyId;
+    }
+
+    public PropertyEventTypeEnum getEventType() {
+        return eventType;
+    }
+
+    public ApprovalStatusEnum getPreviousApprovalStatus() {
+        return previousApprovalStatus;
+    }
+
+    public ApprovalStatusEnum getApprovalStatus() {
+        return approvalStatus;
+    }
+
+    public StatusEnum getStatus() {
+        return status;
+    }
+
+    public String getActor() {
+        return actor;
+    }
+
+    public LocalDateTime getOccurredAt() {
+        return occurredAt;
+    }
+
+    public LocalDateTime getRecordedAt() {
+        return recordedAt;
+    }
+}
@@ -0,0 +1,154 @@
+package com.realState.property_service.database.entity;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import com.realState.property_service.database.enums.StateEnum;
+import com.realState.property_service.database.enums.StatusEnum;
+import com.realState.property_service.database.enums.TypeEnum;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+
+/**
+ * Buyer read model of an approved property, flattened with its location so listing queries filter
+ * and sort on one table. Rows are only written by the listing projector, with bulk statements.
+ */
+@Entity
+@Table(name = "property_listing")
+public class PropertyListing {
+
+    @Id
+    private UUID id;
+
+    @Column(name = "owner_id", columnDefinition = "BINARY(16)")
+    private UUID ownerId;
+
+    @Column(nullable = false, length = 150)
+    private String title;
+
+    @Column(length = 500)
+    private String description;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private TypeEnum type;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private StatusEnum status;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+
+    // The location, flattened
+    @Column(name = "location_id", nullable = false)
+    private long locationId;
+
+    @Column(nullable = false)
+    private String address;
+
+    @Column(nullable = false)
+    private String city;
+
+    @Column(nullable = false)
+    private String country;
+
+    @Column(nullable = true)
+    private float latitude;
+
+    @Column(nullable = true)
+    private float longitude;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private StateEnum state;
+
+    @Column(nullable = false)
+    private int zipcode;
+
+    @Column(name = "location_created_at", nullable = false)
+    private LocalDateTime locationCreatedAt;
+
+    @Column(name = "location_updated_at", nullable = false)
+    private LocalDateTime locationUpdatedAt;
+
+    public UUID getId() {
+        return id;
+    }
+
+    public UUID getOwnerId() {
+        return ownerId;
+    }
+
+    public String getTitle() {
+        return title;
+    }
+
+    public String getDescription() {
+        return description;
+    }
+
+    public TypeEnum getType() {
+        return type;
+    }
+
+    public StatusEnum getStatus() {
+        return status;
+    }
+
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+
+    public LocalDateTime getUpdatedAt() {
+        return updatedAt;
+    }
+
+    public long getLocationId() {
+        return locationId;
+    }
+
+    public String getAddress() {
+        return address;
+    }
+
+    public String getCity() {
+        return city;
+    }
+
+    public String getCountry() {
+        return country;
+    }
+
+    public float getLatitude() {
+        return latitude;
+    }
+
+    public float getLongitude() {
+        return longitude;
+    }
+
+    public StateEnum getState() {
+        return state;
+    }
+
+    public int getZipcode() {
+        return zipcode;
+    }
+
+    public LocalDateTime getLocationCreatedAt() {
+        return locationCreatedAt;
+    }
+
+    public LocalDateTime getLocationUpdatedAt() {
+        return locationUpdatedAt;
+    }
+}
@@ -0,0 +1,46 @@
+package com.realState.property_service.database.entity;
+
+import java.time.LocalDate;
+import java.util.UUID;
+
+import org.hibernate.annotations.Immutable;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.IdClass;
+import jakarta.persistence.Table;
+
+/**
+ * Detail views of one property on one day. Rows are upserted in batches by the view counter over
+ * JDBC; JPA only reads them.
+ */
+@Entity
+@Immutable
+@IdClass(PropertyViewId.class)
+@Table(name = "property_views")
+public class PropertyView {
+
+    @Id
+    @Column(name = "property_id", nullable = false, columnDefinition = "BINARY(16)")
+    private UUID propertyId;
+
+    @Id
+    @Column(name = "view_date", nullable = false)
+    private LocalDate viewDate;
+
+    @Column(nullable = false)
+    private long views;
+
+    public UUID getPropertyId() {
+        return propertyId;
+    }
+
+    public LocalDate getViewDate() {
+        return viewDate;
+    }
+
+    public long getViews() {
+        return views;
+    }
+}
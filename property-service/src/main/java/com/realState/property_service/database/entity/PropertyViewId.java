@@ -0,0 +1,47 @@
+package com.realState.property_service.database.entity;
+
+import java.io.Serializable;
+import java.time.LocalDate;
+import java.util.Objects;
+import java.util.UUID;
+
+/**
+ * Primary key of {@link PropertyView}: a property and a day.
+ */
+public class PropertyViewId implements Serializable {
+
+    private UUID propertyId;
+    private LocalDate viewDate;
+
+    public PropertyViewId() {
+    }
+
+    public PropertyViewId(UUID propertyId, LocalDate viewDate) {
+        this.propertyId = propertyId;
+        this.viewDate = viewDate;
+    }
+
+    public UUID getPropertyId() {
+        return propertyId;
+    }
+
+    public LocalDate getViewDate() {
+        return viewDate;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (this == other) {
+            return true;
+        }
+        if (!(other instanceof PropertyViewId that)) {
+            return false;
+        }
+        return Objects.equals(propertyId, that.propertyId) && Objects.equals(viewDate, that.viewDate);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(propertyId, viewDate);
+    }
+}
@@ -0,0 +1,7 @@
+package com.realState.property_service.database.enums;
+
+public enum IngestStatusEnum {
+    queued,
+    created,
+    failed
+}
@@ -0,0 +1,12 @@
+package com.realState.property_service.database.enums;
+
+public enum PropertyEventTypeEnum {
+    created,
+    updated,
+    status_changed,
+    submitted,
+    approved,
+    rejected,
+    archived,
+    deleted
+}
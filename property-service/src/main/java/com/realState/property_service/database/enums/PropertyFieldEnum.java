@@ -0,0 +1,92 @@
+package com.realState.property_service.database.enums;
+
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Fields a client may request through {@code ?fields=} on list endpoints.
+ * <p>
+ * Each constant maps the public field name to its attribute path on Property (or its Location),
+ * so the list query can select only the requested columns.
+ */
+public enum PropertyFieldEnum {
+    ID("id", false, "id"),
+    TITLE("title", false, "title"),
+    DESCRIPTION("description", false, "description"),
+    TYPE("type", false, "type"),
+    STATUS("status", false, "status"),
+    APPROVAL_STATUS("approvalStatus", false, "approvalStatus"),
+    OWNER_ID("ownerId", false, "ownerId"),
+    CREATED_AT("createdAt", false, "createdAt"),
+    UPDATED_AT("updatedAt", false, "updatedAt"),
+    ADDRESS("address", true, "address"),
+    CITY("city", true, "city"),
+    STATE("state", true, "state"),
+    COUNTRY("country", true, "country"),
+    ZIPCODE("zipcode", true, "zipcode"),
+    LATITUDE("latitude", true, "latitude"),
+    LONGITUDE("longitude", true, "longitude");
+
+    private static final Map<String, PropertyFieldEnum> BY_NAME = new HashMap<>();
+
+    static {
+        for (PropertyFieldEnum field : values()) {
+            BY_NAME.put(field.fieldName.toLowerCase(), field);
+        }
+    }
+
+    private final String fieldName;
+    private final boolean locationField;
+    private final String attribute;
+
+    PropertyFieldEnum(String fieldName, boolean locationField, String attribute) {
+        this.fieldName = fieldName;
+        this.locationField = locationField;
+        this.attribute = attribute;
+    }
+
+    /** Name used in the request parameter and the JSON output. */
+    public String getFieldName() {
+        return fieldName;
+    }
+
+    /** Whether the attribute lives on the joined Location rather than on Property. */
+    public boolean isLocationField() {
+        return locationField;
+    }
+
+    /** JPA attribute name on Property or Location. */
+    public String getAttribute() {
+        return attribute;
+    }
+
+    /**
+     * Parses a comma-separated field list, keeping request order and ignoring blanks and duplicates.
+     *
+     * @param fields e.g. {@code "id,title,city,state"}
+     * @return the requested fields
+     * @throws IllegalArgumentException if the list is empty or names an unknown field
+     */
+    public static Set<PropertyFieldEnum> parse(String fields) {
+        Set<PropertyFieldEnum> parsed = new LinkedHashSet<>();
+        if (fields != null) {
+            for (String name : fields.split(",")) {
+                String trimmed = name.trim();
+                if (trimmed.isEmpty()) {
+                    continue;
+                }
+                PropertyFieldEnum field = BY_NAME.get(trimmed.toLowerCase());
+                if (field == null) {
+                    throw new IllegalArgumentException("Unknown field: " + trimmed);
+                }
+                parsed.add(field);
+            }
+        }
+        if (parsed.isEmpty()) {
+            throw new IllegalArgumentException("At least one field must be requested");
+        }
+        return parsed;
+    }
+}
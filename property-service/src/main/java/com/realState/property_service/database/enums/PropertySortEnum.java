@@ -0,0 +1,49 @@
+package com.realState.property_service.database.enums;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Sort keys a client may pick through {@code ?sort=} on the filter endpoint.
+ * <p>
+ * Each key is backed by an index of the property_listing read table, so an approved listing sorted
+ * by it is read in index order instead of being sorted after the fact.
+ */
+public enum PropertySortEnum {
+    UPDATED_AT("updatedAt", false),
+    CREATED_AT("createdAt", false),
+    TITLE("title", true);
+
+    private static final Map<String, PropertySortEnum> BY_NAME = new HashMap<>();
+
+    static {
+        for (PropertySortEnum sort : values()) {
+            BY_NAME.put(sort.attribute.toLowerCase(), sort);
+        }
+    }
+
+    private final String attribute;
+    private final boolean ascendingByDefault;
+
+    PropertySortEnum(String attribute, boolean ascendingByDefault) {
+        this.attribute = attribute;
+        this.ascendingByDefault = ascendingByDefault;
+    }
+
+    /** JPA attribute name on Property and PropertyListing, also the name used in the request parameter. */
+    public String getAttribute() {
+        return attribute;
+    }
+
+    /** Direction used when the request names the key without one: newest first for dates, A-Z for titles. */
+    public boolean isAscendingByDefault() {
+        return ascendingByDefault;
+    }
+
+    /**
+     * @return the sort key with this name (ignoring case), or null if there is none
+     */
+    public static PropertySortEnum find(String name) {
+        return name == null ? null : BY_NAME.get(name.trim().toLowerCase());
+    }
+}
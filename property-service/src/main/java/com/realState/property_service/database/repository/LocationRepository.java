@@ -1,7 +1,12 @@
 package com.realState.property_service.database.repository;
 
+import java.util.Collection;
+
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import com.realState.property_service.database.entity.Location;
@@ -9,4 +14,8 @@ import com.realState.property_service.database.entity.Location;
 @Repository
 public interface LocationRepository extends JpaRepository<Location, Long>, JpaSpecificationExecutor<Location> {
 
+    // Bulk delete of the locations of properties moved to the archive, after the properties themselves
+    @Modifying
+    @Query("DELETE FROM Location l WHERE l.id IN :ids")
+    int deleteAllByIdIn(@Param("ids") Collection<Long> ids);
 }
@@ -0,0 +1,22 @@
+package com.realState.property_service.database.repository;
+
+import java.time.LocalDateTime;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import com.realState.property_service.database.entity.OutboxRelayLease;
+
+@Repository
+public interface OutboxRelayLeaseRepository extends JpaRepository<OutboxRelayLease, String> {
+
+    // Takes a free or expired lease, or extends one the caller already holds; 0 rows means another relay holds it
+    @Modifying
+    @Query("UPDATE OutboxRelayLease l SET l.owner = :owner, l.expiresAt = :expiresAt WHERE l.name = :name "
+            + "AND (l.owner = :owner OR l.expiresAt IS NULL OR l.expiresAt < :now)")
+    int acquire(@Param("name") String name, @Param("owner") String owner, @Param("now") LocalDateTime now,
+            @Param("expiresAt") LocalDateTime expiresAt);
+}
@@ -0,0 +1,31 @@
+package com.realState.property_service.database.repository;
+
+import java.util.List;
+import java.util.UUID;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import com.realState.property_service.database.entity.PropertyArchive;
+
+@Repository
+public interface PropertyArchiveRepository extends JpaRepository<PropertyArchive, UUID>,
+        PropertyArchiveStorageRepository {
+
+    long countByOwnerId(UUID ownerId);
+
+    // Count an owner's archived properties per (approvalStatus, status) pair: rows of [ApprovalStatusEnum, StatusEnum, Long]
+    @Query("SELECT a.approvalStatus, a.status, COUNT(a) FROM PropertyArchive a WHERE a.ownerId = :ownerId "
+            + "GROUP BY a.approvalStatus, a.status")
+    List<Object[]> countByOwnerGroupedByStatus(@Param("ownerId") UUID ownerId);
+
+    // Keyset pages of all archived ids, for (re)building the in-memory id filter
+    @Query("SELECT a.id FROM PropertyArchive a ORDER BY a.id")
+    List<UUID> findIdsOrdered(Pageable pageable);
+
+    @Query("SELECT a.id FROM PropertyArchive a WHERE a.id > :after ORDER BY a.id")
+    List<UUID> findIdsOrderedAfter(@Param("after") UUID after, Pageable pageable);
+}
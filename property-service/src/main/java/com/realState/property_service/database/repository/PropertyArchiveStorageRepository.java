@@ -0,0 +1,52 @@
+package com.realState.property_service.database.repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+import com.realState.property_service.database.entity.PropertyArchive;
+import com.realState.property_service.database.enums.PropertyFieldEnum;
+
+/**
+ * Repository fragment for moving properties into cold storage and reading it back behind the
+ * live rows of a listing.
+ */
+public interface PropertyArchiveStorageRepository {
+
+    /**
+     * Copies properties and their locations into the archive with one INSERT ... SELECT. The source
+     * rows are left in place; the caller deletes them in the same transaction.
+     *
+     * @param ids        properties to copy, locked by the caller
+     * @param archivedAt moment recorded on every copied row
+     * @return number of rows copied
+     */
+    int copyFromProperties(Collection<UUID> ids, LocalDateTime archivedAt);
+
+    /**
+     * Reads archived properties newest first by absolute offset, so a listing page can continue
+     * into the archive wherever the live rows ended.
+     *
+     * @param ownerId owner to restrict to, or null for all archived properties
+     * @param offset  rows to skip
+     * @param limit   maximum rows to return
+     * @return archived properties ordered by updatedAt, then id, descending
+     */
+    List<PropertyArchive> findNewestFirst(UUID ownerId, long offset, int limit);
+
+    /**
+     * Column-pruned variant of {@link #findNewestFirst}: only the requested fields are selected, in
+     * the same row shape as the live sparse-fieldset listings.
+     *
+     * @param ownerId owner to restrict to, or null for all archived properties
+     * @param fields  fields to select
+     * @param offset  rows to skip
+     * @param limit   maximum rows to return
+     * @return rows ordered by updatedAt, then id, descending
+     */
+    List<Map<String, Object>> findFieldsNewestFirst(UUID ownerId, Set<PropertyFieldEnum> fields, long offset,
+            int limit);
+}
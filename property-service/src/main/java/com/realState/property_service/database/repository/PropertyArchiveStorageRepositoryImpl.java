@@ -0,0 +1,86 @@
+package com.realState.property_service.database.repository;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+import com.realState.property_service.database.entity.PropertyArchive;
+import com.realState.property_service.database.enums.PropertyFieldEnum;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Tuple;
+import jakarta.persistence.TypedQuery;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Selection;
+
+/**
+ * JPQL and Criteria implementation of {@link PropertyArchiveStorageRepository}.
+ */
+public class PropertyArchiveStorageRepositoryImpl implements PropertyArchiveStorageRepository {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public int copyFromProperties(Collection<UUID> ids, LocalDateTime archivedAt) {
+        return entityManager.createQuery("INSERT INTO PropertyArchive (id, ownerId, title, description, type, "
+                + "status, approvalStatus, createdAt, updatedAt, locationId, address, city, country, latitude, "
+                + "longitude, state, zipcode, locationCreatedAt, locationUpdatedAt, archivedAt) "
+                + "SELECT p.id, p.ownerId, p.title, p.description, p.type, p.status, p.approvalStatus, "
+                + "p.createdAt, p.updatedAt, l.id, l.address, l.city, l.country, l.latitude, l.longitude, "
+                + "l.state, l.zipcode, l.createdAt, l.updatedAt, :archivedAt "
+                + "FROM Property p JOIN p.location l WHERE p.id IN :ids")
+                .setParameter("ids", ids)
+                .setParameter("archivedAt", archivedAt)
+                .executeUpdate();
+    }
+
+    @Override
+    public List<PropertyArchive> findNewestFirst(UUID ownerId, long offset, int limit) {
+        String where = ownerId == null ? "" : "WHERE a.ownerId = :ownerId ";
+        TypedQuery<PropertyArchive> query = entityManager.createQuery(
+                "SELECT a FROM PropertyArchive a " + where + "ORDER BY a.updatedAt DESC, a.id DESC",
+                PropertyArchive.class);
+        if (ownerId != null) {
+            query.setParameter("ownerId", ownerId);
+        }
+        return query.setFirstResult(Math.toIntExact(offset))
+                .setMaxResults(limit)
+                .getResultList();
+    }
+
+    @Override
+    public List<Map<String, Object>> findFieldsNewestFirst(UUID ownerId, Set<PropertyFieldEnum> fields, long offset,
+            int limit) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Tuple> query = cb.createTupleQuery();
+        Root<PropertyArchive> root = query.from(PropertyArchive.class);
+
+        // Location fields are plain columns here, under the same attribute names as on Location
+        List<Selection<?>> selections = new ArrayList<>(fields.size());
+        for (PropertyFieldEnum field : fields) {
+            selections.add(root.get(field.getAttribute()).alias(field.getFieldName()));
+        }
+        query.multiselect(selections);
+        if (ownerId != null) {
+            query.where(cb.equal(root.get("ownerId"), ownerId));
+        }
+        query.orderBy(cb.desc(root.get("updatedAt")), cb.desc(root.get("id")));
+
+        List<Map<String, Object>> rows = new ArrayList<>();
+        for (Tuple tuple : entityManager.createQuery(query)
+                .setFirstResult(Math.toIntExact(offset))
+                .setMaxResults(limit)
+                .getResultList()) {
+            rows.add(PropertyProjectionRepositoryImpl.toRow(tuple, fields));
+        }
+        return rows;
+    }
+}
@@ -0,0 +1,21 @@
+package com.realState.property_service.database.repository;
+
+import java.util.List;
+import java.util.UUID;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import com.realState.property_service.database.entity.PropertyAudit;
+
+@Repository
+public interface PropertyAuditRepository extends JpaRepository<PropertyAudit, Long> {
+
+    // Keyset pages over (property_id, id): newest first, starting below the given id
+    @Query("SELECT a FROM PropertyAudit a WHERE a.propertyId = :propertyId AND a.id < :beforeId ORDER BY a.id DESC")
+    List<PropertyAudit> findHistory(@Param("propertyId") UUID propertyId, @Param("beforeId") long beforeId,
+            Pageable pageable);
+}
@@ -0,0 +1,58 @@
+package com.realState.property_service.database.repository;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import com.realState.property_service.database.entity.PropertyListing;
+
+@Repository
+public interface PropertyListingRepository extends JpaRepository<PropertyListing, UUID>,
+        JpaSpecificationExecutor<PropertyListing>, PropertyListingStorageRepository {
+
+    // The only approval status with a listed row, as a query literal
+    String APPROVED = "com.realState.property_service.database.enums.ApprovalStatusEnum.approved";
+
+    // Keyset pages of all listed ids, for the orphan sweep of a rebuild
+    @Query("SELECT l.id FROM PropertyListing l ORDER BY l.id")
+    List<UUID> findIdsOrdered(Pageable pageable);
+
+    @Query("SELECT l.id FROM PropertyListing l WHERE l.id > :after ORDER BY l.id")
+    List<UUID> findIdsOrderedAfter(@Param("after") UUID after, Pageable pageable);
+
+    // Drops listed rows whose property is gone or no longer approved
+    @Modifying
+    @Query("DELETE FROM PropertyListing l WHERE l.id IN :ids AND NOT EXISTS (SELECT 1 FROM Property p "
+            + "WHERE p.id = l.id AND p.approvalStatus = " + APPROVED + ")")
+    int deleteOrphansByIdIn(@Param("ids") Collection<UUID> ids);
+
+    // ---------- Consistency check ----------
+
+    @Query("SELECT COUNT(p) FROM Property p WHERE p.approvalStatus = " + APPROVED)
+    long countApprovedProperties();
+
+    // Approved properties without a listed row
+    @Query("SELECT COUNT(p) FROM Property p WHERE p.approvalStatus = " + APPROVED + " "
+            + "AND NOT EXISTS (SELECT 1 FROM PropertyListing l WHERE l.id = p.id)")
+    long countMissing();
+
+    // Listed rows whose property is gone or no longer approved
+    @Query("SELECT COUNT(l) FROM PropertyListing l WHERE NOT EXISTS (SELECT 1 FROM Property p "
+            + "WHERE p.id = l.id AND p.approvalStatus = " + APPROVED + ")")
+    long countOrphaned();
+
+    // Listed rows that no longer match their property or location. Every property and location write
+    // moves updated_at, so comparing it (and the columns buyers filter on) catches a missed projection
+    @Query("SELECT COUNT(l) FROM PropertyListing l JOIN Property p ON p.id = l.id JOIN p.location loc "
+            + "WHERE l.updatedAt <> p.updatedAt OR l.locationUpdatedAt <> loc.updatedAt OR l.status <> p.status "
+            + "OR l.type <> p.type OR l.title <> p.title OR l.state <> loc.state OR l.city <> loc.city")
+    long countStale();
+}
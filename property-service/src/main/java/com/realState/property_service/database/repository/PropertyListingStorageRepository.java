@@ -0,0 +1,41 @@
+package com.realState.property_service.database.repository;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.domain.Specification;
+
+import com.realState.property_service.database.entity.PropertyListing;
+import com.realState.property_service.database.enums.PropertyFieldEnum;
+
+/**
+ * Repository fragment for projecting properties into the listing read table and for column-pruned
+ * queries over it.
+ */
+public interface PropertyListingStorageRepository {
+
+    /**
+     * Re-projects properties from the write tables: their listed rows are deleted and the approved
+     * ones among them inserted again from properties and locations with one INSERT ... SELECT.
+     * Pending changes of the persistence context are flushed first.
+     *
+     * @param ids properties to re-project; unknown or unapproved ids just lose their row
+     * @return number of rows listed
+     */
+    int refreshFromProperties(Collection<UUID> ids);
+
+    /**
+     * Runs a paged query over the listing table selecting only the requested columns.
+     *
+     * @param spec     filter to apply, or null for all rows
+     * @param fields   columns to select
+     * @param pageable page and sort
+     * @return page of rows shaped like PropertyDTO, with location fields nested under "location"
+     */
+    Page<Map<String, Object>> findFields(Specification<PropertyListing> spec, Set<PropertyFieldEnum> fields,
+            Pageable pageable);
+}
@@ -0,0 +1,136 @@
+package com.realState.property_service.database.repository;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.query.QueryUtils;
+
+import com.realState.property_service.database.entity.PropertyListing;
+import com.realState.property_service.database.enums.ApprovalStatusEnum;
+import com.realState.property_service.database.enums.PropertyFieldEnum;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Tuple;
+import jakarta.persistence.TypedQuery;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Selection;
+
+/**
+ * JPQL and Criteria implementation of {@link PropertyListingStorageRepository}.
+ * <p>
+ * Location fields are plain columns of the listing table, so no query here joins.
+ */
+public class PropertyListingStorageRepositoryImpl implements PropertyListingStorageRepository {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public int refreshFromProperties(Collection<UUID> ids) {
+        if (ids.isEmpty()) {
+            return 0;
+        }
+        // The copy reads the tables, so the writes it projects must have reached them
+        entityManager.flush();
+        entityManager.createQuery("DELETE FROM PropertyListing l WHERE l.id IN :ids")
+                .setParameter("ids", ids)
+                .executeUpdate();
+        return entityManager.createQuery("INSERT INTO PropertyListing (id, ownerId, title, description, type, "
+                + "status, createdAt, updatedAt, locationId, address, city, country, latitude, longitude, state, "
+                + "zipcode, locationCreatedAt, locationUpdatedAt) "
+                + "SELECT p.id, p.ownerId, p.title, p.description, p.type, p.status, p.createdAt, p.updatedAt, "
+                + "l.id, l.address, l.city, l.country, l.latitude, l.longitude, l.state, l.zipcode, l.createdAt, "
+                + "l.updatedAt FROM Property p JOIN p.location l WHERE p.id IN :ids AND p.approvalStatus = :status")
+                .setParameter("ids", ids)
+                .setParameter("status", ApprovalStatusEnum.approved)
+                .executeUpdate();
+    }
+
+    @Override
+    public Page<Map<String, Object>> findFields(Specification<PropertyListing> spec, Set<PropertyFieldEnum> fields,
+            Pageable pageable) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+
+        CriteriaQuery<Tuple> query = cb.createTupleQuery();
+        Root<PropertyListing> root = query.from(PropertyListing.class);
+
+        // Every listed row is approved, so that field is filled in rather than selected
+        List<Selection<?>> selections = new ArrayList<>(fields.size());
+        for (PropertyFieldEnum field : fields) {
+            if (field != PropertyFieldEnum.APPROVAL_STATUS) {
+                selections.add(root.get(field.getAttribute()).alias(field.getFieldName()));
+            }
+        }
+        if (selections.isEmpty()) {
+            selections.add(root.get("id").alias(PropertyFieldEnum.ID.getFieldName()));
+        }
+        query.multiselect(selections);
+
+        Predicate predicate = spec != null ? spec.toPredicate(root, query, cb) : null;
+        if (predicate != null) {
+            query.where(predicate);
+        }
+        if (pageable.getSort().isSorted()) {
+            query.orderBy(QueryUtils.toOrders(pageable.getSort(), root, cb));
+        }
+
+        TypedQuery<Tuple> typedQuery = entityManager.createQuery(query);
+        if (pageable.isPaged()) {
+            typedQuery.setFirstResult((int) pageable.getOffset());
+            typedQuery.setMaxResults(pageable.getPageSize());
+        }
+
+        List<Map<String, Object>> rows = new ArrayList<>();
+        for (Tuple tuple : typedQuery.getResultList()) {
+            rows.add(toRow(tuple, fields));
+        }
+
+        return new PageImpl<>(rows, pageable, count(spec));
+    }
+
+    private long count(Specification<PropertyListing> spec) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Long> query = cb.createQuery(Long.class);
+        Root<PropertyListing> root = query.from(PropertyListing.class);
+        query.select(cb.count(root));
+
+        Predicate predicate = spec != null ? spec.toPredicate(root, query, cb) : null;
+        if (predicate != null) {
+            query.where(predicate);
+        }
+        return entityManager.createQuery(query).getSingleResult();
+    }
+
+    private static Map<String, Object> toRow(Tuple tuple, Set<PropertyFieldEnum> fields) {
+        Map<String, Object> row = new LinkedHashMap<>();
+        Map<String, Object> location = null;
+        for (PropertyFieldEnum field : fields) {
+            Object value = field == PropertyFieldEnum.APPROVAL_STATUS
+                    ? ApprovalStatusEnum.approved
+                    : tuple.get(field.getFieldName());
+            if (field.isLocationField()) {
+                if (location == null) {
+                    location = new LinkedHashMap<>();
+                    row.put("location", location);
+                }
+                location.put(field.getFieldName(), value);
+            } else {
+                row.put(field.getFieldName(), value);
+            }
+        }
+        return row;
+    }
+}
@@ -0,0 +1,32 @@
+package com.realState.property_service.database.repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import com.realState.property_service.database.entity.PropertyOutboxEvent;
+
+@Repository
+public interface PropertyOutboxRepository extends JpaRepository<PropertyOutboxEvent, Long> {
+
+    // Oldest unpublished events first; read without locks, only by the relay holding the outbox lease
+    @Query("SELECT e FROM PropertyOutboxEvent e WHERE e.publishedAt IS NULL ORDER BY e.id ASC")
+    List<PropertyOutboxEvent> findUnpublished(Pageable pageable);
+
+    @Modifying
+    @Query("UPDATE PropertyOutboxEvent e SET e.publishedAt = :publishedAt WHERE e.id IN :ids")
+    int markPublished(@Param("ids") Collection<Long> ids, @Param("publishedAt") LocalDateTime publishedAt);
+
+    @Modifying
+    @Query("DELETE FROM PropertyOutboxEvent e WHERE e.publishedAt < :before")
+    int deletePublishedBefore(@Param("before") LocalDateTime before);
+
+    long countByPublishedAtIsNull();
+}
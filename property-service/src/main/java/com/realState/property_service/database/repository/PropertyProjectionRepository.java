@@ -0,0 +1,28 @@
+package com.realState.property_service.database.repository;
+
+import java.util.Map;
+import java.util.Set;
+
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.domain.Specification;
+
+import com.realState.property_service.database.entity.Property;
+import com.realState.property_service.database.enums.PropertyFieldEnum;
+
+/**
+ * Repository fragment for column-pruned property list queries.
+ */
+public interface PropertyProjectionRepository {
+
+    /**
+     * Runs a paged query selecting only the requested columns.
+     *
+     * @param spec     filter to apply, or null for all rows
+     * @param fields   columns to select
+     * @param pageable page and sort
+     * @return page of rows shaped like PropertyDTO, with location fields nested under "location"
+     */
+    Page<Map<String, Object>> findFields(Specification<Property> spec, Set<PropertyFieldEnum> fields,
+            Pageable pageable);
+}
@@ -0,0 +1,116 @@
+package com.realState.property_service.database.repository;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.query.QueryUtils;
+
+import com.realState.property_service.database.entity.Location;
+import com.realState.property_service.database.entity.Property;
+import com.realState.property_service.database.enums.PropertyFieldEnum;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Tuple;
+import jakarta.persistence.TypedQuery;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Join;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Selection;
+
+/**
+ * Criteria-based implementation of {@link PropertyProjectionRepository}.
+ * <p>
+ * Builds a tuple query whose SELECT list contains only the requested columns; the locations table
+ * is joined only when a location field is requested or the filter itself needs it.
+ */
+public class PropertyProjectionRepositoryImpl implements PropertyProjectionRepository {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public Page<Map<String, Object>> findFields(Specification<Property> spec, Set<PropertyFieldEnum> fields,
+            Pageable pageable) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+
+        CriteriaQuery<Tuple> query = cb.createTupleQuery();
+        Root<Property> root = query.from(Property.class);
+        Join<Property, Location> location = null;
+
+        List<Selection<?>> selections = new ArrayList<>(fields.size());
+        for (PropertyFieldEnum field : fields) {
+            if (field.isLocationField()) {
+                if (location == null) {
+                    location = root.join("location");
+                }
+                selections.add(location.get(field.getAttribute()).alias(field.getFieldName()));
+            } else {
+                selections.add(root.get(field.getAttribute()).alias(field.getFieldName()));
+            }
+        }
+        query.multiselect(selections);
+
+        Predicate predicate = spec != null ? spec.toPredicate(root, query, cb) : null;
+        if (predicate != null) {
+            query.where(predicate);
+        }
+        if (pageable.getSort().isSorted()) {
+            query.orderBy(QueryUtils.toOrders(pageable.getSort(), root, cb));
+        }
+
+        TypedQuery<Tuple> typedQuery = entityManager.createQuery(query);
+        if (pageable.isPaged()) {
+            typedQuery.setFirstResult((int) pageable.getOffset());
+            typedQuery.setMaxResults(pageable.getPageSize());
+        }
+
+        List<Map<String, Object>> rows = new ArrayList<>();
+        for (Tuple tuple : typedQuery.getResultList()) {
+            rows.add(toRow(tuple, fields));
+        }
+
+        return new PageImpl<>(rows, pageable, count(spec));
+    }
+
+    private long count(Specification<Property> spec) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Long> query = cb.createQuery(Long.class);
+        Root<Property> root = query.from(Property.class);
+        query.select(cb.count(root));
+
+        Predicate predicate = spec != null ? spec.toPredicate(root, query, cb) : null;
+        if (predicate != null) {
+            query.where(predicate);
+        }
+        return entityManager.createQuery(query).getSingleResult();
+    }
+
+    // Also shapes the archive's rows, whose location columns are flattened under the same aliases
+    static Map<String, Object> toRow(Tuple tuple, Set<PropertyFieldEnum> fields) {
+        Map<String, Object> row = new LinkedHashMap<>();
+        Map<String, Object> location = null;
+        for (PropertyFieldEnum field : fields) {
+            Object value = tuple.get(field.getFieldName());
+            if (field.isLocationField()) {
+                if (location == null) {
+                    location = new LinkedHashMap<>();
+                    row.put("location", location);
+                }
+                location.put(field.getFieldName(), value);
+            } else {
+                row.put(field.getFieldName(), value);
+            }
+        }
+        return row;
+    }
+}
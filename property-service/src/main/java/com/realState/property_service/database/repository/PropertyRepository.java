@@ -1,6 +1,9 @@
 package com.realState.property_service.database.repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
 
 import jakarta.validation.constraints.NotNull;
@@ -8,15 +11,25 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.lang.NonNull;
 import org.springframework.lang.NonNullApi;
 import org.springframework.stereotype.Repository;
 
 import com.realState.property_service.database.entity.Property;
-import com.realState.property_service.database.enums.ApprovalStatusEnum;;;;;
+import com.realState.property_service.database.enums.ApprovalStatusEnum;
+import com.realState.property_service.database.enums.StatusEnum;
+
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
 
 @Repository
-public interface PropertyRepository extends JpaRepository<Property, UUID>, JpaSpecificationExecutor<Property> {
+public interface PropertyRepository extends JpaRepository<Property, UUID>, JpaSpecificationExecutor<Property>,
+        PropertyProjectionRepository {
     // @Query("SELECT p FROM Property p WHERE p.owner_id = :owner_id")
     // List<Property> findAllByOwnerId(@Param("owner_id") UUID owner_id);
 
@@ -31,4 +44,123 @@ public interface PropertyRepository extends JpaRepository<Property, UUID>, JpaSp
     // Find All Properties
     @NonNull
     Page<Property> findAll(@NonNull Pageable pageable);
-}
+
+    // Find many properties by id with their locations in a single query
+    @Query("SELECT p FROM Property p JOIN FETCH p.location WHERE p.id IN :ids")
+    List<Property> findAllWithLocationByIdIn(@Param("ids") Collection<UUID> ids);
+
+    // Load one property with its location in a single query
+    @Query("SELECT p FROM Property p JOIN FETCH p.location WHERE p.id = :id")
+    Optional<Property> findWithLocationById(@Param("id") UUID id);
+
+    // Scalar owner and approval status lookup for writes that do not need the entity: an empty list
+    // means no such property
+    @Query("SELECT p.ownerId, p.approvalStatus FROM Property p WHERE p.id = :id")
+    List<Object[]> findOwnerIdAndApprovalStatusById(@Param("id") UUID id);
+
+    // Availability flip as one UPDATE; 0 rows means the property already has this status
+    @Modifying
+    @Query("UPDATE Property p SET p.status = :status, p.updatedAt = :now WHERE p.id = :id AND p.status <> :status")
+    int updateStatus(@Param("id") UUID id, @Param("status") StatusEnum status, @Param("now") LocalDateTime now);
+
+    // Keyset pages of all ids, for (re)building the in-memory id filter
+    @Query("SELECT p.id FROM Property p ORDER BY p.id")
+    List<UUID> findIdsOrdered(Pageable pageable);
+
+    @Query("SELECT p.id FROM Property p WHERE p.id > :after ORDER BY p.id")
+    List<UUID> findIdsOrderedAfter(@Param("after") UUID after, Pageable pageable);
+
+    @Query("SELECT p.id FROM Property p WHERE p.createdAt >= :since")
+    List<UUID> findIdsCreatedSince(@Param("since") LocalDateTime since);
+
+    // Properties of the given locations, so a location write can re-project them (location_id is unique)
+    @Query("SELECT p.id FROM Property p WHERE p.location.id IN :locationIds")
+    List<UUID> findIdsByLocationIdIn(@Param("locationIds") Collection<Long> locationIds);
+
+    // Count an owner's properties per (approvalStatus, status) pair: rows of [ApprovalStatusEnum, StatusEnum, Long]
+    @Query("SELECT p.approvalStatus, p.status, COUNT(p) FROM Property p WHERE p.ownerId = :ownerId "
+            + "GROUP BY p.approvalStatus, p.status")
+    List<Object[]> countByOwnerGroupedByStatus(@Param("ownerId") UUID ownerId);
+
+    // ---------- Listing expiry ----------
+
+    // Oldest stale approved rows first, a range scan of idx_properties_approval_updated. SKIP LOCKED lets
+    // expiry runs on several instances take disjoint chunks. Rows of [UUID id, UUID ownerId, StatusEnum status]
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = "jakarta.persistence.lock.timeout", value = "-2"))
+    @Query("SELECT p.id, p.ownerId, p.status FROM Property p WHERE p.approvalStatus = :status "
+            + "AND p.updatedAt < :cutoff ORDER BY p.updatedAt, p.id")
+    List<Object[]> findStaleForUpdate(@Param("status") ApprovalStatusEnum status,
+            @Param("cutoff") LocalDateTime cutoff, Pageable pageable);
+
+    // The same range read without locks, a keyset page after (afterUpdatedAt, afterId): rows of [UUID id, LocalDateTime updatedAt]
+    @Query("SELECT p.id, p.updatedAt FROM Property p WHERE p.approvalStatus = :status AND p.updatedAt < :cutoff "
+            + "AND (p.updatedAt > :afterUpdatedAt OR (p.updatedAt = :afterUpdatedAt AND p.id > :afterId)) "
+            + "ORDER BY p.updatedAt, p.id")
+    List<Object[]> findStaleAfter(@Param("status") ApprovalStatusEnum status, @Param("cutoff") LocalDateTime cutoff,
+            @Param("afterUpdatedAt") LocalDateTime afterUpdatedAt, @Param("afterId") UUID afterId,
+            Pageable pageable);
+
+    @Modifying
+    @Query("UPDATE Property p SET p.approvalStatus = :status, p.updatedAt = :now WHERE p.id IN :ids")
+    int updateApprovalStatus(@Param("ids") Collection<UUID> ids, @Param("status") ApprovalStatusEnum status,
+            @Param("now") LocalDateTime now);
+
+    // ---------- Cold storage ----------
+
+    // Oldest cold rows of one approval status first, locked with SKIP LOCKED so movers on several instances
+    // take disjoint chunks. Rows of [UUID id, Long locationId]
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = "jakarta.persistence.lock.timeout", value = "-2"))
+    @Query("SELECT p.id, p.location.id FROM Property p WHERE p.approvalStatus = :status "
+            + "AND p.updatedAt < :cutoff ORDER BY p.updatedAt, p.id")
+    List<Object[]> findColdForUpdate(@Param("status") ApprovalStatusEnum status,
+            @Param("cutoff") LocalDateTime cutoff, Pageable pageable);
+
+    // Bulk delete of rows already copied to the archive; their locations are deleted separately
+    @Modifying
+    @Query("DELETE FROM Property p WHERE p.id IN :ids")
+    int deleteAllByIdIn(@Param("ids") Collection<UUID> ids);
+
+    // ---------- Moderation queue leases ----------
+
+    // Lock the oldest unleased (or lease-expired) rows; lock timeout -2 renders SKIP LOCKED, so concurrent
+    // claimers each get a disjoint batch instead of queueing behind each other's locks
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = "jakarta.persistence.lock.timeout", value = "-2"))
+    @Query("SELECT p FROM Property p JOIN FETCH p.location WHERE p.approvalStatus = :status "
+            + "AND (p.moderationLeaseExpiresAt IS NULL OR p.moderationLeaseExpiresAt < :now) "
+            + "ORDER BY p.updatedAt, p.id")
+    List<Property> findClaimableForUpdate(@Param("status") ApprovalStatusEnum status,
+            @Param("now") LocalDateTime now, Pageable pageable);
+
+    // Lease changes keep updated_at as it is: bulk updates bypass @PreUpdate, and assigning the column to
+    // itself stops MySQL's ON UPDATE CURRENT_TIMESTAMP (V2), which would otherwise send a released or expired
+    // item to the back of the queue and reset the expiry and cold storage age of the listing
+    @Modifying
+    @Query("UPDATE Property p SET p.moderationLeaseToken = :token, p.moderationLeaseOwner = :owner, "
+            + "p.moderationLeaseExpiresAt = :expiresAt, p.updatedAt = p.updatedAt WHERE p.id IN :ids")
+    int assignModerationLease(@Param("ids") Collection<UUID> ids, @Param("token") UUID token,
+            @Param("owner") String owner, @Param("expiresAt") LocalDateTime expiresAt);
+
+    @Modifying
+    @Query("UPDATE Property p SET p.moderationLeaseExpiresAt = :expiresAt, p.updatedAt = p.updatedAt "
+            + "WHERE p.moderationLeaseToken = :token "
+            + "AND p.approvalStatus = :status AND p.moderationLeaseExpiresAt >= :now")
+    int renewModerationLease(@Param("token") UUID token, @Param("status") ApprovalStatusEnum status,
+            @Param("now") LocalDateTime now, @Param("expiresAt") LocalDateTime expiresAt);
+
+    // Clears a still-valid lease on one property; 0 rows means the caller no longer holds it
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Property p SET p.moderationLeaseToken = NULL, p.moderationLeaseOwner = NULL, "
+            + "p.moderationLeaseExpiresAt = NULL, p.updatedAt = p.updatedAt "
+            + "WHERE p.id = :id AND p.moderationLeaseToken = :token "
+            + "AND p.approvalStatus = :status AND p.moderationLeaseExpiresAt >= :now")
+    int releaseModerationLease(@Param("id") UUID id, @Param("token") UUID token,
+            @Param("status") ApprovalStatusEnum status, @Param("now") LocalDateTime now);
+
+    @Modifying
+    @Query("UPDATE Property p SET p.moderationLeaseToken = NULL, p.moderationLeaseOwner = NULL, "
+            + "p.moderationLeaseExpiresAt = NULL, p.updatedAt = p.updatedAt WHERE p.moderationLeaseToken = :token")
+    int releaseAllModerationLeases(@Param("token") UUID token);
+}
\ No newline at end of file
@@ -0,0 +1,25 @@
+package com.realState.property_service.database.repository;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import com.realState.property_service.database.entity.PropertyView;
+import com.realState.property_service.database.entity.PropertyViewId;
+
+@Repository
+public interface PropertyViewRepository extends JpaRepository<PropertyView, PropertyViewId> {
+
+    // All-time flushed views of one property, summed over its primary key prefix
+    @Query("SELECT COALESCE(SUM(v.views), 0) FROM PropertyView v WHERE v.propertyId = :propertyId")
+    long sumViews(@Param("propertyId") UUID propertyId);
+
+    // One property's daily rows from the given day on, oldest first
+    @Query("SELECT v FROM PropertyView v WHERE v.propertyId = :propertyId AND v.viewDate >= :from ORDER BY v.viewDate")
+    List<PropertyView> findDaysFrom(@Param("propertyId") UUID propertyId, @Param("from") LocalDate from);
+}
@@ -0,0 +1,30 @@
+package com.realState.property_service.database.repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import com.realState.property_service.database.entity.SavedSearch;
+
+@Repository
+public interface SavedSearchRepository extends JpaRepository<SavedSearch, Long> {
+
+    Optional<SavedSearch> findByIdAndActiveTrue(long id);
+
+    List<SavedSearch> findByBuyerIdAndActiveTrueOrderByIdDesc(UUID buyerId);
+
+    // Keyset pages over the active searches, for loading the matcher at startup
+    @Query("SELECT s FROM SavedSearch s WHERE s.active = true AND s.id > :afterId ORDER BY s.id ASC")
+    List<SavedSearch> findActiveAfter(@Param("afterId") long afterId, Pageable pageable);
+
+    // Searches created, changed or deactivated since the given time, including inactive ones
+    @Query("SELECT s FROM SavedSearch s WHERE s.updatedAt >= :since ORDER BY s.updatedAt ASC, s.id ASC")
+    List<SavedSearch> findChangedSince(@Param("since") LocalDateTime since, Pageable pageable);
+}
@@ -0,0 +1,65 @@
+package com.realState.property_service.module.audit.controller;
+
+import java.util.UUID;
+
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.realState.property_service.common.utils.ApiResponse;
+import com.realState.property_service.module.audit.dto.PropertyHistoryDTO;
+import com.realState.property_service.module.audit.service.PropertyAuditService;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+
+/**
+ * REST controller for the audit trail of property changes.
+ */
+@RestController
+@RequestMapping(value = { "/properties" })
+public class PropertyAuditController {
+
+    private final PropertyAuditService propertyAuditService;
+
+    public PropertyAuditController(PropertyAuditService propertyAuditService) {
+        this.propertyAuditService = propertyAuditService;
+    }
+
+    /**
+     * 1. Get a property's change history.
+     */
+    @Operation(
+            summary = "Get property history",
+            description = "Page through a property's recorded changes, newest first; pass nextBefore as before for the next page (Admin)",
+            tags = { "Admin APIs" }
+    )
+    @ApiResponses(value = {
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(
+                    responseCode = "200",
+                    description = "History page",
+                    content = @Content(schema = @Schema(implementation = PropertyHistoryDTO.class))
+            ),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(
+                    responseCode = "400",
+                    description = "Invalid property ID, cursor or limit"
+            )
+    })
+    @GetMapping("/{property_id}/history")
+    public ResponseEntity<ApiResponse<PropertyHistoryDTO>> getPropertyHistory(
+            @Parameter(description = "Property ID (UUID format)", required = true)
+            @PathVariable String property_id,
+            @Parameter(description = "Return entries older than this entry id")
+            @RequestParam(required = false) Long before,
+            @Parameter(description = "Maximum entries to return (1-100)")
+            @RequestParam(defaultValue = "20") int limit) {
+        PropertyHistoryDTO history = propertyAuditService.getHistory(UUID.fromString(property_id), before, limit);
+        return ResponseEntity.ok(ApiResponse.success(history));
+    }
+}
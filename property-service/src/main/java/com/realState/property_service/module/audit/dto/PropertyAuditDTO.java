@@ -0,0 +1,88 @@
+package com.realState.property_service.module.audit.dto;
+
+import java.time.LocalDateTime;
+
+import com.realState.property_service.database.enums.ApprovalStatusEnum;
+import com.realState.property_service.database.enums.PropertyEventTypeEnum;
+import com.realState.property_service.database.enums.StatusEnum;
+
+/**
+ * One recorded change of a property. Approval status and status are the values after the change;
+ * either is null when the change did not report it.
+ */
+public class PropertyAuditDTO {
+
+    private long id;
+    private PropertyEventTypeEnum eventType;
+    private ApprovalStatusEnum previousApprovalStatus;
+    private ApprovalStatusEnum approvalStatus;
+    private StatusEnum status;
+    private String actor;
+    private LocalDateTime occurredAt;
+    private LocalDateTime recordedAt;
+
+    // Getters and Setters
+    public long getId() {
+        return id;
+    }
+
+    public void setId(long id) {
+        this.id = id;
+    }
+
+    public PropertyEventTypeEnum getEventType() {
+        return eventType;
+    }
+
+    public void setEventType(PropertyEventTypeEnum eventType) {
+        this.eventType = eventType;
+    }
+
+    public ApprovalStatusEnum getPreviousApprovalStatus() {
+        return previousApprovalStatus;
+    }
+
+    public void setPreviousApprovalStatus(ApprovalStatusEnum previousApprovalStatus) {
+        this.previousApprovalStatus = previousApprovalStatus;
+    }
+
+    public ApprovalStatusEnum getApprovalStatus() {
+        return approvalStatus;
+    }
+
+    public void setApprovalStatus(ApprovalStatusEnum approvalStatus) {
+        this.approvalStatus = approvalStatus;
+    }
+
+    public StatusEnum getStatus() {
+        return status;
+    }
+
+    public void setStatus(StatusEnum status) {
+        this.status = status;
+    }
+
+    public String getActor() {
+        return actor;
+    }
+
+    public void setActor(String actor) {
+        this.actor = actor;
+    }
+
+    public LocalDateTime getOccurredAt() {
+        return occurredAt;
+    }
+
+    public void setOccurredAt(LocalDateTime occurredAt) {
+        this.occurredAt = occurredAt;
+    }
+
+    public LocalDateTime getRecordedAt() {
+        return recordedAt;
+    }
+
+    public void setRecordedAt(LocalDateTime recordedAt) {
+        this.recordedAt = recordedAt;
+    }
+}
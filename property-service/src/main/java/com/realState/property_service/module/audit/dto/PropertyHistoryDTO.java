@@ -0,0 +1,49 @@
+package com.realState.property_service.module.audit.dto;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * A page of a property's history, newest first. {@code nextBefore} is the {@code before} value for
+ * the next (older) page, or null on the last page.
+ */
+public class PropertyHistoryDTO {
+
+    private UUID propertyId;
+    private List<PropertyAuditDTO> entries;
+    private Long nextBefore;
+
+    public PropertyHistoryDTO() {
+    }
+
+    public PropertyHistoryDTO(UUID propertyId, List<PropertyAuditDTO> entries, Long nextBefore) {
+        this.propertyId = propertyId;
+        this.entries = entries;
+        this.nextBefore = nextBefore;
+    }
+
+    // Getters and Setters
+    public UUID getPropertyId() {
+        return propertyId;
+    }
+
+    public void setPropertyId(UUID propertyId) {
+        this.propertyId = propertyId;
+    }
+
+    public List<PropertyAuditDTO> getEntries() {
+        return entries;
+    }
+
+    public void setEntries(List<PropertyAuditDTO> entries) {
+        this.entries = entries;
+    }
+
+    public Long getNextBefore() {
+        return nextBefore;
+    }
+
+    public void setNextBefore(Long nextBefore) {
+        this.nextBefore = nextBefore;
+    }
+}
@@ -0,0 +1,14 @@
+package com.realState.property_service.module.audit.service;
+
+import java.util.UUID;
+
+import com.realState.property_service.module.audit.dto.PropertyHistoryDTO;
+
+public interface PropertyAuditService {
+
+    /**
+     * Returns up to {@code limit} history entries of a property older than {@code before} (all when
+     * null), newest first. Entries appear once the audit writer has flushed them.
+     */
+    PropertyHistoryDTO getHistory(UUID propertyId, Long before, int limit);
+}
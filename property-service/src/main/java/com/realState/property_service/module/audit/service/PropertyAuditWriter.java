@@ -0,0 +1,219 @@
+package com.realState.property_service.module.audit.service;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+
+import com.realState.property_service.common.actor.RequestActor;
+import com.realState.property_service.common.utils.SqlUtils;
+import com.realState.property_service.common.utils.TransactionUtils;
+import com.realState.property_service.common.utils.UuidBytes;
+import com.realState.property_service.database.enums.ApprovalStatusEnum;
+import com.realState.property_service.database.enums.PropertyEventTypeEnum;
+import com.realState.property_service.database.enums.StatusEnum;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+
+/**
+ * Appends property changes to the {@code property_audit} table off the request path.
+ * <p>
+ * Entries are queued once the changing transaction commits (a rolled-back change leaves no trace)
+ * and a single writer thread inserts them as multi-row INSERTs, flushing when a batch is full or the
+ * oldest queued entry has waited {@code flush-interval-ms}. When the bounded queue is full the entry
+ * is written directly by the calling thread instead, so overload costs latency, not history. On
+ * shutdown the queue is drained before the data source closes.
+ * <p>
+ * The trade-off of writing after commit: entries still queued when the process dies are lost.
+ */
+@Service
+public class PropertyAuditWriter {
+
+    private static final Logger logger = LoggerFactory.getLogger(PropertyAuditWriter.class);
+
+    private static final String INSERT = "INSERT INTO property_audit (property_id, event_type, "
+            + "previous_approval_status, approval_status, status, actor, occurred_at, recorded_at) VALUES ";
+    private static final String ROW = "(?, ?, ?, ?, ?, ?, ?, ?)";
+    private static final int MAX_ATTEMPTS = 3;
+
+    /**
+     * A change to audit; approval status and status are the values after the change (null if unknown).
+     */
+    public record Entry(UUID propertyId, PropertyEventTypeEnum eventType, ApprovalStatusEnum previousApprovalStatus,
+            ApprovalStatusEnum approvalStatus, StatusEnum status, String actor, LocalDateTime occurredAt) {
+    }
+
+    private final JdbcTemplate jdbcTemplate;
+    private final BlockingQueue<Entry> queue;
+    private final boolean enabled;
+    private final int batchSize;
+    private final long flushIntervalNanos;
+    private final long drainTimeoutMillis;
+    private final Thread writer;
+    private volatile boolean running = true;
+
+    private final Counter written;
+    private final Counter writtenDirectly;
+    private final Counter failed;
+    private final Timer flushTimer;
+
+    public PropertyAuditWriter(JdbcTemplate jdbcTemplate,
+            MeterRegistry meterRegistry,
+            @Value("${property.audit.enabled:true}") boolean enabled,
+            @Value("${property.audit.queue-capacity:10000}") int queueCapacity,
+            @Value("${property.audit.batch-size:200}") int batchSize,
+            @Value("${property.audit.flush-interval-ms:200}") long flushIntervalMillis,
+            @Value("${property.audit.drain-timeout-ms:10000}") long drainTimeoutMillis) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.enabled = enabled;
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+        this.batchSize = batchSize;
+        this.flushIntervalNanos = TimeUnit.MILLISECONDS.toNanos(flushIntervalMillis);
+        this.drainTimeoutMillis = drainTimeoutMillis;
+
+        this.written = meterRegistry.counter("property.audit.entries", "result", "batched");
+        this.writtenDirectly = meterRegistry.counter("property.audit.entries", "result", "direct");
+        this.failed = meterRegistry.counter("property.audit.entries", "result", "failed");
+        this.flushTimer = Timer.builder("property.audit.flush").register(meterRegistry);
+        Gauge.builder("property.audit.queue.size", queue, BlockingQueue::size).register(meterRegistry);
+
+        this.writer = new Thread(this::run, "property-audit-writer");
+        this.writer.setDaemon(true);
+        if (enabled) {
+            this.writer.start();
+        }
+    }
+
+    /**
+     * Audits a change once the current transaction commits, attributed to the current request's actor.
+     */
+    public void recordAfterCommit(PropertyEventTypeEnum eventType, UUID propertyId,
+            ApprovalStatusEnum previousApprovalStatus, ApprovalStatusEnum approvalStatus, StatusEnum status) {
+        if (!enabled) {
+            return;
+        }
+        Entry entry = new Entry(propertyId, eventType, previousApprovalStatus, approvalStatus, status,
+                RequestActor.current(), LocalDateTime.now());
+        TransactionUtils.afterCommit(() -> enqueue(entry));
+    }
+
+    private void enqueue(Entry entry) {
+        if (running && queue.offer(entry)) {
+            return;
+        }
+        try {
+            insert(List.of(entry));
+            writtenDirectly.increment();
+        } catch (Exception ex) {
+            failed.increment();
+            logger.error("Failed to write audit entry {} for property ID={}", entry.eventType(), entry.propertyId(),
+                    ex);
+        }
+    }
+
+    private void run() {
+        List<Entry> batch = new ArrayList<>(batchSize);
+        while (running || !queue.isEmpty()) {
+            try {
+                Entry first = queue.poll(flushIntervalNanos, TimeUnit.NANOSECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                long flushAt = System.nanoTime() + flushIntervalNanos;
+                while (batch.size() < batchSize) {
+                    queue.drainTo(batch, batchSize - batch.size());
+                    long wait = flushAt - System.nanoTime();
+                    if (batch.size() >= batchSize || wait <= 0 || !running) {
+                        break;
+                    }
+                    Entry next = queue.poll(wait, TimeUnit.NANOSECONDS);
+                    if (next == null) {
+                        break;
+                    }
+                    batch.add(next);
+                }
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+                running = false;
+            }
+            if (!batch.isEmpty()) {
+                flush(batch);
+                batch.clear();
+            }
+        }
+    }
+
+    private void flush(List<Entry> batch) {
+        for (int attempt = 1; ; attempt++) {
+            try {
+                flushTimer.record(() -> insert(batch));
+                written.increment(batch.size());
+                return;
+            } catch (Exception ex) {
+                if (attempt == MAX_ATTEMPTS) {
+                    failed.increment(batch.size());
+                    logger.error("Dropping {} audit entries after {} failed attempts", batch.size(), attempt, ex);
+                    return;
+                }
+                logger.warn("Audit batch of {} entries failed (attempt {}), retrying", batch.size(), attempt, ex);
+                try {
+                    Thread.sleep(100L * attempt);
+                } catch (InterruptedException interrupted) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+        }
+    }
+
+    // One multi-row INSERT per batch
+    private void insert(List<Entry> entries) {
+        LocalDateTime recordedAt = LocalDateTime.now();
+        jdbcTemplate.update(SqlUtils.multiRowInsert(INSERT, ROW, entries.size()), statement -> {
+            int index = 1;
+            for (Entry entry : entries) {
+                statement.setBytes(index++, UuidBytes.toBytes(entry.propertyId()));
+                statement.setString(index++, entry.eventType().name());
+                statement.setString(index++, nameOrNull(entry.previousApprovalStatus()));
+                statement.setString(index++, nameOrNull(entry.approvalStatus()));
+                statement.setString(index++, nameOrNull(entry.status()));
+                statement.setString(index++, entry.actor());
+                statement.setObject(index++, entry.occurredAt());
+                statement.setObject(index++, recordedAt);
+            }
+        });
+    }
+
+    private static String nameOrNull(Enum<?> value) {
+        return value == null ? null : value.name();
+    }
+
+    /**
+     * Stops accepting queued entries and waits for the queue to drain.
+     */
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        running = false;
+        if (!writer.isAlive()) {
+            return;
+        }
+        writer.join(drainTimeoutMillis);
+        if (writer.isAlive()) {
+            logger.error("Audit writer did not drain within {} ms, {} entries lost", drainTimeoutMillis,
+                    queue.size());
+        }
+    }
+}
@@ -0,0 +1,56 @@
+package com.realState.property_service.module.audit.service.impl;
+
+import java.util.List;
+import java.util.UUID;
+
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.realState.property_service.database.entity.PropertyAudit;
+import com.realState.property_service.database.repository.PropertyAuditRepository;
+import com.realState.property_service.module.audit.dto.PropertyAuditDTO;
+import com.realState.property_service.module.audit.dto.PropertyHistoryDTO;
+import com.realState.property_service.module.audit.service.PropertyAuditService;
+
+@Service
+public class PropertyAuditServiceImpl implements PropertyAuditService {
+
+    private final PropertyAuditRepository propertyAuditRepository;
+
+    public PropertyAuditServiceImpl(PropertyAuditRepository propertyAuditRepository) {
+        this.propertyAuditRepository = propertyAuditRepository;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public PropertyHistoryDTO getHistory(UUID propertyId, Long before, int limit) {
+        if (limit < 1 || limit > 100) {
+            throw new IllegalArgumentException("Limit must be between 1 and 100");
+        }
+        if (before != null && before < 1) {
+            throw new IllegalArgumentException("Before must be a positive entry id");
+        }
+
+        // One extra row tells whether an older page exists without a count query
+        List<PropertyAudit> rows = propertyAuditRepository.findHistory(propertyId,
+                before != null ? before : Long.MAX_VALUE, PageRequest.of(0, limit + 1));
+        boolean more = rows.size() > limit;
+        List<PropertyAuditDTO> entries = rows.stream().limit(limit).map(PropertyAuditServiceImpl::toDto).toList();
+        Long nextBefore = more ? entries.get(entries.size() - 1).getId() : null;
+        return new PropertyHistoryDTO(propertyId, entries, nextBefore);
+    }
+
+    private static PropertyAuditDTO toDto(PropertyAudit audit) {
+        PropertyAuditDTO dto = new PropertyAuditDTO();
+        dto.setId(audit.getId());
+        dto.setEventType(audit.getEventType());
+        dto.setPreviousApprovalStatus(audit.getPreviousApprovalStatus());
+        dto.setApprovalStatus(audit.getApprovalStatus());
+        dto.setStatus(audit.getStatus());
+        dto.setActor(audit.getActor());
+        dto.setOccurredAt(audit.getOccurredAt());
+        dto.setRecordedAt(audit.getRecordedAt());
+        return dto;
+    }
+}
@@ -0,0 +1,82 @@
+package com.realState.property_service.module.enquiry.client;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * Non-blocking client for enquiry-service's batch count endpoint.
+ */
+@Component
+public class EnquiryServiceClient {
+
+    private final HttpClient httpClient;
+    private final ObjectMapper objectMapper;
+    private final URI countsEndpoint;
+    private final Duration timeout;
+
+    public EnquiryServiceClient(ObjectMapper objectMapper,
+            @Value("${property.enquiry.base-url:http://enquiry-service:3001}") String baseUrl,
+            @Value("${property.enquiry.timeout-ms:1000}") long timeoutMs) {
+        this.objectMapper = objectMapper;
+        this.countsEndpoint = URI.create(baseUrl.replaceAll("/+$", "") + "/enquiry/property/counts");
+        this.timeout = Duration.ofMillis(timeoutMs);
+        this.httpClient = HttpClient.newBuilder().connectTimeout(timeout).build();
+    }
+
+    /**
+     * Counts enquiries for the given properties with one POST; the request is bounded by the
+     * configured timeout.
+     *
+     * @param propertyIds at most 100 ids
+     * @return future completing with a count for every requested id, or exceptionally on any error
+     */
+    public CompletableFuture<Map<UUID, Long>> fetchCounts(Collection<UUID> propertyIds) {
+        HttpRequest request;
+        try {
+            request = HttpRequest.newBuilder(countsEndpoint)
+                    .timeout(timeout)
+                    .header("Content-Type", "application/json")
+                    .POST(HttpRequest.BodyPublishers.ofByteArray(objectMapper.writeValueAsBytes(
+                            Map.of("property_ids", List.copyOf(propertyIds)))))
+                    .build();
+        } catch (IOException ex) {
+            return CompletableFuture.failedFuture(ex);
+        }
+
+        return httpClient.sendAsync(request, HttpResponse.BodyHandlers.ofByteArray())
+                .thenApply(this::parseCounts);
+    }
+
+    private Map<UUID, Long> parseCounts(HttpResponse<byte[]> response) {
+        try {
+            if (response.statusCode() / 100 != 2) {
+                throw new IOException("Enquiry service responded with HTTP " + response.statusCode());
+            }
+            JsonNode data = objectMapper.readTree(response.body()).path("data");
+            Map<UUID, Long> counts = new HashMap<>();
+            for (Map.Entry<String, JsonNode> field : data.properties()) {
+                counts.put(UUID.fromString(field.getKey()), field.getValue().asLong());
+            }
+            return counts;
+        } catch (IOException ex) {
+            throw new CompletionException(ex);
+        }
+    }
+}
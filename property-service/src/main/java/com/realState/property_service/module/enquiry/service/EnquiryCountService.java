@@ -0,0 +1,209 @@
+package com.realState.property_service.module.enquiry.service;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import com.realState.property_service.common.cache.LruCache;
+import com.realState.property_service.common.deadline.RequestDeadline;
+import com.realState.property_service.common.resilience.CircuitBreaker;
+import com.realState.property_service.common.utils.ApiResponse;
+import com.realState.property_service.module.enquiry.client.EnquiryServiceClient;
+import com.realState.property_service.module.property.dto.PropertyDTO;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Decorates listing pages with per-property enquiry counts for {@code include=enquiryCounts}.
+ * <p>
+ * Counts are cached per property for a short TTL. The ids of a page that miss the cache are sent
+ * to enquiry-service in one batched call (ids already being fetched for a concurrent request wait
+ * for that call instead), and the request waits for it only up to
+ * {@code property.enquiry.wait-ms} (and never past its own deadline). If the answer is late, or
+ * enquiry-service fails, the page is returned without counts for those properties; a late answer
+ * still fills the cache for the next page view. A circuit breaker stops calling enquiry-service
+ * while it keeps failing.
+ */
+@Service
+public class EnquiryCountService {
+
+    private static final Logger logger = LoggerFactory.getLogger(EnquiryCountService.class);
+
+    private record Entry(long count, long expiresAtNanos) {
+    }
+
+    private final EnquiryServiceClient enquiryServiceClient;
+    private final LruCache<UUID, Entry> counts;
+    private final Map<UUID, CompletableFuture<Map<UUID, Long>>> inFlight = new ConcurrentHashMap<>();
+    private final CircuitBreaker circuitBreaker;
+    private final boolean enabled;
+    private final long ttlNanos;
+    private final long waitMillis;
+
+    private final Counter cacheHits;
+    private final Counter cacheMisses;
+    private final Counter fetchSucceeded;
+    private final Counter fetchFailed;
+    private final Counter fetchTimedOut;
+    private final Counter fetchSkipped;
+
+    public EnquiryCountService(EnquiryServiceClient enquiryServiceClient,
+            MeterRegistry meterRegistry,
+            @Value("${property.enquiry.counts.enabled:true}") boolean enabled,
+            @Value("${property.enquiry.counts.max-entries:10000}") int maxEntries,
+            @Value("${property.enquiry.counts.ttl-seconds:30}") long ttlSeconds,
+            @Value("${property.enquiry.wait-ms:250}") long waitMillis,
+            @Value("${property.enquiry.circuit.failure-threshold:5}") int failureThreshold,
+            @Value("${property.enquiry.circuit.open-ms:10000}") long openMillis) {
+        this.enquiryServiceClient = enquiryServiceClient;
+        this.counts = new LruCache<>(maxEntries);
+        this.enabled = enabled;
+        this.ttlNanos = TimeUnit.SECONDS.toNanos(ttlSeconds);
+        this.waitMillis = waitMillis;
+        this.circuitBreaker = new CircuitBreaker(failureThreshold, openMillis, (from, to) -> {
+            meterRegistry.counter("property.circuit.transitions", "name", "enquiry_counts", "to",
+                    to.name().toLowerCase()).increment();
+            logger.warn("Enquiry count circuit breaker {} -> {}", from, to);
+        });
+
+        this.cacheHits = meterRegistry.counter("property.enquiry.counts.lookups", "result", "hit");
+        this.cacheMisses = meterRegistry.counter("property.enquiry.counts.lookups", "result", "miss");
+        this.fetchSucceeded = meterRegistry.counter("property.enquiry.counts.fetch", "result", "success");
+        this.fetchFailed = meterRegistry.counter("property.enquiry.counts.fetch", "result", "failed");
+        this.fetchTimedOut = meterRegistry.counter("property.enquiry.counts.fetch", "result", "timeout");
+        this.fetchSkipped = meterRegistry.counter("property.enquiry.counts.fetch", "result", "circuit_open");
+    }
+
+    /**
+     * Returns a copy of the response whose properties carry {@code enquiryCount} where known.
+     * The given response and its DTOs are not modified (they may be cached).
+     */
+    public ApiResponse<List<PropertyDTO>> withEnquiryCounts(ApiResponse<List<PropertyDTO>> response) {
+        List<PropertyDTO> properties = response.getData();
+        if (properties == null || properties.isEmpty()) {
+            return response;
+        }
+
+        Map<UUID, Long> known = lookup(properties);
+        List<PropertyDTO> decorated = new ArrayList<>(properties.size());
+        for (PropertyDTO property : properties) {
+            PropertyDTO copy = new PropertyDTO(property);
+            copy.setEnquiryCount(known.get(property.getId()));
+            decorated.add(copy);
+        }
+
+        ApiResponse<List<PropertyDTO>> result = ApiResponse.success(decorated, response.getMeta(),
+                response.getMessage());
+        return Boolean.TRUE.equals(response.getStale()) ? result.asStale(response.getDataAsOf()) : result;
+    }
+
+    /**
+     * @return counts for as many of the given properties as could be obtained in time
+     */
+    private Map<UUID, Long> lookup(List<PropertyDTO> properties) {
+        Map<UUID, Long> known = new HashMap<>();
+        if (!enabled) {
+            return known;
+        }
+
+        long now = System.nanoTime();
+        Set<UUID> missing = new LinkedHashSet<>();
+        for (PropertyDTO property : properties) {
+            Entry entry = counts.get(property.getId());
+            if (entry != null && now - entry.expiresAtNanos() < 0) {
+                known.put(property.getId(), entry.count());
+            } else {
+                missing.add(property.getId());
+            }
+        }
+        cacheHits.increment(known.size());
+        cacheMisses.increment(missing.size());
+        if (missing.isEmpty()) {
+            return known;
+        }
+
+        // Ids another request is already fetching join that call instead of issuing a new one
+        Set<UUID> toFetch = new LinkedHashSet<>();
+        Set<CompletableFuture<Map<UUID, Long>>> pending = new HashSet<>();
+        for (UUID id : missing) {
+            CompletableFuture<Map<UUID, Long>> fetch = inFlight.get(id);
+            if (fetch != null) {
+                pending.add(fetch);
+            } else {
+                toFetch.add(id);
+            }
+        }
+        if (!toFetch.isEmpty()) {
+            if (circuitBreaker.tryAcquire()) {
+                pending.add(fetch(toFetch));
+            } else {
+                fetchSkipped.increment();
+            }
+        }
+        if (pending.isEmpty()) {
+            return known;
+        }
+
+        long budget = waitMillis;
+        if (RequestDeadline.isSet()) {
+            budget = Math.min(budget, RequestDeadline.remainingMillis());
+        }
+        try {
+            CompletableFuture.allOf(pending.toArray(CompletableFuture[]::new))
+                    .get(Math.max(budget, 0), TimeUnit.MILLISECONDS);
+        } catch (TimeoutException ex) {
+            fetchTimedOut.increment();
+        } catch (ExecutionException ex) {
+            // Already counted and logged by the completion callback
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+        for (CompletableFuture<Map<UUID, Long>> fetch : pending) {
+            if (fetch.isDone() && !fetch.isCompletedExceptionally()) {
+                known.putAll(fetch.join());
+            }
+        }
+        return known;
+    }
+
+    /**
+     * Starts one batched call for the given ids. Its result fills the cache whenever it arrives,
+     * even if every request that wanted it has stopped waiting.
+     */
+    private CompletableFuture<Map<UUID, Long>> fetch(Set<UUID> ids) {
+        CompletableFuture<Map<UUID, Long>> result = new CompletableFuture<>();
+        ids.forEach(id -> inFlight.put(id, result));
+        enquiryServiceClient.fetchCounts(ids).whenComplete((fetched, ex) -> {
+            ids.forEach(id -> inFlight.remove(id, result));
+            if (ex != null) {
+                circuitBreaker.onFailure();
+                fetchFailed.increment();
+                logger.debug("Enquiry count fetch failed: {}", ex.getMessage());
+                result.completeExceptionally(ex);
+                return;
+            }
+            circuitBreaker.onSuccess();
+            fetchSucceeded.increment();
+            long expiresAt = System.nanoTime() + ttlNanos;
+            fetched.forEach((id, count) -> counts.put(id, new Entry(count, expiresAt)));
+            result.complete(fetched);
+        });
+        return result;
+    }
+}
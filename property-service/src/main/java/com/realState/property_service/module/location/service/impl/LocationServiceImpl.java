@@ -14,6 +14,7 @@ import com.realState.property_service.module.location.dto.CreateLocationDTO;
 import com.realState.property_service.module.location.dto.UpdateLocationDTO;
 import com.realState.property_service.module.location.mapper.LocationMapperUtil;
 import com.realState.property_service.module.location.service.LocationService;
+import com.realState.property_service.module.property.listing.PropertyListingProjector;
 
 import java.time.LocalDateTime;
 import java.util.Date;
@@ -28,10 +29,13 @@ public class LocationServiceImpl implements LocationService {
 
     private final LocationRepository locationRepository;
     private final LocationMapperUtil locationMapperUtil;
+    private final PropertyListingProjector propertyListingProjector;
 
-    public LocationServiceImpl(LocationRepository locationRepository, LocationMapperUtil locationMapperUtil) {
+    public LocationServiceImpl(LocationRepository locationRepository, LocationMapperUtil locationMapperUtil,
+            PropertyListingProjector propertyListingProjector) {
         this.locationRepository = locationRepository;
         this.locationMapperUtil = locationMapperUtil;
+        this.propertyListingProjector = propertyListingProjector;
     }
 
     /**
@@ -80,6 +84,8 @@ public class LocationServiceImpl implements LocationService {
             if (dto.getLongitude() != null) location.setLongitude(dto.getLongitude());
 
             Location updatedLocation = locationRepository.save(location);
+            // Listed properties carry a copy of their location
+            propertyListingProjector.refreshLocationBeforeCommit(updatedLocation.getId());
             logger.info("Location updated successfully with ID={}", updatedLocation.getId());
             return updatedLocation;
         } catch (LocationNotFoundException ex) {
@@ -0,0 +1,145 @@
+package com.realState.property_service.module.moderation.controller;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.realState.property_service.common.utils.ApiResponse;
+import com.realState.property_service.module.moderation.dto.ModerationClaimDTO;
+import com.realState.property_service.module.moderation.dto.ModerationClaimRequestDTO;
+import com.realState.property_service.module.moderation.dto.ModerationDecisionDTO;
+import com.realState.property_service.module.moderation.dto.ModerationLeaseDTO;
+import com.realState.property_service.module.moderation.service.ModerationService;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import jakarta.validation.Valid;
+
+/**
+ * REST controller for the admin moderation work queue.
+ */
+@RestController
+@RequestMapping(value = { "/properties/moderation" })
+public class ModerationController {
+
+    private final ModerationService moderationService;
+
+    public ModerationController(ModerationService moderationService) {
+        this.moderationService = moderationService;
+    }
+
+    /**
+     * 1. Claim a batch of pending properties.
+     */
+    @Operation(
+            summary = "Claim pending properties for moderation",
+            description = "Lease up to `limit` pending properties to a moderator; other moderators skip them until the lease expires (Admin)",
+            tags = { "Admin APIs" }
+    )
+    @ApiResponses(value = {
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(
+                    responseCode = "200",
+                    description = "Properties claimed (empty list when the queue is drained)",
+                    content = @Content(schema = @Schema(implementation = ModerationClaimDTO.class))
+            ),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(
+                    responseCode = "400",
+                    description = "Invalid claim request"
+            )
+    })
+    @PostMapping("/claim")
+    public ResponseEntity<ApiResponse<ModerationClaimDTO>> claim(@Valid @RequestBody ModerationClaimRequestDTO dto) {
+        return ResponseEntity.ok(ApiResponse.success(moderationService.claim(dto.getModeratorId(), dto.getLimit())));
+    }
+
+    /**
+     * 2. Renew a lease.
+     */
+    @Operation(
+            summary = "Renew a moderation lease",
+            description = "Extend the lease on all properties it still holds (Admin)",
+            tags = { "Admin APIs" }
+    )
+    @ApiResponses(value = {
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(
+                    responseCode = "200",
+                    description = "Lease renewed",
+                    content = @Content(schema = @Schema(implementation = ModerationLeaseDTO.class))
+            ),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(
+                    responseCode = "409",
+                    description = "Lease expired or holds no more properties"
+            )
+    })
+    @PostMapping("/leases/{leaseToken}/renew")
+    public ResponseEntity<ApiResponse<ModerationLeaseDTO>> renew(
+            @Parameter(description = "Lease token returned by claim", required = true)
+            @PathVariable String leaseToken) {
+        return ResponseEntity.ok(ApiResponse.success(moderationService.renew(UUID.fromString(leaseToken))));
+    }
+
+    /**
+     * 3. Release a lease without deciding.
+     */
+    @Operation(
+            summary = "Release a moderation lease",
+            description = "Return all unfinished properties of a lease to the queue (Admin)",
+            tags = { "Admin APIs" }
+    )
+    @DeleteMapping("/leases/{leaseToken}")
+    public ResponseEntity<ApiResponse<Map<String, Object>>> release(
+            @Parameter(description = "Lease token returned by claim", required = true)
+            @PathVariable String leaseToken) {
+        int released = moderationService.release(UUID.fromString(leaseToken));
+
+        Map<String, Object> response = new HashMap<>();
+        response.put("released", released);
+        response.put("message", "Lease released successfully");
+
+        return ResponseEntity.ok(ApiResponse.success(response));
+    }
+
+    /**
+     * 4. Approve or reject a leased property.
+     */
+    @Operation(
+            summary = "Complete a moderation item",
+            description = "Approve or reject a property held under the given lease (Admin)",
+            tags = { "Admin APIs" }
+    )
+    @ApiResponses(value = {
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(
+                    responseCode = "200",
+                    description = "Decision applied"
+            ),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(
+                    responseCode = "409",
+                    description = "The lease no longer holds this property"
+            )
+    })
+    @PostMapping("/{property_id}/complete")
+    public ResponseEntity<ApiResponse<Map<String, Object>>> complete(
+            @Parameter(description = "Property ID (UUID format)", required = true)
+            @PathVariable String property_id,
+            @Valid @RequestBody ModerationDecisionDTO dto) {
+        UUID propertyId = UUID.fromString(property_id);
+        moderationService.complete(propertyId, dto);
+
+        Map<String, Object> response = new HashMap<>();
+        response.put("decision", dto.getDecision());
+        response.put("message", "Moderation completed successfully");
+
+        return ResponseEntity.ok(ApiResponse.success(response));
+    }
+}
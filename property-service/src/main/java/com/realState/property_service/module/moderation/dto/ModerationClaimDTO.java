@@ -0,0 +1,62 @@
+package com.realState.property_service.module.moderation.dto;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import com.realState.property_service.module.property.dto.PropertyDTO;
+
+/**
+ * Result of a moderation claim: the lease token and the properties it covers.
+ * An empty property list means the queue currently has nothing claimable.
+ */
+public class ModerationClaimDTO {
+
+    private UUID leaseToken;
+    private String moderatorId;
+    private LocalDateTime leaseExpiresAt;
+    private List<PropertyDTO> properties;
+
+    public ModerationClaimDTO() {}
+
+    public ModerationClaimDTO(UUID leaseToken, String moderatorId, LocalDateTime leaseExpiresAt,
+            List<PropertyDTO> properties) {
+        this.leaseToken = leaseToken;
+        this.moderatorId = moderatorId;
+        this.leaseExpiresAt = leaseExpiresAt;
+        this.properties = properties;
+    }
+
+    // Getters and Setters
+    public UUID getLeaseToken() {
+        return leaseToken;
+    }
+
+    public void setLeaseToken(UUID leaseToken) {
+        this.leaseToken = leaseToken;
+    }
+
+    public String getModeratorId() {
+        return moderatorId;
+    }
+
+    public void setModeratorId(String moderatorId) {
+        this.moderatorId = moderatorId;
+    }
+
+    public LocalDateTime getLeaseExpiresAt() {
+        return leaseExpiresAt;
+    }
+
+    public void setLeaseExpiresAt(LocalDateTime leaseExpiresAt) {
+        this.leaseExpiresAt = leaseExpiresAt;
+    }
+
+    public List<PropertyDTO> getProperties() {
+        return properties;
+    }
+
+    public void setProperties(List<PropertyDTO> properties) {
+        this.properties = properties;
+    }
+}
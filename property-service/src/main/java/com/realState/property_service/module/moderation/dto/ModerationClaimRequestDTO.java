@@ -0,0 +1,37 @@
+package com.realState.property_service.module.moderation.dto;
+
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Size;
+
+/**
+ * DTO for claiming a batch of pending properties from the moderation queue.
+ */
+public class ModerationClaimRequestDTO {
+
+    @NotBlank(message = "Moderator id is required")
+    @Size(max = 100, message = "Moderator id cannot exceed 100 characters")
+    private String moderatorId;
+
+    @Min(value = 1, message = "Limit must be at least 1")
+    @Max(value = 50, message = "Cannot claim more than 50 properties at once")
+    private int limit = 10;
+
+    // Getters and Setters
+    public String getModeratorId() {
+        return moderatorId;
+    }
+
+    public void setModeratorId(String moderatorId) {
+        this.moderatorId = moderatorId;
+    }
+
+    public int getLimit() {
+        return limit;
+    }
+
+    public void setLimit(int limit) {
+        this.limit = limit;
+    }
+}
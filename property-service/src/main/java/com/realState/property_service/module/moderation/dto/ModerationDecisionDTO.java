@@ -0,0 +1,36 @@
+package com.realState.property_service.module.moderation.dto;
+
+import java.util.UUID;
+
+import com.realState.property_service.database.enums.ApprovalStatusEnum;
+
+import jakarta.validation.constraints.NotNull;
+
+/**
+ * DTO for completing a leased moderation item with an approve or reject decision.
+ */
+public class ModerationDecisionDTO {
+
+    @NotNull(message = "Lease token is required")
+    private UUID leaseToken;
+
+    @NotNull(message = "Decision is required (approved or rejected)")
+    private ApprovalStatusEnum decision;
+
+    // Getters and Setters
+    public UUID getLeaseToken() {
+        return leaseToken;
+    }
+
+    public void setLeaseToken(UUID leaseToken) {
+        this.leaseToken = leaseToken;
+    }
+
+    public ApprovalStatusEnum getDecision() {
+        return decision;
+    }
+
+    public void setDecision(ApprovalStatusEnum decision) {
+        this.decision = decision;
+    }
+}
@@ -0,0 +1,47 @@
+package com.realState.property_service.module.moderation.dto;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * State of a moderation lease after a renewal: new expiry and how many properties it still holds.
+ */
+public class ModerationLeaseDTO {
+
+    private UUID leaseToken;
+    private LocalDateTime leaseExpiresAt;
+    private int heldCount;
+
+    public ModerationLeaseDTO() {}
+
+    public ModerationLeaseDTO(UUID leaseToken, LocalDateTime leaseExpiresAt, int heldCount) {
+        this.leaseToken = leaseToken;
+        this.leaseExpiresAt = leaseExpiresAt;
+        this.heldCount = heldCount;
+    }
+
+    // Getters and Setters
+    public UUID getLeaseToken() {
+        return leaseToken;
+    }
+
+    public void setLeaseToken(UUID leaseToken) {
+        this.leaseToken = leaseToken;
+    }
+
+    public LocalDateTime getLeaseExpiresAt() {
+        return leaseExpiresAt;
+    }
+
+    public void setLeaseExpiresAt(LocalDateTime leaseExpiresAt) {
+        this.leaseExpiresAt = leaseExpiresAt;
+    }
+
+    public int getHeldCount() {
+        return heldCount;
+    }
+
+    public void setHeldCount(int heldCount) {
+        this.heldCount = heldCount;
+    }
+}
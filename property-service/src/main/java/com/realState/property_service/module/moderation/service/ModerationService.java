@@ -0,0 +1,49 @@
+package com.realState.property_service.module.moderation.service;
+
+import java.util.UUID;
+
+import com.realState.property_service.module.moderation.dto.ModerationClaimDTO;
+import com.realState.property_service.module.moderation.dto.ModerationDecisionDTO;
+import com.realState.property_service.module.moderation.dto.ModerationLeaseDTO;
+
+/**
+ * Service interface for the admin moderation work queue.
+ * <p>
+ * Moderators claim pending properties under a time-limited lease, so parallel moderators never
+ * receive the same item. Items whose lease expires go back to the queue.
+ */
+public interface ModerationService {
+
+    /**
+     * 1. Claim up to {@code limit} pending properties, oldest first, under a new lease.
+     *
+     * @param moderatorId identifier of the claiming moderator
+     * @param limit       maximum number of properties to claim
+     * @return the lease token, its expiry and the claimed properties (possibly empty)
+     */
+    ModerationClaimDTO claim(String moderatorId, int limit);
+
+    /**
+     * 2. Extend a lease for all properties it still holds.
+     *
+     * @param leaseToken token returned by {@link #claim}
+     * @return the new expiry and number of properties still held
+     */
+    ModerationLeaseDTO renew(UUID leaseToken);
+
+    /**
+     * 3. Approve or reject a leased property and release its lease.
+     *
+     * @param propertyId the leased property
+     * @param dto        lease token and decision
+     */
+    void complete(UUID propertyId, ModerationDecisionDTO dto);
+
+    /**
+     * 4. Give back every property still held by a lease without deciding on them.
+     *
+     * @param leaseToken token returned by {@link #claim}
+     * @return number of properties returned to the queue
+     */
+    int release(UUID leaseToken);
+}
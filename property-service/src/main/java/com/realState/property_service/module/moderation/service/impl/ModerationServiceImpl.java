@@ -0,0 +1,162 @@
+package com.realState.property_service.module.moderation.service.impl;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.realState.property_service.common.exceptions.property.ModerationLeaseException;
+import com.realState.property_service.database.entity.Property;
+import com.realState.property_service.database.enums.ApprovalStatusEnum;
+import com.realState.property_service.database.repository.PropertyRepository;
+import com.realState.property_service.module.moderation.dto.ModerationClaimDTO;
+import com.realState.property_service.module.moderation.dto.ModerationDecisionDTO;
+import com.realState.property_service.module.moderation.dto.ModerationLeaseDTO;
+import com.realState.property_service.module.moderation.service.ModerationService;
+import com.realState.property_service.module.property.mapper.PropertyMapperUtil;
+import com.realState.property_service.module.property.service.PropertyService;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Lease-based moderation queue.
+ * <p>
+ * A claim locks the oldest claimable pending rows with {@code FOR UPDATE SKIP LOCKED}, stamps them
+ * with a fresh lease token and expiry, and commits, so the row locks last only as long as the claim
+ * itself. From then on the lease columns are the guard: renew and complete are conditional updates
+ * on the token and expiry, so a moderator whose lease has lapsed (and been re-claimed by someone
+ * else) gets a 409 instead of overwriting the other moderator's decision. Decisions go through
+ * {@link PropertyService} so outbox events and cache invalidation stay in one place.
+ */
+@Service
+public class ModerationServiceImpl implements ModerationService {
+
+    private static final Logger logger = LoggerFactory.getLogger(ModerationServiceImpl.class);
+
+    private final PropertyRepository propertyRepository;
+    private final PropertyService propertyService;
+    private final PropertyMapperUtil propertyMapperUtil;
+    private final long leaseSeconds;
+
+    private final Counter claimedItems;
+    private final Counter completedItems;
+    private final Counter lostLeases;
+
+    public ModerationServiceImpl(PropertyRepository propertyRepository, PropertyService propertyService,
+            PropertyMapperUtil propertyMapperUtil, MeterRegistry meterRegistry,
+            @Value("${property.moderation.lease-seconds:300}") long leaseSeconds) {
+        this.propertyRepository = propertyRepository;
+        this.propertyService = propertyService;
+        this.propertyMapperUtil = propertyMapperUtil;
+        this.leaseSeconds = leaseSeconds;
+
+        this.claimedItems = meterRegistry.counter("property.moderation.items.claimed");
+        this.completedItems = meterRegistry.counter("property.moderation.items.completed");
+        this.lostLeases = meterRegistry.counter("property.moderation.leases.lost");
+    }
+
+    /**
+     * 1. Claims the oldest pending properties that are unleased or whose lease has expired.
+     */
+    @Override
+    @Transactional
+    public ModerationClaimDTO claim(String moderatorId, int limit) {
+        if (moderatorId == null || moderatorId.isBlank()) {
+            throw new IllegalArgumentException("Moderator id cannot be blank");
+        }
+        if (limit < 1 || limit > 50) {
+            throw new IllegalArgumentException("Limit must be between 1 and 50");
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime expiresAt = now.plusSeconds(leaseSeconds);
+        UUID leaseToken = UUID.randomUUID();
+
+        List<Property> claimed = propertyRepository.findClaimableForUpdate(
+                ApprovalStatusEnum.pending_approval, now, PageRequest.of(0, limit));
+        if (!claimed.isEmpty()) {
+            propertyRepository.assignModerationLease(claimed.stream().map(Property::getId).toList(),
+                    leaseToken, moderatorId, expiresAt);
+        }
+        claimedItems.increment(claimed.size());
+
+        logger.info("Moderator={} claimed {} properties under lease={} until {}", moderatorId, claimed.size(),
+                leaseToken, expiresAt);
+        return new ModerationClaimDTO(leaseToken, moderatorId, expiresAt,
+                claimed.stream().map(propertyMapperUtil::mapToDto).toList());
+    }
+
+    /**
+     * 2. Pushes the expiry of every still-valid item under the lease forward by the lease duration.
+     *
+     * @throws ModerationLeaseException if the lease holds nothing anymore (expired or all completed)
+     */
+    @Override
+    @Transactional
+    public ModerationLeaseDTO renew(UUID leaseToken) {
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime expiresAt = now.plusSeconds(leaseSeconds);
+
+        int renewed = propertyRepository.renewModerationLease(leaseToken, ApprovalStatusEnum.pending_approval,
+                now, expiresAt);
+        if (renewed == 0) {
+            lostLeases.increment();
+            throw new ModerationLeaseException("Lease " + leaseToken + " holds no active moderation items");
+        }
+
+        logger.info("Renewed lease={} for {} properties until {}", leaseToken, renewed, expiresAt);
+        return new ModerationLeaseDTO(leaseToken, expiresAt, renewed);
+    }
+
+    /**
+     * 3. Releases the lease on one property and applies the decision in the same transaction.
+     *
+     * @throws IllegalArgumentException  if the decision is neither approved nor rejected
+     * @throws ModerationLeaseException if the caller's lease on the property is gone
+     */
+    @Override
+    @Transactional
+    public void complete(UUID propertyId, ModerationDecisionDTO dto) {
+        ApprovalStatusEnum decision = dto.getDecision();
+        if (decision != ApprovalStatusEnum.approved && decision != ApprovalStatusEnum.rejected) {
+            throw new IllegalArgumentException("Decision must be approved or rejected");
+        }
+
+        // The conditional release takes the row lock, so a concurrent complete on the same item waits
+        // here and then matches no row
+        int released = propertyRepository.releaseModerationLease(propertyId, dto.getLeaseToken(),
+                ApprovalStatusEnum.pending_approval, LocalDateTime.now());
+        if (released == 0) {
+            lostLeases.increment();
+            throw new ModerationLeaseException(
+                    "Lease " + dto.getLeaseToken() + " does not hold property id=" + propertyId);
+        }
+
+        if (decision == ApprovalStatusEnum.approved) {
+            propertyService.approveProperty(propertyId);
+        } else {
+            propertyService.rejectProperty(propertyId);
+        }
+        completedItems.increment();
+
+        logger.info("Property with ID={} moderated as {} under lease={}", propertyId, decision, dto.getLeaseToken());
+    }
+
+    /**
+     * 4. Returns all unfinished items of a lease to the queue immediately.
+     */
+    @Override
+    @Transactional
+    public int release(UUID leaseToken) {
+        int released = propertyRepository.releaseAllModerationLeases(leaseToken);
+        logger.info("Released {} properties from lease={}", released, leaseToken);
+        return released;
+    }
+}
@@ -0,0 +1,75 @@
+package com.realState.property_service.module.outbox.dto;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import com.fasterxml.jackson.annotation.JsonRawValue;
+import com.realState.property_service.database.enums.PropertyEventTypeEnum;
+
+/**
+ * Property change event as delivered to outbox sinks.
+ * <p>
+ * The payload is the PropertyDTO snapshot taken when the event was written, embedded as raw JSON.
+ */
+public class PropertyChangeEventDTO {
+
+    private long eventId;
+    private UUID propertyId;
+    private PropertyEventTypeEnum type;
+    private LocalDateTime occurredAt;
+
+    @JsonRawValue
+    private String payload;
+
+    public PropertyChangeEventDTO() {}
+
+    public PropertyChangeEventDTO(long eventId, UUID propertyId, PropertyEventTypeEnum type,
+            LocalDateTime occurredAt, String payload) {
+        this.eventId = eventId;
+        this.propertyId = propertyId;
+        this.type = type;
+        this.occurredAt = occurredAt;
+        this.payload = payload;
+    }
+
+    // Getters and Setters
+    public long getEventId() {
+        return eventId;
+    }
+
+    public void setEventId(long eventId) {
+        this.eventId = eventId;
+    }
+
+    public UUID getPropertyId() {
+        return propertyId;
+    }
+
+    public void setPropertyId(UUID propertyId) {
+        this.propertyId = propertyId;
+    }
+
+    public PropertyEventTypeEnum getType() {
+        return type;
+    }
+
+    public void setType(PropertyEventTypeEnum type) {
+        this.type = type;
+    }
+
+    public LocalDateTime getOccurredAt() {
+        return occurredAt;
+    }
+
+    public void setOccurredAt(LocalDateTime occurredAt) {
+        this.occurredAt = occurredAt;
+    }
+
+    public String getPayload() {
+        return payload;
+    }
+
+    public void setPayload(String payload) {
+        this.payload = payload;
+    }
+}
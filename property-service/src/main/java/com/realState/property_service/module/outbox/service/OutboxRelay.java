@@ -0,0 +1,151 @@
+package com.realState.property_service.module.outbox.service;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.realState.property_service.database.entity.OutboxRelayLease;
+import com.realState.property_service.database.entity.PropertyOutboxEvent;
+import com.realState.property_service.database.repository.OutboxRelayLeaseRepository;
+import com.realState.property_service.database.repository.PropertyOutboxRepository;
+import com.realState.property_service.module.outbox.dto.PropertyChangeEventDTO;
+import com.realState.property_service.module.outbox.sink.OutboxEventSink;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Background relay that publishes outbox events to the configured {@link OutboxEventSink}.
+ * <p>
+ * Only the instance holding the outbox lease ({@code outbox_relay_lease}) relays, so relays on other
+ * instances never interleave batches. Each batch is the oldest unpublished events in id order, read
+ * without locks; they are handed to the sink outside any transaction and marked published in a second,
+ * short one. A failed batch is left untouched and retried from the same event on the next run, which
+ * gives at-least-once delivery. Events of one property are numbered in commit order (see
+ * {@link PropertyEventPublisher}), so publishing in id order preserves the order per property.
+ * <p>
+ * The lease is renewed before every batch and must outlast the sink's timeout; a relay that stalls
+ * for longer loses it and stops, and the next holder starts again from the oldest unpublished event.
+ */
+@Component
+@ConditionalOnProperty(name = "property.outbox.relay.enabled", havingValue = "true", matchIfMissing = true)
+public class OutboxRelay {
+
+    private static final Logger logger = LoggerFactory.getLogger(OutboxRelay.class);
+
+    static final String LEASE_NAME = "property_outbox";
+
+    private final PropertyOutboxRepository outboxRepository;
+    private final OutboxRelayLeaseRepository leaseRepository;
+    private final OutboxEventSink sink;
+    private final TransactionTemplate transactionTemplate;
+    private final int batchSize;
+    private final int retentionDays;
+    private final long leaseMs;
+    private final String owner = "relay-" + UUID.randomUUID();
+
+    private final Counter published;
+    private final Counter failedBatches;
+
+    public OutboxRelay(PropertyOutboxRepository outboxRepository,
+            OutboxRelayLeaseRepository leaseRepository,
+            OutboxEventSink sink,
+            PlatformTransactionManager transactionManager,
+            MeterRegistry meterRegistry,
+            @Value("${property.outbox.relay.batch-size:100}") int batchSize,
+            @Value("${property.outbox.retention-days:7}") int retentionDays,
+            @Value("${property.outbox.relay.lease-ms:30000}") long leaseMs) {
+        this.outboxRepository = outboxRepository;
+        this.leaseRepository = leaseRepository;
+        this.sink = sink;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.batchSize = batchSize;
+        this.retentionDays = retentionDays;
+        this.leaseMs = leaseMs;
+
+        this.published = meterRegistry.counter("property.outbox.events.published");
+        this.failedBatches = meterRegistry.counter("property.outbox.batches.failed");
+        Gauge.builder("property.outbox.events.pending", outboxRepository,
+                PropertyOutboxRepository::countByPublishedAtIsNull).register(meterRegistry);
+    }
+
+    /**
+     * Relays batches until the outbox is drained, a batch fails or the lease is held elsewhere.
+     */
+    @Scheduled(fixedDelayString = "${property.outbox.relay.interval-ms:1000}")
+    public void relay() {
+        try {
+            int relayed;
+            do {
+                if (!holdLease()) {
+                    return;
+                }
+                relayed = relayBatch();
+            } while (relayed == batchSize);
+        } catch (Exception ex) {
+            failedBatches.increment();
+            logger.warn("Outbox relay batch failed, will retry: {}", ex.getMessage());
+        }
+    }
+
+    /**
+     * Deletes events that were published longer ago than the retention period.
+     */
+    @Scheduled(cron = "${property.outbox.cleanup-cron:0 30 3 * * *}")
+    public void purgePublished() {
+        Integer deleted = transactionTemplate.execute(status ->
+                outboxRepository.deletePublishedBefore(LocalDateTime.now().minusDays(retentionDays)));
+        logger.info("Purged {} published outbox events", deleted);
+    }
+
+    // Takes or renews the lease; the row is created on first use when the schema was not migrated
+    private boolean holdLease() {
+        Boolean held = transactionTemplate.execute(status -> {
+            LocalDateTime now = LocalDateTime.now();
+            LocalDateTime expiresAt = now.plusNanos(leaseMs * 1_000_000);
+            if (leaseRepository.acquire(LEASE_NAME, owner, now, expiresAt) == 1) {
+                return true;
+            }
+            if (leaseRepository.existsById(LEASE_NAME)) {
+                return false;
+            }
+            leaseRepository.saveAndFlush(new OutboxRelayLease(LEASE_NAME));
+            return leaseRepository.acquire(LEASE_NAME, owner, now, expiresAt) == 1;
+        });
+        return Boolean.TRUE.equals(held);
+    }
+
+    private int relayBatch() {
+        List<PropertyOutboxEvent> batch = outboxRepository.findUnpublished(PageRequest.of(0, batchSize));
+        if (batch.isEmpty()) {
+            return 0;
+        }
+
+        List<PropertyChangeEventDTO> events = batch.stream()
+                .map(e -> new PropertyChangeEventDTO(e.getId(), e.getPropertyId(), e.getEventType(),
+                        e.getCreatedAt(), e.getPayload()))
+                .toList();
+        try {
+            sink.publish(events);
+        } catch (Exception ex) {
+            throw new IllegalStateException("Sink rejected outbox batch", ex);
+        }
+
+        // A failure from here on redelivers the batch, which at-least-once delivery allows
+        List<Long> ids = batch.stream().map(PropertyOutboxEvent::getId).toList();
+        transactionTemplate.executeWithoutResult(status -> outboxRepository.markPublished(ids, LocalDateTime.now()));
+        published.increment(batch.size());
+        return batch.size();
+    }
+}
@@ -0,0 +1,94 @@
+package com.realState.property_service.module.outbox.service;
+
+import java.util.UUID;
+
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.realState.property_service.database.entity.Property;
+import com.realState.property_service.database.entity.PropertyOutboxEvent;
+import com.realState.property_service.database.enums.PropertyEventTypeEnum;
+import com.realState.property_service.database.repository.PropertyOutboxRepository;
+import com.realState.property_service.module.property.mapper.PropertyMapperUtil;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+
+/**
+ * Writes property change events to the outbox table.
+ * <p>
+ * Must be called inside the transaction performing the property write, so the event is
+ * committed (or rolled back) atomically with the change itself.
+ * <p>
+ * Must also be called after the write: the write is flushed first, so the changed row is locked before the
+ * event's id is allocated. Two transactions changing the same property then allocate ids in the order they
+ * commit, which is the per-property order the relay publishes in.
+ */
+@Service
+public class PropertyEventPublisher {
+
+    private final PropertyOutboxRepository outboxRepository;
+    private final PropertyMapperUtil propertyMapperUtil;
+    private final ObjectMapper objectMapper;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    public PropertyEventPublisher(PropertyOutboxRepository outboxRepository, PropertyMapperUtil propertyMapperUtil,
+            ObjectMapper objectMapper) {
+        this.outboxRepository = outboxRepository;
+        this.propertyMapperUtil = propertyMapperUtil;
+        this.objectMapper = objectMapper;
+    }
+
+    /**
+     * Records a change event carrying a snapshot of the property.
+     *
+     * @param type     the kind of change
+     * @param property the property after the change (the removed entity for deletes)
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void publish(PropertyEventTypeEnum type, Property property) {
+        // A new property is invisible to other transactions until commit, so there is nothing to order it against
+        if (type != PropertyEventTypeEnum.created) {
+            entityManager.flush();
+        }
+        PropertyOutboxEvent event = new PropertyOutboxEvent();
+        event.setPropertyId(property.getId());
+        event.setEventType(type);
+        event.setPayload(toJson(property));
+        outboxRepository.save(event);
+    }
+
+    /**
+     * Records a change event for a property that was written without loading the entity. The bulk
+     * write has already run, so the row is locked.
+     *
+     * @param type       the kind of change
+     * @param propertyId the changed property
+     * @param payload    small JSON-serializable description of the change
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void publish(PropertyEventTypeEnum type, UUID propertyId, Object payload) {
+        PropertyOutboxEvent event = new PropertyOutboxEvent();
+        event.setPropertyId(propertyId);
+        event.setEventType(type);
+        event.setPayload(toJson(payload));
+        outboxRepository.save(event);
+    }
+
+    private String toJson(Property property) {
+        return toJson(propertyMapperUtil.mapToDto(property));
+    }
+
+    private String toJson(Object payload) {
+        try {
+            return objectMapper.writeValueAsString(payload);
+        } catch (JsonProcessingException ex) {
+            throw new IllegalStateException("Failed to serialize property event payload", ex);
+        }
+    }
+}
@@ -0,0 +1,53 @@
+package com.realState.property_service.module.outbox.sink;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.realState.property_service.module.outbox.dto.PropertyChangeEventDTO;
+
+/**
+ * Sink that POSTs each batch as a JSON array to a configured HTTP endpoint.
+ * Any non-2xx response fails the batch so the relay retries it.
+ */
+@Component
+@ConditionalOnProperty(name = "property.outbox.sink.type", havingValue = "http")
+public class HttpOutboxEventSink implements OutboxEventSink {
+
+    private final HttpClient httpClient;
+    private final ObjectMapper objectMapper;
+    private final URI endpoint;
+    private final Duration timeout;
+
+    public HttpOutboxEventSink(ObjectMapper objectMapper,
+            @Value("${property.outbox.sink.http.url}") String url,
+            @Value("${property.outbox.sink.http.timeout-ms:5000}") long timeoutMs) {
+        this.objectMapper = objectMapper;
+        this.endpoint = URI.create(url);
+        this.timeout = Duration.ofMillis(timeoutMs);
+        this.httpClient = HttpClient.newBuilder().connectTimeout(timeout).build();
+    }
+
+    @Override
+    public void publish(List<PropertyChangeEventDTO> events) throws IOException, InterruptedException {
+        HttpRequest request = HttpRequest.newBuilder(endpoint)
+                .timeout(timeout)
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofByteArray(objectMapper.writeValueAsBytes(events)))
+                .build();
+
+        HttpResponse<Void> response = httpClient.send(request, HttpResponse.BodyHandlers.discarding());
+        if (response.statusCode() / 100 != 2) {
+            throw new IOException("Outbox sink responded with HTTP " + response.statusCode());
+        }
+    }
+}
@@ -0,0 +1,28 @@
+package com.realState.property_service.module.outbox.sink;
+
+import java.util.List;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import com.realState.property_service.module.outbox.dto.PropertyChangeEventDTO;
+
+/**
+ * In-process sink that only logs relayed events. Used when no external sink is configured.
+ */
+@Component
+@ConditionalOnProperty(name = "property.outbox.sink.type", havingValue = "log", matchIfMissing = true)
+public class LoggingOutboxEventSink implements OutboxEventSink {
+
+    private static final Logger logger = LoggerFactory.getLogger(LoggingOutboxEventSink.class);
+
+    @Override
+    public void publish(List<PropertyChangeEventDTO> events) {
+        for (PropertyChangeEventDTO event : events) {
+            logger.debug("Property event id={} type={} propertyId={}",
+                    event.getEventId(), event.getType(), event.getPropertyId());
+        }
+    }
+}
@@ -0,0 +1,22 @@
+package com.realState.property_service.module.outbox.sink;
+
+import java.util.List;
+
+import com.realState.property_service.module.outbox.dto.PropertyChangeEventDTO;
+
+/**
+ * Destination for relayed property change events.
+ * <p>
+ * Implementations receive events in outbox order and must either accept the whole batch or throw,
+ * in which case the relay retries the same batch later (at-least-once delivery).
+ */
+public interface OutboxEventSink {
+
+    /**
+     * Publishes a batch of events.
+     *
+     * @param events events ordered by event id
+     * @throws Exception if the batch could not be delivered
+     */
+    void publish(List<PropertyChangeEventDTO> events) throws Exception;
+}
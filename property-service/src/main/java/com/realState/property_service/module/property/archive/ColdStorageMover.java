@@ -0,0 +1,201 @@
+package com.realState.property_service.module.property.archive;
+
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.realState.property_service.database.enums.ApprovalStatusEnum;
+import com.realState.property_service.database.repository.LocationRepository;
+import com.realState.property_service.database.repository.PropertyArchiveRepository;
+import com.realState.property_service.database.repository.PropertyRepository;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+/**
+ * Moves cold listings out of properties into properties_archive, so the hot table every buyer,
+ * seller and moderation query scans only holds listings that can still change state.
+ * <p>
+ * Rejected and archived listings are cold once nobody has updated them for
+ * {@code property.coldstorage.cold-after-days}, drafts after {@code draft-cold-after-days}. Each
+ * approval status is walked oldest first along the (approval_status, updated_at) index in chunks of
+ * {@code chunk-size}; a chunk is locked with SKIP LOCKED, copied with its locations by one
+ * INSERT ... SELECT and deleted from both tables in one short transaction, with
+ * {@code chunk-pause-ms} between chunks and at most {@code max-chunks} per run. Moved rows leave the
+ * range, so an interrupted run is resumed by the next one.
+ * <p>
+ * Moving changes no listing, so no event, audit entry or cache invalidation is involved: detail
+ * reads and owner/admin listings fall back to the archive. Archived rows are read-only; writes to
+ * them answer 404 like any unknown id. The nightly move only runs once
+ * {@code property.coldstorage.enabled} is turned on.
+ */
+@Component
+public class ColdStorageMover {
+
+    private static final Logger logger = LoggerFactory.getLogger(ColdStorageMover.class);
+
+    private final PropertyRepository propertyRepository;
+    private final LocationRepository locationRepository;
+    private final PropertyArchiveRepository propertyArchiveRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final boolean enabled;
+    private final int coldAfterDays;
+    private final int draftColdAfterDays;
+    private final int chunkSize;
+    private final long chunkPauseMs;
+    private final int maxChunks;
+    private final AtomicBoolean running = new AtomicBoolean();
+
+    private final MeterRegistry meterRegistry;
+    private final Map<ApprovalStatusEnum, Counter> moved;
+    private final Counter chunks;
+    private final Counter failedRuns;
+
+    public ColdStorageMover(PropertyRepository propertyRepository,
+            LocationRepository locationRepository,
+            PropertyArchiveRepository propertyArchiveRepository,
+            PlatformTransactionManager transactionManager,
+            MeterRegistry meterRegistry,
+            @Value("${property.coldstorage.enabled:false}") boolean enabled,
+            @Value("${property.coldstorage.cold-after-days:30}") int coldAfterDays,
+            @Value("${property.coldstorage.draft-cold-after-days:180}") int draftColdAfterDays,
+            @Value("${property.coldstorage.chunk-size:200}") int chunkSize,
+            @Value("${property.coldstorage.chunk-pause-ms:100}") long chunkPauseMs,
+            @Value("${property.coldstorage.max-chunks:500}") int maxChunks) {
+        if (coldAfterDays < 1 || draftColdAfterDays < 1 || chunkSize < 1 || maxChunks < 1) {
+            throw new IllegalArgumentException("Cold storage ages, chunk size and max chunks must be positive");
+        }
+        this.propertyRepository = propertyRepository;
+        this.locationRepository = locationRepository;
+        this.propertyArchiveRepository = propertyArchiveRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.enabled = enabled;
+        this.coldAfterDays = coldAfterDays;
+        this.draftColdAfterDays = draftColdAfterDays;
+        this.chunkSize = chunkSize;
+        this.chunkPauseMs = chunkPauseMs;
+        this.maxChunks = maxChunks;
+
+        this.meterRegistry = meterRegistry;
+        this.moved = Map.of(
+                ApprovalStatusEnum.rejected, movedCounter(meterRegistry, ApprovalStatusEnum.rejected),
+                ApprovalStatusEnum.archived, movedCounter(meterRegistry, ApprovalStatusEnum.archived),
+                ApprovalStatusEnum.draft, movedCounter(meterRegistry, ApprovalStatusEnum.draft));
+        this.chunks = meterRegistry.counter("property.coldstorage.chunks");
+        this.failedRuns = meterRegistry.counter("property.coldstorage.runs.failed");
+    }
+
+    private static Counter movedCounter(MeterRegistry meterRegistry, ApprovalStatusEnum approvalStatus) {
+        return meterRegistry.counter("property.coldstorage.moved", "approval_status", approvalStatus.name());
+    }
+
+    @Scheduled(cron = "${property.coldstorage.cron:0 30 3 * * *}")
+    public void scheduledRun() {
+        if (enabled) {
+            run();
+        }
+    }
+
+    /**
+     * Runs the mover once on the calling thread; does nothing if a run is already in progress on this
+     * instance.
+     *
+     * @return number of properties moved to the archive
+     */
+    public long run() {
+        if (!running.compareAndSet(false, true)) {
+            logger.info("Skipping cold storage run: one is already in progress");
+            return 0;
+        }
+        LocalDateTime now = LocalDateTime.now();
+        Map<ApprovalStatusEnum, LocalDateTime> cutoffs = new LinkedHashMap<>();
+        cutoffs.put(ApprovalStatusEnum.rejected, now.minusDays(coldAfterDays));
+        cutoffs.put(ApprovalStatusEnum.archived, now.minusDays(coldAfterDays));
+        cutoffs.put(ApprovalStatusEnum.draft, now.minusDays(draftColdAfterDays));
+
+        long startedAt = System.nanoTime();
+        long properties = 0;
+        int chunkCount = 0;
+        boolean complete = true;
+        try {
+            for (Map.Entry<ApprovalStatusEnum, LocalDateTime> cutoff : cutoffs.entrySet()) {
+                while (true) {
+                    if (chunkCount == maxChunks) {
+                        complete = false;
+                        break;
+                    }
+                    Integer found = transactionTemplate.execute(
+                            status -> moveChunk(cutoff.getKey(), cutoff.getValue()));
+                    if (found == null || found == 0) {
+                        break;
+                    }
+                    chunkCount++;
+                    properties += found;
+                    chunks.increment();
+                    moved.get(cutoff.getKey()).increment(found);
+                    if (found < chunkSize) {
+                        break;
+                    }
+                    pause();
+                }
+            }
+        } catch (RuntimeException ex) {
+            complete = false;
+            failedRuns.increment();
+            logger.error("Cold storage run stopped after {} chunks ({} properties)", chunkCount, properties, ex);
+        } finally {
+            running.set(false);
+        }
+
+        long durationNanos = System.nanoTime() - startedAt;
+        Timer.builder("property.coldstorage.run").register(meterRegistry).record(durationNanos, TimeUnit.NANOSECONDS);
+        logger.info("Cold storage moved {} properties in {} chunks in {} ms{}", properties, chunkCount,
+                TimeUnit.NANOSECONDS.toMillis(durationNanos), complete ? "" : " (incomplete, the next run continues)");
+        return properties;
+    }
+
+    private int moveChunk(ApprovalStatusEnum approvalStatus, LocalDateTime cutoff) {
+        List<Object[]> rows = propertyRepository.findColdForUpdate(approvalStatus, cutoff,
+                PageRequest.of(0, chunkSize));
+        if (rows.isEmpty()) {
+            return 0;
+        }
+
+        // The rows are locked, so the copy and both deletes see exactly what was selected
+        List<UUID> ids = rows.stream().map(row -> (UUID) row[0]).toList();
+        List<Long> locationIds = rows.stream().map(row -> (Long) row[1]).toList();
+        int copied = propertyArchiveRepository.copyFromProperties(ids, LocalDateTime.now());
+        if (copied != ids.size()) {
+            throw new IllegalStateException("Copied " + copied + " of " + ids.size() + " properties to the archive");
+        }
+        propertyRepository.deleteAllByIdIn(ids);
+        locationRepository.deleteAllByIdIn(locationIds);
+        return ids.size();
+    }
+
+    private void pause() {
+        if (chunkPauseMs <= 0) {
+            return;
+        }
+        try {
+            Thread.sleep(chunkPauseMs);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Cold storage run interrupted", ex);
+        }
+    }
+}
@@ -0,0 +1,27 @@
+package com.realState.property_service.module.property.cache;
+
+import java.util.UUID;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.realState.property_service.common.cache.CatalogVersion;
+import com.realState.property_service.common.cache.VersionedCache;
+import com.realState.property_service.module.property.dto.OwnerPropertyStatsDTO;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Local cache of per-owner portfolio statistics, evicted on any write to that owner's properties.
+ */
+@Component
+public class OwnerStatsCache extends VersionedCache<UUID, OwnerPropertyStatsDTO> {
+
+    public OwnerStatsCache(CatalogVersion catalogVersion,
+            MeterRegistry meterRegistry,
+            @Value("${property.cache.owner-stats.enabled:true}") boolean enabled,
+            @Value("${property.cache.owner-stats.max-entries:5000}") int maxEntries,
+            @Value("${property.cache.owner-stats.ttl-seconds:60}") long ttlSeconds) {
+        super(catalogVersion, meterRegistry, "property.owner.stats.cache", enabled, maxEntries, ttlSeconds);
+    }
+}
@@ -0,0 +1,179 @@
+package com.realState.property_service.module.property.cache;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.UUID;
+
+import com.realState.property_service.database.enums.ApprovalStatusEnum;
+import com.realState.property_service.database.enums.StateEnum;
+import com.realState.property_service.database.enums.StatusEnum;
+import com.realState.property_service.database.enums.TypeEnum;
+import com.realState.property_service.module.location.dto.LocationDTO;
+import com.realState.property_service.module.property.dto.PropertyDTO;
+
+/**
+ * Compact binary form of a {@link PropertyDTO} for the shared cache tier.
+ * <p>
+ * Fields are written in a fixed order without names: UUIDs as two longs, timestamps as epoch
+ * seconds plus nanos, enums by name (so reordering constants cannot silently change a value) and
+ * nullable fields behind a presence byte. The leading format byte lets a deployment that changes the layout treat older entries as misses.
+ * The request-scoped {@code enquiryCount} decoration is not stored.
+ */
+public final class PropertyDTOCodec {
+
+    private static final byte FORMAT = 1;
+
+    // Private constructor to prevent instantiation
+    private PropertyDTOCodec() {
+    }
+
+    public static byte[] encode(PropertyDTO dto) {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(256);
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            out.writeByte(FORMAT);
+            writeUuid(out, dto.getId());
+            writeString(out, dto.getTitle());
+            writeString(out, dto.getDescription());
+            writeEnum(out, dto.getType());
+            writeEnum(out, dto.getStatus());
+            writeEnum(out, dto.getApprovalStatus());
+            writeUuid(out, dto.getOwnerId());
+            writeTime(out, dto.getCreatedAt());
+            writeTime(out, dto.getUpdatedAt());
+
+            LocationDTO location = dto.getLocation();
+            out.writeBoolean(location != null);
+            if (location != null) {
+                out.writeBoolean(location.getId() != null);
+                if (location.getId() != null) {
+                    out.writeLong(location.getId());
+                }
+                writeString(out, location.getAddress());
+                writeString(out, location.getCity());
+                writeEnum(out, location.getState());
+                writeString(out, location.getCountry());
+                out.writeBoolean(location.getZipcode() != null);
+                if (location.getZipcode() != null) {
+                    out.writeInt(location.getZipcode());
+                }
+                writeFloat(out, location.getLatitude());
+                writeFloat(out, location.getLongitude());
+                writeTime(out, location.getCreatedAt());
+                writeTime(out, location.getUpdatedAt());
+            }
+        } catch (IOException ex) {
+            throw new IllegalStateException("Failed to encode property", ex);
+        }
+        return bytes.toByteArray();
+    }
+
+    /**
+     * @throws IllegalArgumentException if the bytes are not in the current format
+     */
+    public static PropertyDTO decode(byte[] encoded) {
+        try (DataInputStream in = new DataInputStream(new ByteArrayInputStream(encoded))) {
+            if (in.readByte() != FORMAT) {
+                throw new IllegalArgumentException("Unknown property encoding format");
+            }
+            PropertyDTO dto = new PropertyDTO();
+            dto.setId(readUuid(in));
+            dto.setTitle(readString(in));
+            dto.setDescription(readString(in));
+            dto.setType(readEnum(in, TypeEnum.class));
+            dto.setStatus(readEnum(in, StatusEnum.class));
+            dto.setApprovalStatus(readEnum(in, ApprovalStatusEnum.class));
+            dto.setOwnerId(readUuid(in));
+            dto.setCreatedAt(readTime(in));
+            dto.setUpdatedAt(readTime(in));
+
+            if (in.readBoolean()) {
+                LocationDTO location = new LocationDTO();
+                location.setId(in.readBoolean() ? in.readLong() : null);
+                location.setAddress(readString(in));
+                location.setCity(readString(in));
+                location.setState(readEnum(in, StateEnum.class));
+                location.setCountry(readString(in));
+                location.setZipcode(in.readBoolean() ? in.readInt() : null);
+                location.setLatitude(readFloat(in));
+                location.setLongitude(readFloat(in));
+                location.setCreatedAt(readTime(in));
+                location.setUpdatedAt(readTime(in));
+                dto.setLocation(location);
+            }
+            return dto;
+        } catch (IOException ex) {
+            throw new IllegalArgumentException("Truncated property encoding", ex);
+        }
+    }
+
+    private static void writeUuid(DataOutputStream out, UUID value) throws IOException {
+        out.writeBoolean(value != null);
+        if (value != null) {
+            out.writeLong(value.getMostSignificantBits());
+            out.writeLong(value.getLeastSignificantBits());
+        }
+    }
+
+    private static UUID readUuid(DataInputStream in) throws IOException {
+        return in.readBoolean() ? new UUID(in.readLong(), in.readLong()) : null;
+    }
+
+    // Length-prefixed UTF-8: unlike writeUTF, not limited to 64 KB
+    private static void writeString(DataOutputStream out, String value) throws IOException {
+        if (value == null) {
+            out.writeInt(-1);
+            return;
+        }
+        byte[] utf8 = value.getBytes(StandardCharsets.UTF_8);
+        out.writeInt(utf8.length);
+        out.write(utf8);
+    }
+
+    private static String readString(DataInputStream in) throws IOException {
+        int length = in.readInt();
+        if (length < 0) {
+            return null;
+        }
+        byte[] utf8 = new byte[length];
+        in.readFully(utf8);
+        return new String(utf8, StandardCharsets.UTF_8);
+    }
+
+    private static void writeEnum(DataOutputStream out, Enum<?> value) throws IOException {
+        writeString(out, value != null ? value.name() : null);
+    }
+
+    private static <E extends Enum<E>> E readEnum(DataInputStream in, Class<E> type) throws IOException {
+        String name = readString(in);
+        return name != null ? Enum.valueOf(type, name) : null;
+    }
+
+    private static void writeTime(DataOutputStream out, LocalDateTime value) throws IOException {
+        out.writeBoolean(value != null);
+        if (value != null) {
+            out.writeLong(value.toEpochSecond(ZoneOffset.UTC));
+            out.writeInt(value.getNano());
+        }
+    }
+
+    private static LocalDateTime readTime(DataInputStream in) throws IOException {
+        return in.readBoolean() ? LocalDateTime.ofEpochSecond(in.readLong(), in.readInt(), ZoneOffset.UTC) : null;
+    }
+
+    private static void writeFloat(DataOutputStream out, Float value) throws IOException {
+        out.writeBoolean(value != null);
+        if (value != null) {
+            out.writeFloat(value);
+        }
+    }
+
+    private static Float readFloat(DataInputStream in) throws IOException {
+        return in.readBoolean() ? in.readFloat() : null;
+    }
+}
@@ -0,0 +1,34 @@
+package com.realState.property_service.module.property.cache;
+
+import java.util.UUID;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.realState.property_service.common.cache.CatalogVersion;
+import com.realState.property_service.common.cache.VersionedCache;
+import com.realState.property_service.module.property.dto.PropertyDTO;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Local cache of PropertyDTOs by id, shared by the detail and batch lookup paths.
+ */
+@Component
+public class PropertyDetailCache extends VersionedCache<UUID, PropertyDTO> {
+
+    public PropertyDetailCache(CatalogVersion catalogVersion,
+            MeterRegistry meterRegistry,
+            @Value("${property.cache.detail.enabled:true}") boolean enabled,
+            @Value("${property.cache.detail.max-entries:10000}") int maxEntries,
+            @Value("${property.cache.detail.ttl-seconds:30}") long ttlSeconds) {
+        super(catalogVersion, meterRegistry, "property.detail.cache", enabled, maxEntries, ttlSeconds);
+    }
+
+    /**
+     * Stores a loaded DTO under its own id.
+     */
+    public void put(PropertyDTO dto, long loadVersion) {
+        put(dto.getId(), dto, loadVersion);
+    }
+}
@@ -0,0 +1,24 @@
+package com.realState.property_service.module.property.cache;
+
+import java.util.UUID;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.realState.property_service.common.cache.SingleFlight;
+import com.realState.property_service.module.property.dto.PropertyDTO;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Coalesces concurrent GET /properties/{id} calls for the same id into one service call.
+ */
+@Component
+public class PropertyDetailCoalescer extends SingleFlight<UUID, PropertyDTO> {
+
+    public PropertyDetailCoalescer(MeterRegistry meterRegistry,
+            @Value("${property.singleflight.enabled:true}") boolean enabled,
+            @Value("${property.singleflight.max-waiters:200}") int maxWaiters) {
+        super(meterRegistry, "detail", enabled, maxWaiters);
+    }
+}
@@ -0,0 +1,191 @@
+package com.realState.property_service.module.property.cache;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.realState.property_service.common.cache.UuidBloomFilter;
+import com.realState.property_service.database.repository.PropertyArchiveRepository;
+import com.realState.property_service.database.repository.PropertyRepository;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+
+/**
+ * Membership filter of existing property ids, used to answer lookups for ids that do not exist
+ * with one primary key probe instead of the cache tiers, the location join and the archive.
+ * <p>
+ * The filter is built from a keyset scan of all ids once the application is ready and rebuilt on a
+ * schedule, which drops deleted ids and re-sizes it as the table grows. New ids are added by the
+ * create paths before commit, so a rolled-back create only costs a false positive. While a rebuild
+ * runs, new ids go into both filters, and ids created shortly before the scan started are re-read
+ * afterwards, so a create racing the scan is never missed. Archived ids are scanned after the live
+ * ones; moves only go from the live table to the archive, so a property moved during the scan is
+ * still seen in one of them. Until the first build completes every id is treated as possibly present.
+ * <p>
+ * Each instance only adds the ids it created itself, so an id created elsewhere since the last
+ * rebuild is unknown here. A miss therefore never means not found on its own: callers confirm it
+ * against the live table and report ids that turn out to exist with {@link #recordMissed}.
+ */
+@Component
+public class PropertyIdFilter {
+
+    private static final Logger logger = LoggerFactory.getLogger(PropertyIdFilter.class);
+
+    private static final int SCAN_PAGE_SIZE = 10_000;
+    private static final long RACE_MARGIN_MINUTES = 5;
+
+    private final PropertyRepository propertyRepository;
+    private final PropertyArchiveRepository propertyArchiveRepository;
+    private final MeterRegistry meterRegistry;
+    private final boolean enabled;
+    private final long minExpectedInsertions;
+    private final double fpp;
+
+    private volatile UuidBloomFilter current;
+    private volatile UuidBloomFilter building;
+
+    private final Counter definitelyAbsent;
+    private final Counter maybePresent;
+    private final Counter falsePositives;
+    private final Counter missed;
+
+    public PropertyIdFilter(PropertyRepository propertyRepository,
+            PropertyArchiveRepository propertyArchiveRepository,
+            MeterRegistry meterRegistry,
+            @Value("${property.idfilter.enabled:true}") boolean enabled,
+            @Value("${property.idfilter.expected-insertions:1000000}") long minExpectedInsertions,
+            @Value("${property.idfilter.fpp:0.01}") double fpp) {
+        this.propertyRepository = propertyRepository;
+        this.propertyArchiveRepository = propertyArchiveRepository;
+        this.meterRegistry = meterRegistry;
+        this.enabled = enabled;
+        this.minExpectedInsertions = minExpectedInsertions;
+        this.fpp = fpp;
+
+        this.definitelyAbsent = meterRegistry.counter("property.idfilter.lookups", "result", "absent");
+        this.maybePresent = meterRegistry.counter("property.idfilter.lookups", "result", "maybe_present");
+        this.falsePositives = meterRegistry.counter("property.idfilter.false.positives");
+        this.missed = meterRegistry.counter("property.idfilter.missed");
+    }
+
+    // The gauges hold on to this filter, so they are registered once it is fully constructed
+    @PostConstruct
+    void registerGauges() {
+        Gauge.builder("property.idfilter.memory", this, f -> f.current != null ? f.current.sizeInBytes() : 0)
+                .baseUnit("bytes")
+                .register(meterRegistry);
+        Gauge.builder("property.idfilter.expected.fpp", this, f -> f.current != null ? f.current.expectedFpp() : 1)
+                .register(meterRegistry);
+    }
+
+    /**
+     * @return false if the id was unknown at the last build and has not been added here since; it
+     *         may still have been created on another instance
+     */
+    public boolean mightContain(UUID id) {
+        UuidBloomFilter filter = current;
+        if (filter == null || filter.mightContain(id)) {
+            maybePresent.increment();
+            return true;
+        }
+        definitelyAbsent.increment();
+        return false;
+    }
+
+    /**
+     * Registers a newly created id.
+     */
+    public void add(UUID id) {
+        UuidBloomFilter filter = current;
+        if (filter != null) {
+            filter.put(id);
+        }
+        UuidBloomFilter next = building;
+        if (next != null) {
+            next.put(id);
+        }
+    }
+
+    /**
+     * Records an id the filter did not know but the database had, e.g. one created on another
+     * instance, and adds it so later lookups take the regular path.
+     */
+    public void recordMissed(UUID id) {
+        missed.increment();
+        add(id);
+    }
+
+    /**
+     * Records that an id passed the filter but was not in the database.
+     */
+    public void recordFalsePositive() {
+        falsePositives.increment();
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onReady() {
+        rebuild();
+    }
+
+    /**
+     * Builds a fresh filter from the live and archive tables and swaps it in.
+     */
+    @Scheduled(cron = "${property.idfilter.rebuild-cron:0 15 4 * * *}")
+    public synchronized void rebuild() {
+        if (!enabled) {
+            return;
+        }
+        try {
+            long started = System.currentTimeMillis();
+            LocalDateTime scanStart = LocalDateTime.now();
+            UuidBloomFilter next = new UuidBloomFilter(
+                    Math.max(minExpectedInsertions,
+                            (propertyRepository.count() + propertyArchiveRepository.count()) * 2), fpp);
+            building = next;
+
+            long loaded = 0;
+            List<UUID> page = propertyRepository.findIdsOrdered(PageRequest.of(0, SCAN_PAGE_SIZE));
+            while (!page.isEmpty()) {
+                page.forEach(next::put);
+                loaded += page.size();
+                if (page.size() < SCAN_PAGE_SIZE) {
+                    break;
+                }
+                page = propertyRepository.findIdsOrderedAfter(page.get(page.size() - 1),
+                        PageRequest.of(0, SCAN_PAGE_SIZE));
+            }
+            propertyRepository.findIdsCreatedSince(scanStart.minusMinutes(RACE_MARGIN_MINUTES)).forEach(next::put);
+
+            page = propertyArchiveRepository.findIdsOrdered(PageRequest.of(0, SCAN_PAGE_SIZE));
+            while (!page.isEmpty()) {
+                page.forEach(next::put);
+                loaded += page.size();
+                if (page.size() < SCAN_PAGE_SIZE) {
+                    break;
+                }
+                page = propertyArchiveRepository.findIdsOrderedAfter(page.get(page.size() - 1),
+                        PageRequest.of(0, SCAN_PAGE_SIZE));
+            }
+
+            current = next;
+            building = null;
+            logger.info("Property id filter built with {} ids ({} KiB, {} hashes) in {} ms", loaded,
+                    next.sizeInBytes() / 1024, next.getHashCount(), System.currentTimeMillis() - started);
+        } catch (Exception ex) {
+            building = null;
+            logger.error("Failed to build property id filter, keeping the previous one", ex);
+        }
+    }
+}
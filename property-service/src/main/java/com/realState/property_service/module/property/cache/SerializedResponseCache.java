@@ -0,0 +1,207 @@
+package com.realState.property_service.module.property.cache;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.function.Supplier;
+import java.util.zip.GZIPOutputStream;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.realState.property_service.common.cache.CatalogVersion;
+import com.realState.property_service.common.cache.LruCache;
+import com.realState.property_service.common.cache.SingleFlight;
+import com.realState.property_service.common.utils.ApiResponse;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Cache of fully serialized JSON response bodies for hot buyer listing endpoints.
+ * <p>
+ * Entries are keyed by endpoint + query parameters and tagged with the {@link CatalogVersion}
+ * captured before the data was loaded; any write in PropertyService bumps the version and makes
+ * older entries unusable. On a hit the cached bytes (optionally pre-gzipped) are returned as a
+ * {@code byte[]} body, which Spring copies straight to the servlet output stream without going
+ * through Jackson again.
+ * <p>
+ * Misses are coalesced per key, so a burst of identical requests right after an invalidation runs
+ * one query and one serialization between them. A miss first tries the {@link SharedCacheTier}, so
+ * a page another instance already built is not queried again. Responses flagged stale by {@link StaleReadCache}
+ * are served but not stored.
+ */
+@Component
+public class SerializedResponseCache {
+
+    private static final Logger logger = LoggerFactory.getLogger(SerializedResponseCache.class);
+
+    /** Bodies smaller than this are not worth gzipping. */
+    private static final int GZIP_MIN_BYTES = 1024;
+
+    private record Entry(long version, byte[] json, byte[] gzip) {
+    }
+
+    private final ObjectMapper objectMapper;
+    private final CatalogVersion catalogVersion;
+    private final SharedCacheTier sharedCacheTier;
+    private final LruCache<String, Entry> entries;
+    private final SingleFlight<String, Entry> loads;
+    private final boolean enabled;
+    private final boolean gzipEnabled;
+    private final int maxPage;
+
+    private final Counter hits;
+    private final Counter misses;
+    private final Counter bytesServed;
+
+    public SerializedResponseCache(ObjectMapper objectMapper,
+            CatalogVersion catalogVersion,
+            SharedCacheTier sharedCacheTier,
+            MeterRegistry meterRegistry,
+            @Value("${property.cache.response.enabled:true}") boolean enabled,
+            @Value("${property.cache.response.max-entries:500}") int maxEntries,
+            @Value("${property.cache.response.max-page:5}") int maxPage,
+            @Value("${property.cache.response.gzip-enabled:true}") boolean gzipEnabled,
+            @Value("${property.singleflight.enabled:true}") boolean singleFlightEnabled,
+            @Value("${property.singleflight.max-waiters:200}") int maxWaiters) {
+        this.objectMapper = objectMapper;
+        this.catalogVersion = catalogVersion;
+        this.sharedCacheTier = sharedCacheTier;
+        this.entries = new LruCache<>(maxEntries);
+        this.loads = new SingleFlight<>(meterRegistry, "listing", singleFlightEnabled, maxWaiters);
+        this.enabled = enabled;
+        this.gzipEnabled = gzipEnabled;
+        this.maxPage = maxPage;
+
+        this.hits = meterRegistry.counter("property.response.cache.requests", "result", "hit");
+        this.misses = meterRegistry.counter("property.response.cache.requests", "result", "miss");
+        this.bytesServed = Counter.builder("property.response.cache.bytes.served")
+                .description("Response body bytes written straight from the serialized cache")
+                .baseUnit("bytes")
+                .register(meterRegistry);
+        Gauge.builder("property.response.cache.entries", entries, LruCache::size).register(meterRegistry);
+    }
+
+    /**
+     * Serves a JSON body from the cache, loading and serializing it on a miss.
+     *
+     * @param key            endpoint + normalized parameters
+     * @param page           0-based page index; only the first {@code max-page} pages are cached
+     * @param acceptEncoding the request Accept-Encoding header (may be null)
+     * @param loader         builds the response payload on a miss
+     * @return response with the serialized JSON body
+     */
+    public ResponseEntity<byte[]> serve(String key, int page, String acceptEncoding, Supplier<?> loader) {
+        boolean acceptsGzip = acceptEncoding != null && acceptEncoding.contains("gzip");
+
+        if (!enabled || page >= maxPage) {
+            Entry uncached = loads.execute(key, () -> new Entry(0, serialize(loader.get()), null));
+            return toResponse(uncached.json(), null, false, false);
+        }
+
+        long version = catalogVersion.current();
+        Entry entry = entries.get(key);
+        if (entry != null && entry.version() == version) {
+            hits.increment();
+            return toResponse(entry.json(), entry.gzip(), acceptsGzip, true);
+        }
+
+        misses.increment();
+        Entry loaded = loads.execute(key, () -> {
+            long generation = sharedCacheTier.pageGeneration();
+            byte[] shared = sharedCacheTier.getPage(key, generation);
+            if (shared != null) {
+                Entry fromShared = decode(version, shared);
+                entries.put(key, fromShared);
+                return fromShared;
+            }
+
+            Object payload = loader.get();
+            byte[] json = serialize(payload);
+            byte[] gzip = gzipEnabled && json.length >= GZIP_MIN_BYTES ? gzip(json) : null;
+            Entry fresh = new Entry(version, json, gzip);
+            // A stale fallback must not outlive the outage that produced it
+            if (!(payload instanceof ApiResponse<?> response && Boolean.TRUE.equals(response.getStale()))) {
+                entries.put(key, fresh);
+                sharedCacheTier.putPage(key, generation, version, encode(fresh));
+            }
+            return fresh;
+        });
+        return toResponse(loaded.json(), loaded.gzip(), acceptsGzip, false);
+    }
+
+    /**
+     * Drops every cached body.
+     */
+    public void clear() {
+        entries.clear();
+    }
+
+    private ResponseEntity<byte[]> toResponse(byte[] json, byte[] gzip, boolean acceptsGzip, boolean fromCache) {
+        ResponseEntity.BodyBuilder builder = ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .header(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+
+        byte[] body = acceptsGzip && gzip != null ? gzip : json;
+        if (fromCache) {
+            bytesServed.increment(body.length);
+        }
+        if (body == gzip) {
+            builder.header(HttpHeaders.CONTENT_ENCODING, "gzip");
+        }
+        return builder.body(body);
+    }
+
+    // Shared tier form: [json length][json][gzip length, -1 if none][gzip]
+    private static byte[] encode(Entry entry) {
+        int gzipLength = entry.gzip() != null ? entry.gzip().length : 0;
+        ByteBuffer buffer = ByteBuffer.allocate(8 + entry.json().length + gzipLength);
+        buffer.putInt(entry.json().length).put(entry.json());
+        buffer.putInt(entry.gzip() != null ? gzipLength : -1);
+        if (entry.gzip() != null) {
+            buffer.put(entry.gzip());
+        }
+        return buffer.array();
+    }
+
+    private static Entry decode(long version, byte[] encoded) {
+        ByteBuffer buffer = ByteBuffer.wrap(encoded);
+        byte[] json = new byte[buffer.getInt()];
+        buffer.get(json);
+        int gzipLength = buffer.getInt();
+        byte[] gzip = null;
+        if (gzipLength >= 0) {
+            gzip = new byte[gzipLength];
+            buffer.get(gzip);
+        }
+        return new Entry(version, json, gzip);
+    }
+
+    private byte[] serialize(Object payload) {
+        try {
+            return objectMapper.writeValueAsBytes(payload);
+        } catch (JsonProcessingException ex) {
+            logger.error("Failed to serialize cached response payload", ex);
+            throw new IllegalStateException("Failed to serialize response", ex);
+        }
+    }
+
+    private static byte[] gzip(byte[] json) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(json.length / 4);
+        try (GZIPOutputStream gzipOut = new GZIPOutputStream(out)) {
+            gzipOut.write(json);
+        } catch (IOException ex) {
+            throw new IllegalStateException("Failed to gzip response", ex);
+        }
+        return out.toByteArray();
+    }
+}
@@ -0,0 +1,353 @@
+package com.realState.property_service.module.property.cache;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import com.realState.property_service.common.cache.CatalogVersion;
+import com.realState.property_service.common.cache.shared.SharedCache;
+import com.realState.property_service.common.resilience.CircuitBreaker;
+import com.realState.property_service.common.utils.TransactionUtils;
+import com.realState.property_service.module.property.dto.PropertyDTO;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+
+/**
+ * Second cache tier, shared by every instance, under the local PropertyDTO and listing page caches.
+ * <p>
+ * PropertyDTOs are stored by id in the compact {@link PropertyDTOCodec} form and fetched for a whole
+ * batch in one multi-get. Listing pages are stored under a shared <em>generation</em> that every
+ * committed write increments, so a write makes every instance's pages unreachable at once; old
+ * generations simply expire.
+ * <p>
+ * After a write commits, this instance increments the generation, deletes the changed PropertyDTOs
+ * and broadcasts the changed property and owner ids. Other instances then evict those ids locally
+ * and bump their {@link CatalogVersion}, which also discards their local pages and any load that was
+ * in flight. Until its own invalidation has been sent, an instance bypasses the shared tier so it
+ * never reads back what it just changed. Remaining staleness across instances is the broadcast
+ * latency, bounded in the worst case (a lost message) by the entry TTLs.
+ * <p>
+ * The tier is optional ({@code property.cache.shared.type=none} disables it) and never required:
+ * failures count as misses, and a circuit breaker stops calling while the shared cache is down.
+ */
+@Component
+public class SharedCacheTier {
+
+    private static final Logger logger = LoggerFactory.getLogger(SharedCacheTier.class);
+
+    static final String CHANNEL = "property:invalidations";
+    static final String GENERATION_KEY = "property:generation";
+    private static final String PROPERTY_PREFIX = "property:dto:";
+    private static final String PAGE_PREFIX = "property:page:";
+
+    private final SharedCache sharedCache;
+    private final CatalogVersion catalogVersion;
+    private final PropertyDetailCache propertyDetailCache;
+    private final OwnerStatsCache ownerStatsCache;
+    private final boolean enabled;
+    private final long propertyTtlMillis;
+    private final long pageTtlMillis;
+    private final CircuitBreaker circuitBreaker;
+    private final String instanceId = UUID.randomUUID().toString();
+
+    private final AtomicLong generation = new AtomicLong();
+    private final AtomicInteger unsentInvalidations = new AtomicInteger();
+    private final Set<UUID> pendingProperties = ConcurrentHashMap.newKeySet();
+    private final Set<UUID> pendingOwners = ConcurrentHashMap.newKeySet();
+    private final ExecutorService invalidator;
+
+    private final Counter hits;
+    private final Counter misses;
+    private final Counter errors;
+    private final Counter invalidationsSent;
+    private final Counter invalidationsReceived;
+
+    public SharedCacheTier(SharedCache sharedCache,
+            CatalogVersion catalogVersion,
+            PropertyDetailCache propertyDetailCache,
+            OwnerStatsCache ownerStatsCache,
+            MeterRegistry meterRegistry,
+            @Value("${property.cache.shared.property-ttl-seconds:300}") long propertyTtlSeconds,
+            @Value("${property.cache.shared.page-ttl-seconds:60}") long pageTtlSeconds,
+            @Value("${property.cache.shared.circuit.failure-threshold:5}") int failureThreshold,
+            @Value("${property.cache.shared.circuit.open-ms:5000}") long openMillis) {
+        this.sharedCache = sharedCache;
+        this.catalogVersion = catalogVersion;
+        this.propertyDetailCache = propertyDetailCache;
+        this.ownerStatsCache = ownerStatsCache;
+        this.enabled = sharedCache.isEnabled();
+        this.propertyTtlMillis = TimeUnit.SECONDS.toMillis(propertyTtlSeconds);
+        this.pageTtlMillis = TimeUnit.SECONDS.toMillis(pageTtlSeconds);
+        this.circuitBreaker = new CircuitBreaker(failureThreshold, openMillis, (from, to) -> {
+            meterRegistry.counter("property.circuit.transitions", "name", "shared_cache", "to",
+                    to.name().toLowerCase()).increment();
+            logger.warn("Shared cache circuit breaker {} -> {}", from, to);
+        });
+        this.invalidator = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "shared-cache-invalidator");
+            thread.setDaemon(true);
+            return thread;
+        });
+
+        this.hits = meterRegistry.counter("property.cache.shared.requests", "result", "hit");
+        this.misses = meterRegistry.counter("property.cache.shared.requests", "result", "miss");
+        this.errors = meterRegistry.counter("property.cache.shared.errors");
+        this.invalidationsSent = meterRegistry.counter("property.cache.shared.invalidations", "direction", "sent");
+        this.invalidationsReceived = meterRegistry.counter("property.cache.shared.invalidations", "direction",
+                "received");
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void subscribe() {
+        if (!enabled) {
+            return;
+        }
+        sharedCache.subscribe(CHANNEL, new SharedCache.Subscriber() {
+            @Override
+            public void onMessage(String message) {
+                applyRemoteInvalidation(message);
+            }
+
+            @Override
+            public void onSubscribed() {
+                resync();
+            }
+        });
+    }
+
+    // ---------- PropertyDTOs ----------
+
+    /**
+     * @return the shared entries found for the given ids (possibly none)
+     */
+    public Map<UUID, PropertyDTO> getProperties(Collection<UUID> ids) {
+        if (ids.isEmpty() || !available()) {
+            return Map.of();
+        }
+        List<UUID> order = new ArrayList<>(ids);
+        List<byte[]> values;
+        try {
+            values = sharedCache.getAll(order.stream().map(SharedCacheTier::propertyKey).toList());
+            circuitBreaker.onSuccess();
+        } catch (RuntimeException ex) {
+            onFailure("multi-get", ex);
+            return Map.of();
+        }
+
+        Map<UUID, PropertyDTO> found = new HashMap<>();
+        for (int i = 0; i < order.size(); i++) {
+            byte[] value = values.get(i);
+            if (value == null) {
+                continue;
+            }
+            try {
+                found.put(order.get(i), PropertyDTOCodec.decode(value));
+            } catch (IllegalArgumentException ex) {
+                // Written by a deployment with another layout: a miss
+            }
+        }
+        hits.increment(found.size());
+        misses.increment(order.size() - found.size());
+        return found;
+    }
+
+    /**
+     * Stores loaded PropertyDTOs unless a write committed since {@code loadVersion} was captured.
+     */
+    public void putProperties(Collection<PropertyDTO> dtos, long loadVersion) {
+        if (dtos.isEmpty() || catalogVersion.current() != loadVersion || !available()) {
+            return;
+        }
+        Map<String, byte[]> entries = new LinkedHashMap<>();
+        for (PropertyDTO dto : dtos) {
+            entries.put(propertyKey(dto.getId()), PropertyDTOCodec.encode(dto));
+        }
+        try {
+            sharedCache.putAll(entries, propertyTtlMillis);
+            circuitBreaker.onSuccess();
+        } catch (RuntimeException ex) {
+            onFailure("put", ex);
+        }
+    }
+
+    // ---------- Listing pages ----------
+
+    /**
+     * Captures the generation a page load must be stored under. Call before loading.
+     */
+    public long pageGeneration() {
+        return generation.get();
+    }
+
+    /**
+     * @return the stored page body, or null
+     */
+    public byte[] getPage(String key, long pageGeneration) {
+        if (!available()) {
+            return null;
+        }
+        try {
+            byte[] value = sharedCache.getAll(List.of(pageKey(key, pageGeneration))).get(0);
+            circuitBreaker.onSuccess();
+            (value != null ? hits : misses).increment();
+            return value;
+        } catch (RuntimeException ex) {
+            onFailure("get", ex);
+            return null;
+        }
+    }
+
+    /**
+     * Stores a page body loaded under {@code pageGeneration} unless a write committed since.
+     */
+    public void putPage(String key, long pageGeneration, long loadVersion, byte[] body) {
+        if (generation.get() != pageGeneration || catalogVersion.current() != loadVersion || !available()) {
+            return;
+        }
+        try {
+            sharedCache.putAll(Map.of(pageKey(key, pageGeneration), body), pageTtlMillis);
+            circuitBreaker.onSuccess();
+        } catch (RuntimeException ex) {
+            onFailure("put", ex);
+        }
+    }
+
+    // ---------- Invalidation ----------
+
+    /**
+     * Once the current transaction commits, removes the property's shared entry and tells every other
+     * instance to drop its local copies of the property and the owner's stats. Either id may be null.
+     */
+    public void invalidateAfterCommit(UUID propertyId, UUID ownerId) {
+        if (!enabled) {
+            return;
+        }
+        TransactionUtils.afterCommit(() -> {
+            if (propertyId != null) {
+                pendingProperties.add(propertyId);
+            }
+            if (ownerId != null) {
+                pendingOwners.add(ownerId);
+            }
+            unsentInvalidations.incrementAndGet();
+            invalidator.execute(this::sendInvalidations);
+        });
+    }
+
+    // Coalesces everything queued since the last send into one round of commands
+    private void sendInvalidations() {
+        int batched = unsentInvalidations.get();
+        if (batched == 0) {
+            return;
+        }
+        List<UUID> properties = drain(pendingProperties);
+        List<UUID> owners = drain(pendingOwners);
+        try {
+            long next = sharedCache.increment(GENERATION_KEY);
+            generation.accumulateAndGet(next, Math::max);
+            sharedCache.delete(properties.stream().map(SharedCacheTier::propertyKey).toList());
+            sharedCache.publish(CHANNEL, next + " " + instanceId + " " + join(properties) + " " + join(owners));
+            invalidationsSent.increment();
+        } catch (RuntimeException ex) {
+            errors.increment();
+            logger.warn("Failed to broadcast shared cache invalidation, other instances may serve stale "
+                    + "entries until they expire: {}", ex.getMessage());
+        } finally {
+            unsentInvalidations.addAndGet(-batched);
+        }
+    }
+
+    private void applyRemoteInvalidation(String message) {
+        String[] parts = message.split(" ", -1);
+        if (parts.length != 4 || instanceId.equals(parts[1])) {
+            return;
+        }
+        invalidationsReceived.increment();
+        generation.accumulateAndGet(Long.parseLong(parts[0]), Math::max);
+        for (UUID id : split(parts[2])) {
+            propertyDetailCache.evictAfterCommit(id);
+        }
+        for (UUID id : split(parts[3])) {
+            ownerStatsCache.evictAfterCommit(id);
+        }
+        catalogVersion.bumpAfterCommit();
+    }
+
+    // Invalidations may have been missed while unsubscribed: start over from the shared state
+    private void resync() {
+        try {
+            byte[] value = sharedCache.getAll(List.of(GENERATION_KEY)).get(0);
+            if (value != null) {
+                generation.accumulateAndGet(Long.parseLong(new String(value, StandardCharsets.US_ASCII)), Math::max);
+            }
+        } catch (RuntimeException ex) {
+            onFailure("resync", ex);
+        }
+        propertyDetailCache.clear();
+        ownerStatsCache.clear();
+        catalogVersion.bumpAfterCommit();
+        logger.info("Subscribed to shared cache invalidations at generation {}", generation.get());
+    }
+
+    // Checked last before a call: once the breaker lets a call through, its outcome must be reported
+    private boolean available() {
+        return enabled && unsentInvalidations.get() == 0 && circuitBreaker.tryAcquire();
+    }
+
+    private void onFailure(String operation, RuntimeException ex) {
+        circuitBreaker.onFailure();
+        errors.increment();
+        logger.debug("Shared cache {} failed: {}", operation, ex.getMessage());
+    }
+
+    private static String propertyKey(UUID id) {
+        return PROPERTY_PREFIX + id;
+    }
+
+    private static String pageKey(String key, long pageGeneration) {
+        return PAGE_PREFIX + pageGeneration + ":" + key;
+    }
+
+    private static List<UUID> drain(Set<UUID> pending) {
+        List<UUID> drained = new ArrayList<>(pending);
+        pending.removeAll(drained);
+        return drained;
+    }
+
+    private static String join(List<UUID> ids) {
+        return ids.stream().map(UUID::toString).collect(Collectors.joining(","));
+    }
+
+    private static List<UUID> split(String ids) {
+        return ids.isEmpty() ? List.of() : Arrays.stream(ids.split(",")).map(UUID::fromString).toList();
+    }
+
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        invalidator.shutdown();
+        invalidator.awaitTermination(2, TimeUnit.SECONDS);
+    }
+}
@@ -0,0 +1,234 @@
+package com.realState.property_service.module.property.cache;
+
+import java.time.LocalDateTime;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.TransactionException;
+
+import com.realState.property_service.common.cache.CatalogVersion;
+import com.realState.property_service.common.cache.LruCache;
+import com.realState.property_service.common.exceptions.OverloadedException;
+import com.realState.property_service.common.exceptions.property.PropertyFetchException;
+import com.realState.property_service.common.resilience.CircuitBreaker;
+import com.realState.property_service.common.utils.ApiResponse;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+
+/**
+ * Last-known-good copies of buyer read responses (approved pages, filter results, property
+ * details), used to keep buyers served through database trouble.
+ * <p>
+ * It sits behind the regular caches and only sees their misses:
+ * <ul>
+ * <li>A copy loaded at the current {@link CatalogVersion} and younger than the revalidate window
+ * is returned as fresh.</li>
+ * <li>An older copy still inside the revalidate window is returned flagged stale while one
+ * background refresh per key reloads it (stale-while-revalidate).</li>
+ * <li>Otherwise the read runs synchronously. If it fails because the database is unavailable, or
+ * the circuit breaker is open, a copy up to {@code max-staleness-seconds} old is returned flagged
+ * stale; with no usable copy the error propagates, or a 503 {@link OverloadedException} while the
+ * breaker is open.</li>
+ * </ul>
+ * Stale responses carry {@code stale=true} and {@code dataAsOf} in the ApiResponse envelope and are
+ * never stored by the serialized response cache.
+ */
+@Component
+public class StaleReadCache {
+
+    private static final Logger logger = LoggerFactory.getLogger(StaleReadCache.class);
+
+    private record Entry(ApiResponse<?> response, long version, long loadedAtNanos, LocalDateTime loadedAt) {
+    }
+
+    private final CatalogVersion catalogVersion;
+    private final LruCache<String, Entry> entries;
+    private final CircuitBreaker circuitBreaker;
+    private final ThreadPoolExecutor refresher;
+    private final Set<String> refreshing = ConcurrentHashMap.newKeySet();
+    private final boolean enabled;
+    private final long revalidateNanos;
+    private final long maxStalenessNanos;
+
+    private final Counter servedRevalidating;
+    private final Counter servedOnError;
+    private final Counter servedCircuitOpen;
+    private final Counter refreshSucceeded;
+    private final Counter refreshFailed;
+
+    public StaleReadCache(CatalogVersion catalogVersion,
+            MeterRegistry meterRegistry,
+            @Value("${property.stale.enabled:true}") boolean enabled,
+            @Value("${property.stale.max-entries:5000}") int maxEntries,
+            @Value("${property.stale.revalidate-seconds:30}") long revalidateSeconds,
+            @Value("${property.stale.max-staleness-seconds:600}") long maxStalenessSeconds,
+            @Value("${property.stale.circuit.failure-threshold:5}") int failureThreshold,
+            @Value("${property.stale.circuit.open-ms:10000}") long openMillis) {
+        this.catalogVersion = catalogVersion;
+        this.entries = new LruCache<>(maxEntries);
+        this.enabled = enabled;
+        this.revalidateNanos = TimeUnit.SECONDS.toNanos(revalidateSeconds);
+        this.maxStalenessNanos = TimeUnit.SECONDS.toNanos(maxStalenessSeconds);
+        this.refresher = new ThreadPoolExecutor(1, 2, 30, TimeUnit.SECONDS, new ArrayBlockingQueue<>(100), r -> {
+            Thread thread = new Thread(r, "property-stale-refresh");
+            thread.setDaemon(true);
+            return thread;
+        });
+
+        this.circuitBreaker = new CircuitBreaker(failureThreshold, openMillis, (from, to) -> {
+            meterRegistry.counter("property.circuit.transitions", "name", "buyer_read", "to", to.name().toLowerCase())
+                    .increment();
+            logger.warn("Buyer read circuit breaker {} -> {}", from, to);
+        });
+        Gauge.builder("property.circuit.state", circuitBreaker, b -> b.getState().ordinal())
+                .description("Buyer read circuit breaker state: 0 closed, 1 open, 2 half open")
+                .tag("name", "buyer_read")
+                .register(meterRegistry);
+
+        this.servedRevalidating = meterRegistry.counter("property.stale.served", "reason", "revalidate");
+        this.servedOnError = meterRegistry.counter("property.stale.served", "reason", "error");
+        this.servedCircuitOpen = meterRegistry.counter("property.stale.served", "reason", "circuit_open");
+        this.refreshSucceeded = meterRegistry.counter("property.stale.refresh", "result", "success");
+        this.refreshFailed = meterRegistry.counter("property.stale.refresh", "result", "failed");
+        Gauge.builder("property.stale.entries", entries, LruCache::size).register(meterRegistry);
+    }
+
+    @PreDestroy
+    void stop() {
+        refresher.shutdownNow();
+    }
+
+    /**
+     * Runs a buyer read with stale-while-revalidate and serve-stale-on-error.
+     *
+     * @param key    endpoint + normalized parameters
+     * @param loader performs the real read
+     * @return a fresh response, or a stale copy flagged as such
+     * @throws OverloadedException if the circuit is open and no usable copy exists
+     */
+    @SuppressWarnings("unchecked")
+    public <T> ApiResponse<T> read(String key, Supplier<ApiResponse<T>> loader) {
+        if (!enabled) {
+            return loader.get();
+        }
+
+        Entry entry = entries.get(key);
+        long age = entry != null ? System.nanoTime() - entry.loadedAtNanos() : Long.MAX_VALUE;
+        if (entry != null && age < revalidateNanos) {
+            if (entry.version() == catalogVersion.current()) {
+                return (ApiResponse<T>) entry.response();
+            }
+            if (circuitBreaker.getState() == CircuitBreaker.State.CLOSED) {
+                refreshAsync(key, loader);
+                servedRevalidating.increment();
+                return stale(entry);
+            }
+        }
+
+        if (!circuitBreaker.tryAcquire()) {
+            if (entry != null && age < maxStalenessNanos) {
+                servedCircuitOpen.increment();
+                return stale(entry);
+            }
+            throw new OverloadedException("Property data is temporarily unavailable, retry later");
+        }
+
+        try {
+            return load(key, loader);
+        } catch (RuntimeException ex) {
+            if (!isUnavailable(ex) || entry == null || age >= maxStalenessNanos) {
+                throw ex;
+            }
+            servedOnError.increment();
+            logger.warn("Serving stale {} ({} s old) after read failure: {}", key,
+                    TimeUnit.NANOSECONDS.toSeconds(age), ex.getMessage());
+            return stale(entry);
+        }
+    }
+
+    /**
+     * Calls the loader with breaker accounting and records the result as the new last-known-good copy.
+     * Must be called after {@link CircuitBreaker#tryAcquire()} succeeded.
+     */
+    private <T> ApiResponse<T> load(String key, Supplier<ApiResponse<T>> loader) {
+        long version = catalogVersion.current();
+        ApiResponse<T> response;
+        try {
+            response = loader.get();
+        } catch (RuntimeException ex) {
+            if (isUnavailable(ex)) {
+                circuitBreaker.onFailure();
+            } else if (ex instanceof OverloadedException) {
+                // Shed before reaching the database (e.g. too many coalesced waiters): says nothing about it
+                circuitBreaker.onIgnored();
+            } else {
+                // The database answered (e.g. the property is gone): the old copy must not be served again
+                circuitBreaker.onSuccess();
+                entries.remove(key);
+            }
+            throw ex;
+        }
+        circuitBreaker.onSuccess();
+        if (response != null && !Boolean.TRUE.equals(response.getStale())) {
+            entries.put(key, new Entry(response, version, System.nanoTime(), LocalDateTime.now()));
+        }
+        return response;
+    }
+
+    private <T> void refreshAsync(String key, Supplier<ApiResponse<T>> loader) {
+        if (!refreshing.add(key)) {
+            return;
+        }
+        try {
+            refresher.execute(() -> {
+                try {
+                    if (circuitBreaker.tryAcquire()) {
+                        load(key, loader);
+                        refreshSucceeded.increment();
+                    }
+                } catch (Exception ex) {
+                    refreshFailed.increment();
+                    logger.debug("Background refresh of {} failed: {}", key, ex.getMessage());
+                } finally {
+                    refreshing.remove(key);
+                }
+            });
+        } catch (RejectedExecutionException ex) {
+            refreshing.remove(key);
+        }
+    }
+
+    /**
+     * Drops every last-known-good copy.
+     */
+    public void clear() {
+        entries.clear();
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> ApiResponse<T> stale(Entry entry) {
+        return ((ApiResponse<T>) entry.response()).asStale(entry.loadedAt());
+    }
+
+    /**
+     * Failures that say the database could not answer, as opposed to a bad request or a missing row.
+     */
+    private static boolean isUnavailable(RuntimeException ex) {
+        return ex instanceof PropertyFetchException
+                || ex instanceof DataAccessException
+                || ex instanceof TransactionException;
+    }
+}
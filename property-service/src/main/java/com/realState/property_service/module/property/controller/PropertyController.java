@@ -1,14 +1,37 @@
 package com.realState.property_service.module.property.controller;
 
 import com.realState.property_service.common.utils.ApiResponse;
+import com.realState.property_service.common.utils.EnumLookup;
+import com.realState.property_service.module.enquiry.service.EnquiryCountService;
+import com.realState.property_service.module.property.cache.PropertyDetailCoalescer;
+import com.realState.property_service.module.property.cache.SerializedResponseCache;
+import com.realState.property_service.module.property.cache.StaleReadCache;
+import com.realState.property_service.module.property.expiry.ListingExpiryJob;
+import com.realState.property_service.module.property.ingest.PropertyIngestQueue;
+import com.realState.property_service.module.property.listing.PropertyListingChecker;
+import com.realState.property_service.module.property.listing.PropertyListingProjector;
+import com.realState.property_service.common.exceptions.property.PropertyNotFoundException;
+import com.realState.property_service.database.enums.PropertyFieldEnum;
+import com.realState.property_service.database.enums.PropertySortEnum;
 import com.realState.property_service.database.enums.StateEnum;
 import com.realState.property_service.database.enums.StatusEnum;
 import com.realState.property_service.database.enums.TypeEnum;
 import com.realState.property_service.module.property.dto.CreatePropertyDTO;
+import com.realState.property_service.module.property.dto.ListingExpiryResultDTO;
+import com.realState.property_service.module.property.dto.OwnerPropertyStatsDTO;
+import com.realState.property_service.module.property.dto.PropertyBatchDTO;
+import com.realState.property_service.module.property.dto.PropertyBatchRequestDTO;
 import com.realState.property_service.module.property.dto.PropertyDTO;
 import com.realState.property_service.module.property.dto.PropertyFilterDTO;
+import com.realState.property_service.module.property.dto.PropertyFilterQueryDTO;
+import com.realState.property_service.module.property.dto.PropertyIngestStatusDTO;
+import com.realState.property_service.module.property.dto.PropertyListingCheckDTO;
+import com.realState.property_service.module.property.dto.PropertyListingRebuildDTO;
+import com.realState.property_service.module.property.dto.PropertyStatusDTO;
+import com.fasterxml.jackson.databind.JsonNode;
 import com.realState.property_service.module.property.dto.UpdatePropertyDTO;
 import com.realState.property_service.module.property.service.PropertyService;
+import com.realState.property_service.module.view.service.PropertyViewCounter;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.media.Content;
@@ -18,13 +41,18 @@ import jakarta.validation.Valid;
 import org.apache.coyote.BadRequestException;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springdoc.core.annotations.ParameterObject;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
 import java.util.*;
 
-import static ch.qos.logback.core.util.StringUtil.capitalizeFirstLetter;
 
 /**
  * REST controller for managing property-related operations.
@@ -34,53 +62,151 @@ import static ch.qos.logback.core.util.StringUtil.capitalizeFirstLetter;
 public class PropertyController {
 
     private final PropertyService propertyService;
+    private final SerializedResponseCache responseCache;
+    private final PropertyIngestQueue ingestQueue;
+    private final PropertyDetailCoalescer detailCoalescer;
+    private final StaleReadCache staleReadCache;
+    private final EnquiryCountService enquiryCountService;
+    private final ListingExpiryJob listingExpiryJob;
+    private final PropertyListingProjector listingProjector;
+    private final PropertyListingChecker listingChecker;
+    private final PropertyViewCounter viewCounter;
     private static final Logger logger = LoggerFactory.getLogger(PropertyController.class);
 
-    public PropertyController(PropertyService propertyService) {
+    public PropertyController(PropertyService propertyService, SerializedResponseCache responseCache,
+            PropertyIngestQueue ingestQueue, PropertyDetailCoalescer detailCoalescer, StaleReadCache staleReadCache,
+            EnquiryCountService enquiryCountService, ListingExpiryJob listingExpiryJob,
+            PropertyListingProjector listingProjector, PropertyListingChecker listingChecker,
+            PropertyViewCounter viewCounter) {
         this.propertyService = propertyService;
+        this.responseCache = responseCache;
+        this.ingestQueue = ingestQueue;
+        this.detailCoalescer = detailCoalescer;
+        this.staleReadCache = staleReadCache;
+        this.enquiryCountService = enquiryCountService;
+        this.listingExpiryJob = listingExpiryJob;
+        this.listingProjector = listingProjector;
+        this.listingChecker = listingChecker;
+        this.viewCounter = viewCounter;
     }
 
+    private static final EnumLookup<StatusEnum> STATUSES = new EnumLookup<>(StatusEnum.class);
+    private static final EnumLookup<TypeEnum> TYPES = new EnumLookup<>(TypeEnum.class);
+    private static final EnumLookup<StateEnum> STATES = new EnumLookup<>(StateEnum.class);
 
-    // ================= Buyer APIs =================
-    /** 1. Get Filtered Properties */
-    @GetMapping("/filter")
-    public ResponseEntity<ApiResponse<List<PropertyDTO>>> filterPropertiesWithParams(
-            @RequestParam(required = false) String status,
-            @RequestParam(required = false) String type,
-            @RequestParam(required = false) String state,
-            @RequestParam(defaultValue = "1") int page,
-            @RequestParam(defaultValue = "10") int size) {
+    /**
+     * Parses buyer filter parameters and normalizes paging (1-indexed in, 0-indexed out).
+     * Multi-value parameters are comma-separated (repeated parameters arrive joined the same way).
+     */
+    private PropertyFilterDTO buildFilterDTO(PropertyFilterQueryDTO query) {
         PropertyFilterDTO filterDTO = new PropertyFilterDTO();
+        filterDTO.setStatuses(STATUSES.parseAll(query.getStatus(), "status"));
+        filterDTO.setTypes(TYPES.parseAll(query.getType(), "type"));
+        filterDTO.setStates(STATES.parseAll(query.getState(), "state"));
+
+        if (query.getCity() != null && !query.getCity().isBlank()) {
+            filterDTO.setCity(query.getCity().trim());
+        }
 
+        // Dates are whole days: from is inclusive at 00:00, to is inclusive up to the end of that day
+        filterDTO.setCreatedFrom(startOfDay(query.getCreatedFrom(), "createdFrom", 0));
+        filterDTO.setCreatedTo(startOfDay(query.getCreatedTo(), "createdTo", 1));
+        filterDTO.setUpdatedFrom(startOfDay(query.getUpdatedFrom(), "updatedFrom", 0));
+        filterDTO.setUpdatedTo(startOfDay(query.getUpdatedTo(), "updatedTo", 1));
+        requireOrdered(filterDTO.getCreatedFrom(), filterDTO.getCreatedTo(), "createdFrom", "createdTo");
+        requireOrdered(filterDTO.getUpdatedFrom(), filterDTO.getUpdatedTo(), "updatedFrom", "updatedTo");
+
+        if (query.getSort() != null && !query.getSort().isBlank()) {
+            String[] parts = query.getSort().split(",", 2);
+            PropertySortEnum sort = PropertySortEnum.find(parts[0]);
+            if (sort == null) {
+                throw new IllegalArgumentException("Invalid sort key: '" + parts[0].trim()
+                        + "' (allowed: updatedAt, createdAt, title)");
+            }
+            filterDTO.setSort(sort);
+            filterDTO.setAscending(parts.length == 1 ? sort.isAscendingByDefault() : isAscending(parts[1]));
+        }
+
+        filterDTO.setPage(toPageIndex(query.getPage()));
+        filterDTO.setSize(toPageSize(query.getSize()));
+        return filterDTO;
+    }
+
+    /** Parses a yyyy-MM-dd date into the start of that day, shifted by {@code plusDays}; null stays null. */
+    private static LocalDateTime startOfDay(String date, String parameter, int plusDays) {
+        if (date == null || date.isBlank()) {
+            return null;
+        }
         try {
-            // Convert PascalCase: capitalize first letter, lowercase rest
-            filterDTO.setStatus(status != null ? StatusEnum.valueOf(capitalizeFirstLetter(status)) : null);
-            filterDTO.setType(type != null ? TypeEnum.valueOf(capitalizeFirstLetter(type)) : null);
-            filterDTO.setState(state != null ? StateEnum.valueOf(capitalizeFirstLetter(state)) : null);
-        } catch (IllegalArgumentException ex) {
-            logger.error("Invalid enum value - status: {}, type: {}, state: {}", status, type, state, ex);
-            throw new IllegalArgumentException("Invalid filter value: " + ex.getMessage());
+            return LocalDate.parse(date.trim()).plusDays(plusDays).atStartOfDay();
+        } catch (DateTimeParseException ex) {
+            throw new IllegalArgumentException("Invalid " + parameter + ": '" + date.trim() + "' (expected yyyy-MM-dd)");
         }
-        // Validate page number
-        if (page < 1) {
-            page = 1;
+    }
+
+    private static void requireOrdered(LocalDateTime from, LocalDateTime to, String fromName, String toName) {
+        if (from != null && to != null && !from.isBefore(to)) {
+            throw new IllegalArgumentException(fromName + " must not be after " + toName);
         }
+    }
 
-        // Validate and cap size to prevent abuse
-        if (size < 1) {
-            size = 10;
+    private static boolean isAscending(String direction) {
+        return switch (direction.trim().toLowerCase()) {
+            case "asc" -> true;
+            case "desc" -> false;
+            default -> throw new IllegalArgumentException("Invalid sort direction: '" + direction.trim()
+                    + "' (allowed: asc, desc)");
+        };
+    }
+
+    /** Converts a 1-indexed page number to a 0-indexed one, treating invalid values as the first page. */
+    private static int toPageIndex(int page) {
+        return Math.max(page, 1) - 1;
+    }
+
+    /** Defaults invalid page sizes to 10 and caps them at 100 to prevent abuse. */
+    private static int toPageSize(int size) {
+        return size < 1 ? 10 : Math.min(size, 100);
+    }
+
+    /** Validates the comma-separated include parameter; enquiryCounts is the only supported value. */
+    private static void requireEnquiryCounts(String include) {
+        for (String value : include.split(",")) {
+            if (!value.trim().equals("enquiryCounts")) {
+                throw new IllegalArgumentException("Unsupported include value: " + value.trim());
+            }
         }
-        if (size > 100) {
-            size = 100;
+    }
+
+    /**
+     * Sparse field selections carry no enquiry counts, so a request asking for both is rejected
+     * instead of silently dropping the counts.
+     */
+    private static void rejectIncludeWithFields(String include) {
+        if (include != null) {
+            throw new IllegalArgumentException("include and fields cannot be combined");
         }
+    }
 
-        // Convert 1-indexed to 0-indexed for Spring Data
-        int pageNumber = page - 1;
 
-        filterDTO.setPage(pageNumber);
-        filterDTO.setSize(size);
+    // ================= Buyer APIs =================
+    /** 1. Get Filtered Properties */
+    @Operation(
+            summary = "Get filtered properties",
+            description = "Get approved properties matching any of the given statuses, types and states, a city and "
+                    + "created/updated date ranges, sorted by updatedAt (default), createdAt or title (Buyer)",
+            tags = { "Buyer APIs" }
+    )
+    @GetMapping("/filter")
+    public ResponseEntity<byte[]> filterPropertiesWithParams(
+            @ParameterObject PropertyFilterQueryDTO query,
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding) {
+        PropertyFilterDTO filterDTO = buildFilterDTO(query);
+        int pageNumber = filterDTO.getPage();
 
-        return ResponseEntity.ok(propertyService.filterProperties(filterDTO));
+        String key = "filter:" + filterDTO.cacheKey();
+        return responseCache.serve(key, pageNumber, acceptEncoding,
+                () -> staleReadCache.read(key, () -> propertyService.filterProperties(filterDTO)));
     }
 
 
@@ -99,9 +225,10 @@ public class PropertyController {
             )
     })
     @GetMapping("/approved")
-    public ResponseEntity<ApiResponse<List<PropertyDTO>>> getApprovedProperty(
+    public ResponseEntity<byte[]> getApprovedProperty(
             @RequestParam(defaultValue = "1") int page,
-            @RequestParam(defaultValue = "10") int size
+            @RequestParam(defaultValue = "10") int size,
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding
     ) {
         // Validate page number
         if (page < 1) {
@@ -118,8 +245,101 @@ public class PropertyController {
 
         // Convert 1-indexed to 0-indexed for Spring Data
         int pageNumber = page - 1;
+        int pageSize = size;
 
-        return ResponseEntity.ok(propertyService.getApprovedProperty(pageNumber, size));
+        String key = "approved:page=" + pageNumber + ":size=" + pageSize;
+        return responseCache.serve(key, pageNumber, acceptEncoding,
+                () -> staleReadCache.read(key, () -> propertyService.getApprovedProperty(pageNumber, pageSize)));
+    }
+
+    /**
+     * 1a. Get filtered properties with only the requested fields.
+     */
+    @Operation(
+            summary = "Get filtered properties (sparse fields)",
+            description = "Get filtered approved properties selecting only the comma-separated fields, e.g. fields=id,title,type,status,city,state; cannot be combined with include (Buyer)",
+            tags = { "Buyer APIs" }
+    )
+    @GetMapping(value = "/filter", params = "fields")
+    public ResponseEntity<byte[]> filterPropertyFields(
+            @RequestParam String fields,
+            @RequestParam(required = false) String include,
+            @ParameterObject PropertyFilterQueryDTO query,
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding) {
+        rejectIncludeWithFields(include);
+        Set<PropertyFieldEnum> fieldSet = PropertyFieldEnum.parse(fields);
+        PropertyFilterDTO filterDTO = buildFilterDTO(query);
+
+        return responseCache.serve("filter:" + filterDTO.cacheKey() + ":fields=" + fieldSet, filterDTO.getPage(),
+                acceptEncoding, () -> propertyService.filterPropertyFields(filterDTO, fieldSet));
+    }
+
+    /**
+     * 2a. Get approved properties with only the requested fields.
+     */
+    @Operation(
+            summary = "Get all approved properties (sparse fields)",
+            description = "Get approved properties selecting only the comma-separated fields; cannot be combined with include (Buyer)",
+            tags = { "Buyer APIs" }
+    )
+    @GetMapping(value = "/approved", params = "fields")
+    public ResponseEntity<byte[]> getApprovedPropertyFields(
+            @RequestParam String fields,
+            @RequestParam(required = false) String include,
+            @RequestParam(defaultValue = "1") int page,
+            @RequestParam(defaultValue = "10") int size,
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding) {
+        rejectIncludeWithFields(include);
+        Set<PropertyFieldEnum> fieldSet = PropertyFieldEnum.parse(fields);
+        int pageNumber = toPageIndex(page);
+        int pageSize = toPageSize(size);
+
+        return responseCache.serve("approved:page=" + pageNumber + ":size=" + pageSize + ":fields=" + fieldSet,
+                pageNumber, acceptEncoding,
+                () -> propertyService.getApprovedPropertyFields(fieldSet, pageNumber, pageSize));
+    }
+
+    /**
+     * 1b. Get filtered properties with enquiry counts.
+     */
+    @Operation(
+            summary = "Get filtered properties with enquiry counts",
+            description = "Get filtered approved properties; include=enquiryCounts adds each property's enquiryCount when enquiry-service answers in time (Buyer)",
+            tags = { "Buyer APIs" }
+    )
+    @GetMapping(value = "/filter", params = { "include", "!fields" })
+    public ResponseEntity<ApiResponse<List<PropertyDTO>>> filterPropertiesWithIncludes(
+            @RequestParam String include,
+            @ParameterObject PropertyFilterQueryDTO query) {
+        requireEnquiryCounts(include);
+        PropertyFilterDTO filterDTO = buildFilterDTO(query);
+
+        ApiResponse<List<PropertyDTO>> response = staleReadCache.read("filter:" + filterDTO.cacheKey(),
+                () -> propertyService.filterProperties(filterDTO));
+        return ResponseEntity.ok(enquiryCountService.withEnquiryCounts(response));
+    }
+
+    /**
+     * 2b. Get approved properties with enquiry counts.
+     */
+    @Operation(
+            summary = "Get all approved properties with enquiry counts",
+            description = "Get approved properties; include=enquiryCounts adds each property's enquiryCount when enquiry-service answers in time (Buyer)",
+            tags = { "Buyer APIs" }
+    )
+    @GetMapping(value = "/approved", params = { "include", "!fields" })
+    public ResponseEntity<ApiResponse<List<PropertyDTO>>> getApprovedPropertyWithIncludes(
+            @RequestParam String include,
+            @RequestParam(defaultValue = "1") int page,
+            @RequestParam(defaultValue = "10") int size) {
+        requireEnquiryCounts(include);
+        int pageNumber = toPageIndex(page);
+        int pageSize = toPageSize(size);
+
+        ApiResponse<List<PropertyDTO>> response = staleReadCache.read(
+                "approved:page=" + pageNumber + ":size=" + pageSize,
+                () -> propertyService.getApprovedProperty(pageNumber, pageSize));
+        return ResponseEntity.ok(enquiryCountService.withEnquiryCounts(response));
     }
 
     /**
@@ -149,8 +369,44 @@ public class PropertyController {
             @Parameter(description = "Property ID (UUID format)", required = true)
             @PathVariable String id) {
         UUID propertyId = UUID.fromString(id);
-        PropertyDTO property = propertyService.getPropertyById(propertyId);
-        return ResponseEntity.ok(ApiResponse.success(property));
+        ApiResponse<PropertyDTO> response = readPropertyById(propertyId);
+        // Counted in memory only once the property was found; see PropertyViewCounter
+        viewCounter.record(propertyId);
+        return ResponseEntity.ok(response);
+    }
+
+    /**
+     * Reads a property through the same caches as {@link #getPropertyById} without counting a view,
+     * for internal callers such as the warm-up.
+     */
+    public ApiResponse<PropertyDTO> readPropertyById(UUID propertyId) {
+        return staleReadCache.read("detail:" + propertyId, () -> ApiResponse.success(
+                detailCoalescer.execute(propertyId, () -> propertyService.getPropertyById(propertyId))));
+    }
+
+    /**
+     * 4. Get many properties by ID in one call.
+     */
+    @Operation(
+            summary = "Get many properties by ID",
+            description = "Get up to 500 properties by ID in one call, in request order, with missing IDs reported (Buyer)",
+            tags = { "Buyer APIs" }
+    )
+    @ApiResponses(value = {
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(
+                    responseCode = "200",
+                    description = "Properties retrieved successfully",
+                    content = @Content(schema = @Schema(implementation = PropertyBatchDTO.class))
+            ),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(
+                    responseCode = "400",
+                    description = "Empty, oversized or malformed ID list"
+            )
+    })
+    @PostMapping("/batch")
+    public ResponseEntity<ApiResponse<PropertyBatchDTO>> getPropertiesByIds(
+            @Valid @RequestBody PropertyBatchRequestDTO dto) {
+        return ResponseEntity.ok(ApiResponse.success(propertyService.getPropertiesByIds(dto.getIds())));
     }
 
     // ================= Seller APIs =================
@@ -181,6 +437,68 @@ public class PropertyController {
         return ResponseEntity.status(HttpStatus.CREATED).body(ApiResponse.success(property));
     }
 
+    /**
+     * 1b. Create a property draft asynchronously (group-committed with other requests).
+     */
+    @Operation(
+            summary = "Create a new property draft asynchronously",
+            description = "Queue a property draft for group-committed creation and return a tracking id (Seller)",
+            tags = { "Seller APIs" }
+    )
+    @ApiResponses(value = {
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(
+                    responseCode = "202",
+                    description = "Property queued for creation",
+                    content = @Content(schema = @Schema(implementation = PropertyIngestStatusDTO.class))
+            ),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(
+                    responseCode = "400",
+                    description = "Invalid input data"
+            ),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(
+                    responseCode = "429",
+                    description = "Ingestion queue is full, retry after the Retry-After delay"
+            )
+    })
+    @PostMapping(params = "async=true")
+    public ResponseEntity<ApiResponse<PropertyIngestStatusDTO>> createPropertyAsync(
+            @Valid @RequestBody CreatePropertyDTO dto) {
+        PropertyIngestStatusDTO status = ingestQueue.submit(dto);
+        return ResponseEntity.status(HttpStatus.ACCEPTED)
+                .header(HttpHeaders.LOCATION, "/properties/ingest/" + status.getTrackingId())
+                .body(ApiResponse.success(status));
+    }
+
+    /**
+     * 1c. Get the status of an asynchronous property creation.
+     */
+    @Operation(
+            summary = "Get asynchronous creation status",
+            description = "Get the status of a queued property creation by tracking id (Seller)",
+            tags = { "Seller APIs" }
+    )
+    @ApiResponses(value = {
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(
+                    responseCode = "200",
+                    description = "Status retrieved successfully",
+                    content = @Content(schema = @Schema(implementation = PropertyIngestStatusDTO.class))
+            ),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(
+                    responseCode = "404",
+                    description = "Unknown or expired tracking id"
+            )
+    })
+    @GetMapping("/ingest/{trackingId}")
+    public ResponseEntity<ApiResponse<PropertyIngestStatusDTO>> getIngestStatus(
+            @Parameter(description = "Tracking ID returned by the asynchronous create", required = true)
+            @PathVariable String trackingId) {
+        PropertyIngestStatusDTO status = ingestQueue.getStatus(UUID.fromString(trackingId));
+        if (status == null) {
+            throw new PropertyNotFoundException("No property creation found with tracking id=" + trackingId);
+        }
+        return ResponseEntity.ok(ApiResponse.success(status));
+    }
+
     /**
      * 2. Get all properties for a specific owner.
      */
@@ -227,6 +545,50 @@ public class PropertyController {
         return ResponseEntity.ok(propertyService.getAllOwnerProperty(ownerId, pageNumber, size));
     }
 
+    /**
+     * 2a. Get all properties for a specific owner with only the requested fields.
+     */
+    @Operation(
+            summary = "Get all properties for a specific owner (sparse fields)",
+            description = "Get an owner's properties selecting only the comma-separated fields; cannot be combined with include (Seller)",
+            tags = { "Seller APIs" }
+    )
+    @PostMapping(value = "/owner/", params = "fields")
+    public ResponseEntity<ApiResponse<List<Map<String, Object>>>> getAllOwnerPropertyFields(
+            @RequestBody Map<String, String> body,
+            @RequestParam String fields,
+            @RequestParam(required = false) String include,
+            @RequestParam(defaultValue = "1") int page,
+            @RequestParam(defaultValue = "10") int size) {
+        rejectIncludeWithFields(include);
+        UUID ownerId = UUID.fromString(body.get("ownerId"));
+        Set<PropertyFieldEnum> fieldSet = PropertyFieldEnum.parse(fields);
+
+        return ResponseEntity.ok(propertyService.getAllOwnerPropertyFields(ownerId, fieldSet, toPageIndex(page),
+                toPageSize(size)));
+    }
+
+    /**
+     * 2b. Get all properties for a specific owner with enquiry counts.
+     */
+    @Operation(
+            summary = "Get all properties for a specific owner with enquiry counts",
+            description = "Get an owner's properties; include=enquiryCounts adds each property's enquiryCount when enquiry-service answers in time (Seller)",
+            tags = { "Seller APIs" }
+    )
+    @PostMapping(value = "/owner/", params = { "include", "!fields" })
+    public ResponseEntity<ApiResponse<List<PropertyDTO>>> getAllOwnerPropertyWithIncludes(
+            @RequestBody Map<String, String> body,
+            @RequestParam String include,
+            @RequestParam(defaultValue = "1") int page,
+            @RequestParam(defaultValue = "10") int size) {
+        requireEnquiryCounts(include);
+        UUID ownerId = UUID.fromString(body.get("ownerId"));
+
+        return ResponseEntity.ok(enquiryCountService.withEnquiryCounts(
+                propertyService.getAllOwnerProperty(ownerId, toPageIndex(page), toPageSize(size))));
+    }
+
     /**
      * 3. Update an existing property draft.
      */
@@ -258,6 +620,75 @@ public class PropertyController {
         return ResponseEntity.ok(ApiResponse.success(propertyService.updatePropertyById(propertyId, dto)));
     }
 
+    /**
+     * 3b. Partially update a property (JSON Merge Patch).
+     */
+    @Operation(
+            summary = "Partially update a property",
+            description = "Apply a JSON Merge Patch (RFC 7396): present members replace values, null clears nullable "
+                    + "fields, absent members are unchanged; only changed columns are written (Seller)",
+            tags = { "Seller APIs" }
+    )
+    @ApiResponses(value = {
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(
+                    responseCode = "200",
+                    description = "Property patched successfully"
+            ),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(
+                    responseCode = "404",
+                    description = "Property not found"
+            ),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(
+                    responseCode = "400",
+                    description = "Invalid property ID format or patch document"
+            )
+    })
+    @PatchMapping(value = "/{property_id}", consumes = { "application/merge-patch+json", MediaType.APPLICATION_JSON_VALUE })
+    public ResponseEntity<ApiResponse<PropertyDTO>> patchPropertyById(
+            @Parameter(description = "Property ID (UUID format)", required = true)
+            @PathVariable String property_id,
+            @RequestBody JsonNode patch) {
+        UUID propertyId = UUID.fromString(property_id);
+        return ResponseEntity.ok(ApiResponse.success(propertyService.patchPropertyById(propertyId, patch)));
+    }
+
+    /**
+     * 3c. Change a property's availability status.
+     */
+    @Operation(
+            summary = "Change availability status",
+            description = "Mark a property Available, Sold or Rented with a single UPDATE (Seller)",
+            tags = { "Seller APIs" }
+    )
+    @ApiResponses(value = {
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(
+                    responseCode = "200",
+                    description = "Status changed successfully"
+            ),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(
+                    responseCode = "404",
+                    description = "Property not found"
+            ),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(
+                    responseCode = "400",
+                    description = "Invalid property ID format or status"
+            )
+    })
+    @PatchMapping("/{property_id}/status")
+    public ResponseEntity<ApiResponse<Map<String, Object>>> updatePropertyStatus(
+            @Parameter(description = "Property ID (UUID format)", required = true)
+            @PathVariable String property_id,
+            @Valid @RequestBody PropertyStatusDTO dto) {
+        UUID propertyId = UUID.fromString(property_id);
+        propertyService.updatePropertyStatus(propertyId, dto.getStatus());
+
+        Map<String, Object> response = new HashMap<>();
+        response.put("status", dto.getStatus());
+        response.put("message", "Property status updated successfully");
+
+        return ResponseEntity.ok(ApiResponse.success(response));
+    }
+
     /**
      * 4. Submit a property for approval.
      */
@@ -294,6 +725,33 @@ public class PropertyController {
         return ResponseEntity.ok(ApiResponse.success(response));
     }
 
+    /**
+     * 5. Get portfolio statistics for a specific owner.
+     */
+    @Operation(
+            summary = "Get portfolio statistics for an owner",
+            description = "Get counts of an owner's listings by approval status and availability status (Seller)",
+            tags = { "Seller APIs" }
+    )
+    @ApiResponses(value = {
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(
+                    responseCode = "200",
+                    description = "Statistics retrieved successfully",
+                    content = @Content(schema = @Schema(implementation = OwnerPropertyStatsDTO.class))
+            ),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(
+                    responseCode = "400",
+                    description = "Invalid owner ID format"
+            )
+    })
+    @GetMapping("/owner/{ownerId}/stats")
+    public ResponseEntity<ApiResponse<OwnerPropertyStatsDTO>> getOwnerPropertyStats(
+            @Parameter(description = "Owner ID (UUID format)", required = true)
+            @PathVariable String ownerId) {
+        UUID ownerUuid = UUID.fromString(ownerId);
+        return ResponseEntity.ok(ApiResponse.success(propertyService.getOwnerPropertyStats(ownerUuid)));
+    }
+
     // ================= Admin APIs =================
 
     /**
@@ -510,6 +968,23 @@ public class PropertyController {
         return ResponseEntity.ok(propertyService.getAllProperty(pageNumber, size));
     }
 
+    /**
+     * 6a. Get all properties with only the requested fields.
+     */
+    @Operation(
+            summary = "Get all properties (sparse fields)",
+            description = "Get all properties selecting only the comma-separated fields (Admin)",
+            tags = { "Admin APIs" }
+    )
+    @GetMapping(params = "fields")
+    public ResponseEntity<ApiResponse<List<Map<String, Object>>>> getAllPropertyFields(
+            @RequestParam String fields,
+            @RequestParam(defaultValue = "1") int page,
+            @RequestParam(defaultValue = "10") int size) {
+        Set<PropertyFieldEnum> fieldSet = PropertyFieldEnum.parse(fields);
+        return ResponseEntity.ok(propertyService.getAllPropertyFields(fieldSet, toPageIndex(page), toPageSize(size)));
+    }
+
     /**
      * 1. Create a new property approved.
      */
@@ -535,4 +1010,70 @@ public class PropertyController {
         PropertyDTO property = propertyService.createAdminApprovedProperty(dto);
         return ResponseEntity.status(HttpStatus.CREATED).body(ApiResponse.success(property));
     }
-}
\ No newline at end of file
+
+    /**
+     * 2. Archive stale approved listings now.
+     */
+    @Operation(
+            summary = "Expire stale listings",
+            description = "Run the listing expiry job now: archive approved properties not updated within the configured age, or only count them unless dryRun=false (Admin)",
+            tags = { "Admin APIs" }
+    )
+    @ApiResponses(value = {
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(
+                    responseCode = "200",
+                    description = "Expiry run finished",
+                    content = @Content(schema = @Schema(implementation = ListingExpiryResultDTO.class))
+            ),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(
+                    responseCode = "409",
+                    description = "An expiry run is already in progress"
+            )
+    })
+    @PostMapping("/admin/expire-stale")
+    public ResponseEntity<ApiResponse<ListingExpiryResultDTO>> expireStaleProperties(
+            @Parameter(description = "Only count the listings that would be archived; pass false to archive them")
+            @RequestParam(defaultValue = "true") boolean dryRun) {
+        return ResponseEntity.ok(ApiResponse.success(listingExpiryJob.run(dryRun)));
+    }
+
+    /**
+     * 3. Rebuild the buyer listing read table.
+     */
+    @Operation(
+            summary = "Rebuild property listing",
+            description = "Re-project every property into the property_listing read table that serves buyer listings, and remove rows without an approved property (Admin)",
+            tags = { "Admin APIs" }
+    )
+    @ApiResponses(value = {
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(
+                    responseCode = "200",
+                    description = "Read table rebuilt",
+                    content = @Content(schema = @Schema(implementation = PropertyListingRebuildDTO.class))
+            )
+    })
+    @PostMapping("/admin/listing/rebuild")
+    public ResponseEntity<ApiResponse<PropertyListingRebuildDTO>> rebuildListing() {
+        return ResponseEntity.ok(ApiResponse.success(listingProjector.rebuild()));
+    }
+
+    /**
+     * 4. Check the buyer listing read table against the approved properties.
+     */
+    @Operation(
+            summary = "Check property listing",
+            description = "Count approved properties missing from the property_listing read table, rows without an approved property and rows out of date (Admin)",
+            tags = { "Admin APIs" }
+    )
+    @ApiResponses(value = {
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(
+                    responseCode = "200",
+                    description = "Check finished",
+                    content = @Content(schema = @Schema(implementation = PropertyListingCheckDTO.class))
+            )
+    })
+    @GetMapping("/admin/listing/check")
+    public ResponseEntity<ApiResponse<PropertyListingCheckDTO>> checkListing() {
+        return ResponseEntity.ok(ApiResponse.success(listingChecker.check()));
+    }
+}
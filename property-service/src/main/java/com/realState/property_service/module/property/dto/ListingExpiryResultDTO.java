@@ -0,0 +1,80 @@
+package com.realState.property_service.module.property.dto;
+
+import java.time.LocalDateTime;
+
+/**
+ * Outcome of one listing expiry run.
+ */
+public class ListingExpiryResultDTO {
+
+    private boolean dryRun;
+    private LocalDateTime cutoff;
+    // Archived, or in a dry run the number that would be archived
+    private long properties;
+    private int chunks;
+    // False when the run stopped at the chunk limit or on an error; the next run continues from there
+    private boolean complete;
+    private long durationMs;
+
+    public ListingExpiryResultDTO() {
+    }
+
+    public ListingExpiryResultDTO(boolean dryRun, LocalDateTime cutoff, long properties, int chunks,
+            boolean complete, long durationMs) {
+        this.dryRun = dryRun;
+        this.cutoff = cutoff;
+        this.properties = properties;
+        this.chunks = chunks;
+        this.complete = complete;
+        this.durationMs = durationMs;
+    }
+
+    // Getters and Setters
+    public boolean isDryRun() {
+        return dryRun;
+    }
+
+    public void setDryRun(boolean dryRun) {
+        this.dryRun = dryRun;
+    }
+
+    public LocalDateTime getCutoff() {
+        return cutoff;
+    }
+
+    public void setCutoff(LocalDateTime cutoff) {
+        this.cutoff = cutoff;
+    }
+
+    public long getProperties() {
+        return properties;
+    }
+
+    public void setProperties(long properties) {
+        this.properties = properties;
+    }
+
+    public int getChunks() {
+        return chunks;
+    }
+
+    public void setChunks(int chunks) {
+        this.chunks = chunks;
+    }
+
+    public boolean isComplete() {
+        return complete;
+    }
+
+    public void setComplete(boolean complete) {
+        this.complete = complete;
+    }
+
+    public long getDurationMs() {
+        return durationMs;
+    }
+
+    public void setDurationMs(long durationMs) {
+        this.durationMs = durationMs;
+    }
+}
@@ -0,0 +1,61 @@
+package com.realState.property_service.module.property.dto;
+
+import java.util.Map;
+import java.util.UUID;
+
+import com.realState.property_service.database.enums.ApprovalStatusEnum;
+import com.realState.property_service.database.enums.StatusEnum;
+
+/**
+ * Listing counts of a single owner, broken down by approval status and by availability status.
+ */
+public class OwnerPropertyStatsDTO {
+
+    private UUID ownerId;
+    private long total;
+    private Map<ApprovalStatusEnum, Long> byApprovalStatus;
+    private Map<StatusEnum, Long> byStatus;
+
+    public OwnerPropertyStatsDTO() {}
+
+    public OwnerPropertyStatsDTO(UUID ownerId, long total, Map<ApprovalStatusEnum, Long> byApprovalStatus,
+            Map<StatusEnum, Long> byStatus) {
+        this.ownerId = ownerId;
+        this.total = total;
+        this.byApprovalStatus = byApprovalStatus;
+        this.byStatus = byStatus;
+    }
+
+    // Getters and Setters
+    public UUID getOwnerId() {
+        return ownerId;
+    }
+
+    public void setOwnerId(UUID ownerId) {
+        this.ownerId = ownerId;
+    }
+
+    public long getTotal() {
+        return total;
+    }
+
+    public void setTotal(long total) {
+        this.total = total;
+    }
+
+    public Map<ApprovalStatusEnum, Long> getByApprovalStatus() {
+        return byApprovalStatus;
+    }
+
+    public void setByApprovalStatus(Map<ApprovalStatusEnum, Long> byApprovalStatus) {
+        this.byApprovalStatus = byApprovalStatus;
+    }
+
+    public Map<StatusEnum, Long> getByStatus() {
+        return byStatus;
+    }
+
+    public void setByStatus(Map<StatusEnum, Long> byStatus) {
+        this.byStatus = byStatus;
+    }
+}
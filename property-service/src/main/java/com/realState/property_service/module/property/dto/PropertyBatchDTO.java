@@ -0,0 +1,37 @@
+package com.realState.property_service.module.property.dto;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Result of a batch lookup: found properties in request order plus the ids that do not exist.
+ */
+public class PropertyBatchDTO {
+
+    private List<PropertyDTO> properties;
+    private List<UUID> missingIds;
+
+    public PropertyBatchDTO() {}
+
+    public PropertyBatchDTO(List<PropertyDTO> properties, List<UUID> missingIds) {
+        this.properties = properties;
+        this.missingIds = missingIds;
+    }
+
+    // Getters and Setters
+    public List<PropertyDTO> getProperties() {
+        return properties;
+    }
+
+    public void setProperties(List<PropertyDTO> properties) {
+        this.properties = properties;
+    }
+
+    public List<UUID> getMissingIds() {
+        return missingIds;
+    }
+
+    public void setMissingIds(List<UUID> missingIds) {
+        this.missingIds = missingIds;
+    }
+}
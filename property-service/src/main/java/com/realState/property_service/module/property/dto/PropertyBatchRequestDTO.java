@@ -0,0 +1,27 @@
+package com.realState.property_service.module.property.dto;
+
+import java.util.List;
+import java.util.UUID;
+
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+
+/**
+ * DTO for looking up many properties by id in one call.
+ */
+public class PropertyBatchRequestDTO {
+
+    @NotEmpty(message = "At least one property id is required")
+    @Size(max = 500, message = "Cannot request more than 500 property ids at once")
+    private List<@NotNull(message = "Property id cannot be null") UUID> ids;
+
+    // Getters and Setters
+    public List<UUID> getIds() {
+        return ids;
+    }
+
+    public void setIds(List<UUID> ids) {
+        this.ids = ids;
+    }
+}
@@ -2,6 +2,8 @@ package com.realState.property_service.module.property.dto;
 
 import java.time.LocalDateTime;
 import java.util.UUID;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
 import com.realState.property_service.database.enums.ApprovalStatusEnum;
 import com.realState.property_service.database.enums.StatusEnum;
 import com.realState.property_service.database.enums.TypeEnum;
@@ -23,6 +25,30 @@ public class PropertyDTO {
     private LocalDateTime createdAt;
     private LocalDateTime updatedAt;
 
+    /** Number of enquiries, only present when requested with include=enquiryCounts and available */
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private Long enquiryCount;
+
+    public PropertyDTO() {
+    }
+
+    /**
+     * Shallow copy, used to decorate cached instances without modifying them.
+     */
+    public PropertyDTO(PropertyDTO other) {
+        this.id = other.id;
+        this.title = other.title;
+        this.description = other.description;
+        this.type = other.type;
+        this.status = other.status;
+        this.approvalStatus = other.approvalStatus;
+        this.location = other.location;
+        this.ownerId = other.ownerId;
+        this.createdAt = other.createdAt;
+        this.updatedAt = other.updatedAt;
+        this.enquiryCount = other.enquiryCount;
+    }
+
     // Getters and Setters
     public UUID getId() {
         return id;
@@ -104,4 +130,12 @@ public class PropertyDTO {
         this.updatedAt = updatedAt;
     }
 
+    public Long getEnquiryCount() {
+        return enquiryCount;
+    }
+
+    public void setEnquiryCount(Long enquiryCount) {
+        this.enquiryCount = enquiryCount;
+    }
+
 }
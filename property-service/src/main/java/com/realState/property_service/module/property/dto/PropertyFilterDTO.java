@@ -1,49 +1,113 @@
 package com.realState.property_service.module.property.dto;
 
+import java.time.LocalDateTime;
+import java.util.EnumSet;
+import java.util.Set;
+
+import com.realState.property_service.database.enums.PropertySortEnum;
 import com.realState.property_service.database.enums.StateEnum;
 import com.realState.property_service.database.enums.StatusEnum;
 import com.realState.property_service.database.enums.TypeEnum;
 
+/**
+ * Parsed buyer filter. Empty value sets and null bounds mean "no restriction"; date ranges are
+ * half-open ({@code from <= value < to}).
+ */
 public class PropertyFilterDTO {
-    private StatusEnum status;
-    private TypeEnum type;
-    private StateEnum state;
+    private Set<StatusEnum> statuses = EnumSet.noneOf(StatusEnum.class);
+    private Set<TypeEnum> types = EnumSet.noneOf(TypeEnum.class);
+    private Set<StateEnum> states = EnumSet.noneOf(StateEnum.class);
+    private String city;
+    private LocalDateTime createdFrom;
+    private LocalDateTime createdTo;
+    private LocalDateTime updatedFrom;
+    private LocalDateTime updatedTo;
+    private PropertySortEnum sort = PropertySortEnum.UPDATED_AT;
+    private boolean ascending;
     private int page;
     private int size;
 
     public PropertyFilterDTO() {}
 
-    public PropertyFilterDTO(StatusEnum status, TypeEnum type, StateEnum state, int page, int size) {
-        this.status = status;
-        this.type = type;
-        this.state = state;
-        this.page = page;
-        this.size = size;
+    // getter & setter
+    public Set<StatusEnum> getStatuses() {
+        return statuses;
     }
 
-    // getter & setter
-    public TypeEnum getType() {
-        return type;
+    public void setStatuses(Set<StatusEnum> statuses) {
+        this.statuses = statuses;
+    }
+
+    public Set<TypeEnum> getTypes() {
+        return types;
+    }
+
+    public void setTypes(Set<TypeEnum> types) {
+        this.types = types;
+    }
+
+    public Set<StateEnum> getStates() {
+        return states;
+    }
+
+    public void setStates(Set<StateEnum> states) {
+        this.states = states;
+    }
+
+    public String getCity() {
+        return city;
+    }
+
+    public void setCity(String city) {
+        this.city = city;
     }
 
-    public void setType(TypeEnum type) {
-        this.type = type;
+    public LocalDateTime getCreatedFrom() {
+        return createdFrom;
     }
 
-    public StatusEnum getStatus() {
-        return status;
+    public void setCreatedFrom(LocalDateTime createdFrom) {
+        this.createdFrom = createdFrom;
     }
 
-    public void setStatus(StatusEnum status) {
-        this.status = status;
+    public LocalDateTime getCreatedTo() {
+        return createdTo;
     }
 
-    public StateEnum getState() {
-        return state;
+    public void setCreatedTo(LocalDateTime createdTo) {
+        this.createdTo = createdTo;
     }
 
-    public void setState(StateEnum state) {
-        this.state = state;
+    public LocalDateTime getUpdatedFrom() {
+        return updatedFrom;
+    }
+
+    public void setUpdatedFrom(LocalDateTime updatedFrom) {
+        this.updatedFrom = updatedFrom;
+    }
+
+    public LocalDateTime getUpdatedTo() {
+        return updatedTo;
+    }
+
+    public void setUpdatedTo(LocalDateTime updatedTo) {
+        this.updatedTo = updatedTo;
+    }
+
+    public PropertySortEnum getSort() {
+        return sort;
+    }
+
+    public void setSort(PropertySortEnum sort) {
+        this.sort = sort;
+    }
+
+    public boolean isAscending() {
+        return ascending;
+    }
+
+    public void setAscending(boolean ascending) {
+        this.ascending = ascending;
     }
 
     public int getPage() {
@@ -61,4 +125,16 @@ public class PropertyFilterDTO {
     public void setSize(int size) {
         this.size = size;
     }
+
+    /**
+     * Builds a stable key describing this filter, used to key cached responses. Value sets iterate
+     * in declaration order, so the same selection in any request order maps to the same key.
+     *
+     * @return key containing every filter, sort and paging value
+     */
+    public String cacheKey() {
+        return "status=" + statuses + ":type=" + types + ":state=" + states + ":city=" + city
+                + ":created=" + createdFrom + ".." + createdTo + ":updated=" + updatedFrom + ".." + updatedTo
+                + ":sort=" + sort + (ascending ? ",asc" : ",desc") + ":page=" + page + ":size=" + size;
+    }
 }
@@ -0,0 +1,80 @@
+package com.realState.property_service.module.property.dto;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import com.realState.property_service.database.enums.IngestStatusEnum;
+
+/**
+ * Status of an asynchronously submitted property creation.
+ */
+public class PropertyIngestStatusDTO {
+
+    private UUID trackingId;
+    private IngestStatusEnum status;
+    private UUID propertyId;
+    private String error;
+    private LocalDateTime acceptedAt;
+    private LocalDateTime completedAt;
+
+    public PropertyIngestStatusDTO() {}
+
+    public PropertyIngestStatusDTO(UUID trackingId, IngestStatusEnum status, UUID propertyId, String error,
+            LocalDateTime acceptedAt, LocalDateTime completedAt) {
+        this.trackingId = trackingId;
+        this.status = status;
+        this.propertyId = propertyId;
+        this.error = error;
+        this.acceptedAt = acceptedAt;
+        this.completedAt = completedAt;
+    }
+
+    // Getters and Setters
+    public UUID getTrackingId() {
+        return trackingId;
+    }
+
+    public void setTrackingId(UUID trackingId) {
+        this.trackingId = trackingId;
+    }
+
+    public IngestStatusEnum getStatus() {
+        return status;
+    }
+
+    public void setStatus(IngestStatusEnum status) {
+        this.status = status;
+    }
+
+    public UUID getPropertyId() {
+        return propertyId;
+    }
+
+    public void setPropertyId(UUID propertyId) {
+        this.propertyId = propertyId;
+    }
+
+    public String getError() {
+        return error;
+    }
+
+    public void setError(String error) {
+        this.error = error;
+    }
+
+    public LocalDateTime getAcceptedAt() {
+        return acceptedAt;
+    }
+
+    public void setAcceptedAt(LocalDateTime acceptedAt) {
+        this.acceptedAt = acceptedAt;
+    }
+
+    public LocalDateTime getCompletedAt() {
+        return completedAt;
+    }
+
+    public void setCompletedAt(LocalDateTime completedAt) {
+        this.completedAt = completedAt;
+    }
+}
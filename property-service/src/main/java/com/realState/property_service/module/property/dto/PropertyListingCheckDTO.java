@@ -0,0 +1,79 @@
+package com.realState.property_service.module.property.dto;
+
+/**
+ * Differences between the property_listing read table and the approved properties it projects.
+ */
+public class PropertyListingCheckDTO {
+
+    private long approvedProperties;
+    private long listedRows;
+    // Approved properties without a listed row
+    private long missing;
+    // Listed rows whose property is gone or no longer approved
+    private long orphaned;
+    // Listed rows that no longer match their property or location
+    private long stale;
+    private boolean consistent;
+
+    public PropertyListingCheckDTO() {
+    }
+
+    public PropertyListingCheckDTO(long approvedProperties, long listedRows, long missing, long orphaned,
+            long stale, boolean consistent) {
+        this.approvedProperties = approvedProperties;
+        this.listedRows = listedRows;
+        this.missing = missing;
+        this.orphaned = orphaned;
+        this.stale = stale;
+        this.consistent = consistent;
+    }
+
+    // Getters and Setters
+    public long getApprovedProperties() {
+        return approvedProperties;
+    }
+
+    public void setApprovedProperties(long approvedProperties) {
+        this.approvedProperties = approvedProperties;
+    }
+
+    public long getListedRows() {
+        return listedRows;
+    }
+
+    public void setListedRows(long listedRows) {
+        this.listedRows = listedRows;
+    }
+
+    public long getMissing() {
+        return missing;
+    }
+
+    public void setMissing(long missing) {
+        this.missing = missing;
+    }
+
+    public long getOrphaned() {
+        return orphaned;
+    }
+
+    public void setOrphaned(long orphaned) {
+        this.orphaned = orphaned;
+    }
+
+    public long getStale() {
+        return stale;
+    }
+
+    public void setStale(long stale) {
+        this.stale = stale;
+    }
+
+    public boolean isConsistent() {
+        return consistent;
+    }
+
+    public void setConsistent(boolean consistent) {
+        this.consistent = consistent;
+    }
+}
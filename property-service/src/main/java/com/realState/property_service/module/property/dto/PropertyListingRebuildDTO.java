@@ -0,0 +1,58 @@
+package com.realState.property_service.module.property.dto;
+
+/**
+ * Outcome of one rebuild of the property_listing read table.
+ */
+public class PropertyListingRebuildDTO {
+
+    // Properties re-projected
+    private long scanned;
+    // Approved properties now listed
+    private long listed;
+    // Rows dropped because their property was gone
+    private long removed;
+    private long durationMs;
+
+    public PropertyListingRebuildDTO() {
+    }
+
+    public PropertyListingRebuildDTO(long scanned, long listed, long removed, long durationMs) {
+        this.scanned = scanned;
+        this.listed = listed;
+        this.removed = removed;
+        this.durationMs = durationMs;
+    }
+
+    // Getters and Setters
+    public long getScanned() {
+        return scanned;
+    }
+
+    public void setScanned(long scanned) {
+        this.scanned = scanned;
+    }
+
+    public long getListed() {
+        return listed;
+    }
+
+    public void setListed(long listed) {
+        this.listed = listed;
+    }
+
+    public long getRemoved() {
+        return removed;
+    }
+
+    public void setRemoved(long removed) {
+        this.removed = removed;
+    }
+
+    public long getDurationMs() {
+        return durationMs;
+    }
+
+    public void setDurationMs(long durationMs) {
+        this.durationMs = durationMs;
+    }
+}
@@ -0,0 +1,29 @@
+package com.realState.property_service.module.property.dto;
+
+import com.realState.property_service.database.enums.StatusEnum;
+
+import jakarta.validation.constraints.NotNull;
+
+/**
+ * DTO for flipping a property's availability status (Available / Sold / Rented).
+ */
+public class PropertyStatusDTO {
+
+    @NotNull(message = "Status is required")
+    private StatusEnum status;
+
+    public PropertyStatusDTO() {}
+
+    public PropertyStatusDTO(StatusEnum status) {
+        this.status = status;
+    }
+
+    // Getters and Setters
+    public StatusEnum getStatus() {
+        return status;
+    }
+
+    public void setStatus(StatusEnum status) {
+        this.status = status;
+    }
+}
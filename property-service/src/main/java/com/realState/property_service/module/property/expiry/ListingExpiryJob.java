@@ -0,0 +1,176 @@
+package com.realState.property_service.module.property.expiry;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.realState.property_service.common.exceptions.property.ListingExpiryInProgressException;
+import com.realState.property_service.database.enums.ApprovalStatusEnum;
+import com.realState.property_service.database.repository.PropertyRepository;
+import com.realState.property_service.module.property.dto.ListingExpiryResultDTO;
+import com.realState.property_service.module.property.service.PropertyService;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+/**
+ * Archives approved listings nobody has updated for {@code property.expiry.max-age-days}, so they
+ * drop out of the approved set every buyer query scans and counts.
+ * <p>
+ * A run walks the stale rows oldest first along the (approval_status, updated_at) index in chunks of
+ * {@code chunk-size}, each archived in its own short transaction (with the usual outbox event, audit
+ * entry and cache invalidation), pausing {@code chunk-pause-ms} between chunks so the job never holds
+ * many row locks or starves request traffic. Archived rows leave the range, so a run that crashes or
+ * stops at {@code max-chunks} is simply resumed by the next one; instances running concurrently skip
+ * each other's locked rows. A dry run reads the same range by keyset without locking or writing and
+ * reports how many listings would be archived. Scheduled runs are dry runs unless
+ * {@code property.expiry.dry-run} is turned off.
+ */
+@Component
+public class ListingExpiryJob {
+
+    private static final Logger logger = LoggerFactory.getLogger(ListingExpiryJob.class);
+
+    // Start of the keyset walk for dry runs: before any updated_at and every id
+    private static final LocalDateTime KEYSET_START = LocalDateTime.of(1970, 1, 1, 0, 0);
+    private static final UUID KEYSET_START_ID = new UUID(0, 0);
+
+    private final PropertyService propertyService;
+    private final PropertyRepository propertyRepository;
+    private final boolean enabled;
+    private final boolean dryRun;
+    private final int maxAgeDays;
+    private final int chunkSize;
+    private final long chunkPauseMs;
+    private final int maxChunks;
+    private final AtomicBoolean running = new AtomicBoolean();
+
+    private final MeterRegistry meterRegistry;
+    private final Counter archived;
+    private final Counter wouldArchive;
+    private final Counter chunks;
+    private final Counter failedRuns;
+
+    public ListingExpiryJob(PropertyService propertyService,
+            PropertyRepository propertyRepository,
+            MeterRegistry meterRegistry,
+            @Value("${property.expiry.enabled:true}") boolean enabled,
+            @Value("${property.expiry.dry-run:true}") boolean dryRun,
+            @Value("${property.expiry.max-age-days:180}") int maxAgeDays,
+            @Value("${property.expiry.chunk-size:200}") int chunkSize,
+            @Value("${property.expiry.chunk-pause-ms:100}") long chunkPauseMs,
+            @Value("${property.expiry.max-chunks:500}") int maxChunks) {
+        if (maxAgeDays < 1 || chunkSize < 1 || maxChunks < 1) {
+            throw new IllegalArgumentException("Listing expiry max age, chunk size and max chunks must be positive");
+        }
+        this.propertyService = propertyService;
+        this.propertyRepository = propertyRepository;
+        this.enabled = enabled;
+        this.dryRun = dryRun;
+        this.maxAgeDays = maxAgeDays;
+        this.chunkSize = chunkSize;
+        this.chunkPauseMs = chunkPauseMs;
+        this.maxChunks = maxChunks;
+
+        this.meterRegistry = meterRegistry;
+        this.archived = meterRegistry.counter("property.expiry.properties", "result", "archived");
+        this.wouldArchive = meterRegistry.counter("property.expiry.properties", "result", "dry_run");
+        this.chunks = meterRegistry.counter("property.expiry.chunks");
+        this.failedRuns = meterRegistry.counter("property.expiry.runs.failed");
+    }
+
+    @Scheduled(cron = "${property.expiry.cron:0 0 3 * * *}")
+    public void scheduledRun() {
+        if (!enabled) {
+            return;
+        }
+        try {
+            run(dryRun);
+        } catch (ListingExpiryInProgressException ex) {
+            logger.info("Skipping scheduled listing expiry: {}", ex.getMessage());
+        }
+    }
+
+    /**
+     * Runs the expiry once on the calling thread.
+     *
+     * @param dryRun count the stale listings instead of archiving them
+     * @throws ListingExpiryInProgressException if a run is already in progress on this instance
+     */
+    public ListingExpiryResultDTO run(boolean dryRun) {
+        if (!running.compareAndSet(false, true)) {
+            throw new ListingExpiryInProgressException("Listing expiry is already running");
+        }
+        LocalDateTime cutoff = LocalDateTime.now().minusDays(maxAgeDays);
+        long startedAt = System.nanoTime();
+        long properties = 0;
+        int chunkCount = 0;
+        boolean complete = false;
+        try {
+            LocalDateTime afterUpdatedAt = KEYSET_START;
+            UUID afterId = KEYSET_START_ID;
+            while (chunkCount < maxChunks) {
+                int found;
+                if (dryRun) {
+                    List<Object[]> rows = propertyRepository.findStaleAfter(ApprovalStatusEnum.approved, cutoff,
+                            afterUpdatedAt, afterId, PageRequest.of(0, chunkSize));
+                    found = rows.size();
+                    if (found > 0) {
+                        Object[] last = rows.get(found - 1);
+                        afterId = (UUID) last[0];
+                        afterUpdatedAt = (LocalDateTime) last[1];
+                    }
+                } else {
+                    found = propertyService.archiveStaleProperties(cutoff, chunkSize);
+                }
+                if (found > 0) {
+                    chunkCount++;
+                    properties += found;
+                    chunks.increment();
+                    (dryRun ? wouldArchive : archived).increment(found);
+                }
+                if (found < chunkSize) {
+                    complete = true;
+                    break;
+                }
+                pause();
+            }
+        } catch (RuntimeException ex) {
+            failedRuns.increment();
+            logger.error("Listing expiry stopped after {} chunks ({} properties)", chunkCount, properties, ex);
+        } finally {
+            running.set(false);
+        }
+
+        long durationNanos = System.nanoTime() - startedAt;
+        Timer.builder("property.expiry.run").tag("dry_run", String.valueOf(dryRun)).register(meterRegistry)
+                .record(durationNanos, TimeUnit.NANOSECONDS);
+        logger.info("Listing expiry {}: {} properties last updated before {} in {} chunks{}",
+                dryRun ? "dry run found" : "archived", properties, cutoff, chunkCount,
+                complete ? "" : " (incomplete, the next run continues)");
+        return new ListingExpiryResultDTO(dryRun, cutoff, properties, chunkCount, complete,
+                TimeUnit.NANOSECONDS.toMillis(durationNanos));
+    }
+
+    private void pause() {
+        if (chunkPauseMs <= 0) {
+            return;
+        }
+        try {
+            Thread.sleep(chunkPauseMs);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Listing expiry interrupted", ex);
+        }
+    }
+}
@@ -0,0 +1,243 @@
+package com.realState.property_service.module.property.ingest;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.realState.property_service.common.cache.LruCache;
+import com.realState.property_service.common.exceptions.property.IngestQueueFullException;
+import com.realState.property_service.database.enums.IngestStatusEnum;
+import com.realState.property_service.module.property.dto.CreatePropertyDTO;
+import com.realState.property_service.module.property.dto.PropertyDTO;
+import com.realState.property_service.module.property.dto.PropertyIngestStatusDTO;
+import com.realState.property_service.module.property.service.PropertyService;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+
+/**
+ * Bounded in-process queue for asynchronous property creation with group commit.
+ * <p>
+ * The controller enqueues already-validated DTOs and returns a tracking id immediately. A single
+ * writer thread drains the queue: it waits for the first request, keeps collecting for up to
+ * {@code max-wait-ms} or until {@code batch-size} requests are gathered, and creates the whole
+ * batch in one transaction via {@link PropertyService#createProperties}. If a batch fails, its
+ * requests are retried one by one so a single bad row does not fail its neighbours.
+ * <p>
+ * Requests live only in memory until committed: a crash loses whatever is still queued, which is
+ * why this mode is opt-in per request. On shutdown the queue stops accepting before the writer
+ * drains it; requests the writer cannot get to in time are marked failed instead of staying queued.
+ */
+@Component
+public class PropertyIngestQueue {
+
+    private static final Logger logger = LoggerFactory.getLogger(PropertyIngestQueue.class);
+
+    private record PendingCreate(UUID trackingId, CreatePropertyDTO dto) {
+    }
+
+    private final PropertyService propertyService;
+    private final BlockingQueue<PendingCreate> queue;
+    private final LruCache<UUID, PropertyIngestStatusDTO> statuses;
+    private final boolean enabled;
+    private final int batchSize;
+    private final long maxWaitMs;
+
+    private final Counter accepted;
+    private final Counter rejected;
+    private final Counter failed;
+    private final DistributionSummary batchSizes;
+    private final Timer commitTimer;
+
+    // Submitters check and offer under the read lock and stop flips the flag under the write lock,
+    // so once shutdown has started nothing can be offered behind the writer's final drain
+    private final ReadWriteLock intake = new ReentrantReadWriteLock();
+    private volatile boolean running;
+    private Thread writer;
+
+    public PropertyIngestQueue(PropertyService propertyService,
+            MeterRegistry meterRegistry,
+            @Value("${property.ingest.async.enabled:true}") boolean enabled,
+            @Value("${property.ingest.queue-capacity:1000}") int queueCapacity,
+            @Value("${property.ingest.batch-size:100}") int batchSize,
+            @Value("${property.ingest.max-wait-ms:20}") long maxWaitMs,
+            @Value("${property.ingest.status-max-entries:50000}") int statusMaxEntries) {
+        this.propertyService = propertyService;
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+        // Never evict a status while its request can still be queued or in flight
+        this.statuses = new LruCache<>(Math.max(statusMaxEntries, queueCapacity + batchSize));
+        this.enabled = enabled;
+        this.batchSize = batchSize;
+        this.maxWaitMs = maxWaitMs;
+
+        this.accepted = meterRegistry.counter("property.ingest.requests", "result", "accepted");
+        this.rejected = meterRegistry.counter("property.ingest.requests", "result", "rejected");
+        this.failed = meterRegistry.counter("property.ingest.requests", "result", "failed");
+        this.batchSizes = DistributionSummary.builder("property.ingest.batch.size")
+                .description("Properties created per group commit")
+                .register(meterRegistry);
+        this.commitTimer = meterRegistry.timer("property.ingest.batch.duration");
+        Gauge.builder("property.ingest.queue.depth", queue, BlockingQueue::size).register(meterRegistry);
+    }
+
+    @PostConstruct
+    void start() {
+        if (!enabled) {
+            return;
+        }
+        running = true;
+        writer = new Thread(this::drainLoop, "property-ingest-writer");
+        writer.setDaemon(true);
+        writer.start();
+    }
+
+    @PreDestroy
+    void stop() throws InterruptedException {
+        intake.writeLock().lock();
+        try {
+            running = false;
+        } finally {
+            intake.writeLock().unlock();
+        }
+        if (writer != null) {
+            writer.join(TimeUnit.SECONDS.toMillis(30));
+        }
+
+        List<PendingCreate> leftover = new ArrayList<>();
+        queue.drainTo(leftover);
+        if (!leftover.isEmpty()) {
+            logger.error("Property ingest writer did not finish in time, {} queued requests failed", leftover.size());
+            abandon(leftover);
+        }
+    }
+
+    /**
+     * Queues a validated creation request.
+     *
+     * @param dto validated creation data
+     * @return the initial (queued) status, carrying the tracking id
+     * @throws IngestQueueFullException if the queue is full or async ingestion is off
+     */
+    public PropertyIngestStatusDTO submit(CreatePropertyDTO dto) {
+        intake.readLock().lock();
+        try {
+            if (!running) {
+                rejected.increment();
+                throw new IngestQueueFullException("Asynchronous property creation is not accepting requests");
+            }
+
+            UUID trackingId = UUID.randomUUID();
+            PropertyIngestStatusDTO status = new PropertyIngestStatusDTO(trackingId, IngestStatusEnum.queued, null,
+                    null, LocalDateTime.now(), null);
+            statuses.put(trackingId, status);
+
+            if (!queue.offer(new PendingCreate(trackingId, dto))) {
+                statuses.remove(trackingId);
+                rejected.increment();
+                throw new IngestQueueFullException("Property ingestion queue is full, retry later");
+            }
+            accepted.increment();
+            return status;
+        } finally {
+            intake.readLock().unlock();
+        }
+    }
+
+    /**
+     * Looks up the status of a submitted request.
+     *
+     * @return the status, or null if the tracking id is unknown or has aged out
+     */
+    public PropertyIngestStatusDTO getStatus(UUID trackingId) {
+        return statuses.get(trackingId);
+    }
+
+    private void drainLoop() {
+        List<PendingCreate> batch = new ArrayList<>(batchSize);
+        while (running || !queue.isEmpty()) {
+            try {
+                PendingCreate first = queue.poll(100, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+
+                // Group commit window: give concurrent submitters a moment to join this transaction
+                long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(maxWaitMs);
+                while (batch.size() < batchSize) {
+                    queue.drainTo(batch, batchSize - batch.size());
+                    long remaining = deadline - System.nanoTime();
+                    if (batch.size() >= batchSize || remaining <= 0) {
+                        break;
+                    }
+                    PendingCreate next = queue.poll(remaining, TimeUnit.NANOSECONDS);
+                    if (next != null) {
+                        batch.add(next);
+                    }
+                }
+
+                writeBatch(batch);
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+                abandon(batch);
+                return;
+            } catch (Exception ex) {
+                logger.error("Property ingest writer failed on a batch of {}", batch.size(), ex);
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    private void writeBatch(List<PendingCreate> batch) {
+        try {
+            List<PropertyDTO> created = commitTimer.recordCallable(() ->
+                    propertyService.createProperties(batch.stream().map(PendingCreate::dto).toList()));
+            for (int i = 0; i < batch.size(); i++) {
+                complete(batch.get(i).trackingId(), created.get(i).getId(), null);
+            }
+            batchSizes.record(batch.size());
+        } catch (Exception batchEx) {
+            logger.warn("Group commit of {} properties failed, retrying individually: {}", batch.size(),
+                    batchEx.getMessage());
+            for (PendingCreate pending : batch) {
+                try {
+                    complete(pending.trackingId(), propertyService.createProperty(pending.dto()).getId(), null);
+                } catch (Exception ex) {
+                    failed.increment();
+                    complete(pending.trackingId(), null, ex.getMessage());
+                }
+            }
+        }
+    }
+
+    private void abandon(List<PendingCreate> pending) {
+        for (PendingCreate create : pending) {
+            failed.increment();
+            complete(create.trackingId(), null, "Service shut down before the property was created");
+        }
+    }
+
+    private void complete(UUID trackingId, UUID propertyId, String error) {
+        PropertyIngestStatusDTO queued = statuses.get(trackingId);
+        statuses.put(trackingId, new PropertyIngestStatusDTO(trackingId,
+                error == null ? IngestStatusEnum.created : IngestStatusEnum.failed, propertyId, error,
+                queued != null ? queued.getAcceptedAt() : null, LocalDateTime.now()));
+    }
+}
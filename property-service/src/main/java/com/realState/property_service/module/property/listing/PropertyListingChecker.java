@@ -0,0 +1,93 @@
+package com.realState.property_service.module.property.listing;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.realState.property_service.database.repository.PropertyListingRepository;
+import com.realState.property_service.module.property.dto.PropertyListingCheckDTO;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Compares the property_listing read table with the approved properties it projects: approved
+ * properties without a row, rows without an approved property, and rows whose columns no longer
+ * match. Runs on {@code property.listing.check.cron} and on demand; the last result is exported as
+ * {@code property.listing.inconsistent{kind}} and any difference is logged, to be repaired with a
+ * rebuild.
+ */
+@Component
+public class PropertyListingChecker {
+
+    private static final Logger logger = LoggerFactory.getLogger(PropertyListingChecker.class);
+
+    private final PropertyListingRepository propertyListingRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final boolean enabled;
+
+    private final AtomicLong missing = new AtomicLong();
+    private final AtomicLong orphaned = new AtomicLong();
+    private final AtomicLong stale = new AtomicLong();
+
+    public PropertyListingChecker(PropertyListingRepository propertyListingRepository,
+            PlatformTransactionManager transactionManager,
+            MeterRegistry meterRegistry,
+            @Value("${property.listing.check.enabled:true}") boolean enabled) {
+        this.propertyListingRepository = propertyListingRepository;
+        // One read-only transaction, so the counts come from one snapshot
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setReadOnly(true);
+        this.enabled = enabled;
+
+        Gauge.builder("property.listing.inconsistent", missing, AtomicLong::get).tag("kind", "missing")
+                .register(meterRegistry);
+        Gauge.builder("property.listing.inconsistent", orphaned, AtomicLong::get).tag("kind", "orphaned")
+                .register(meterRegistry);
+        Gauge.builder("property.listing.inconsistent", stale, AtomicLong::get).tag("kind", "stale")
+                .register(meterRegistry);
+    }
+
+    @Scheduled(cron = "${property.listing.check.cron:0 0 * * * *}")
+    public void scheduledCheck() {
+        if (!enabled) {
+            return;
+        }
+        try {
+            check();
+        } catch (RuntimeException ex) {
+            logger.error("Property listing consistency check failed", ex);
+        }
+    }
+
+    /**
+     * Runs the comparison once on the calling thread.
+     */
+    public PropertyListingCheckDTO check() {
+        PropertyListingCheckDTO result = transactionTemplate.execute(status -> {
+            long missingRows = propertyListingRepository.countMissing();
+            long orphanedRows = propertyListingRepository.countOrphaned();
+            long staleRows = propertyListingRepository.countStale();
+            return new PropertyListingCheckDTO(propertyListingRepository.countApprovedProperties(),
+                    propertyListingRepository.count(), missingRows, orphanedRows, staleRows,
+                    missingRows == 0 && orphanedRows == 0 && staleRows == 0);
+        });
+
+        missing.set(result.getMissing());
+        orphaned.set(result.getOrphaned());
+        stale.set(result.getStale());
+        if (result.isConsistent()) {
+            logger.info("Property listing consistent with {} approved properties", result.getApprovedProperties());
+        } else {
+            logger.warn("Property listing inconsistent: {} missing, {} orphaned, {} stale of {} approved properties",
+                    result.getMissing(), result.getOrphaned(), result.getStale(), result.getApprovedProperties());
+        }
+        return result;
+    }
+}
@@ -0,0 +1,193 @@
+package com.realState.property_service.module.property.listing;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.realState.property_service.common.cache.CatalogVersion;
+import com.realState.property_service.database.repository.PropertyListingRepository;
+import com.realState.property_service.database.repository.PropertyRepository;
+import com.realState.property_service.module.property.cache.SharedCacheTier;
+import com.realState.property_service.module.property.dto.PropertyListingRebuildDTO;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+/**
+ * Keeps the property_listing read table in step with properties and locations.
+ * <p>
+ * Writers name the properties (or locations) they changed; the ids are collected per transaction
+ * and re-projected once, just before it commits: the listed rows are deleted and the approved ones
+ * copied back from the write tables. The read table therefore commits or rolls back together with
+ * the write, and a property touched several times in one transaction is projected once. Outside a
+ * transaction the projection runs immediately in its own.
+ * <p>
+ * {@link #rebuild()} re-projects every property in chunks and sweeps rows left without an approved
+ * property, for bootstrapping or repairing the table, then drops the buyer pages cached from it.
+ */
+@Component
+public class PropertyListingProjector {
+
+    private static final Logger logger = LoggerFactory.getLogger(PropertyListingProjector.class);
+
+    private static final int CHUNK_SIZE = 500;
+
+    private final PropertyListingRepository propertyListingRepository;
+    private final PropertyRepository propertyRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final CatalogVersion catalogVersion;
+    private final SharedCacheTier sharedCacheTier;
+
+    private final MeterRegistry meterRegistry;
+    private final Counter projected;
+
+    public PropertyListingProjector(PropertyListingRepository propertyListingRepository,
+            PropertyRepository propertyRepository,
+            PlatformTransactionManager transactionManager,
+            CatalogVersion catalogVersion,
+            SharedCacheTier sharedCacheTier,
+            MeterRegistry meterRegistry) {
+        this.propertyListingRepository = propertyListingRepository;
+        this.propertyRepository = propertyRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.catalogVersion = catalogVersion;
+        this.sharedCacheTier = sharedCacheTier;
+        this.meterRegistry = meterRegistry;
+        this.projected = meterRegistry.counter("property.listing.projected");
+    }
+
+    /**
+     * Re-projects the given properties before the current transaction commits.
+     */
+    public void refreshBeforeCommit(Collection<UUID> propertyIds) {
+        if (propertyIds.isEmpty()) {
+            return;
+        }
+        Pending pending = pending();
+        if (pending == null) {
+            transactionTemplate.executeWithoutResult(status -> refresh(propertyIds, List.of()));
+        } else {
+            pending.propertyIds.addAll(propertyIds);
+        }
+    }
+
+    /**
+     * Re-projects the property of the given location before the current transaction commits.
+     */
+    public void refreshLocationBeforeCommit(long locationId) {
+        Pending pending = pending();
+        if (pending == null) {
+            transactionTemplate.executeWithoutResult(status -> refresh(List.of(), List.of(locationId)));
+        } else {
+            pending.locationIds.add(locationId);
+        }
+    }
+
+    /**
+     * Rebuilds the read table from the write tables, one short transaction per chunk.
+     */
+    public PropertyListingRebuildDTO rebuild() {
+        long startedAt = System.nanoTime();
+        long scanned = 0;
+        long listed = 0;
+        long removed = 0;
+
+        List<UUID> page = propertyRepository.findIdsOrdered(PageRequest.of(0, CHUNK_SIZE));
+        while (!page.isEmpty()) {
+            List<UUID> chunk = page;
+            listed += transactionTemplate.execute(status -> propertyListingRepository.refreshFromProperties(chunk));
+            scanned += chunk.size();
+            if (chunk.size() < CHUNK_SIZE) {
+                break;
+            }
+            page = propertyRepository.findIdsOrderedAfter(chunk.get(chunk.size() - 1), PageRequest.of(0, CHUNK_SIZE));
+        }
+
+        // Rows of deleted properties were not in the scan above
+        page = propertyListingRepository.findIdsOrdered(PageRequest.of(0, CHUNK_SIZE));
+        while (!page.isEmpty()) {
+            List<UUID> chunk = page;
+            removed += transactionTemplate.execute(status -> propertyListingRepository.deleteOrphansByIdIn(chunk));
+            if (chunk.size() < CHUNK_SIZE) {
+                break;
+            }
+            page = propertyListingRepository.findIdsOrderedAfter(chunk.get(chunk.size() - 1),
+                    PageRequest.of(0, CHUNK_SIZE));
+        }
+
+        // Buyer pages cached from the old rows are dropped here and on the other instances
+        catalogVersion.bumpAfterCommit();
+        sharedCacheTier.invalidateAfterCommit(null, null);
+
+        long durationNanos = System.nanoTime() - startedAt;
+        Timer.builder("property.listing.rebuild").register(meterRegistry).record(durationNanos, TimeUnit.NANOSECONDS);
+        logger.info("Property listing rebuilt: {} properties scanned, {} listed, {} orphaned rows removed in {} ms",
+                scanned, listed, removed, TimeUnit.NANOSECONDS.toMillis(durationNanos));
+        return new PropertyListingRebuildDTO(scanned, listed, removed, TimeUnit.NANOSECONDS.toMillis(durationNanos));
+    }
+
+    private void refresh(Collection<UUID> propertyIds, Collection<Long> locationIds) {
+        Set<UUID> ids = new LinkedHashSet<>(propertyIds);
+        if (!locationIds.isEmpty()) {
+            ids.addAll(propertyRepository.findIdsByLocationIdIn(locationIds));
+        }
+        List<UUID> chunk = new ArrayList<>(Math.min(ids.size(), CHUNK_SIZE));
+        for (UUID id : ids) {
+            chunk.add(id);
+            if (chunk.size() == CHUNK_SIZE) {
+                propertyListingRepository.refreshFromProperties(chunk);
+                chunk.clear();
+            }
+        }
+        propertyListingRepository.refreshFromProperties(chunk);
+        projected.increment(ids.size());
+    }
+
+    /**
+     * The ids collected for the current transaction, registering them for projection on first use;
+     * null when there is no transaction to join.
+     */
+    private Pending pending() {
+        if (!TransactionSynchronizationManager.isActualTransactionActive()
+                || !TransactionSynchronizationManager.isSynchronizationActive()) {
+            return null;
+        }
+        Pending pending = (Pending) TransactionSynchronizationManager.getResource(this);
+        if (pending == null) {
+            pending = new Pending();
+            TransactionSynchronizationManager.bindResource(this, pending);
+            TransactionSynchronizationManager.registerSynchronization(pending);
+        }
+        return pending;
+    }
+
+    private final class Pending implements TransactionSynchronization {
+
+        private final Set<UUID> propertyIds = new LinkedHashSet<>();
+        private final Set<Long> locationIds = new LinkedHashSet<>();
+
+        @Override
+        public void beforeCommit(boolean readOnly) {
+            refresh(propertyIds, locationIds);
+        }
+
+        @Override
+        public void afterCompletion(int status) {
+            TransactionSynchronizationManager.unbindResourceIfPossible(PropertyListingProjector.this);
+        }
+    }
+}
@@ -1,10 +1,22 @@
 package com.realState.property_service.module.property.mapper;
 
+import java.util.Map;
+import java.util.Objects;
+import java.util.UUID;
+
 import org.springframework.stereotype.Component;
 
+import com.fasterxml.jackson.databind.JsonNode;
+
 import com.realState.property_service.common.exceptions.property.PropertyMappingException;
 import com.realState.property_service.database.entity.Location;
 import com.realState.property_service.database.entity.Property;
+import com.realState.property_service.database.entity.PropertyArchive;
+import com.realState.property_service.database.entity.PropertyListing;
+import com.realState.property_service.database.enums.ApprovalStatusEnum;
+import com.realState.property_service.database.enums.StateEnum;
+import com.realState.property_service.database.enums.StatusEnum;
+import com.realState.property_service.database.enums.TypeEnum;
 import com.realState.property_service.module.location.dto.LocationDTO;
 import com.realState.property_service.module.property.dto.CreatePropertyDTO;
 import com.realState.property_service.module.property.dto.PropertyDTO;
@@ -99,4 +111,253 @@ public class PropertyMapperUtil {
             throw new PropertyMappingException("Error mapping property entity to DTO", ex);
         }
     }
-}
\ No newline at end of file
+
+    /**
+     * Maps an archived property, whose location is stored inline, to the same DTO as a live one.
+     */
+    public PropertyDTO mapToDto(PropertyArchive archived) {
+        try {
+            if (archived == null) {
+                throw new PropertyMappingException("Archived property cannot be null");
+            }
+
+            PropertyDTO dto = new PropertyDTO();
+            dto.setId(archived.getId());
+            dto.setTitle(archived.getTitle());
+            dto.setDescription(archived.getDescription());
+            dto.setType(archived.getType());
+            dto.setApprovalStatus(archived.getApprovalStatus());
+            dto.setStatus(archived.getStatus());
+            dto.setOwnerId(archived.getOwnerId());
+            dto.setCreatedAt(archived.getCreatedAt());
+            dto.setUpdatedAt(archived.getUpdatedAt());
+
+            LocationDTO locationDTO = new LocationDTO();
+            locationDTO.setId(archived.getLocationId());
+            locationDTO.setAddress(archived.getAddress());
+            locationDTO.setCity(archived.getCity());
+            locationDTO.setState(archived.getState());
+            locationDTO.setCountry(archived.getCountry());
+            locationDTO.setZipcode(archived.getZipcode());
+            locationDTO.setLatitude(archived.getLatitude());
+            locationDTO.setLongitude(archived.getLongitude());
+            locationDTO.setCreatedAt(archived.getLocationCreatedAt());
+            locationDTO.setUpdatedAt(archived.getLocationUpdatedAt());
+            dto.setLocation(locationDTO);
+
+            return dto;
+        } catch (Exception ex) {
+            logger.error("Failed to map archived property to PropertyDTO", ex);
+            throw new PropertyMappingException("Error mapping archived property to DTO", ex);
+        }
+    }
+
+    /**
+     * Maps a row of the listing read table, always an approved property, to the same DTO as a live one.
+     */
+    public PropertyDTO mapToDto(PropertyListing listing) {
+        try {
+            if (listing == null) {
+                throw new PropertyMappingException("Property listing cannot be null");
+            }
+
+            PropertyDTO dto = new PropertyDTO();
+            dto.setId(listing.getId());
+            dto.setTitle(listing.getTitle());
+            dto.setDescription(listing.getDescription());
+            dto.setType(listing.getType());
+            dto.setApprovalStatus(ApprovalStatusEnum.approved);
+            dto.setStatus(listing.getStatus());
+            dto.setOwnerId(listing.getOwnerId());
+            dto.setCreatedAt(listing.getCreatedAt());
+            dto.setUpdatedAt(listing.getUpdatedAt());
+
+            LocationDTO locationDTO = new LocationDTO();
+            locationDTO.setId(listing.getLocationId());
+            locationDTO.setAddress(listing.getAddress());
+            locationDTO.setCity(listing.getCity());
+            locationDTO.setState(listing.getState());
+            locationDTO.setCountry(listing.getCountry());
+            locationDTO.setZipcode(listing.getZipcode());
+            locationDTO.setLatitude(listing.getLatitude());
+            locationDTO.setLongitude(listing.getLongitude());
+            locationDTO.setCreatedAt(listing.getLocationCreatedAt());
+            locationDTO.setUpdatedAt(listing.getLocationUpdatedAt());
+            dto.setLocation(locationDTO);
+
+            return dto;
+        } catch (Exception ex) {
+            logger.error("Failed to map property listing to PropertyDTO", ex);
+            throw new PropertyMappingException("Error mapping property listing to DTO", ex);
+        }
+    }
+
+    /**
+     * Applies a JSON Merge Patch (RFC 7396) to a Property and its Location.
+     * <p>
+     * Members present in the patch replace the current value, {@code null} clears nullable columns,
+     * absent members are left untouched and {@code location} is merged recursively. Setters are only
+     * called for values that actually differ, so with dynamic updates Hibernate writes just the
+     * changed columns (and nothing at all for a no-op patch).
+     *
+     * @param property the managed Property, with its Location loaded
+     * @param patch    the merge patch document
+     * @return true if any Property or Location column changed
+     * @throws IllegalArgumentException if the patch is malformed or sets an invalid value
+     */
+    public boolean applyMergePatch(Property property, JsonNode patch) {
+        if (patch == null || !patch.isObject()) {
+            throw new IllegalArgumentException("Merge patch must be a JSON object");
+        }
+
+        boolean changed = false;
+        for (Map.Entry<String, JsonNode> member : patch.properties()) {
+            JsonNode value = member.getValue();
+            switch (member.getKey()) {
+                case "title" -> {
+                    String title = requiredText(value, "title", 150);
+                    if (title.isBlank()) {
+                        throw new IllegalArgumentException("title cannot be blank");
+                    }
+                    if (!title.equals(property.getTitle())) {
+                        property.setTitle(title);
+                        changed = true;
+                    }
+                }
+                case "description" -> {
+                    String description = value.isNull() ? null : requiredText(value, "description", 500);
+                    if (!Objects.equals(description, property.getDescription())) {
+                        property.setDescription(description);
+                        changed = true;
+                    }
+                }
+                case "type" -> {
+                    TypeEnum type = requiredEnum(value, "type", TypeEnum.class);
+                    if (type != property.getType()) {
+                        property.setType(type);
+                        changed = true;
+                    }
+                }
+                case "status" -> {
+                    StatusEnum status = requiredEnum(value, "status", StatusEnum.class);
+                    if (status != property.getStatus()) {
+                        property.setStatus(status);
+                        changed = true;
+                    }
+                }
+                case "ownerId" -> {
+                    UUID ownerId = value.isNull() ? null : parseUuid(requiredText(value, "ownerId", 36));
+                    if (!Objects.equals(ownerId, property.getOwnerId())) {
+                        property.setOwnerId(ownerId);
+                        changed = true;
+                    }
+                }
+                case "location" -> {
+                    if (!value.isObject()) {
+                        throw new IllegalArgumentException("location must be an object and cannot be removed");
+                    }
+                    changed |= applyLocationMergePatch(property.getLocation(), value);
+                }
+                default -> throw new IllegalArgumentException("Field cannot be patched: " + member.getKey());
+            }
+        }
+        return changed;
+    }
+
+    private boolean applyLocationMergePatch(Location location, JsonNode patch) {
+        boolean changed = false;
+        for (Map.Entry<String, JsonNode> member : patch.properties()) {
+            JsonNode value = member.getValue();
+            String field = "location." + member.getKey();
+            switch (member.getKey()) {
+                case "address" -> {
+                    String address = requiredText(value, field, 255);
+                    if (!address.equals(location.getAddress())) {
+                        location.setAddress(address);
+                        changed = true;
+                    }
+                }
+                case "city" -> {
+                    String city = requiredText(value, field, 255);
+                    if (!city.equals(location.getCity())) {
+                        location.setCity(city);
+                        changed = true;
+                    }
+                }
+                case "country" -> {
+                    String country = requiredText(value, field, 255);
+                    if (!country.equals(location.getCountry())) {
+                        location.setCountry(country);
+                        changed = true;
+                    }
+                }
+                case "state" -> {
+                    StateEnum state = requiredEnum(value, field, StateEnum.class);
+                    if (state != location.getState()) {
+                        location.setState(state);
+                        changed = true;
+                    }
+                }
+                case "zipcode" -> {
+                    if (!value.canConvertToInt()) {
+                        throw new IllegalArgumentException(field + " must be an integer");
+                    }
+                    if (value.intValue() != location.getZipcode()) {
+                        location.setZipcode(value.intValue());
+                        changed = true;
+                    }
+                }
+                case "latitude" -> {
+                    float latitude = requiredFloat(value, field);
+                    if (latitude != location.getLatitude()) {
+                        location.setLatitude(latitude);
+                        changed = true;
+                    }
+                }
+                case "longitude" -> {
+                    float longitude = requiredFloat(value, field);
+                    if (longitude != location.getLongitude()) {
+                        location.setLongitude(longitude);
+                        changed = true;
+                    }
+                }
+                default -> throw new IllegalArgumentException("Field cannot be patched: " + field);
+            }
+        }
+        return changed;
+    }
+
+    private static String requiredText(JsonNode value, String field, int maxLength) {
+        if (!value.isTextual()) {
+            throw new IllegalArgumentException(field + " must be a string");
+        }
+        if (value.textValue().length() > maxLength) {
+            throw new IllegalArgumentException(field + " cannot exceed " + maxLength + " characters");
+        }
+        return value.textValue();
+    }
+
+    private static <E extends Enum<E>> E requiredEnum(JsonNode value, String field, Class<E> type) {
+        String name = requiredText(value, field, 50);
+        try {
+            return Enum.valueOf(type, name);
+        } catch (IllegalArgumentException ex) {
+            throw new IllegalArgumentException("Invalid " + field + ": " + name);
+        }
+    }
+
+    private static float requiredFloat(JsonNode value, String field) {
+        if (!value.isNumber()) {
+            throw new IllegalArgumentException(field + " must be a number");
+        }
+        return value.floatValue();
+    }
+
+    private static UUID parseUuid(String value) {
+        try {
+            return UUID.fromString(value);
+        } catch (IllegalArgumentException ex) {
+            throw new IllegalArgumentException("Invalid ownerId: " + value);
+        }
+    }
+}
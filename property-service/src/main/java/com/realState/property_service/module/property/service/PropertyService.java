@@ -1,13 +1,21 @@
 package com.realState.property_service.module.property.service;
 
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
 
 import com.realState.property_service.common.utils.ApiResponse;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.realState.property_service.database.enums.PropertyFieldEnum;
+import com.realState.property_service.database.enums.StatusEnum;
 import com.realState.property_service.module.property.dto.PropertyFilterDTO;
 import org.springframework.stereotype.Service;
 
 import com.realState.property_service.module.property.dto.CreatePropertyDTO;
+import com.realState.property_service.module.property.dto.OwnerPropertyStatsDTO;
+import com.realState.property_service.module.property.dto.PropertyBatchDTO;
 import com.realState.property_service.module.property.dto.PropertyDTO;
 import com.realState.property_service.module.property.dto.UpdatePropertyDTO;
 
@@ -53,6 +61,39 @@ public interface PropertyService {
      */
     void submitApprovalRequest(UUID id);
 
+    /**
+     * 5. Get listing counts of an owner by approval status and availability status.
+     *
+     * @param ownerId the UUID of the owner
+     * @return the owner's portfolio statistics
+     */
+    OwnerPropertyStatsDTO getOwnerPropertyStats(UUID ownerId);
+
+    /**
+     * 6. Create many properties in a single transaction (group commit for async ingestion).
+     *
+     * @param dtos the property creation data, already validated
+     * @return the created properties, in input order
+     */
+    List<PropertyDTO> createProperties(List<CreatePropertyDTO> dtos);
+
+    /**
+     * 7. Partially update a property with JSON Merge Patch semantics.
+     *
+     * @param id    the UUID of the property to update
+     * @param patch the merge patch document
+     * @return the updated PropertyDTO
+     */
+    PropertyDTO patchPropertyById(UUID id, JsonNode patch);
+
+    /**
+     * 8. Change a property's availability status without loading it.
+     *
+     * @param id     the UUID of the property
+     * @param status the new availability status
+     */
+    void updatePropertyStatus(UUID id, StatusEnum status);
+
     // ================== ADMIN ==================
 
     /**
@@ -83,6 +124,14 @@ public interface PropertyService {
      */
     void archiveProperty(UUID id);
 
+    /**
+     * Archives, in one transaction, up to {@code limit} approved properties last updated before
+     * {@code cutoff}, oldest first. Rows locked by a concurrent writer are skipped.
+     *
+     * @return the number of properties archived; fewer than {@code limit} means none are left
+     */
+    int archiveStaleProperties(LocalDateTime cutoff, int limit);
+
     /**
      * 5. Delete a property.
      * 
@@ -128,4 +177,38 @@ public interface PropertyService {
      * @return the PropertyDTO for the given ID
      */
     PropertyDTO getPropertyById(UUID id);
+
+    /**
+     * 4. Get many properties by their IDs in one call.
+     *
+     * @param ids the property UUIDs, in the order the caller wants them back
+     * @return found properties in request order plus the ids that do not exist
+     */
+    PropertyBatchDTO getPropertiesByIds(List<UUID> ids);
+
+    // ================== SPARSE FIELDSETS ==================
+    // Column-pruned variants of the list endpoints; each row holds only the requested fields.
+
+    /**
+     * Get all properties of an owner with only the requested fields.
+     */
+    ApiResponse<List<Map<String, Object>>> getAllOwnerPropertyFields(UUID ownerId, Set<PropertyFieldEnum> fields,
+            int page, int size);
+
+    /**
+     * Get all properties with only the requested fields.
+     */
+    ApiResponse<List<Map<String, Object>>> getAllPropertyFields(Set<PropertyFieldEnum> fields, int page, int size);
+
+    /**
+     * Get filtered approved properties with only the requested fields.
+     */
+    ApiResponse<List<Map<String, Object>>> filterPropertyFields(PropertyFilterDTO filterDTO,
+            Set<PropertyFieldEnum> fields);
+
+    /**
+     * Get approved properties with only the requested fields.
+     */
+    ApiResponse<List<Map<String, Object>>> getApprovedPropertyFields(Set<PropertyFieldEnum> fields, int page,
+            int size);
 }
\ No newline at end of file
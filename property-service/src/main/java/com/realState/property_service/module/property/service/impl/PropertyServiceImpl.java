@@ -1,15 +1,30 @@
 package com.realState.property_service.module.property.service.impl;
 
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
+import com.realState.property_service.common.cache.CatalogVersion;
 import com.realState.property_service.common.utils.ApiResponse;
 import com.realState.property_service.module.property.dto.PropertyFilterDTO;
+import com.realState.property_service.module.property.service.specification.PropertyListingSpecification;
 import com.realState.property_service.module.property.service.specification.PropertySpecification;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.dao.DataAccessException;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
@@ -23,23 +38,52 @@ import com.realState.property_service.common.exceptions.property.PropertyNotFoun
 import com.realState.property_service.common.exceptions.property.PropertySaveException;
 import com.realState.property_service.database.entity.Location;
 import com.realState.property_service.database.entity.Property;
+import com.realState.property_service.database.entity.PropertyListing;
 import com.realState.property_service.database.enums.ApprovalStatusEnum;
+import com.realState.property_service.database.enums.PropertyFieldEnum;
+import com.realState.property_service.database.enums.StatusEnum;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.realState.property_service.database.enums.PropertyEventTypeEnum;
+import com.realState.property_service.database.repository.PropertyArchiveRepository;
+import com.realState.property_service.database.repository.PropertyListingRepository;
 import com.realState.property_service.database.repository.PropertyRepository;
+import com.realState.property_service.module.audit.service.PropertyAuditWriter;
 import com.realState.property_service.module.location.service.LocationService;
+import com.realState.property_service.module.outbox.service.PropertyEventPublisher;
+import com.realState.property_service.module.property.cache.OwnerStatsCache;
+import com.realState.property_service.module.property.cache.PropertyDetailCache;
+import com.realState.property_service.module.property.cache.PropertyIdFilter;
+import com.realState.property_service.module.property.cache.SharedCacheTier;
 import com.realState.property_service.module.property.dto.CreatePropertyDTO;
+import com.realState.property_service.module.property.dto.OwnerPropertyStatsDTO;
+import com.realState.property_service.module.property.dto.PropertyBatchDTO;
 import com.realState.property_service.module.property.dto.PropertyDTO;
 import com.realState.property_service.module.property.dto.UpdatePropertyDTO;
+import com.realState.property_service.module.property.listing.PropertyListingProjector;
 import com.realState.property_service.module.property.mapper.PropertyMapperUtil;
 import com.realState.property_service.module.property.service.PropertyService;
+import com.realState.property_service.module.savedsearch.service.SavedSearchPercolator;
 
+import org.springframework.transaction.TransactionException;
 import org.springframework.transaction.annotation.Transactional;
 
 @Service
 public class PropertyServiceImpl implements PropertyService {
 
     private final PropertyRepository propertyRepository;
+    private final PropertyArchiveRepository propertyArchiveRepository;
+    private final PropertyListingRepository propertyListingRepository;
+    private final PropertyListingProjector propertyListingProjector;
     private final LocationService locationService;
     private final PropertyMapperUtil propertyMapperUtil;
+    private final CatalogVersion catalogVersion;
+    private final PropertyEventPublisher propertyEventPublisher;
+    private final PropertyDetailCache propertyDetailCache;
+    private final OwnerStatsCache ownerStatsCache;
+    private final PropertyIdFilter propertyIdFilter;
+    private final SavedSearchPercolator savedSearchPercolator;
+    private final PropertyAuditWriter propertyAuditWriter;
+    private final SharedCacheTier sharedCacheTier;
     private static final Logger logger = LoggerFactory.getLogger(PropertyServiceImpl.class);
 
     private void validateFilterDTO(PropertyFilterDTO filterDTO) {
@@ -54,11 +98,97 @@ public class PropertyServiceImpl implements PropertyService {
         }
     }
 
-    public PropertyServiceImpl(PropertyRepository propertyRepository, LocationService locationService,
-            PropertyMapperUtil propertyMapperUtil) {
+    /**
+     * Sort for a filter page: the requested key, then id so pages stay stable when keys tie. InnoDB
+     * secondary indexes end with the primary key, so the tie-break is still read in index order.
+     */
+    private static Sort filterSort(PropertyFilterDTO filterDTO) {
+        Sort.Direction direction = filterDTO.isAscending() ? Sort.Direction.ASC : Sort.Direction.DESC;
+        return Sort.by(direction, filterDTO.getSort().getAttribute(), "id");
+    }
+
+    /**
+     * Records a property write that leaves its approval status as it was.
+     */
+    private void recordChange(PropertyEventTypeEnum type, Property property) {
+        recordChange(type, property,
+                type == PropertyEventTypeEnum.created ? null : property.getApprovalStatus());
+    }
+
+    /**
+     * Records a property write: the outbox event joins the current transaction, so does the listing
+     * projection (only needed when the property is or was approved), while cache invalidation and the
+     * audit entry are deferred until the transaction commits.
+     */
+    private void recordChange(PropertyEventTypeEnum type, Property property,
+            ApprovalStatusEnum previousApprovalStatus) {
+        if (type == PropertyEventTypeEnum.created) {
+            propertyIdFilter.add(property.getId());
+        }
+        propertyEventPublisher.publish(type, property);
+        if (previousApprovalStatus == ApprovalStatusEnum.approved
+                || property.getApprovalStatus() == ApprovalStatusEnum.approved) {
+            propertyListingProjector.refreshBeforeCommit(List.of(property.getId()));
+        }
+        propertyAuditWriter.recordAfterCommit(type, property.getId(), previousApprovalStatus,
+                property.getApprovalStatus(), property.getStatus());
+        invalidateAfterCommit(property.getId(), property.getOwnerId());
+    }
+
+    private void invalidateAfterCommit(UUID propertyId, UUID ownerId) {
+        catalogVersion.bumpAfterCommit();
+        propertyDetailCache.evictAfterCommit(propertyId);
+        ownerStatsCache.evictAfterCommit(ownerId);
+        sharedCacheTier.invalidateAfterCommit(propertyId, ownerId);
+    }
+
+    /**
+     * Continues a newest-first page of live properties into cold storage: archived properties are
+     * listed after all live ones, so a page reaching past the live rows is filled from the archive
+     * at the matching offset, and the total counts both.
+     *
+     * @param live    the page of live properties
+     * @param ownerId owner the listing is restricted to, or null for all properties
+     */
+    private Page<PropertyDTO> withArchived(Page<Property> live, UUID ownerId) {
+        Pageable pageable = live.getPageable();
+        long archivedTotal = ownerId == null
+                ? propertyArchiveRepository.count()
+                : propertyArchiveRepository.countByOwnerId(ownerId);
+
+        List<PropertyDTO> content = new ArrayList<>(pageable.getPageSize());
+        live.getContent().forEach(property -> content.add(propertyMapperUtil.mapToDto(property)));
+        int missing = pageable.getPageSize() - content.size();
+        if (missing > 0 && archivedTotal > 0) {
+            long offset = Math.max(0, pageable.getOffset() - live.getTotalElements());
+            propertyArchiveRepository.findNewestFirst(ownerId, offset, missing)
+                    .forEach(archived -> content.add(propertyMapperUtil.mapToDto(archived)));
+        }
+        return new PageImpl<>(content, pageable, live.getTotalElements() + archivedTotal);
+    }
+
+    public PropertyServiceImpl(PropertyRepository propertyRepository,
+            PropertyArchiveRepository propertyArchiveRepository, PropertyListingRepository propertyListingRepository,
+            PropertyListingProjector propertyListingProjector, LocationService locationService,
+            PropertyMapperUtil propertyMapperUtil, CatalogVersion catalogVersion,
+            PropertyEventPublisher propertyEventPublisher, PropertyDetailCache propertyDetailCache,
+            OwnerStatsCache ownerStatsCache, PropertyIdFilter propertyIdFilter,
+            SavedSearchPercolator savedSearchPercolator, PropertyAuditWriter propertyAuditWriter,
+            SharedCacheTier sharedCacheTier) {
         this.propertyRepository = propertyRepository;
+        this.propertyArchiveRepository = propertyArchiveRepository;
+        this.propertyListingRepository = propertyListingRepository;
+        this.propertyListingProjector = propertyListingProjector;
         this.locationService = locationService;
         this.propertyMapperUtil = propertyMapperUtil;
+        this.catalogVersion = catalogVersion;
+        this.propertyEventPublisher = propertyEventPublisher;
+        this.propertyDetailCache = propertyDetailCache;
+        this.ownerStatsCache = ownerStatsCache;
+        this.propertyIdFilter = propertyIdFilter;
+        this.savedSearchPercolator = savedSearchPercolator;
+        this.propertyAuditWriter = propertyAuditWriter;
+        this.sharedCacheTier = sharedCacheTier;
     }
 
     // ================== SELLER ==================
@@ -74,6 +204,7 @@ public class PropertyServiceImpl implements PropertyService {
             Property property = propertyMapperUtil.mapToEntity(dto, location);
             property.setApprovalStatus(ApprovalStatusEnum.draft);
             property = propertyRepository.save(property);
+            recordChange(PropertyEventTypeEnum.created, property);
             logger.info("Property created successfully with id={}", property.getId());
             return propertyMapperUtil.mapToDto(property);
         } catch (LocationCreationException | PropertyMappingException ex) {
@@ -86,7 +217,7 @@ public class PropertyServiceImpl implements PropertyService {
     }
 
     /**
-     * 2. Retrieves all properties of a specific owner.
+     * 2. Retrieves all properties of a specific owner, live ones first, then those in cold storage.
      */
     @Override
     @Transactional(readOnly = true)
@@ -98,11 +229,9 @@ public class PropertyServiceImpl implements PropertyService {
 
             Pageable pageable = PageRequest.of(page, size, Sort.by("updatedAt").descending());
 
-            Page<Property> properties = propertyRepository.findByOwnerId(ownerId, pageable);
+            Page<PropertyDTO> properties = withArchived(propertyRepository.findByOwnerId(ownerId, pageable), ownerId);
 
-            List<PropertyDTO> propertyDTOs = properties.getContent().stream()
-                    .map(propertyMapperUtil::mapToDto)
-                    .collect(Collectors.toList());
+            List<PropertyDTO> propertyDTOs = properties.getContent();
 
             // Build meta information
             ApiResponse.MetaData meta = new ApiResponse.MetaData(
@@ -144,8 +273,12 @@ public class PropertyServiceImpl implements PropertyService {
                 property.setType(dto.getType());
             if (dto.getStatus() != null)
                 property.setStatus(dto.getStatus());
-            if (dto.getOwnerId() != null)
+            if (dto.getOwnerId() != null) {
+                // The previous owner's stats change too when a listing moves to another owner
+                ownerStatsCache.evictAfterCommit(property.getOwnerId());
+                sharedCacheTier.invalidateAfterCommit(null, property.getOwnerId());
                 property.setOwnerId(dto.getOwnerId());
+            }
 
             if (dto.getLocation() != null) {
                 Location updatedLocation = locationService.updateLocation(property.getLocation().getId(),
@@ -154,6 +287,7 @@ public class PropertyServiceImpl implements PropertyService {
             }
 
             property = propertyRepository.save(property);
+            recordChange(PropertyEventTypeEnum.updated, property);
             logger.info("Property updated successfully with id={}", id);
             return propertyMapperUtil.mapToDto(property);
 
@@ -175,8 +309,10 @@ public class PropertyServiceImpl implements PropertyService {
         try {
             Property property = propertyRepository.findById(id)
                     .orElseThrow(() -> new PropertyNotFoundException("Property not found with id=" + id));
+            ApprovalStatusEnum previousApprovalStatus = property.getApprovalStatus();
             property.setApprovalStatus(ApprovalStatusEnum.pending_approval);
             propertyRepository.save(property);
+            recordChange(PropertyEventTypeEnum.submitted, property, previousApprovalStatus);
             logger.info("Approval request submitted for property id={}", id);
         } catch (PropertyNotFoundException ex) {
             logger.warn("Approval request failed: {}", ex.getMessage());
@@ -187,6 +323,186 @@ public class PropertyServiceImpl implements PropertyService {
         }
     }
 
+    /**
+     * 5. Computes listing counts of an owner with one grouped query over live and one over archived properties.
+     * <p>
+     * Results are cached per owner and evicted after any write to one of the owner's properties.
+     * Like getPropertyById, cache hits run outside a transaction and never borrow a connection.
+     *
+     * @param ownerId the owner UUID
+     * @return counts by approval status and by availability status, zero-filled for every enum value
+     * @throws PropertyFetchException if the query fails
+     */
+    @Override
+    public OwnerPropertyStatsDTO getOwnerPropertyStats(UUID ownerId) {
+        try {
+            if (ownerId == null) {
+                throw new IllegalArgumentException("Owner ID cannot be null");
+            }
+
+            OwnerPropertyStatsDTO cached = ownerStatsCache.get(ownerId);
+            if (cached != null) {
+                return cached;
+            }
+
+            long loadVersion = ownerStatsCache.loadVersion();
+            Map<ApprovalStatusEnum, Long> byApprovalStatus = new EnumMap<>(ApprovalStatusEnum.class);
+            for (ApprovalStatusEnum approvalStatus : ApprovalStatusEnum.values()) {
+                byApprovalStatus.put(approvalStatus, 0L);
+            }
+            Map<StatusEnum, Long> byStatus = new EnumMap<>(StatusEnum.class);
+            for (StatusEnum status : StatusEnum.values()) {
+                byStatus.put(status, 0L);
+            }
+
+            long total = 0;
+            List<Object[]> rows = new ArrayList<>(propertyRepository.countByOwnerGroupedByStatus(ownerId));
+            rows.addAll(propertyArchiveRepository.countByOwnerGroupedByStatus(ownerId));
+            for (Object[] row : rows) {
+                long count = (Long) row[2];
+                byApprovalStatus.merge((ApprovalStatusEnum) row[0], count, Long::sum);
+                byStatus.merge((StatusEnum) row[1], count, Long::sum);
+                total += count;
+            }
+
+            OwnerPropertyStatsDTO stats = new OwnerPropertyStatsDTO(ownerId, total, byApprovalStatus, byStatus);
+            ownerStatsCache.put(ownerId, stats, loadVersion);
+            logger.info("Computed property stats for ownerId={} total={}", ownerId, total);
+            return stats;
+        } catch (IllegalArgumentException ex) {
+            logger.warn("Owner stats request rejected: {}", ex.getMessage());
+            throw ex;
+        } catch (Exception ex) {
+            logger.error("Failed to compute property stats for ownerId={}", ownerId, ex);
+            throw new PropertyFetchException("Failed to compute property stats", ex);
+        }
+    }
+
+    /**
+     * 6. Creates a batch of properties in one transaction.
+     * <p>
+     * Each row goes through the same location insert, mapping and change hooks as createProperty,
+     * but the batch pays for one commit. Property inserts are flushed together and can be
+     * JDBC-batched; location inserts cannot, since their IDENTITY keys are needed per row.
+     * Any failure rolls back the whole batch.
+     *
+     * @param dtos the property creation data
+     * @return the created properties in input order
+     * @throws PropertySaveException if the batch cannot be saved
+     */
+    @Override
+    @Transactional
+    public List<PropertyDTO> createProperties(List<CreatePropertyDTO> dtos) {
+        try {
+            List<Property> properties = new ArrayList<>(dtos.size());
+            for (CreatePropertyDTO dto : dtos) {
+                Location location = locationService.createLocation(dto.getLocation());
+                Property property = propertyMapperUtil.mapToEntity(dto, location);
+                property.setApprovalStatus(ApprovalStatusEnum.draft);
+                properties.add(property);
+            }
+
+            properties = propertyRepository.saveAll(properties);
+            for (Property property : properties) {
+                recordChange(PropertyEventTypeEnum.created, property);
+            }
+
+            logger.info("Created {} properties in one transaction", properties.size());
+            return properties.stream().map(propertyMapperUtil::mapToDto).toList();
+        } catch (LocationCreationException | PropertyMappingException ex) {
+            logger.error("Batch property creation failed: {}", ex.getMessage(), ex);
+            throw ex;
+        } catch (Exception ex) {
+            logger.error("Unexpected error during batch property creation", ex);
+            throw new PropertySaveException("Failed to create properties", ex);
+        }
+    }
+
+    /**
+     * 7. Applies a JSON Merge Patch to a property.
+     * <p>
+     * The property and its location are loaded with one join query, modified in place and flushed
+     * by dirty checking; with dynamic updates only the changed columns are written, and a patch
+     * that changes nothing writes nothing and records no event.
+     *
+     * @param id    the property UUID
+     * @param patch the merge patch document
+     * @return the patched property
+     * @throws PropertyNotFoundException if the property does not exist
+     * @throws IllegalArgumentException  if the patch is invalid
+     * @throws PropertySaveException     if saving fails
+     */
+    @Override
+    @Transactional
+    public PropertyDTO patchPropertyById(UUID id, JsonNode patch) {
+        try {
+            Property property = propertyRepository.findWithLocationById(id)
+                    .orElseThrow(() -> new PropertyNotFoundException("Property not found with id=" + id));
+
+            UUID previousOwnerId = property.getOwnerId();
+            if (!propertyMapperUtil.applyMergePatch(property, patch)) {
+                logger.info("Patch for property id={} changed nothing", id);
+                return propertyMapperUtil.mapToDto(property);
+            }
+
+            if (!Objects.equals(previousOwnerId, property.getOwnerId())) {
+                ownerStatsCache.evictAfterCommit(previousOwnerId);
+                sharedCacheTier.invalidateAfterCommit(null, previousOwnerId);
+            }
+            recordChange(PropertyEventTypeEnum.updated, property);
+            logger.info("Property patched successfully with id={}", id);
+            return propertyMapperUtil.mapToDto(property);
+        } catch (PropertyNotFoundException | IllegalArgumentException ex) {
+            logger.warn("Property patch rejected for id={}: {}", id, ex.getMessage());
+            throw ex;
+        } catch (Exception ex) {
+            logger.error("Failed to patch property id={}", id, ex);
+            throw new PropertySaveException("Failed to patch property", ex);
+        }
+    }
+
+    /**
+     * 8. Flips a property's availability status with a scalar owner lookup and a single UPDATE.
+     * <p>
+     * Sellers toggle Available/Sold/Rented constantly; this path never loads the entity or its
+     * location. Setting the status it already has is a no-op.
+     *
+     * @param id     the property UUID
+     * @param status the new status
+     * @throws PropertyNotFoundException if the property does not exist
+     * @throws PropertySaveException     if the update fails
+     */
+    @Override
+    @Transactional
+    public void updatePropertyStatus(UUID id, StatusEnum status) {
+        try {
+            List<Object[]> owner = propertyRepository.findOwnerIdAndApprovalStatusById(id);
+            if (owner.isEmpty()) {
+                throw new PropertyNotFoundException("Property not found with id=" + id);
+            }
+
+            if (propertyRepository.updateStatus(id, status, LocalDateTime.now()) == 0) {
+                logger.info("Property id={} already has status={}", id, status);
+                return;
+            }
+
+            propertyEventPublisher.publish(PropertyEventTypeEnum.status_changed, id, Map.of("status", status));
+            // Only approved properties have a listing row to carry the new status
+            if (owner.get(0)[1] == ApprovalStatusEnum.approved) {
+                propertyListingProjector.refreshBeforeCommit(List.of(id));
+            }
+            propertyAuditWriter.recordAfterCommit(PropertyEventTypeEnum.status_changed, id, null, null, status);
+            invalidateAfterCommit(id, (UUID) owner.get(0)[0]);
+            logger.info("Property id={} status changed to {}", id, status);
+        } catch (PropertyNotFoundException ex) {
+            logger.warn("Property not found for status change: {}", ex.getMessage());
+            throw ex;
+        } catch (Exception ex) {
+            logger.error("Failed to change status of property id={}", id, ex);
+            throw new PropertySaveException("Failed to change property status", ex);
+        }
+    }
+
     // ================== ADMIN ==================
 
     /**
@@ -246,8 +562,11 @@ public class PropertyServiceImpl implements PropertyService {
             Property property = propertyRepository.findById(id)
                     .orElseThrow(() -> new PropertyNotFoundException("Property not found with id=" + id));
 
+            ApprovalStatusEnum previousApprovalStatus = property.getApprovalStatus();
             property.setApprovalStatus(ApprovalStatusEnum.approved);
             propertyRepository.save(property);
+            recordChange(PropertyEventTypeEnum.approved, property, previousApprovalStatus);
+            savedSearchPercolator.percolateAfterCommit(property);
 
             logger.info("Property with ID={} approved successfully", id);
         } catch (PropertyNotFoundException ex) {
@@ -273,8 +592,10 @@ public class PropertyServiceImpl implements PropertyService {
             Property property = propertyRepository.findById(id)
                     .orElseThrow(() -> new PropertyNotFoundException("Property not found with id=" + id));
 
+            ApprovalStatusEnum previousApprovalStatus = property.getApprovalStatus();
             property.setApprovalStatus(ApprovalStatusEnum.rejected);
             propertyRepository.save(property);
+            recordChange(PropertyEventTypeEnum.rejected, property, previousApprovalStatus);
 
             logger.info("Property with ID={} rejected successfully", id);
         } catch (PropertyNotFoundException ex) {
@@ -300,8 +621,10 @@ public class PropertyServiceImpl implements PropertyService {
             Property property = propertyRepository.findById(id)
                     .orElseThrow(() -> new PropertyNotFoundException("Property not found with id=" + id));
 
+            ApprovalStatusEnum previousApprovalStatus = property.getApprovalStatus();
             property.setApprovalStatus(ApprovalStatusEnum.archived);
             propertyRepository.save(property);
+            recordChange(PropertyEventTypeEnum.archived, property, previousApprovalStatus);
 
             logger.info("Property with ID={} archived successfully", id);
         } catch (PropertyNotFoundException ex) {
@@ -313,6 +636,36 @@ public class PropertyServiceImpl implements PropertyService {
         }
     }
 
+    @Override
+    @Transactional
+    public int archiveStaleProperties(LocalDateTime cutoff, int limit) {
+        List<Object[]> rows = propertyRepository.findStaleForUpdate(ApprovalStatusEnum.approved, cutoff,
+                PageRequest.of(0, limit));
+        if (rows.isEmpty()) {
+            return 0;
+        }
+
+        // The rows are locked, so one UPDATE by id archives exactly what was selected
+        List<UUID> ids = rows.stream().map(row -> (UUID) row[0]).toList();
+        propertyRepository.updateApprovalStatus(ids, ApprovalStatusEnum.archived, LocalDateTime.now());
+        propertyListingProjector.refreshBeforeCommit(ids);
+
+        Map<String, Object> payload = Map.of("approvalStatus", ApprovalStatusEnum.archived, "reason", "expired");
+        Set<UUID> owners = new LinkedHashSet<>();
+        for (Object[] row : rows) {
+            UUID id = (UUID) row[0];
+            propertyEventPublisher.publish(PropertyEventTypeEnum.archived, id, payload);
+            propertyAuditWriter.recordAfterCommit(PropertyEventTypeEnum.archived, id, ApprovalStatusEnum.approved,
+                    ApprovalStatusEnum.archived, (StatusEnum) row[2]);
+            propertyDetailCache.evictAfterCommit(id);
+            sharedCacheTier.invalidateAfterCommit(id, (UUID) row[1]);
+            owners.add((UUID) row[1]);
+        }
+        owners.forEach(ownerStatsCache::evictAfterCommit);
+        catalogVersion.bumpAfterCommit();
+        return rows.size();
+    }
+
     /**
      * 5. Deletes a property by its ID.
      *
@@ -327,7 +680,10 @@ public class PropertyServiceImpl implements PropertyService {
             Property property = propertyRepository.findById(id)
                     .orElseThrow(() -> new PropertyNotFoundException("Property not found with id=" + id));
 
+            // Deleted first, so the event's flush locks the row before its id is allocated; the
+            // removed entity still holds the snapshot the event carries
             propertyRepository.delete(property);
+            recordChange(PropertyEventTypeEnum.deleted, property);
             logger.info("Property with ID={} deleted successfully", id);
         } catch (PropertyNotFoundException ex) {
             logger.warn("Property with ID={} not found for deletion", id, ex);
@@ -339,7 +695,7 @@ public class PropertyServiceImpl implements PropertyService {
     }
 
     /**
-     * 6. Retrieves all properties from the database.
+     * 6. Retrieves all properties from the database, live ones first, then those in cold storage.
      *
      * @return a list of PropertyDTO
      * @throws PropertySaveException if fetching properties fails
@@ -351,12 +707,10 @@ public class PropertyServiceImpl implements PropertyService {
             // Create pageable object
             Pageable pageable = PageRequest.of(page, size, Sort.by("updatedAt").descending());
 
-            Page<Property> properties = propertyRepository.findAll(pageable);
+            // Live properties, then cold ones from the archive
+            Page<PropertyDTO> properties = withArchived(propertyRepository.findAll(pageable), null);
 
-            // Map to DTOs
-            List<PropertyDTO> propertyDTOs = properties.getContent().stream()
-                    .map(propertyMapperUtil::mapToDto)
-                    .collect(Collectors.toList());
+            List<PropertyDTO> propertyDTOs = properties.getContent();
 
             // Build meta information
             ApiResponse.MetaData meta = new ApiResponse.MetaData(
@@ -388,6 +742,8 @@ public class PropertyServiceImpl implements PropertyService {
             Property property = propertyMapperUtil.mapToEntity(dto, location);
             property.setApprovalStatus(ApprovalStatusEnum.approved);
             property = propertyRepository.save(property);
+            recordChange(PropertyEventTypeEnum.created, property);
+            savedSearchPercolator.percolateAfterCommit(property);
             logger.info("Property created successfully by admin with id={}", property.getId());
             return propertyMapperUtil.mapToDto(property);
         } catch (LocationCreationException | PropertyMappingException ex) {
@@ -414,11 +770,8 @@ public class PropertyServiceImpl implements PropertyService {
             // Create pageable object
             Pageable pageable = PageRequest.of(page, size, Sort.by("updatedAt").descending());
 
-            // Fetch paginated approved properties
-            Page<Property> approvedPropertiesPage = propertyRepository.findByApprovalStatus(
-                    ApprovalStatusEnum.approved,
-                    pageable
-            );
+            // Fetch paginated approved properties from the listing read table
+            Page<PropertyListing> approvedPropertiesPage = propertyListingRepository.findAll(pageable);
 
             // Map to DTOs
             List<PropertyDTO> propertyDTOs = approvedPropertiesPage.getContent().stream()
@@ -437,7 +790,7 @@ public class PropertyServiceImpl implements PropertyService {
 
             // Return success response with data and meta
             return ApiResponse.success(propertyDTOs, meta, "Fetched approved properties successfully");
-        } catch (Exception ex) {
+        } catch (DataAccessException | TransactionException ex) {
             logger.error("Failed to fetch approved properties", ex);
             throw new PropertyFetchException("Failed to fetch approved properties", ex);
         }
@@ -445,22 +798,60 @@ public class PropertyServiceImpl implements PropertyService {
 
     /**
      * 2. Retrieves a property by its ID.
+     * <p>
+     * Served from the local detail cache, then the shared tier, when possible; otherwise read from the
+     * live table and, on a miss there, from cold storage. Not wrapped in a service-level transaction so
+     * that cache hits never borrow a connection; the repository call runs in its own read-only one.
      *
      * @param id the property UUID
      * @return PropertyDTO corresponding to the given ID
      * @throws PropertyNotFoundException if no property exists with the given ID
      */
     @Override
-    @Transactional(readOnly = true)
     public PropertyDTO getPropertyById(UUID id) {
         try {
-            Property property = propertyRepository.findById(id)
-                    .orElseThrow(() -> new PropertyNotFoundException("Property not found with id=" + id));
+            // An id the filter does not know can only be one created on another instance since the
+            // last rebuild: neither the caches nor cold storage can hold it, so the live table decides
+            boolean known = propertyIdFilter.mightContain(id);
+            if (known) {
+                PropertyDTO cached = propertyDetailCache.get(id);
+                if (cached != null) {
+                    return cached;
+                }
+            }
+
+            long loadVersion = propertyDetailCache.loadVersion();
+            if (known) {
+                PropertyDTO shared = sharedCacheTier.getProperties(List.of(id)).get(id);
+                if (shared != null) {
+                    propertyDetailCache.put(shared, loadVersion);
+                    return shared;
+                }
+            }
+
+            // Cold properties are only looked up once the live table misses
+            PropertyDTO dto = propertyRepository.findById(id)
+                    .map(propertyMapperUtil::mapToDto)
+                    .or(() -> known
+                            ? propertyArchiveRepository.findById(id).map(propertyMapperUtil::mapToDto)
+                            : Optional.empty())
+                    .orElse(null);
+            if (dto == null) {
+                if (known) {
+                    propertyIdFilter.recordFalsePositive();
+                }
+                throw new PropertyNotFoundException("Property not found with id=" + id);
+            }
+            if (!known) {
+                propertyIdFilter.recordMissed(id);
+            }
 
             logger.info("Fetched property with ID={}", id);
-            return propertyMapperUtil.mapToDto(property);
+            propertyDetailCache.put(dto, loadVersion);
+            sharedCacheTier.putProperties(List.of(dto), loadVersion);
+            return dto;
         } catch (PropertyNotFoundException ex) {
-            logger.warn("Property with ID={} not found", id, ex);
+            logger.debug("Property with ID={} not found", id);
             throw ex;
         } catch (Exception ex) {
             logger.error("Unexpected error fetching property with ID={}", id, ex);
@@ -469,6 +860,90 @@ public class PropertyServiceImpl implements PropertyService {
     }
 
 
+    /**
+     * 4. Retrieves many properties by their IDs.
+     * <p>
+     * Cached ids are served locally; the rest are loaded with their locations in a single IN query.
+     * Duplicate ids are collapsed and the result keeps the order of first appearance.
+     *
+     * @param ids the property UUIDs
+     * @return found properties in request order and the ids that do not exist
+     * @throws PropertyFetchException if the lookup fails
+     */
+    @Override
+    public PropertyBatchDTO getPropertiesByIds(List<UUID> ids) {
+        try {
+            if (ids == null || ids.isEmpty()) {
+                throw new IllegalArgumentException("Property ids cannot be empty");
+            }
+
+            LinkedHashSet<UUID> requested = new LinkedHashSet<>(ids);
+            Map<UUID, PropertyDTO> found = new HashMap<>();
+            List<UUID> toLoad = new ArrayList<>();
+            // Ids the filter does not know may have been created on another instance: they cannot be
+            // cached, so they only join the IN query
+            Set<UUID> unknown = new HashSet<>();
+            for (UUID id : requested) {
+                if (!propertyIdFilter.mightContain(id)) {
+                    unknown.add(id);
+                    continue;
+                }
+                PropertyDTO cached = propertyDetailCache.get(id);
+                if (cached != null) {
+                    found.put(id, cached);
+                } else {
+                    toLoad.add(id);
+                }
+            }
+
+            if (!toLoad.isEmpty()) {
+                long loadVersion = propertyDetailCache.loadVersion();
+                // Local misses: one multi-get from the shared tier, then one IN query for the rest
+                Map<UUID, PropertyDTO> shared = sharedCacheTier.getProperties(toLoad);
+                shared.values().forEach(dto -> propertyDetailCache.put(dto, loadVersion));
+                found.putAll(shared);
+                toLoad.removeAll(shared.keySet());
+            }
+            toLoad.addAll(unknown);
+            if (!toLoad.isEmpty()) {
+                long loadVersion = propertyDetailCache.loadVersion();
+                List<PropertyDTO> loaded = new ArrayList<>(toLoad.size());
+                for (Property property : propertyRepository.findAllWithLocationByIdIn(toLoad)) {
+                    PropertyDTO dto = propertyMapperUtil.mapToDto(property);
+                    propertyDetailCache.put(dto, loadVersion);
+                    loaded.add(dto);
+                    found.put(dto.getId(), dto);
+                    if (unknown.contains(dto.getId())) {
+                        propertyIdFilter.recordMissed(dto.getId());
+                    }
+                }
+                sharedCacheTier.putProperties(loaded, loadVersion);
+            }
+
+            List<PropertyDTO> properties = new ArrayList<>(found.size());
+            List<UUID> missingIds = new ArrayList<>();
+            for (UUID id : requested) {
+                PropertyDTO dto = found.get(id);
+                if (dto != null) {
+                    properties.add(dto);
+                } else {
+                    missingIds.add(id);
+                }
+            }
+
+            logger.info("Batch lookup of {} ids: {} loaded from DB, {} found, {} missing",
+                    requested.size(), toLoad.size(), properties.size(), missingIds.size());
+            return new PropertyBatchDTO(properties, missingIds);
+        } catch (IllegalArgumentException ex) {
+            logger.warn("Batch lookup rejected: {}", ex.getMessage());
+            throw ex;
+        } catch (Exception ex) {
+            logger.error("Failed to fetch properties by ids", ex);
+            throw new PropertyFetchException("Failed to fetch properties by ids", ex);
+        }
+    }
+
+
     /**
      * 3. Retrieves all filtered approved properties for buyers.
      *
@@ -481,19 +956,11 @@ public class PropertyServiceImpl implements PropertyService {
         try {
             validateFilterDTO(filterDTO);
 
-            Pageable pageable = PageRequest.of(
-                    filterDTO.getPage(),
-                    filterDTO.getSize(),
-                    Sort.by("updatedAt").descending()
-            );
-
-            Specification<Property> spec = PropertySpecification.combine(
-                    filterDTO.getStatus(),
-                    filterDTO.getType(),
-                    filterDTO.getState()
-            ).and(PropertySpecification.isApproved());
+            Pageable pageable = PageRequest.of(filterDTO.getPage(), filterDTO.getSize(), filterSort(filterDTO));
 
-            Page<Property> propertiesPage = propertyRepository.findAll(spec, pageable);
+            // One SELECT over the listing read table, plus the page count
+            Page<PropertyListing> propertiesPage = propertyListingRepository.findAll(
+                    PropertyListingSpecification.matching(filterDTO), pageable);
 
             List<PropertyDTO> propertyDTOs = propertiesPage.getContent().stream()
                     .map(propertyMapperUtil::mapToDto)
@@ -506,15 +973,104 @@ public class PropertyServiceImpl implements PropertyService {
                     propertiesPage.getSize()
             );
 
-            logger.info("Filtered properties - status: {}, type: {}, state: {}, found: {}, page: {}",
-                    filterDTO.getStatus(), filterDTO.getType(), filterDTO.getState(),
-                    propertyDTOs.size(), filterDTO.getPage() + 1);
+            logger.info("Filtered properties - {}, found: {}", filterDTO.cacheKey(), propertyDTOs.size());
 
             return ApiResponse.success(propertyDTOs, meta, "Filtered properties fetched successfully");
 
+        } catch (DataAccessException | TransactionException ex) {
+            // Only database failures become PropertyFetchException, which the stale read cache and its
+            // circuit breaker treat as the database being unavailable; bad filters stay a 400
+            logger.error("Failed to fetch filtered properties - {}", filterDTO.cacheKey(), ex);
+            throw new PropertyFetchException("Failed to Fetch Properties", ex);
+        }
+    }
+
+    // ================== SPARSE FIELDSETS ==================
+
+    /**
+     * Sparse-fieldset counterpart of {@link #withArchived}: the same continuation into cold storage,
+     * selecting only the requested fields from the archive.
+     */
+    private Page<Map<String, Object>> withArchivedFields(Page<Map<String, Object>> live, UUID ownerId,
+            Set<PropertyFieldEnum> fields) {
+        Pageable pageable = live.getPageable();
+        long archivedTotal = ownerId == null
+                ? propertyArchiveRepository.count()
+                : propertyArchiveRepository.countByOwnerId(ownerId);
+
+        List<Map<String, Object>> content = new ArrayList<>(live.getContent());
+        int missing = pageable.getPageSize() - content.size();
+        if (missing > 0 && archivedTotal > 0) {
+            long offset = Math.max(0, pageable.getOffset() - live.getTotalElements());
+            content.addAll(propertyArchiveRepository.findFieldsNewestFirst(ownerId, fields, offset, missing));
+        }
+        return new PageImpl<>(content, pageable, live.getTotalElements() + archivedTotal);
+    }
+
+    /**
+     * Runs a column-pruned list query and wraps the rows with pagination metadata.
+     */
+    private ApiResponse<List<Map<String, Object>>> fetchFields(Supplier<Page<Map<String, Object>>> query,
+            Set<PropertyFieldEnum> fields, Pageable pageable, String message) {
+        try {
+            Page<Map<String, Object>> rows = query.get();
+
+            ApiResponse.MetaData meta = new ApiResponse.MetaData(
+                    rows.getTotalElements(),
+                    rows.getTotalPages(),
+                    rows.getNumber() + 1,
+                    rows.getSize()
+            );
+
+            logger.info("Fetched {} property rows with fields {} (page {}/{})",
+                    rows.getNumberOfElements(), fields, pageable.getPageNumber() + 1, rows.getTotalPages());
+
+            return ApiResponse.success(rows.getContent(), meta, message);
         } catch (Exception ex) {
-            logger.error("Failed to fetch approved properties");
-            throw new PropertyFetchException("Failed to Fetch Properties");
+            logger.error("Failed to fetch property fields {}", fields, ex);
+            throw new PropertyFetchException("Failed to fetch properties", ex);
         }
     }
-}
\ No newline at end of file
+
+    @Override
+    @Transactional(readOnly = true)
+    public ApiResponse<List<Map<String, Object>>> getAllOwnerPropertyFields(UUID ownerId,
+            Set<PropertyFieldEnum> fields, int page, int size) {
+        if (ownerId == null) {
+            throw new IllegalArgumentException("Owner ID cannot be null");
+        }
+        Pageable pageable = PageRequest.of(page, size, Sort.by("updatedAt").descending());
+        return fetchFields(() -> withArchivedFields(propertyRepository.findFields(
+                PropertySpecification.hasOwner(ownerId), fields, pageable), ownerId, fields), fields, pageable,
+                "Fetched all properties successfully");
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public ApiResponse<List<Map<String, Object>>> getAllPropertyFields(Set<PropertyFieldEnum> fields, int page,
+            int size) {
+        Pageable pageable = PageRequest.of(page, size, Sort.by("updatedAt").descending());
+        return fetchFields(() -> withArchivedFields(propertyRepository.findFields(null, fields, pageable), null,
+                fields), fields, pageable, "Fetched all properties successfully");
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public ApiResponse<List<Map<String, Object>>> filterPropertyFields(PropertyFilterDTO filterDTO,
+            Set<PropertyFieldEnum> fields) {
+        validateFilterDTO(filterDTO);
+        Pageable pageable = PageRequest.of(filterDTO.getPage(), filterDTO.getSize(), filterSort(filterDTO));
+        Specification<PropertyListing> spec = PropertyListingSpecification.matching(filterDTO);
+        return fetchFields(() -> propertyListingRepository.findFields(spec, fields, pageable), fields, pageable,
+                "Filtered properties fetched successfully");
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public ApiResponse<List<Map<String, Object>>> getApprovedPropertyFields(Set<PropertyFieldEnum> fields,
+            int page, int size) {
+        Pageable pageable = PageRequest.of(page, size, Sort.by("updatedAt").descending());
+        return fetchFields(() -> propertyListingRepository.findFields(null, fields, pageable), fields, pageable,
+                "Fetched approved properties successfully");
+    }
+}
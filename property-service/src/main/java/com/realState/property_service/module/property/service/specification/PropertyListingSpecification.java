@@ -0,0 +1,56 @@
+package com.realState.property_service.module.property.service.specification;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+import com.realState.property_service.database.entity.PropertyListing;
+import com.realState.property_service.module.property.dto.PropertyFilterDTO;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.Expression;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Predicate;
+import org.springframework.data.jpa.domain.Specification;
+
+public class PropertyListingSpecification {
+
+    /**
+     * Compiles a buyer filter into one conjunction over the listing read table. Every row there is
+     * approved and carries its location columns, so there is no approval predicate and no join; each
+     * value set is a single equality or IN predicate and each bound a plain column comparison.
+     */
+    public static Specification<PropertyListing> matching(PropertyFilterDTO filter) {
+        return (root, query, cb) -> {
+            List<Predicate> predicates = new ArrayList<>();
+            addIn(predicates, cb, root.get("status"), filter.getStatuses());
+            addIn(predicates, cb, root.get("type"), filter.getTypes());
+            addIn(predicates, cb, root.get("state"), filter.getStates());
+            if (filter.getCity() != null) {
+                predicates.add(cb.equal(root.get("city"), filter.getCity()));
+            }
+            addRange(predicates, cb, root.get("createdAt"), filter.getCreatedFrom(), filter.getCreatedTo());
+            addRange(predicates, cb, root.get("updatedAt"), filter.getUpdatedFrom(), filter.getUpdatedTo());
+            return cb.and(predicates.toArray(Predicate[]::new));
+        };
+    }
+
+    private static void addIn(List<Predicate> predicates, CriteriaBuilder cb, Expression<?> attribute,
+            Collection<?> values) {
+        if (values.size() == 1) {
+            predicates.add(cb.equal(attribute, values.iterator().next()));
+        } else if (!values.isEmpty()) {
+            predicates.add(attribute.in(values));
+        }
+    }
+
+    private static void addRange(List<Predicate> predicates, CriteriaBuilder cb, Path<LocalDateTime> attribute,
+            LocalDateTime from, LocalDateTime to) {
+        if (from != null) {
+            predicates.add(cb.greaterThanOrEqualTo(attribute, from));
+        }
+        if (to != null) {
+            predicates.add(cb.lessThan(attribute, to));
+        }
+    }
+}
@@ -0,0 +1,240 @@
+package com.realState.property_service.module.property.warmup;
+
+import java.sql.Connection;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import javax.sql.DataSource;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+
+import com.realState.property_service.database.enums.StateEnum;
+import com.realState.property_service.database.enums.StatusEnum;
+import com.realState.property_service.database.enums.TypeEnum;
+import com.realState.property_service.database.repository.PropertyRepository;
+import com.realState.property_service.module.property.cache.PropertyDetailCache;
+import com.realState.property_service.module.property.cache.SerializedResponseCache;
+import com.realState.property_service.module.property.cache.StaleReadCache;
+import com.realState.property_service.module.property.controller.PropertyController;
+import com.realState.property_service.module.property.dto.PropertyFilterQueryDTO;
+import com.zaxxer.hikari.HikariDataSource;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+/**
+ * Warms the service up before it takes traffic.
+ * <p>
+ * Spring Boot only reports readiness ({@code /actuator/health/readiness}) as UP once all
+ * application runners have returned, so everything done here happens before the load balancer
+ * sends the first buyer request. The runner opens the connection pool up to its minimum idle size,
+ * then drives the buyer read paths through the controller (approved pages, every status/type/state
+ * filter combination and a sample of detail lookups, read without counting views) so the JIT,
+ * Hibernate's query plan cache and Jackson's serializers see real data. Caches are cleared between iterations so each one reaches
+ * the database; the last iteration leaves them primed.
+ * <p>
+ * Warm-up is best effort: it stops at the time budget, and failures are counted and logged but
+ * never fail startup.
+ */
+@Component
+public class PropertyWarmupRunner implements ApplicationRunner {
+
+    private static final Logger logger = LoggerFactory.getLogger(PropertyWarmupRunner.class);
+
+    private static final int PAGE_SIZE = 10;
+
+    private final PropertyController propertyController;
+    private final PropertyRepository propertyRepository;
+    private final SerializedResponseCache responseCache;
+    private final PropertyDetailCache propertyDetailCache;
+    private final StaleReadCache staleReadCache;
+    private final DataSource dataSource;
+    private final boolean enabled;
+    private final long budgetMs;
+    private final int iterations;
+    private final int approvedPages;
+    private final int sampleSize;
+
+    private final Timer duration;
+    private final Counter succeeded;
+    private final Counter failed;
+
+    public PropertyWarmupRunner(PropertyController propertyController,
+            PropertyRepository propertyRepository,
+            SerializedResponseCache responseCache,
+            PropertyDetailCache propertyDetailCache,
+            StaleReadCache staleReadCache,
+            DataSource dataSource,
+            MeterRegistry meterRegistry,
+            @Value("${property.warmup.enabled:true}") boolean enabled,
+            @Value("${property.warmup.budget-ms:30000}") long budgetMs,
+            @Value("${property.warmup.iterations:5}") int iterations,
+            @Value("${property.warmup.approved-pages:5}") int approvedPages,
+            @Value("${property.warmup.sample-size:100}") int sampleSize) {
+        this.propertyController = propertyController;
+        this.propertyRepository = propertyRepository;
+        this.responseCache = responseCache;
+        this.propertyDetailCache = propertyDetailCache;
+        this.staleReadCache = staleReadCache;
+        this.dataSource = dataSource;
+        this.enabled = enabled;
+        this.budgetMs = budgetMs;
+        this.iterations = iterations;
+        this.approvedPages = approvedPages;
+        this.sampleSize = sampleSize;
+
+        this.duration = Timer.builder("property.warmup.duration")
+                .description("Time spent warming up before reporting ready")
+                .register(meterRegistry);
+        this.succeeded = meterRegistry.counter("property.warmup.calls", "result", "success");
+        this.failed = meterRegistry.counter("property.warmup.calls", "result", "failed");
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        if (!enabled) {
+            return;
+        }
+
+        long started = System.nanoTime();
+        double succeededBefore = succeeded.count();
+        double failedBefore = failed.count();
+        long deadline = started + TimeUnit.MILLISECONDS.toNanos(budgetMs);
+
+        int connections = fillConnectionPool();
+        List<UUID> sampleIds = sampleIds();
+
+        int completed = 0;
+        while (completed < iterations && System.nanoTime() < deadline) {
+            if (completed > 0) {
+                responseCache.clear();
+                propertyDetailCache.clear();
+                staleReadCache.clear();
+            }
+            if (!runIteration(sampleIds, deadline)) {
+                break;
+            }
+            completed++;
+        }
+
+        long elapsed = System.nanoTime() - started;
+        duration.record(elapsed, TimeUnit.NANOSECONDS);
+        long failures = (long) (failed.count() - failedBefore);
+        logger.info("Warm-up finished in {} ms: {} connections opened, {} of {} iterations, {} calls ({} failed)",
+                TimeUnit.NANOSECONDS.toMillis(elapsed), connections, completed, iterations,
+                (long) (succeeded.count() - succeededBefore) + failures, failures);
+    }
+
+    /**
+     * Holds several connections at once so the pool opens them now rather than on the first requests.
+     *
+     * @return the number of connections held at once
+     */
+    private int fillConnectionPool() {
+        int target = 1;
+        try {
+            if (dataSource.isWrapperFor(HikariDataSource.class)) {
+                target = Math.max(1, dataSource.unwrap(HikariDataSource.class).getMinimumIdle());
+            }
+        } catch (Exception ex) {
+            logger.debug("Could not read connection pool size, opening a single connection", ex);
+        }
+
+        List<Connection> held = new ArrayList<>(target);
+        try {
+            while (held.size() < target) {
+                Connection connection = dataSource.getConnection();
+                held.add(connection);
+                connection.isValid(1);
+            }
+        } catch (Exception ex) {
+            logger.warn("Warm-up could only open {} of {} pooled connections: {}", held.size(), target,
+                    ex.getMessage());
+        } finally {
+            for (Connection connection : held) {
+                try {
+                    connection.close();
+                } catch (Exception ignored) {
+                    // returning to the pool; nothing useful to do on failure
+                }
+            }
+        }
+        return held.size();
+    }
+
+    private List<UUID> sampleIds() {
+        try {
+            // Ids are random UUIDs, so the first ones in id order are a spread-out sample
+            return propertyRepository.findIdsOrdered(PageRequest.of(0, sampleSize));
+        } catch (Exception ex) {
+            logger.warn("Warm-up could not sample property ids: {}", ex.getMessage());
+            return List.of();
+        }
+    }
+
+    /**
+     * Runs every warm-up call once.
+     *
+     * @return false if the budget ran out part way through
+     */
+    private boolean runIteration(List<UUID> sampleIds, long deadline) {
+        for (int page = 1; page <= approvedPages; page++) {
+            int pageNumber = page;
+            if (!call(deadline, () -> propertyController.getApprovedProperty(pageNumber, PAGE_SIZE, "gzip"))) {
+                return false;
+            }
+        }
+
+        for (String status : optionsOf(StatusEnum.values())) {
+            for (String type : optionsOf(TypeEnum.values())) {
+                for (String state : optionsOf(StateEnum.values())) {
+                    if (!call(deadline, () -> propertyController.filterPropertiesWithParams(
+                            new PropertyFilterQueryDTO(status, type, state, 1, PAGE_SIZE), "gzip"))) {
+                        return false;
+                    }
+                }
+            }
+        }
+
+        for (UUID id : sampleIds) {
+            // Not through the endpoint, which would count warm-up reads as buyer views
+            if (!call(deadline, () -> propertyController.readPropertyById(id))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /** Enum names plus null, which stands for "no filter on this field". */
+    private static List<String> optionsOf(Enum<?>[] values) {
+        List<String> options = new ArrayList<>(values.length + 1);
+        options.add(null);
+        for (Enum<?> value : values) {
+            options.add(value.name());
+        }
+        return options;
+    }
+
+    private boolean call(long deadline, Runnable request) {
+        if (System.nanoTime() >= deadline) {
+            return false;
+        }
+        try {
+            request.run();
+            succeeded.increment();
+        } catch (Exception ex) {
+            failed.increment();
+            logger.debug("Warm-up call failed: {}", ex.getMessage());
+        }
+        return true;
+    }
+}
@@ -0,0 +1,153 @@
+package com.realState.property_service.module.savedsearch.controller;
+
+import java.util.List;
+import java.util.UUID;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.PutMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.realState.property_service.common.utils.ApiResponse;
+import com.realState.property_service.module.savedsearch.dto.SavedSearchDTO;
+import com.realState.property_service.module.savedsearch.dto.SavedSearchRequestDTO;
+import com.realState.property_service.module.savedsearch.service.SavedSearchService;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import jakarta.validation.Valid;
+
+/**
+ * REST controller for buyers' saved searches. Newly approved properties matching a saved search are
+ * published as match notifications.
+ */
+@RestController
+@RequestMapping(value = { "/properties/saved-searches" })
+public class SavedSearchController {
+
+    private final SavedSearchService savedSearchService;
+
+    public SavedSearchController(SavedSearchService savedSearchService) {
+        this.savedSearchService = savedSearchService;
+    }
+
+    /**
+     * 1. Save a search.
+     */
+    @Operation(
+            summary = "Save a search",
+            description = "Save status/type/state/city/radius criteria; matching properties are notified when approved (Buyer)",
+            tags = { "Buyer APIs" }
+    )
+    @ApiResponses(value = {
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(
+                    responseCode = "201",
+                    description = "Saved search created",
+                    content = @Content(schema = @Schema(implementation = SavedSearchDTO.class))
+            ),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(
+                    responseCode = "400",
+                    description = "Invalid search criteria"
+            )
+    })
+    @PostMapping
+    public ResponseEntity<ApiResponse<SavedSearchDTO>> createSavedSearch(
+            @Valid @RequestBody SavedSearchRequestDTO dto) {
+        SavedSearchDTO savedSearch = savedSearchService.createSavedSearch(dto);
+        return ResponseEntity.status(HttpStatus.CREATED).body(ApiResponse.success(savedSearch));
+    }
+
+    /**
+     * 2. Get a buyer's saved searches.
+     */
+    @Operation(
+            summary = "Get a buyer's saved searches",
+            description = "List the buyer's saved searches, newest first (Buyer)",
+            tags = { "Buyer APIs" }
+    )
+    @GetMapping("/buyer/{buyerId}")
+    public ResponseEntity<ApiResponse<List<SavedSearchDTO>>> getSavedSearchesByBuyer(
+            @Parameter(description = "Buyer ID (UUID format)", required = true)
+            @PathVariable String buyerId) {
+        return ResponseEntity.ok(ApiResponse.success(
+                savedSearchService.getSavedSearchesByBuyer(UUID.fromString(buyerId))));
+    }
+
+    /**
+     * 3. Get a saved search by ID.
+     */
+    @Operation(
+            summary = "Get a saved search",
+            description = "Retrieve a saved search by its ID (Buyer)",
+            tags = { "Buyer APIs" }
+    )
+    @ApiResponses(value = {
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(
+                    responseCode = "200",
+                    description = "Saved search found",
+                    content = @Content(schema = @Schema(implementation = SavedSearchDTO.class))
+            ),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(
+                    responseCode = "404",
+                    description = "Saved search not found"
+            )
+    })
+    @GetMapping("/{id}")
+    public ResponseEntity<ApiResponse<SavedSearchDTO>> getSavedSearchById(
+            @Parameter(description = "Saved search ID", required = true)
+            @PathVariable long id) {
+        return ResponseEntity.ok(ApiResponse.success(savedSearchService.getSavedSearchById(id)));
+    }
+
+    /**
+     * 4. Replace a saved search.
+     */
+    @Operation(
+            summary = "Update a saved search",
+            description = "Replace the name and criteria of one of the buyer's saved searches (Buyer)",
+            tags = { "Buyer APIs" }
+    )
+    @ApiResponses(value = {
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(
+                    responseCode = "200",
+                    description = "Saved search updated",
+                    content = @Content(schema = @Schema(implementation = SavedSearchDTO.class))
+            ),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(
+                    responseCode = "404",
+                    description = "Saved search not found for this buyer"
+            )
+    })
+    @PutMapping("/{id}")
+    public ResponseEntity<ApiResponse<SavedSearchDTO>> updateSavedSearch(
+            @Parameter(description = "Saved search ID", required = true)
+            @PathVariable long id,
+            @Valid @RequestBody SavedSearchRequestDTO dto) {
+        return ResponseEntity.ok(ApiResponse.success(savedSearchService.updateSavedSearch(id, dto)));
+    }
+
+    /**
+     * 5. Delete a saved search.
+     */
+    @Operation(
+            summary = "Delete a saved search",
+            description = "Stop notifying matches for a saved search (Buyer)",
+            tags = { "Buyer APIs" }
+    )
+    @DeleteMapping("/{id}")
+    public ResponseEntity<ApiResponse<Boolean>> deleteSavedSearch(
+            @Parameter(description = "Saved search ID", required = true)
+            @PathVariable long id) {
+        savedSearchService.deleteSavedSearch(id);
+        return ResponseEntity.ok(ApiResponse.success(true));
+    }
+}
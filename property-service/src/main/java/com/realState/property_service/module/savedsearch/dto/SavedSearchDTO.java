@@ -0,0 +1,125 @@
+package com.realState.property_service.module.savedsearch.dto;
+
+import java.time.LocalDateTime;
+import java.util.Set;
+import java.util.UUID;
+
+import com.realState.property_service.database.enums.StateEnum;
+import com.realState.property_service.database.enums.StatusEnum;
+import com.realState.property_service.database.enums.TypeEnum;
+
+/**
+ * DTO representing a saved search.
+ */
+public class SavedSearchDTO {
+
+    private long id;
+    private UUID buyerId;
+    private String name;
+    private Set<StatusEnum> statuses;
+    private Set<TypeEnum> types;
+    private Set<StateEnum> states;
+    private String city;
+    private Double latitude;
+    private Double longitude;
+    private Double radiusKm;
+    private LocalDateTime createdAt;
+    private LocalDateTime updatedAt;
+
+    // Getters and Setters
+    public long getId() {
+        return id;
+    }
+
+    public void setId(long id) {
+        this.id = id;
+    }
+
+    public UUID getBuyerId() {
+        return buyerId;
+    }
+
+    public void setBuyerId(UUID buyerId) {
+        this.buyerId = buyerId;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public void setName(String name) {
+        this.name = name;
+    }
+
+    public Set<StatusEnum> getStatuses() {
+        return statuses;
+    }
+
+    public void setStatuses(Set<StatusEnum> statuses) {
+        this.statuses = statuses;
+    }
+
+    public Set<TypeEnum> getTypes() {
+        return types;
+    }
+
+    public void setTypes(Set<TypeEnum> types) {
+        this.types = types;
+    }
+
+    public Set<StateEnum> getStates() {
+        return states;
+    }
+
+    public void setStates(Set<StateEnum> states) {
+        this.states = states;
+    }
+
+    public String getCity() {
+        return city;
+    }
+
+    public void setCity(String city) {
+        this.city = city;
+    }
+
+    public Double getLatitude() {
+        return latitude;
+    }
+
+    public void setLatitude(Double latitude) {
+        this.latitude = latitude;
+    }
+
+    public Double getLongitude() {
+        return longitude;
+    }
+
+    public void setLongitude(Double longitude) {
+        this.longitude = longitude;
+    }
+
+    public Double getRadiusKm() {
+        return radiusKm;
+    }
+
+    public void setRadiusKm(Double radiusKm) {
+        this.radiusKm = radiusKm;
+    }
+
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+
+    public void setCreatedAt(LocalDateTime createdAt) {
+        this.createdAt = createdAt;
+    }
+
+    public LocalDateTime getUpdatedAt() {
+        return updatedAt;
+    }
+
+    public void setUpdatedAt(LocalDateTime updatedAt) {
+        this.updatedAt = updatedAt;
+    }
+}
@@ -0,0 +1,69 @@
+package com.realState.property_service.module.savedsearch.dto;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Notification that a newly approved property matches a buyer's saved search.
+ */
+public class SavedSearchMatchDTO {
+
+    private long savedSearchId;
+    private UUID buyerId;
+    private UUID propertyId;
+    private String title;
+    private LocalDateTime matchedAt;
+
+    public SavedSearchMatchDTO() {
+    }
+
+    public SavedSearchMatchDTO(long savedSearchId, UUID buyerId, UUID propertyId, String title,
+            LocalDateTime matchedAt) {
+        this.savedSearchId = savedSearchId;
+        this.buyerId = buyerId;
+        this.propertyId = propertyId;
+        this.title = title;
+        this.matchedAt = matchedAt;
+    }
+
+    // Getters and Setters
+    public long getSavedSearchId() {
+        return savedSearchId;
+    }
+
+    public void setSavedSearchId(long savedSearchId) {
+        this.savedSearchId = savedSearchId;
+    }
+
+    public UUID getBuyerId() {
+        return buyerId;
+    }
+
+    public void setBuyerId(UUID buyerId) {
+        this.buyerId = buyerId;
+    }
+
+    public UUID getPropertyId() {
+        return propertyId;
+    }
+
+    public void setPropertyId(UUID propertyId) {
+        this.propertyId = propertyId;
+    }
+
+    public String getTitle() {
+        return title;
+    }
+
+    public void setTitle(String title) {
+        this.title = title;
+    }
+
+    public LocalDateTime getMatchedAt() {
+        return matchedAt;
+    }
+
+    public void setMatchedAt(LocalDateTime matchedAt) {
+        this.matchedAt = matchedAt;
+    }
+}
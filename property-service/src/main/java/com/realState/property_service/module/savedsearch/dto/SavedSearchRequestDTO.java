@@ -0,0 +1,121 @@
+package com.realState.property_service.module.savedsearch.dto;
+
+import java.util.Set;
+import java.util.UUID;
+
+import com.realState.property_service.database.enums.StateEnum;
+import com.realState.property_service.database.enums.StatusEnum;
+import com.realState.property_service.database.enums.TypeEnum;
+
+import jakarta.validation.constraints.DecimalMax;
+import jakarta.validation.constraints.DecimalMin;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+
+/**
+ * DTO for creating or replacing a saved search. Empty criteria match any value.
+ */
+public class SavedSearchRequestDTO {
+
+    @NotNull(message = "Buyer id is required")
+    private UUID buyerId;
+
+    @NotBlank(message = "Name is required")
+    @Size(max = 100, message = "Name cannot exceed 100 characters")
+    private String name;
+
+    private Set<StatusEnum> statuses;
+
+    private Set<TypeEnum> types;
+
+    private Set<StateEnum> states;
+
+    @Size(max = 255, message = "City cannot exceed 255 characters")
+    private String city;
+
+    @DecimalMin(value = "-90", message = "Latitude must be between -90 and 90")
+    @DecimalMax(value = "90", message = "Latitude must be between -90 and 90")
+    private Double latitude;
+
+    @DecimalMin(value = "-180", message = "Longitude must be between -180 and 180")
+    @DecimalMax(value = "180", message = "Longitude must be between -180 and 180")
+    private Double longitude;
+
+    @DecimalMin(value = "0", inclusive = false, message = "Radius must be positive")
+    @DecimalMax(value = "100", message = "Radius cannot exceed 100 km")
+    private Double radiusKm;
+
+    // Getters and Setters
+    public UUID getBuyerId() {
+        return buyerId;
+    }
+
+    public void setBuyerId(UUID buyerId) {
+        this.buyerId = buyerId;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public void setName(String name) {
+        this.name = name;
+    }
+
+    public Set<StatusEnum> getStatuses() {
+        return statuses;
+    }
+
+    public void setStatuses(Set<StatusEnum> statuses) {
+        this.statuses = statuses;
+    }
+
+    public Set<TypeEnum> getTypes() {
+        return types;
+    }
+
+    public void setTypes(Set<TypeEnum> types) {
+        this.types = types;
+    }
+
+    public Set<StateEnum> getStates() {
+        return states;
+    }
+
+    public void setStates(Set<StateEnum> states) {
+        this.states = states;
+    }
+
+    public String getCity() {
+        return city;
+    }
+
+    public void setCity(String city) {
+        this.city = city;
+    }
+
+    public Double getLatitude() {
+        return latitude;
+    }
+
+    public void setLatitude(Double latitude) {
+        this.latitude = latitude;
+    }
+
+    public Double getLongitude() {
+        return longitude;
+    }
+
+    public void setLongitude(Double longitude) {
+        this.longitude = longitude;
+    }
+
+    public Double getRadiusKm() {
+        return radiusKm;
+    }
+
+    public void setRadiusKm(Double radiusKm) {
+        this.radiusKm = radiusKm;
+    }
+}
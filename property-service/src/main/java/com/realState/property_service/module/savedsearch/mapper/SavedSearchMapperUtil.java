@@ -0,0 +1,74 @@
+package com.realState.property_service.module.savedsearch.mapper;
+
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import org.springframework.stereotype.Component;
+
+import com.realState.property_service.common.utils.EnumLookup;
+import com.realState.property_service.database.entity.SavedSearch;
+import com.realState.property_service.database.enums.StateEnum;
+import com.realState.property_service.database.enums.StatusEnum;
+import com.realState.property_service.database.enums.TypeEnum;
+import com.realState.property_service.module.savedsearch.dto.SavedSearchDTO;
+import com.realState.property_service.module.savedsearch.dto.SavedSearchRequestDTO;
+import com.realState.property_service.module.savedsearch.matcher.SavedSearchQuery;
+
+/**
+ * Maps saved searches between the entity (comma-separated enum columns), DTOs and the compiled
+ * matcher query.
+ */
+@Component
+public class SavedSearchMapperUtil {
+
+    private static final EnumLookup<StatusEnum> STATUSES = new EnumLookup<>(StatusEnum.class);
+    private static final EnumLookup<TypeEnum> TYPES = new EnumLookup<>(TypeEnum.class);
+    private static final EnumLookup<StateEnum> STATES = new EnumLookup<>(StateEnum.class);
+
+    /**
+     * Copies the request's criteria onto the entity (the buyer is only set on creation).
+     */
+    public void apply(SavedSearchRequestDTO dto, SavedSearch savedSearch) {
+        savedSearch.setName(dto.getName());
+        savedSearch.setStatuses(join(dto.getStatuses()));
+        savedSearch.setTypes(join(dto.getTypes()));
+        savedSearch.setStates(join(dto.getStates()));
+        savedSearch.setCity(dto.getCity() == null || dto.getCity().isBlank() ? null : dto.getCity().trim());
+        savedSearch.setLatitude(dto.getLatitude());
+        savedSearch.setLongitude(dto.getLongitude());
+        savedSearch.setRadiusKm(dto.getRadiusKm());
+    }
+
+    public SavedSearchDTO mapToDto(SavedSearch savedSearch) {
+        SavedSearchDTO dto = new SavedSearchDTO();
+        dto.setId(savedSearch.getId());
+        dto.setBuyerId(savedSearch.getBuyerId());
+        dto.setName(savedSearch.getName());
+        dto.setStatuses(STATUSES.parseAll(savedSearch.getStatuses(), "statuses"));
+        dto.setTypes(TYPES.parseAll(savedSearch.getTypes(), "types"));
+        dto.setStates(STATES.parseAll(savedSearch.getStates(), "states"));
+        dto.setCity(savedSearch.getCity());
+        dto.setLatitude(savedSearch.getLatitude());
+        dto.setLongitude(savedSearch.getLongitude());
+        dto.setRadiusKm(savedSearch.getRadiusKm());
+        dto.setCreatedAt(savedSearch.getCreatedAt());
+        dto.setUpdatedAt(savedSearch.getUpdatedAt());
+        return dto;
+    }
+
+    public SavedSearchQuery mapToQuery(SavedSearch savedSearch) {
+        return SavedSearchQuery.of(savedSearch.getId(), savedSearch.getBuyerId(),
+                STATUSES.parseAll(savedSearch.getStatuses(), "statuses"),
+                TYPES.parseAll(savedSearch.getTypes(), "types"),
+                STATES.parseAll(savedSearch.getStates(), "states"),
+                savedSearch.getCity(), savedSearch.getLatitude(), savedSearch.getLongitude(),
+                savedSearch.getRadiusKm());
+    }
+
+    private static String join(Set<? extends Enum<?>> values) {
+        if (values == null || values.isEmpty()) {
+            return null;
+        }
+        return values.stream().map(Enum::name).sorted().collect(Collectors.joining(","));
+    }
+}
@@ -0,0 +1,255 @@
+package com.realState.property_service.module.savedsearch.matcher;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+import com.realState.property_service.database.enums.StateEnum;
+import com.realState.property_service.database.enums.StatusEnum;
+import com.realState.property_service.database.enums.TypeEnum;
+
+/**
+ * In-memory percolator: finds the saved searches a listing matches without looking at every search.
+ * <p>
+ * Searches are partitioned by their most selective criterion: searches with a city by city, searches
+ * with only a circle by the grid cell of its centre, and the rest into one shared partition. Inside a
+ * partition each search occupies a slot, and there is one bitmap per status, type and state value (bit
+ * set when the search accepts that value), so the candidates for a listing are the AND of three
+ * bitmaps, scanned 64 slots per word. Only the listing's city partition, the grid cells around it and
+ * the shared partition are scanned; the AND is exact, and circles are the only per-search check.
+ * <p>
+ * Thread-safe: matching takes a shared lock, indexing an exclusive one.
+ */
+public class SavedSearchMatcher {
+
+    // Must not be smaller than the largest search radius, so a circle only reaches neighbouring cells
+    private static final double GEO_CELL_DEGREES = 1.0;
+    private static final double KM_PER_DEGREE = 111.2;
+
+    private record Position(Partition partition, Object key, int slot) {
+    }
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<Long, Position> positions = new HashMap<>();
+    private final Partition shared = new Partition(1024);
+    private final Map<String, Partition> byCity = new HashMap<>();
+    private final Map<Long, Partition> byGeoCell = new HashMap<>();
+
+    /**
+     * Adds a search, replacing any search with the same id.
+     *
+     * @throws IllegalArgumentException if the search radius exceeds the grid cell size
+     */
+    public void put(SavedSearchQuery query) {
+        if (query.getRadiusKm() > GEO_CELL_DEGREES * KM_PER_DEGREE) {
+            throw new IllegalArgumentException("Saved search radius cannot exceed "
+                    + (int) (GEO_CELL_DEGREES * KM_PER_DEGREE) + " km");
+        }
+        lock.writeLock().lock();
+        try {
+            removeLocked(query.getId());
+            Partition partition;
+            Object key;
+            if (query.getCity() != null) {
+                key = query.getCity();
+                partition = byCity.computeIfAbsent(query.getCity(), city -> new Partition(64));
+            } else if (query.hasGeo()) {
+                key = cellKey(cellIndex(query.getLatitude()), cellIndex(query.getLongitude()));
+                partition = byGeoCell.computeIfAbsent((Long) key, cell -> new Partition(64));
+            } else {
+                key = null;
+                partition = shared;
+            }
+            positions.put(query.getId(), new Position(partition, key, partition.add(query)));
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Removes a search; unknown ids are ignored.
+     */
+    public void remove(long id) {
+        lock.writeLock().lock();
+        try {
+            removeLocked(id);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * @param city listing city, compared ignoring case
+     * @return every indexed search the listing matches, in no particular order
+     */
+    public List<SavedSearchQuery> match(StatusEnum status, TypeEnum type, StateEnum state, String city,
+            double latitude, double longitude) {
+        List<SavedSearchQuery> matches = new ArrayList<>();
+        String cityKey = SavedSearchQuery.normalizeCity(city);
+        lock.readLock().lock();
+        try {
+            shared.match(status, type, state, latitude, longitude, matches);
+            Partition cityPartition = cityKey == null ? null : byCity.get(cityKey);
+            if (cityPartition != null) {
+                cityPartition.match(status, type, state, latitude, longitude, matches);
+            }
+            if (!byGeoCell.isEmpty()) {
+                matchGeoCells(status, type, state, latitude, longitude, matches);
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+        return matches;
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return positions.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // A circle reaching the listing is centred at most one radius (one cell of latitude) away; east-west,
+    // cells narrow with latitude, so more of them fit into one radius
+    private void matchGeoCells(StatusEnum status, TypeEnum type, StateEnum state, double latitude,
+            double longitude, List<SavedSearchQuery> matches) {
+        int latIndex = cellIndex(latitude);
+        double maxAbsLat = Math.min(Math.abs(latitude) + 2 * GEO_CELL_DEGREES, 89);
+        int lngReach = (int) Math.ceil(1 / Math.cos(Math.toRadians(maxAbsLat)));
+        int lngIndex = cellIndex(longitude);
+        for (int lat = latIndex - 1; lat <= latIndex + 1; lat++) {
+            for (int lng = lngIndex - lngReach; lng <= lngIndex + lngReach; lng++) {
+                Partition partition = byGeoCell.get(cellKey(lat, lng));
+                if (partition != null) {
+                    partition.match(status, type, state, latitude, longitude, matches);
+                }
+            }
+        }
+    }
+
+    private void removeLocked(long id) {
+        Position position = positions.remove(id);
+        if (position == null) {
+            return;
+        }
+        position.partition().remove(position.slot());
+        if (position.partition().isEmpty() && position.key() != null) {
+            if (position.key() instanceof String city) {
+                byCity.remove(city);
+            } else {
+                byGeoCell.remove((Long) position.key());
+            }
+        }
+    }
+
+    private static int cellIndex(double degrees) {
+        return (int) Math.floor(degrees / GEO_CELL_DEGREES);
+    }
+
+    private static long cellKey(int latIndex, int lngIndex) {
+        return ((long) latIndex << 32) | (lngIndex & 0xffffffffL);
+    }
+
+    /**
+     * Slots plus one bitmap per enum value over them. Not thread-safe on its own.
+     */
+    private static final class Partition {
+
+        private SavedSearchQuery[] bySlot;
+        private final long[][] statusBits;
+        private final long[][] typeBits;
+        private final long[][] stateBits;
+        private int[] freeSlots = new int[8];
+        private int freeCount;
+        private int nextSlot;
+
+        Partition(int initialSlots) {
+            bySlot = new SavedSearchQuery[initialSlots];
+            statusBits = new long[StatusEnum.values().length][initialSlots / 64];
+            typeBits = new long[TypeEnum.values().length][initialSlots / 64];
+            stateBits = new long[StateEnum.values().length][initialSlots / 64];
+        }
+
+        int add(SavedSearchQuery query) {
+            int slot = allocateSlot();
+            bySlot[slot] = query;
+            setBits(statusBits, query.getStatusMask(), slot, true);
+            setBits(typeBits, query.getTypeMask(), slot, true);
+            setBits(stateBits, query.getStateMask(), slot, true);
+            return slot;
+        }
+
+        void remove(int slot) {
+            SavedSearchQuery query = bySlot[slot];
+            setBits(statusBits, query.getStatusMask(), slot, false);
+            setBits(typeBits, query.getTypeMask(), slot, false);
+            setBits(stateBits, query.getStateMask(), slot, false);
+            bySlot[slot] = null;
+            if (freeCount == freeSlots.length) {
+                freeSlots = Arrays.copyOf(freeSlots, freeCount * 2);
+            }
+            freeSlots[freeCount++] = slot;
+        }
+
+        boolean isEmpty() {
+            return freeCount == nextSlot;
+        }
+
+        void match(StatusEnum status, TypeEnum type, StateEnum state, double latitude, double longitude,
+                List<SavedSearchQuery> matches) {
+            long[] statuses = statusBits[status.ordinal()];
+            long[] types = typeBits[type.ordinal()];
+            long[] states = stateBits[state.ordinal()];
+            int words = (nextSlot + 63) >>> 6;
+            for (int word = 0; word < words; word++) {
+                long bits = statuses[word] & types[word] & states[word];
+                while (bits != 0) {
+                    SavedSearchQuery query = bySlot[(word << 6) | Long.numberOfTrailingZeros(bits)];
+                    if (!query.hasGeo() || query.distanceKm(latitude, longitude) <= query.getRadiusKm()) {
+                        matches.add(query);
+                    }
+                    bits &= bits - 1;
+                }
+            }
+        }
+
+        private int allocateSlot() {
+            if (freeCount > 0) {
+                return freeSlots[--freeCount];
+            }
+            if (nextSlot == bySlot.length) {
+                int capacity = bySlot.length * 2;
+                bySlot = Arrays.copyOf(bySlot, capacity);
+                grow(statusBits, capacity);
+                grow(typeBits, capacity);
+                grow(stateBits, capacity);
+            }
+            return nextSlot++;
+        }
+
+        private static void grow(long[][] bitmaps, int capacity) {
+            for (int i = 0; i < bitmaps.length; i++) {
+                bitmaps[i] = Arrays.copyOf(bitmaps[i], capacity / 64);
+            }
+        }
+
+        private static void setBits(long[][] bitmaps, int mask, int slot, boolean value) {
+            long bit = 1L << slot;
+            for (int i = 0; i < bitmaps.length; i++) {
+                if ((mask & (1 << i)) != 0) {
+                    if (value) {
+                        bitmaps[i][slot >>> 6] |= bit;
+                    } else {
+                        bitmaps[i][slot >>> 6] &= ~bit;
+                    }
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,152 @@
+package com.realState.property_service.module.savedsearch.matcher;
+
+import java.util.Locale;
+import java.util.Set;
+import java.util.UUID;
+
+import com.realState.property_service.database.enums.StateEnum;
+import com.realState.property_service.database.enums.StatusEnum;
+import com.realState.property_service.database.enums.TypeEnum;
+
+/**
+ * A saved search compiled for matching: enum criteria as bit masks over the enum ordinals (every bit
+ * set when the search accepts any value), the city normalized, and the geo criterion as a circle.
+ */
+public final class SavedSearchQuery {
+
+    private static final double EARTH_RADIUS_KM = 6371;
+
+    private final long id;
+    private final UUID buyerId;
+    private final int statusMask;
+    private final int typeMask;
+    private final int stateMask;
+    private final String city;
+    private final double latitude;
+    private final double longitude;
+    private final double radiusKm;
+
+    private SavedSearchQuery(long id, UUID buyerId, int statusMask, int typeMask, int stateMask, String city,
+            double latitude, double longitude, double radiusKm) {
+        this.id = id;
+        this.buyerId = buyerId;
+        this.statusMask = statusMask;
+        this.typeMask = typeMask;
+        this.stateMask = stateMask;
+        this.city = city;
+        this.latitude = latitude;
+        this.longitude = longitude;
+        this.radiusKm = radiusKm;
+    }
+
+    /**
+     * @param statuses  accepted statuses; empty means any
+     * @param types     accepted types; empty means any
+     * @param states    accepted states; empty means any
+     * @param city      accepted city, compared ignoring case; null or blank means any
+     * @param latitude  centre of the search circle; the circle is ignored unless all three geo values are set
+     * @param longitude centre of the search circle
+     * @param radiusKm  radius of the search circle
+     */
+    public static SavedSearchQuery of(long id, UUID buyerId, Set<StatusEnum> statuses, Set<TypeEnum> types,
+            Set<StateEnum> states, String city, Double latitude, Double longitude, Double radiusKm) {
+        boolean geo = latitude != null && longitude != null && radiusKm != null && radiusKm > 0;
+        return new SavedSearchQuery(id, buyerId,
+                mask(statuses, StatusEnum.values().length),
+                mask(types, TypeEnum.values().length),
+                mask(states, StateEnum.values().length),
+                normalizeCity(city),
+                geo ? latitude : 0, geo ? longitude : 0, geo ? radiusKm : 0);
+    }
+
+    /**
+     * @return the city key used for matching, or null for a blank city
+     */
+    public static String normalizeCity(String city) {
+        return city == null || city.isBlank() ? null : city.trim().toLowerCase(Locale.ROOT);
+    }
+
+    private static int mask(Set<? extends Enum<?>> values, int size) {
+        if (values == null || values.isEmpty()) {
+            return (1 << size) - 1;
+        }
+        int mask = 0;
+        for (Enum<?> value : values) {
+            mask |= 1 << value.ordinal();
+        }
+        return mask;
+    }
+
+    /**
+     * Full check of one listing against this search; the matcher only calls it for candidates its
+     * index could not decide on (searches with a city or a circle).
+     *
+     * @param city normalized listing city (see {@link #normalizeCity})
+     */
+    public boolean matches(StatusEnum status, TypeEnum type, StateEnum state, String city, double latitude,
+            double longitude) {
+        return acceptsStatus(status) && acceptsType(type) && acceptsState(state)
+                && (this.city == null || this.city.equals(city))
+                && (!hasGeo() || distanceKm(latitude, longitude) <= radiusKm);
+    }
+
+    boolean acceptsStatus(StatusEnum status) {
+        return (statusMask & (1 << status.ordinal())) != 0;
+    }
+
+    boolean acceptsType(TypeEnum type) {
+        return (typeMask & (1 << type.ordinal())) != 0;
+    }
+
+    boolean acceptsState(StateEnum state) {
+        return (stateMask & (1 << state.ordinal())) != 0;
+    }
+
+    double distanceKm(double latitude, double longitude) {
+        double dLat = Math.toRadians(latitude - this.latitude);
+        double dLng = Math.toRadians(longitude - this.longitude);
+        double a = Math.sin(dLat / 2) * Math.sin(dLat / 2) + Math.cos(Math.toRadians(this.latitude))
+                * Math.cos(Math.toRadians(latitude)) * Math.sin(dLng / 2) * Math.sin(dLng / 2);
+        return 2 * EARTH_RADIUS_KM * Math.asin(Math.min(1, Math.sqrt(a)));
+    }
+
+    public boolean hasGeo() {
+        return radiusKm > 0;
+    }
+
+    public long getId() {
+        return id;
+    }
+
+    public UUID getBuyerId() {
+        return buyerId;
+    }
+
+    int getStatusMask() {
+        return statusMask;
+    }
+
+    int getTypeMask() {
+        return typeMask;
+    }
+
+    int getStateMask() {
+        return stateMask;
+    }
+
+    public String getCity() {
+        return city;
+    }
+
+    public double getLatitude() {
+        return latitude;
+    }
+
+    public double getLongitude() {
+        return longitude;
+    }
+
+    public double getRadiusKm() {
+        return radiusKm;
+    }
+}
@@ -0,0 +1,241 @@
+package com.realState.property_service.module.savedsearch.service;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import com.realState.property_service.common.utils.TransactionUtils;
+import com.realState.property_service.database.entity.Location;
+import com.realState.property_service.database.entity.Property;
+import com.realState.property_service.database.entity.SavedSearch;
+import com.realState.property_service.database.enums.StateEnum;
+import com.realState.property_service.database.enums.StatusEnum;
+import com.realState.property_service.database.enums.TypeEnum;
+import com.realState.property_service.database.repository.SavedSearchRepository;
+import com.realState.property_service.module.savedsearch.dto.SavedSearchMatchDTO;
+import com.realState.property_service.module.savedsearch.mapper.SavedSearchMapperUtil;
+import com.realState.property_service.module.savedsearch.matcher.SavedSearchMatcher;
+import com.realState.property_service.module.savedsearch.matcher.SavedSearchQuery;
+import com.realState.property_service.module.savedsearch.sink.SavedSearchMatchSink;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+
+/**
+ * Matches newly approved properties against all saved searches and hands the matches to the
+ * {@link SavedSearchMatchSink}.
+ * <p>
+ * The searches live in an in-memory {@link SavedSearchMatcher}, loaded once the application is ready.
+ * Changes made through this instance are applied after commit; changes made through other instances
+ * are picked up by a periodic sync of recently updated rows. Percolation runs on a single background
+ * thread after the approving transaction commits, behind the initial load, so an approval never waits
+ * for matching or notification and never misses searches that were still loading.
+ */
+@Service
+public class SavedSearchPercolator {
+
+    private static final Logger logger = LoggerFactory.getLogger(SavedSearchPercolator.class);
+
+    private static final int LOAD_PAGE_SIZE = 10_000;
+    private static final int SYNC_PAGE_SIZE = 1_000;
+    // Re-reads rows updated shortly before the last sync, in case their transaction committed late
+    private static final long SYNC_OVERLAP_SECONDS = 30;
+
+    private record Listing(UUID id, String title, StatusEnum status, TypeEnum type, StateEnum state, String city,
+            double latitude, double longitude) {
+    }
+
+    private final SavedSearchRepository savedSearchRepository;
+    private final SavedSearchMapperUtil savedSearchMapperUtil;
+    private final SavedSearchMatchSink sink;
+    private final SavedSearchMatcher matcher = new SavedSearchMatcher();
+    private final ThreadPoolExecutor executor;
+    private final boolean enabled;
+
+    private volatile boolean loaded;
+    private LocalDateTime syncedFrom;
+
+    private final Counter matchesFound;
+    private final Counter percolated;
+    private final Counter dropped;
+    private final Counter sinkFailures;
+    private final Timer matchTimer;
+
+    public SavedSearchPercolator(SavedSearchRepository savedSearchRepository,
+            SavedSearchMapperUtil savedSearchMapperUtil,
+            SavedSearchMatchSink sink,
+            MeterRegistry meterRegistry,
+            @Value("${property.savedsearch.enabled:true}") boolean enabled,
+            @Value("${property.savedsearch.queue-capacity:10000}") int queueCapacity) {
+        this.savedSearchRepository = savedSearchRepository;
+        this.savedSearchMapperUtil = savedSearchMapperUtil;
+        this.sink = sink;
+        this.enabled = enabled;
+        this.executor = new ThreadPoolExecutor(1, 1, 0, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity), runnable -> {
+                    Thread thread = new Thread(runnable, "saved-search-percolator");
+                    thread.setDaemon(true);
+                    return thread;
+                });
+
+        this.matchesFound = meterRegistry.counter("property.savedsearch.matches");
+        this.percolated = meterRegistry.counter("property.savedsearch.percolations", "result", "done");
+        this.dropped = meterRegistry.counter("property.savedsearch.percolations", "result", "dropped");
+        this.sinkFailures = meterRegistry.counter("property.savedsearch.percolations", "result", "sink_failed");
+        this.matchTimer = Timer.builder("property.savedsearch.match.latency").register(meterRegistry);
+        Gauge.builder("property.savedsearch.indexed", matcher, SavedSearchMatcher::size).register(meterRegistry);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onReady() {
+        if (enabled) {
+            submit(this::load);
+        }
+    }
+
+    /**
+     * Queues the property for matching once the current transaction commits. The listing is
+     * snapshotted now, so later changes to the entity do not leak into the notification.
+     */
+    public void percolateAfterCommit(Property property) {
+        if (!enabled) {
+            return;
+        }
+        Location location = property.getLocation();
+        Listing listing = new Listing(property.getId(), property.getTitle(), property.getStatus(),
+                property.getType(), location.getState(), location.getCity(), location.getLatitude(),
+                location.getLongitude());
+        TransactionUtils.afterCommit(() -> submit(() -> percolate(listing)));
+    }
+
+    /**
+     * Indexes (or re-indexes) a saved search once the current transaction commits.
+     */
+    public void indexAfterCommit(SavedSearch savedSearch) {
+        SavedSearchQuery query = savedSearchMapperUtil.mapToQuery(savedSearch);
+        TransactionUtils.afterCommit(() -> matcher.put(query));
+    }
+
+    /**
+     * Drops a saved search from the index once the current transaction commits.
+     */
+    public void removeAfterCommit(long savedSearchId) {
+        TransactionUtils.afterCommit(() -> matcher.remove(savedSearchId));
+    }
+
+    /**
+     * Applies saved searches created, changed or deleted through other instances.
+     */
+    @Scheduled(fixedDelayString = "${property.savedsearch.sync-interval-ms:5000}")
+    public void sync() {
+        if (!enabled || !loaded) {
+            return;
+        }
+        try {
+            LocalDateTime next = LocalDateTime.now();
+            LocalDateTime since = syncedFrom.minusSeconds(SYNC_OVERLAP_SECONDS);
+            int changed = 0;
+            for (int page = 0; ; page++) {
+                List<SavedSearch> rows = savedSearchRepository.findChangedSince(since,
+                        PageRequest.of(page, SYNC_PAGE_SIZE));
+                rows.forEach(this::apply);
+                changed += rows.size();
+                if (rows.size() < SYNC_PAGE_SIZE) {
+                    break;
+                }
+            }
+            syncedFrom = next;
+            logger.debug("Saved search sync applied {} rows", changed);
+        } catch (Exception ex) {
+            logger.warn("Saved search sync failed, retrying on the next run", ex);
+        }
+    }
+
+    private void load() {
+        long started = System.currentTimeMillis();
+        syncedFrom = LocalDateTime.now();
+        long afterId = 0;
+        List<SavedSearch> page = savedSearchRepository.findActiveAfter(afterId, PageRequest.of(0, LOAD_PAGE_SIZE));
+        while (!page.isEmpty()) {
+            page.forEach(this::apply);
+            afterId = page.get(page.size() - 1).getId();
+            if (page.size() < LOAD_PAGE_SIZE) {
+                break;
+            }
+            page = savedSearchRepository.findActiveAfter(afterId, PageRequest.of(0, LOAD_PAGE_SIZE));
+        }
+        loaded = true;
+        logger.info("Loaded {} saved searches in {} ms", matcher.size(), System.currentTimeMillis() - started);
+    }
+
+    private void apply(SavedSearch savedSearch) {
+        if (savedSearch.isActive()) {
+            matcher.put(savedSearchMapperUtil.mapToQuery(savedSearch));
+        } else {
+            matcher.remove(savedSearch.getId());
+        }
+    }
+
+    private void percolate(Listing listing) {
+        long started = System.nanoTime();
+        List<SavedSearchQuery> queries = matcher.match(listing.status(), listing.type(), listing.state(),
+                listing.city(), listing.latitude(), listing.longitude());
+        matchTimer.record(System.nanoTime() - started, TimeUnit.NANOSECONDS);
+        percolated.increment();
+        if (queries.isEmpty()) {
+            return;
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        List<SavedSearchMatchDTO> matches = new ArrayList<>(queries.size());
+        for (SavedSearchQuery query : queries) {
+            matches.add(new SavedSearchMatchDTO(query.getId(), query.getBuyerId(), listing.id(), listing.title(), now));
+        }
+        matchesFound.increment(matches.size());
+        try {
+            sink.publish(matches);
+            logger.info("Property with ID={} matched {} saved searches", listing.id(), matches.size());
+        } catch (Exception ex) {
+            sinkFailures.increment();
+            logger.warn("Failed to publish {} saved search matches for property ID={}", matches.size(),
+                    listing.id(), ex);
+        }
+    }
+
+    private void submit(Runnable task) {
+        try {
+            executor.execute(() -> {
+                try {
+                    task.run();
+                } catch (Exception ex) {
+                    logger.error("Saved search percolator task failed", ex);
+                }
+            });
+        } catch (RejectedExecutionException ex) {
+            dropped.increment();
+            logger.warn("Saved search percolator queue is full, dropping task");
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
+}
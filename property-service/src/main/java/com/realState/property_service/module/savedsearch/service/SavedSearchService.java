@@ -0,0 +1,56 @@
+package com.realState.property_service.module.savedsearch.service;
+
+import java.util.List;
+import java.util.UUID;
+
+import com.realState.property_service.module.savedsearch.dto.SavedSearchDTO;
+import com.realState.property_service.module.savedsearch.dto.SavedSearchRequestDTO;
+
+/**
+ * Service interface for buyers' saved searches.
+ * <p>
+ * Every change is reflected in the percolator's index, so newly approved properties are matched
+ * against the current set of searches.
+ */
+public interface SavedSearchService {
+
+    /**
+     * 1. Save a new search for a buyer.
+     *
+     * @param dto the buyer and search criteria
+     * @return the saved search
+     */
+    SavedSearchDTO createSavedSearch(SavedSearchRequestDTO dto);
+
+    /**
+     * 2. Get a saved search by its ID.
+     *
+     * @param id the saved search ID
+     * @return the saved search
+     */
+    SavedSearchDTO getSavedSearchById(long id);
+
+    /**
+     * 3. Get all saved searches of a buyer, newest first.
+     *
+     * @param buyerId the buyer's UUID
+     * @return the buyer's saved searches
+     */
+    List<SavedSearchDTO> getSavedSearchesByBuyer(UUID buyerId);
+
+    /**
+     * 4. Replace the name and criteria of a saved search.
+     *
+     * @param id  the saved search ID
+     * @param dto the new criteria; the buyer must be the search's owner
+     * @return the updated saved search
+     */
+    SavedSearchDTO updateSavedSearch(long id, SavedSearchRequestDTO dto);
+
+    /**
+     * 5. Delete a saved search.
+     *
+     * @param id the saved search ID
+     */
+    void deleteSavedSearch(long id);
+}
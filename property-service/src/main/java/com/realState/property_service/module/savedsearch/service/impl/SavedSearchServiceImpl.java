@@ -0,0 +1,131 @@
+package com.realState.property_service.module.savedsearch.service.impl;
+
+import java.util.List;
+import java.util.UUID;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.realState.property_service.common.exceptions.savedsearch.SavedSearchNotFoundException;
+import com.realState.property_service.database.entity.SavedSearch;
+import com.realState.property_service.database.repository.SavedSearchRepository;
+import com.realState.property_service.module.savedsearch.dto.SavedSearchDTO;
+import com.realState.property_service.module.savedsearch.dto.SavedSearchRequestDTO;
+import com.realState.property_service.module.savedsearch.mapper.SavedSearchMapperUtil;
+import com.realState.property_service.module.savedsearch.service.SavedSearchPercolator;
+import com.realState.property_service.module.savedsearch.service.SavedSearchService;
+
+@Service
+public class SavedSearchServiceImpl implements SavedSearchService {
+
+    private static final Logger logger = LoggerFactory.getLogger(SavedSearchServiceImpl.class);
+
+    private final SavedSearchRepository savedSearchRepository;
+    private final SavedSearchMapperUtil savedSearchMapperUtil;
+    private final SavedSearchPercolator savedSearchPercolator;
+
+    public SavedSearchServiceImpl(SavedSearchRepository savedSearchRepository,
+            SavedSearchMapperUtil savedSearchMapperUtil, SavedSearchPercolator savedSearchPercolator) {
+        this.savedSearchRepository = savedSearchRepository;
+        this.savedSearchMapperUtil = savedSearchMapperUtil;
+        this.savedSearchPercolator = savedSearchPercolator;
+    }
+
+    /**
+     * 1. Saves a new search and indexes it after commit.
+     *
+     * @throws IllegalArgumentException if the geo criteria are incomplete
+     */
+    @Override
+    @Transactional
+    public SavedSearchDTO createSavedSearch(SavedSearchRequestDTO dto) {
+        validateGeo(dto);
+
+        SavedSearch savedSearch = new SavedSearch();
+        savedSearch.setBuyerId(dto.getBuyerId());
+        savedSearchMapperUtil.apply(dto, savedSearch);
+        savedSearch = savedSearchRepository.save(savedSearch);
+        savedSearchPercolator.indexAfterCommit(savedSearch);
+
+        logger.info("Saved search id={} created for buyer={}", savedSearch.getId(), savedSearch.getBuyerId());
+        return savedSearchMapperUtil.mapToDto(savedSearch);
+    }
+
+    /**
+     * 2. Returns an active saved search.
+     *
+     * @throws SavedSearchNotFoundException if there is no active search with this id
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public SavedSearchDTO getSavedSearchById(long id) {
+        return savedSearchMapperUtil.mapToDto(findActive(id));
+    }
+
+    /**
+     * 3. Returns a buyer's active saved searches, newest first.
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public List<SavedSearchDTO> getSavedSearchesByBuyer(UUID buyerId) {
+        return savedSearchRepository.findByBuyerIdAndActiveTrueOrderByIdDesc(buyerId).stream()
+                .map(savedSearchMapperUtil::mapToDto)
+                .toList();
+    }
+
+    /**
+     * 4. Replaces a search's criteria and re-indexes it after commit.
+     *
+     * @throws SavedSearchNotFoundException if there is no active search with this id for this buyer
+     * @throws IllegalArgumentException     if the geo criteria are incomplete
+     */
+    @Override
+    @Transactional
+    public SavedSearchDTO updateSavedSearch(long id, SavedSearchRequestDTO dto) {
+        validateGeo(dto);
+
+        SavedSearch savedSearch = findActive(id);
+        if (!savedSearch.getBuyerId().equals(dto.getBuyerId())) {
+            // Same answer as a missing search, so ids of other buyers' searches cannot be probed
+            throw new SavedSearchNotFoundException("Saved search not found with id=" + id);
+        }
+        savedSearchMapperUtil.apply(dto, savedSearch);
+        savedSearch = savedSearchRepository.save(savedSearch);
+        savedSearchPercolator.indexAfterCommit(savedSearch);
+
+        logger.info("Saved search id={} updated", id);
+        return savedSearchMapperUtil.mapToDto(savedSearch);
+    }
+
+    /**
+     * 5. Deactivates a search (other instances drop it on their next sync) and removes it from the
+     * local index after commit.
+     *
+     * @throws SavedSearchNotFoundException if there is no active search with this id
+     */
+    @Override
+    @Transactional
+    public void deleteSavedSearch(long id) {
+        SavedSearch savedSearch = findActive(id);
+        savedSearch.setActive(false);
+        savedSearchRepository.save(savedSearch);
+        savedSearchPercolator.removeAfterCommit(id);
+
+        logger.info("Saved search id={} deleted", id);
+    }
+
+    private SavedSearch findActive(long id) {
+        return savedSearchRepository.findByIdAndActiveTrue(id)
+                .orElseThrow(() -> new SavedSearchNotFoundException("Saved search not found with id=" + id));
+    }
+
+    private static void validateGeo(SavedSearchRequestDTO dto) {
+        int geoValues = (dto.getLatitude() != null ? 1 : 0) + (dto.getLongitude() != null ? 1 : 0)
+                + (dto.getRadiusKm() != null ? 1 : 0);
+        if (geoValues != 0 && geoValues != 3) {
+            throw new IllegalArgumentException("latitude, longitude and radiusKm must be given together");
+        }
+    }
+}
@@ -0,0 +1,52 @@
+package com.realState.property_service.module.savedsearch.sink;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.realState.property_service.module.savedsearch.dto.SavedSearchMatchDTO;
+
+/**
+ * Sink that POSTs the matches of each approved property as a JSON array to a notification endpoint.
+ */
+@Component
+@ConditionalOnProperty(name = "property.savedsearch.sink.type", havingValue = "http")
+public class HttpSavedSearchMatchSink implements SavedSearchMatchSink {
+
+    private final HttpClient httpClient;
+    private final ObjectMapper objectMapper;
+    private final URI endpoint;
+    private final Duration timeout;
+
+    public HttpSavedSearchMatchSink(ObjectMapper objectMapper,
+            @Value("${property.savedsearch.sink.http.url}") String url,
+            @Value("${property.savedsearch.sink.http.timeout-ms:5000}") long timeoutMs) {
+        this.objectMapper = objectMapper;
+        this.endpoint = URI.create(url);
+        this.timeout = Duration.ofMillis(timeoutMs);
+        this.httpClient = HttpClient.newBuilder().connectTimeout(timeout).build();
+    }
+
+    @Override
+    public void publish(List<SavedSearchMatchDTO> matches) throws IOException, InterruptedException {
+        HttpRequest request = HttpRequest.newBuilder(endpoint)
+                .timeout(timeout)
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofByteArray(objectMapper.writeValueAsBytes(matches)))
+                .build();
+
+        HttpResponse<Void> response = httpClient.send(request, HttpResponse.BodyHandlers.discarding());
+        if (response.statusCode() / 100 != 2) {
+            throw new IOException("Saved search sink responded with HTTP " + response.statusCode());
+        }
+    }
+}
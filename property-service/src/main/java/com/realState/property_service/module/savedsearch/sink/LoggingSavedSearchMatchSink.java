@@ -0,0 +1,28 @@
+package com.realState.property_service.module.savedsearch.sink;
+
+import java.util.List;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import com.realState.property_service.module.savedsearch.dto.SavedSearchMatchDTO;
+
+/**
+ * In-process sink that only logs matches. Used when no notification endpoint is configured.
+ */
+@Component
+@ConditionalOnProperty(name = "property.savedsearch.sink.type", havingValue = "log", matchIfMissing = true)
+public class LoggingSavedSearchMatchSink implements SavedSearchMatchSink {
+
+    private static final Logger logger = LoggerFactory.getLogger(LoggingSavedSearchMatchSink.class);
+
+    @Override
+    public void publish(List<SavedSearchMatchDTO> matches) {
+        for (SavedSearchMatchDTO match : matches) {
+            logger.debug("Saved search id={} buyerId={} matched propertyId={}",
+                    match.getSavedSearchId(), match.getBuyerId(), match.getPropertyId());
+        }
+    }
+}
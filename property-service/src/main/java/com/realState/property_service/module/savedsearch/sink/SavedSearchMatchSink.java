@@ -0,0 +1,22 @@
+package com.realState.property_service.module.savedsearch.sink;
+
+import java.util.List;
+
+import com.realState.property_service.module.savedsearch.dto.SavedSearchMatchDTO;
+
+/**
+ * Destination for saved-search match notifications.
+ * <p>
+ * Called once per approved property with all of its matches, off the request thread. Delivery is
+ * best effort: a failed batch is logged and counted, not retried.
+ */
+public interface SavedSearchMatchSink {
+
+    /**
+     * Publishes the matches of one approved property.
+     *
+     * @param matches matches for a single property, never empty
+     * @throws Exception if the batch could not be delivered
+     */
+    void publish(List<SavedSearchMatchDTO> matches) throws Exception;
+}
@@ -0,0 +1,67 @@
+package com.realState.property_service.module.view.controller;
+
+import java.util.UUID;
+
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.realState.property_service.common.utils.ApiResponse;
+import com.realState.property_service.module.view.dto.PropertyViewsDTO;
+import com.realState.property_service.module.view.service.PropertyViewService;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+
+/**
+ * REST controller for property detail view counts.
+ */
+@RestController
+@RequestMapping(value = { "/properties" })
+public class PropertyViewController {
+
+    private final PropertyViewService propertyViewService;
+
+    public PropertyViewController(PropertyViewService propertyViewService) {
+        this.propertyViewService = propertyViewService;
+    }
+
+    /**
+     * 1. Get a property's view counts.
+     */
+    @Operation(
+            summary = "Get property view counts",
+            description = "Get the total detail views of a property and one bucket per day for the last days days, oldest first (Seller)",
+            tags = { "Seller APIs" }
+    )
+    @ApiResponses(value = {
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(
+                    responseCode = "200",
+                    description = "View counts retrieved successfully",
+                    content = @Content(schema = @Schema(implementation = PropertyViewsDTO.class))
+            ),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(
+                    responseCode = "404",
+                    description = "Property not found"
+            ),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(
+                    responseCode = "400",
+                    description = "Invalid property ID or days"
+            )
+    })
+    @GetMapping("/{property_id}/views")
+    public ResponseEntity<ApiResponse<PropertyViewsDTO>> getPropertyViews(
+            @Parameter(description = "Property ID (UUID format)", required = true)
+            @PathVariable String property_id,
+            @Parameter(description = "Number of daily buckets ending today (1-365)")
+            @RequestParam(defaultValue = "30") int days) {
+        PropertyViewsDTO views = propertyViewService.getViews(UUID.fromString(property_id), days);
+        return ResponseEntity.ok(ApiResponse.success(views));
+    }
+}
@@ -0,0 +1,37 @@
+package com.realState.property_service.module.view.dto;
+
+import java.time.LocalDate;
+
+/**
+ * Detail views of a property on one day.
+ */
+public class PropertyViewDayDTO {
+
+    private LocalDate date;
+    private long views;
+
+    public PropertyViewDayDTO() {
+    }
+
+    public PropertyViewDayDTO(LocalDate date, long views) {
+        this.date = date;
+        this.views = views;
+    }
+
+    // Getters and Setters
+    public LocalDate getDate() {
+        return date;
+    }
+
+    public void setDate(LocalDate date) {
+        this.date = date;
+    }
+
+    public long getViews() {
+        return views;
+    }
+
+    public void setViews(long views) {
+        this.views = views;
+    }
+}
@@ -0,0 +1,49 @@
+package com.realState.property_service.module.view.dto;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Detail views of a property: the all-time total and one bucket per day of the requested window,
+ * oldest first, including days without views.
+ */
+public class PropertyViewsDTO {
+
+    private UUID propertyId;
+    private long total;
+    private List<PropertyViewDayDTO> days;
+
+    public PropertyViewsDTO() {
+    }
+
+    public PropertyViewsDTO(UUID propertyId, long total, List<PropertyViewDayDTO> days) {
+        this.propertyId = propertyId;
+        this.total = total;
+        this.days = days;
+    }
+
+    // Getters and Setters
+    public UUID getPropertyId() {
+        return propertyId;
+    }
+
+    public void setPropertyId(UUID propertyId) {
+        this.propertyId = propertyId;
+    }
+
+    public long getTotal() {
+        return total;
+    }
+
+    public void setTotal(long total) {
+        this.total = total;
+    }
+
+    public List<PropertyViewDayDTO> getDays() {
+        return days;
+    }
+
+    public void setDays(List<PropertyViewDayDTO> days) {
+        this.days = days;
+    }
+}
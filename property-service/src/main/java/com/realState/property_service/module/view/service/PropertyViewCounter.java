@@ -0,0 +1,201 @@
+package com.realState.property_service.module.view.service;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.realState.property_service.common.utils.SqlUtils;
+import com.realState.property_service.common.utils.UuidBytes;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+
+/**
+ * Counts property detail views in memory and adds them to the {@code property_views} table in
+ * batches, so the hottest buyer read never writes a row or takes a row lock.
+ * <p>
+ * Each (property, day) pair has its own {@link LongAdder}, which stripes concurrent increments of a
+ * popular listing across cells instead of contending on one value. Every
+ * {@code flush-interval-ms} the adders are read and reset and the deltas are written, up to
+ * {@code batch-size} rows per transaction: one JDBC batch of {@code views = views + ?} updates,
+ * then one multi-row INSERT for the pairs that had no row yet. A failed batch is added back to the
+ * counters and retried by the next flush. Past days are dropped from memory once flushed, so the
+ * map only holds the properties viewed today. On shutdown the counters are flushed before the data
+ * source closes.
+ * <p>
+ * The trade-off of writing behind: views counted since the last flush are lost when the process
+ * dies, so at most {@code flush-interval-ms} worth.
+ */
+@Service
+public class PropertyViewCounter {
+
+    private static final Logger logger = LoggerFactory.getLogger(PropertyViewCounter.class);
+
+    private static final String UPDATE = "UPDATE property_views SET views = views + ? "
+            + "WHERE property_id = ? AND view_date = ?";
+    private static final String INSERT = "INSERT INTO property_views (property_id, view_date, views) VALUES ";
+    private static final String ROW = "(?, ?, ?)";
+
+    private record Key(UUID propertyId, LocalDate day) {
+    }
+
+    private record Delta(Key key, long views) {
+    }
+
+    private final ConcurrentHashMap<Key, LongAdder> counters = new ConcurrentHashMap<>();
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final boolean enabled;
+    private final int batchSize;
+
+    private final Counter flushed;
+    private final Counter failed;
+    private final Timer flushTimer;
+
+    public PropertyViewCounter(JdbcTemplate jdbcTemplate,
+            PlatformTransactionManager transactionManager,
+            MeterRegistry meterRegistry,
+            @Value("${property.views.enabled:true}") boolean enabled,
+            @Value("${property.views.batch-size:500}") int batchSize) {
+        if (batchSize < 1) {
+            throw new IllegalArgumentException("View flush batch size must be positive");
+        }
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.enabled = enabled;
+        this.batchSize = batchSize;
+
+        this.flushed = meterRegistry.counter("property.views.flushed", "result", "written");
+        this.failed = meterRegistry.counter("property.views.flushed", "result", "failed");
+        this.flushTimer = Timer.builder("property.views.flush").register(meterRegistry);
+        Gauge.builder("property.views.pending", counters, Map::size).register(meterRegistry);
+    }
+
+    /**
+     * Counts one detail view of a property today.
+     */
+    public void record(UUID propertyId) {
+        if (!enabled) {
+            return;
+        }
+        Key key = new Key(propertyId, LocalDate.now());
+        // Plain get first: the common case is an existing counter and must not lock the bin
+        LongAdder adder = counters.get(key);
+        if (adder == null) {
+            adder = counters.computeIfAbsent(key, k -> new LongAdder());
+        }
+        adder.increment();
+    }
+
+    /**
+     * Views of a property on a day that have been counted but not flushed yet.
+     */
+    public long pendingViews(UUID propertyId, LocalDate day) {
+        LongAdder adder = counters.get(new Key(propertyId, day));
+        return adder == null ? 0 : adder.sum();
+    }
+
+    /**
+     * Writes the counted views to the database.
+     */
+    @Scheduled(fixedDelayString = "${property.views.flush-interval-ms:10000}")
+    public synchronized void flush() {
+        if (counters.isEmpty()) {
+            return;
+        }
+        List<Delta> deltas = drain();
+        for (int from = 0; from < deltas.size(); from += batchSize) {
+            List<Delta> batch = deltas.subList(from, Math.min(from + batchSize, deltas.size()));
+            try {
+                flushTimer.record(() -> transactionTemplate.executeWithoutResult(status -> upsert(batch)));
+                flushed.increment(batch.size());
+            } catch (Exception ex) {
+                failed.increment(batch.size());
+                logger.warn("View flush of {} rows failed, retrying on the next flush", batch.size(), ex);
+                batch.forEach(this::restore);
+            }
+        }
+    }
+
+    // Reads and resets every counter; an increment racing the reset lands in the next flush
+    private List<Delta> drain() {
+        LocalDate today = LocalDate.now();
+        List<Delta> deltas = new ArrayList<>();
+        counters.forEach((key, adder) -> {
+            long views = adder.sumThenReset();
+            // Nothing new counts towards a past day, so its counter can go once read; a view recorded
+            // just before midnight can still land between the reset and the removal, so read it again
+            if (key.day().isBefore(today) && counters.remove(key, adder)) {
+                views += adder.sumThenReset();
+            }
+            if (views > 0) {
+                deltas.add(new Delta(key, views));
+            }
+        });
+        return deltas;
+    }
+
+    private void restore(Delta delta) {
+        counters.computeIfAbsent(delta.key(), k -> new LongAdder()).add(delta.views());
+    }
+
+    // Add to existing rows, then insert the pairs that had none
+    private void upsert(List<Delta> batch) {
+        int[][] updated = jdbcTemplate.batchUpdate(UPDATE, batch, batch.size(), (statement, delta) -> {
+            statement.setLong(1, delta.views());
+            statement.setBytes(2, UuidBytes.toBytes(delta.key().propertyId()));
+            statement.setObject(3, delta.key().day());
+        });
+        List<Delta> missing = new ArrayList<>();
+        int index = 0;
+        for (int[] counts : updated) {
+            for (int count : counts) {
+                if (count == 0) {
+                    missing.add(batch.get(index));
+                }
+                index++;
+            }
+        }
+        if (missing.isEmpty()) {
+            return;
+        }
+
+        // A pair inserted meanwhile by another instance fails the batch, which then retries as an update
+        jdbcTemplate.update(SqlUtils.multiRowInsert(INSERT, ROW, missing.size()), statement -> {
+            int column = 1;
+            for (Delta delta : missing) {
+                statement.setBytes(column++, UuidBytes.toBytes(delta.key().propertyId()));
+                statement.setObject(column++, delta.key().day());
+                statement.setLong(column++, delta.views());
+            }
+        });
+    }
+
+    /**
+     * Flushes the remaining counts before the data source closes.
+     */
+    @PreDestroy
+    public void shutdown() {
+        flush();
+        long lost = counters.values().stream().mapToLong(LongAdder::sum).sum();
+        if (lost > 0) {
+            logger.error("View counter could not flush on shutdown, {} views lost", lost);
+        }
+    }
+}
@@ -0,0 +1,14 @@
+package com.realState.property_service.module.view.service;
+
+import java.util.UUID;
+
+import com.realState.property_service.module.view.dto.PropertyViewsDTO;
+
+public interface PropertyViewService {
+
+    /**
+     * Returns the detail views of a property: the all-time total and the last {@code days} days
+     * (1-365) ending today. Views not flushed yet are included.
+     */
+    PropertyViewsDTO getViews(UUID propertyId, int days);
+}
@@ -0,0 +1,71 @@
+package com.realState.property_service.module.view.service.impl;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.realState.property_service.common.exceptions.property.PropertyNotFoundException;
+import com.realState.property_service.database.entity.PropertyView;
+import com.realState.property_service.database.repository.PropertyArchiveRepository;
+import com.realState.property_service.database.repository.PropertyRepository;
+import com.realState.property_service.database.repository.PropertyViewRepository;
+import com.realState.property_service.module.view.dto.PropertyViewDayDTO;
+import com.realState.property_service.module.view.dto.PropertyViewsDTO;
+import com.realState.property_service.module.view.service.PropertyViewCounter;
+import com.realState.property_service.module.view.service.PropertyViewService;
+
+@Service
+public class PropertyViewServiceImpl implements PropertyViewService {
+
+    private final PropertyViewRepository propertyViewRepository;
+    private final PropertyRepository propertyRepository;
+    private final PropertyArchiveRepository propertyArchiveRepository;
+    private final PropertyViewCounter propertyViewCounter;
+
+    public PropertyViewServiceImpl(PropertyViewRepository propertyViewRepository,
+            PropertyRepository propertyRepository,
+            PropertyArchiveRepository propertyArchiveRepository,
+            PropertyViewCounter propertyViewCounter) {
+        this.propertyViewRepository = propertyViewRepository;
+        this.propertyRepository = propertyRepository;
+        this.propertyArchiveRepository = propertyArchiveRepository;
+        this.propertyViewCounter = propertyViewCounter;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public PropertyViewsDTO getViews(UUID propertyId, int days) {
+        if (days < 1 || days > 365) {
+            throw new IllegalArgumentException("Days must be between 1 and 365");
+        }
+        if (!propertyRepository.existsById(propertyId) && !propertyArchiveRepository.existsById(propertyId)) {
+            throw new PropertyNotFoundException("Property not found with id=" + propertyId);
+        }
+
+        // Rows are read before the counters: a flush in between undercounts until the next read
+        // instead of counting the same views twice
+        LocalDate today = LocalDate.now();
+        LocalDate from = today.minusDays(days - 1L);
+        long total = propertyViewRepository.sumViews(propertyId);
+        Map<LocalDate, Long> flushed = propertyViewRepository.findDaysFrom(propertyId, from).stream()
+                .collect(Collectors.toMap(PropertyView::getViewDate, PropertyView::getViews));
+
+        List<PropertyViewDayDTO> buckets = new ArrayList<>(days);
+        for (LocalDate day = from; !day.isAfter(today); day = day.plusDays(1)) {
+            long pending = propertyViewCounter.pendingViews(propertyId, day);
+            total += pending;
+            buckets.add(new PropertyViewDayDTO(day, flushed.getOrDefault(day, 0L) + pending));
+        }
+        // Until the first flush after midnight yesterday's counts are pending too
+        if (days == 1) {
+            total += propertyViewCounter.pendingViews(propertyId, today.minusDays(1));
+        }
+        return new PropertyViewsDTO(propertyId, total, buckets);
+    }
+}
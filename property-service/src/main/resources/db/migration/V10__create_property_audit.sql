@@ -0,0 +1,24 @@
+-- Append-only history of property changes, written in batches after each change commits
+CREATE TABLE property_audit (
+    id BIGINT NOT NULL AUTO_INCREMENT,
+    property_id BINARY(16) NOT NULL,
+    event_type ENUM(
+        'created',
+        'updated',
+        'status_changed',
+        'submitted',
+        'approved',
+        'rejected',
+        'archived',
+        'deleted'
+    ) NOT NULL,
+    previous_approval_status ENUM('draft','pending_approval','approved','rejected','archived'),
+    approval_status ENUM('draft','pending_approval','approved','rejected','archived'),
+    status ENUM('Available','Rented','Sold'),
+    actor VARCHAR(100) NOT NULL,
+    occurred_at DATETIME(6) NOT NULL,
+    recorded_at DATETIME(6) NOT NULL DEFAULT CURRENT_TIMESTAMP(6),
+    PRIMARY KEY (id),
+    -- History pages walk one property's entries newest first, keyed on id
+    INDEX idx_property_audit_property_id (property_id, id)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci;
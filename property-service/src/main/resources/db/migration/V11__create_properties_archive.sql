@@ -0,0 +1,39 @@
+-- Cold storage for rejected, archived and long-abandoned draft listings, moved out of properties in
+-- chunks by the cold storage mover. The location is flattened into the row, since archived listings
+-- are only ever read whole and never joined. The mover walks properties by idx_properties_approval_updated
+CREATE TABLE properties_archive (
+    id BINARY(16) NOT NULL,
+    owner_id BINARY(16),
+    title VARCHAR(150) NOT NULL,
+    description VARCHAR(500),
+    type ENUM('House','Land') NOT NULL,
+    status ENUM('Available','Rented','Sold') NOT NULL,
+    approval_status ENUM(
+        'draft',
+        'pending_approval',
+        'approved',
+        'rejected',
+        'archived'
+    ) NOT NULL,
+    created_at DATETIME(6) NOT NULL,
+    updated_at DATETIME(6) NOT NULL,
+    location_id BIGINT NOT NULL,
+    address VARCHAR(255) NOT NULL,
+    city VARCHAR(255) NOT NULL,
+    country VARCHAR(255) NOT NULL,
+    latitude FLOAT,
+    longitude FLOAT,
+    state ENUM('Bagmati','Gandaki','Karnali','Koshi','Lumbini','Madhesh','Sudurpashchim') NOT NULL,
+    zipcode INT NOT NULL,
+    location_created_at DATETIME(6) NOT NULL,
+    location_updated_at DATETIME(6) NOT NULL,
+    archived_at DATETIME(6) NOT NULL,
+    PRIMARY KEY (id),
+    -- Owner listings newest first, after the owner's live ones
+    INDEX idx_properties_archive_owner_updated (owner_id, updated_at),
+    -- Owner stats group the owner's archived rows by status
+    INDEX idx_properties_archive_owner_status (owner_id, approval_status, status),
+    -- Admin listings of every archived row newest first
+    INDEX idx_properties_archive_updated (updated_at)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci;
+
@@ -0,0 +1,43 @@
+-- Read model for buyer listings: one flattened row per approved property with its location, kept in
+-- step with properties and locations by the listing projector in the writing transaction
+CREATE TABLE property_listing (
+    id BINARY(16) NOT NULL,
+    owner_id BINARY(16),
+    title VARCHAR(150) NOT NULL,
+    description VARCHAR(500),
+    type ENUM('House','Land') NOT NULL,
+    status ENUM('Available','Rented','Sold') NOT NULL,
+    created_at DATETIME(6) NOT NULL,
+    updated_at DATETIME(6) NOT NULL,
+    location_id BIGINT NOT NULL,
+    address VARCHAR(255) NOT NULL,
+    city VARCHAR(255) NOT NULL,
+    country VARCHAR(255) NOT NULL,
+    latitude FLOAT,
+    longitude FLOAT,
+    state ENUM('Bagmati','Gandaki','Karnali','Koshi','Lumbini','Madhesh','Sudurpashchim') NOT NULL,
+    zipcode INT NOT NULL,
+    location_created_at DATETIME(6) NOT NULL,
+    location_updated_at DATETIME(6) NOT NULL,
+    PRIMARY KEY (id),
+    -- Every row is approved, so each sort key is indexed on its own
+    INDEX idx_property_listing_updated (updated_at),
+    INDEX idx_property_listing_created (created_at),
+    INDEX idx_property_listing_title (title),
+    -- Type/availability filters, newest first
+    INDEX idx_property_listing_type_status_updated (type, status, updated_at),
+    -- Location filters without a join: by state (and city), or by city alone
+    INDEX idx_property_listing_state_city (state, city),
+    INDEX idx_property_listing_city (city)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci;
+
+-- Fill it from the properties approved so far
+INSERT INTO property_listing (id, owner_id, title, description, type, status, created_at, updated_at,
+        location_id, address, city, country, latitude, longitude, state, zipcode, location_created_at,
+        location_updated_at)
+SELECT p.id, p.owner_id, p.title, p.description, p.type, p.status, p.created_at, p.updated_at,
+        l.id, l.address, l.city, l.country, l.latitude, l.longitude, l.state, l.zipcode, l.created_at,
+        l.updated_at
+FROM properties p
+JOIN locations l ON l.id = p.location_id
+WHERE p.approval_status = 'approved';
@@ -0,0 +1,9 @@
+-- Daily detail-view counts per property, accumulated in memory and added in batches by the view
+-- counter's periodic flush. No foreign key: counts outlive moves to properties_archive
+CREATE TABLE property_views (
+    property_id BINARY(16) NOT NULL,
+    view_date DATE NOT NULL,
+    views BIGINT NOT NULL,
+    -- Seller reads sum one property's rows and list its recent days by this key
+    PRIMARY KEY (property_id, view_date)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci;
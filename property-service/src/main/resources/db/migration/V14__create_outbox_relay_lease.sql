@@ -0,0 +1,10 @@
+-- Which relay instance may publish the outbox, and until when. Only the holder reads and publishes, so
+-- the sink is called without holding row locks and relays on other instances cannot interleave batches
+CREATE TABLE outbox_relay_lease (
+    name VARCHAR(64) NOT NULL,
+    owner VARCHAR(100),
+    expires_at DATETIME(6),
+    PRIMARY KEY (name)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci;
+
+INSERT INTO outbox_relay_lease (name) VALUES ('property_outbox');
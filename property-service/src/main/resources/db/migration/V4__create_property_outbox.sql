@@ -0,0 +1,18 @@
+CREATE TABLE property_outbox (
+    id BIGINT NOT NULL AUTO_INCREMENT,
+    property_id BINARY(16) NOT NULL,
+    event_type ENUM(
+        'created',
+        'updated',
+        'submitted',
+        'approved',
+        'rejected',
+        'archived',
+        'deleted'
+    ) NOT NULL,
+    payload TEXT,
+    created_at DATETIME(6) NOT NULL DEFAULT CURRENT_TIMESTAMP(6),
+    published_at DATETIME(6),
+    PRIMARY KEY (id),
+    INDEX idx_property_outbox_published_at (published_at, id)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci;
@@ -0,0 +1,2 @@
+-- Covering index so per-owner stats are a single GROUP BY over the index, without touching rows
+CREATE INDEX idx_properties_owner_approval_status ON properties(owner_id, approval_status, status);
@@ -0,0 +1,8 @@
+ALTER TABLE properties
+    ADD COLUMN moderation_lease_token BINARY(16),
+    ADD COLUMN moderation_lease_owner VARCHAR(100),
+    ADD COLUMN moderation_lease_expires_at DATETIME(6);
+
+-- Claim scans pending rows oldest first and skips live leases; renew/release look up by token
+CREATE INDEX idx_properties_moderation_queue ON properties(approval_status, updated_at, moderation_lease_expires_at);
+CREATE INDEX idx_properties_moderation_lease_token ON properties(moderation_lease_token);
@@ -0,0 +1,11 @@
+ALTER TABLE property_outbox
+    MODIFY COLUMN event_type ENUM(
+        'created',
+        'updated',
+        'status_changed',
+        'submitted',
+        'approved',
+        'rejected',
+        'archived',
+        'deleted'
+    ) NOT NULL;
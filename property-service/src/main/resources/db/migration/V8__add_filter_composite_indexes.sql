@@ -0,0 +1,15 @@
+-- Buyer filter indexes. approval_status is always an equality, so it leads; the sort column follows so an
+-- approved page is read in index order (InnoDB appends the primary key, which covers the id tie-break).
+CREATE INDEX idx_properties_approval_updated ON properties(approval_status, updated_at);
+CREATE INDEX idx_properties_approval_created ON properties(approval_status, created_at);
+CREATE INDEX idx_properties_approval_title ON properties(approval_status, title);
+
+-- Type/status selections (equality or IN) on the default updated_at order
+CREATE INDEX idx_properties_approval_type_status_updated ON properties(approval_status, type, status, updated_at);
+
+-- State/city filters start from locations and reach properties through the unique location_id
+CREATE INDEX idx_locations_state_city ON locations(state, city);
+
+-- Superseded by the composites above, which share their leading column
+DROP INDEX idx_properties_approval_status ON properties;
+DROP INDEX idx_locations_state ON locations;
@@ -0,0 +1,20 @@
+CREATE TABLE saved_searches (
+    id BIGINT NOT NULL AUTO_INCREMENT,
+    buyer_id BINARY(16) NOT NULL,
+    name VARCHAR(100) NOT NULL,
+    -- Comma-separated enum names; empty means any value
+    statuses VARCHAR(64),
+    types VARCHAR(32),
+    states VARCHAR(128),
+    city VARCHAR(255),
+    latitude DOUBLE,
+    longitude DOUBLE,
+    radius_km DOUBLE,
+    active BOOLEAN NOT NULL DEFAULT TRUE,
+    created_at DATETIME(6) NOT NULL DEFAULT CURRENT_TIMESTAMP(6),
+    updated_at DATETIME(6) NOT NULL DEFAULT CURRENT_TIMESTAMP(6) ON UPDATE CURRENT_TIMESTAMP(6),
+    PRIMARY KEY (id),
+    INDEX idx_saved_searches_buyer_id (buyer_id, active),
+    -- Incremental sync of the in-memory matcher reads rows changed since its last pass
+    INDEX idx_saved_searches_updated_at (updated_at, id)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci;
@@ -0,0 +1,145 @@
+package com.realState.property_service.common.cache;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import com.realState.property_service.common.deadline.RequestDeadline;
+import com.realState.property_service.common.exceptions.DeadlineExceededException;
+import com.realState.property_service.common.exceptions.OverloadedException;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * Guards request coalescing: a leader's failure reaches every caller waiting on it without being
+ * remembered, callers beyond the waiter cap are rejected, and waiters give up at their own deadline.
+ */
+class SingleFlightTest {
+
+	private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+	private final ExecutorService executor = Executors.newCachedThreadPool();
+
+	@AfterEach
+	void shutDown() {
+		executor.shutdownNow();
+		RequestDeadline.clear();
+	}
+
+	@Test
+	void leaderFailureReachesEveryWaiter() throws Exception {
+		SingleFlight<String, String> flight = new SingleFlight<>(meterRegistry, "test", true, 10);
+		CountDownLatch release = new CountDownLatch(1);
+		IllegalStateException failure = new IllegalStateException("database down");
+		AtomicInteger loads = new AtomicInteger();
+
+		Future<String> leader = executor.submit(() -> flight.execute("key", () -> {
+			loads.incrementAndGet();
+			await(release);
+			throw failure;
+		}));
+		awaitCalls("leader", 1);
+		List<Future<String>> waiters = new ArrayList<>();
+		for (int i = 0; i < 3; i++) {
+			waiters.add(executor.submit(() -> flight.execute("key", () -> {
+				loads.incrementAndGet();
+				return "own load";
+			})));
+		}
+		awaitCalls("coalesced", 3);
+		release.countDown();
+
+		assertSame(failure, causeOf(leader));
+		for (Future<String> waiter : waiters) {
+			assertSame(failure, causeOf(waiter));
+		}
+		assertEquals(1, loads.get());
+
+		// The failure is not remembered: the next call loads again
+		assertEquals("fresh", flight.execute("key", () -> "fresh"));
+	}
+
+	@Test
+	void callersBeyondTheWaiterCapAreRejected() throws Exception {
+		SingleFlight<String, String> flight = new SingleFlight<>(meterRegistry, "test", true, 2);
+		CountDownLatch release = new CountDownLatch(1);
+
+		Future<String> leader = executor.submit(() -> flight.execute("key", () -> {
+			await(release);
+			return "value";
+		}));
+		awaitCalls("leader", 1);
+		List<Future<String>> waiters = List.of(executor.submit(() -> flight.execute("key", () -> "own load")),
+				executor.submit(() -> flight.execute("key", () -> "own load")));
+		awaitCalls("coalesced", 2);
+
+		assertThrows(OverloadedException.class, () -> flight.execute("key", () -> "own load"));
+		assertEquals(1, calls("rejected"));
+		// Other keys are not affected by the cap
+		assertEquals("other", flight.execute("other", () -> "other"));
+
+		release.countDown();
+		assertEquals("value", leader.get(10, TimeUnit.SECONDS));
+		for (Future<String> waiter : waiters) {
+			assertEquals("value", waiter.get(10, TimeUnit.SECONDS));
+		}
+	}
+
+	@Test
+	void waitersGiveUpAtTheirDeadlineWhileTheLeaderFinishes() throws Exception {
+		SingleFlight<String, String> flight = new SingleFlight<>(meterRegistry, "test", true, 10);
+		CountDownLatch release = new CountDownLatch(1);
+
+		Future<String> leader = executor.submit(() -> flight.execute("key", () -> {
+			await(release);
+			return "value";
+		}));
+		awaitCalls("leader", 1);
+
+		RequestDeadline.set(System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(50));
+		assertThrows(DeadlineExceededException.class, () -> flight.execute("key", () -> "own load"));
+
+		release.countDown();
+		assertEquals("value", leader.get(10, TimeUnit.SECONDS));
+	}
+
+	private double calls(String result) {
+		return meterRegistry.get("property.singleflight.calls").tag("result", result).counter().count();
+	}
+
+	private void awaitCalls(String result, int count) throws InterruptedException {
+		long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+		while (calls(result) < count) {
+			assertTrue(System.nanoTime() < deadline, "timed out waiting for " + count + " " + result + " calls");
+			Thread.sleep(5);
+		}
+		// Let the callers that were counted park on the shared result
+		Thread.sleep(50);
+	}
+
+	private static Throwable causeOf(Future<?> future) throws Exception {
+		ExecutionException ex = assertThrows(ExecutionException.class, () -> future.get(10, TimeUnit.SECONDS));
+		return ex.getCause();
+	}
+
+	private static void await(CountDownLatch latch) {
+		try {
+			latch.await(10, TimeUnit.SECONDS);
+		} catch (InterruptedException ex) {
+			Thread.currentThread().interrupt();
+		}
+	}
+}
@@ -0,0 +1,214 @@
+package com.realState.property_service.common.cache.shared;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * In-process stand-in for a Redis server, speaking just enough RESP2 for the shared cache: GET,
+ * MGET, SET (expiry ignored), DEL, INCR, PUBLISH, SUBSCRIBE, AUTH, SELECT and PING.
+ */
+public class EmbeddedRedisServer implements AutoCloseable {
+
+    private record Subscription(String channel, OutputStream out) {
+    }
+
+    private final ServerSocket serverSocket;
+    private final Map<String, byte[]> values = new ConcurrentHashMap<>();
+    private final List<Subscription> subscriptions = new CopyOnWriteArrayList<>();
+    private final List<Socket> clients = new CopyOnWriteArrayList<>();
+
+    public EmbeddedRedisServer() throws IOException {
+        this.serverSocket = new ServerSocket(0, 50, InetAddress.getLoopbackAddress());
+        Thread acceptor = new Thread(this::accept, "embedded-redis");
+        acceptor.setDaemon(true);
+        acceptor.start();
+    }
+
+    public int getPort() {
+        return serverSocket.getLocalPort();
+    }
+
+    public boolean containsKey(String key) {
+        return values.containsKey(key);
+    }
+
+    /**
+     * Drops every client connection, as a restarting server would.
+     */
+    public void disconnectClients() throws IOException {
+        for (Socket client : clients) {
+            client.close();
+        }
+    }
+
+    private void accept() {
+        while (!serverSocket.isClosed()) {
+            try {
+                Socket client = serverSocket.accept();
+                clients.add(client);
+                Thread handler = new Thread(() -> serve(client), "embedded-redis-client");
+                handler.setDaemon(true);
+                handler.start();
+            } catch (IOException ex) {
+                return;
+            }
+        }
+    }
+
+    private void serve(Socket client) {
+        try (client) {
+            DataInputStream in = new DataInputStream(new BufferedInputStream(client.getInputStream()));
+            OutputStream out = new BufferedOutputStream(client.getOutputStream());
+            while (true) {
+                List<byte[]> command = readCommand(in);
+                if (command == null) {
+                    return;
+                }
+                synchronized (out) {
+                    execute(command, out);
+                    out.flush();
+                }
+            }
+        } catch (IOException ex) {
+            // Client went away
+        } finally {
+            clients.remove(client);
+        }
+    }
+
+    private void execute(List<byte[]> command, OutputStream out) throws IOException {
+        String name = text(command.get(0)).toUpperCase();
+        switch (name) {
+            case "PING", "AUTH", "SELECT" -> status(out, name.equals("PING") ? "PONG" : "OK");
+            case "GET" -> bulk(out, values.get(text(command.get(1))));
+            case "MGET" -> {
+                out.write(("*" + (command.size() - 1) + "\r\n").getBytes(StandardCharsets.US_ASCII));
+                for (int i = 1; i < command.size(); i++) {
+                    bulk(out, values.get(text(command.get(i))));
+                }
+            }
+            case "SET" -> {
+                values.put(text(command.get(1)), command.get(2));
+                status(out, "OK");
+            }
+            case "DEL" -> {
+                long removed = 0;
+                for (int i = 1; i < command.size(); i++) {
+                    removed += values.remove(text(command.get(i))) != null ? 1 : 0;
+                }
+                integer(out, removed);
+            }
+            case "INCR" -> {
+                byte[] next = values.merge(text(command.get(1)), "1".getBytes(StandardCharsets.US_ASCII),
+                        (current, one) -> Long.toString(Long.parseLong(text(current)) + 1)
+                                .getBytes(StandardCharsets.US_ASCII));
+                integer(out, Long.parseLong(text(next)));
+            }
+            case "PUBLISH" -> {
+                String channel = text(command.get(1));
+                long delivered = 0;
+                for (Subscription subscription : subscriptions) {
+                    if (subscription.channel().equals(channel)) {
+                        push(subscription.out(), "message", channel, command.get(2));
+                        delivered++;
+                    }
+                }
+                integer(out, delivered);
+            }
+            case "SUBSCRIBE" -> {
+                String channel = text(command.get(1));
+                subscriptions.add(new Subscription(channel, out));
+                out.write("*3\r\n".getBytes(StandardCharsets.US_ASCII));
+                bulk(out, "subscribe".getBytes(StandardCharsets.US_ASCII));
+                bulk(out, channel.getBytes(StandardCharsets.US_ASCII));
+                integer(out, 1);
+            }
+            default -> out.write(("-ERR unknown command '" + name + "'\r\n").getBytes(StandardCharsets.US_ASCII));
+        }
+    }
+
+    private static void push(OutputStream out, String type, String channel, byte[] payload) throws IOException {
+        synchronized (out) {
+            out.write("*3\r\n".getBytes(StandardCharsets.US_ASCII));
+            bulk(out, type.getBytes(StandardCharsets.US_ASCII));
+            bulk(out, channel.getBytes(StandardCharsets.US_ASCII));
+            bulk(out, payload);
+            out.flush();
+        }
+    }
+
+    private static List<byte[]> readCommand(DataInputStream in) throws IOException {
+        int type = in.read();
+        if (type == -1) {
+            return null;
+        }
+        if (type != '*') {
+            throw new IOException("Expected a command array");
+        }
+        int length = Integer.parseInt(readLine(in));
+        List<byte[]> command = new ArrayList<>(length);
+        for (int i = 0; i < length; i++) {
+            if (in.read() != '$') {
+                throw new IOException("Expected a bulk string");
+            }
+            byte[] argument = new byte[Integer.parseInt(readLine(in))];
+            in.readFully(argument);
+            readLine(in);
+            command.add(argument);
+        }
+        return command;
+    }
+
+    private static String readLine(DataInputStream in) throws IOException {
+        StringBuilder line = new StringBuilder();
+        int c;
+        while ((c = in.read()) != '\r') {
+            if (c == -1) {
+                throw new IOException("Connection closed");
+            }
+            line.append((char) c);
+        }
+        in.read();
+        return line.toString();
+    }
+
+    private static void status(OutputStream out, String status) throws IOException {
+        out.write(("+" + status + "\r\n").getBytes(StandardCharsets.US_ASCII));
+    }
+
+    private static void integer(OutputStream out, long value) throws IOException {
+        out.write((":" + value + "\r\n").getBytes(StandardCharsets.US_ASCII));
+    }
+
+    private static void bulk(OutputStream out, byte[] value) throws IOException {
+        if (value == null) {
+            out.write("$-1\r\n".getBytes(StandardCharsets.US_ASCII));
+            return;
+        }
+        out.write(("$" + value.length + "\r\n").getBytes(StandardCharsets.US_ASCII));
+        out.write(value);
+        out.write("\r\n".getBytes(StandardCharsets.US_ASCII));
+    }
+
+    private static String text(byte[] value) {
+        return new String(value, StandardCharsets.UTF_8);
+    }
+
+    @Override
+    public void close() throws IOException {
+        serverSocket.close();
+        disconnectClients();
+    }
+}
@@ -0,0 +1,153 @@
+package com.realState.property_service.common.deadline;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLTimeoutException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.h2.jdbcx.JdbcDataSource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.env.MockEnvironment;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.realState.property_service.common.filter.DeadlineFilter;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.http.HttpServlet;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+/**
+ * Guards request deadlines: expired requests are answered with 504 before any work, the caller's
+ * timeout header bounds the statements the request runs, and threads without a deadline are left
+ * alone.
+ */
+class DeadlineTest {
+
+	private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+	private final Counter cancelled = meterRegistry.counter("cancelled");
+	private final Counter skipped = meterRegistry.counter("skipped");
+	private final DeadlineAwareDataSource dataSource = new DeadlineAwareDataSource(h2(), () -> cancelled,
+			() -> skipped);
+	private final DeadlineFilter filter = new DeadlineFilter(new ObjectMapper().findAndRegisterModules(), meterRegistry,
+			new MockEnvironment().withProperty("property.deadline.buyer-read-ms", "3000"));
+
+	@AfterEach
+	void clearDeadline() {
+		RequestDeadline.clear();
+	}
+
+	@Test
+	void requestsThatArriveExpiredGet504WithoutReachingTheHandler() throws Exception {
+		AtomicInteger handled = new AtomicInteger();
+		for (MockHttpServletRequest request : new MockHttpServletRequest[] {
+				get(DeadlineFilter.TIMEOUT_HEADER, "0"),
+				get(DeadlineFilter.DEADLINE_HEADER, String.valueOf(System.currentTimeMillis() - 1000)) }) {
+			MockHttpServletResponse response = new MockHttpServletResponse();
+			filter.doFilter(request, response, new MockFilterChain(servlet(handled::incrementAndGet)));
+
+			assertEquals(504, response.getStatus());
+			assertTrue(response.getContentAsString().contains("DEADLINE_EXCEEDED"));
+		}
+		assertEquals(0, handled.get());
+		assertEquals(2, meterRegistry.get("property.deadline.expired.on.arrival").tag("endpoint_class", "buyer_read")
+				.counter().count());
+	}
+
+	@Test
+	void timeoutHeaderBoundsTheStatementsOfTheRequest() throws Exception {
+		AtomicLong remaining = new AtomicLong();
+		AtomicInteger queryTimeout = new AtomicInteger();
+		MockHttpServletResponse response = new MockHttpServletResponse();
+		filter.doFilter(get(DeadlineFilter.TIMEOUT_HEADER, "1500"), response, new MockFilterChain(servlet(() -> {
+			remaining.set(RequestDeadline.remainingMillis());
+			try (Connection connection = dataSource.getConnection();
+					PreparedStatement statement = connection.prepareStatement("SELECT 1")) {
+				queryTimeout.set(statement.getQueryTimeout());
+				statement.executeQuery().close();
+			}
+		})));
+
+		assertEquals(200, response.getStatus());
+		assertTrue(remaining.get() > 0 && remaining.get() <= 1500, "remaining " + remaining.get());
+		// 1.5 s rounds up to the 2 s the driver can express
+		assertEquals(2, queryTimeout.get());
+		assertFalse(RequestDeadline.isSet());
+
+		// Without the header the endpoint class default applies
+		filter.doFilter(get("X-Other", "1"), new MockHttpServletResponse(), new MockFilterChain(servlet(() ->
+				remaining.set(RequestDeadline.remainingMillis()))));
+		assertTrue(remaining.get() > 1500 && remaining.get() <= 3000, "remaining " + remaining.get());
+	}
+
+	@Test
+	void expiredDeadlinesRefuseStatementsButOtherThreadsAreUnaffected() throws Exception {
+		try (Connection connection = dataSource.getConnection();
+				PreparedStatement statement = connection.prepareStatement("SELECT 1")) {
+			assertEquals(0, statement.getQueryTimeout());
+			statement.executeQuery().close();
+		}
+
+		RequestDeadline.set(System.nanoTime() - TimeUnit.MILLISECONDS.toNanos(1));
+		assertThrows(SQLTimeoutException.class, dataSource::getConnection);
+		assertEquals(1, skipped.count());
+
+		// Another thread, without a deadline, still connects and runs unbounded statements
+		Thread other = new Thread(() -> {
+			try (Connection connection = dataSource.getConnection();
+					PreparedStatement statement = connection.prepareStatement("SELECT 1")) {
+				assertEquals(0, statement.getQueryTimeout());
+				statement.executeQuery().close();
+			} catch (Exception ex) {
+				throw new IllegalStateException(ex);
+			}
+		});
+		AtomicLong failures = new AtomicLong();
+		other.setUncaughtExceptionHandler((thread, ex) -> failures.incrementAndGet());
+		other.start();
+		other.join();
+		assertEquals(0, failures.get());
+		assertEquals(1, skipped.count());
+	}
+
+	private interface Handler {
+		void handle() throws Exception;
+	}
+
+	private static HttpServlet servlet(Handler handler) {
+		return new HttpServlet() {
+			@Override
+			protected void service(HttpServletRequest request, HttpServletResponse response) {
+				try {
+					handler.handle();
+				} catch (Exception ex) {
+					throw new IllegalStateException(ex);
+				}
+			}
+		};
+	}
+
+	private static MockHttpServletRequest get(String header, String value) {
+		MockHttpServletRequest request = new MockHttpServletRequest("GET", "/properties/approved");
+		request.addHeader(header, value);
+		return request;
+	}
+
+	private static JdbcDataSource h2() {
+		JdbcDataSource h2 = new JdbcDataSource();
+		h2.setURL("jdbc:h2:mem:deadline;DB_CLOSE_DELAY=-1");
+		return h2;
+	}
+}
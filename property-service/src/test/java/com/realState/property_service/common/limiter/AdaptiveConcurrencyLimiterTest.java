@@ -0,0 +1,233 @@
+package com.realState.property_service.common.limiter;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.env.MockEnvironment;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.realState.property_service.common.filter.ConcurrencyLimitFilter;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.http.HttpServlet;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+/**
+ * Guards the adaptive concurrency limit: it grows while latency stays near the baseline, shrinks
+ * when latency climbs and recovers when it falls again, backs off on failures, and the filter sheds
+ * list scans before lookups with a 503, keeps seller reads out of the buyer class and does not count
+ * load shed further in as a drop.
+ */
+class AdaptiveConcurrencyLimiterTest {
+
+	// Samples per limiter window
+	private static final int WINDOW = 50;
+
+	@Test
+	void limitFollowsLatency() {
+		AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(20, 4, 200, 2.0, 0.7);
+
+		// At the baseline the busy limiter keeps growing
+		int previous = limiter.getLimit();
+		for (int i = 0; i < 5; i++) {
+			window(limiter, 10, false);
+			assertTrue(limiter.getLimit() >= previous, "limit " + limiter.getLimit() + " after " + previous);
+			previous = limiter.getLimit();
+		}
+		int baseline = previous;
+		assertTrue(baseline > 20, "limit " + baseline);
+
+		// Ten times the baseline latency is far beyond the tolerance of two, so the limit shrinks
+		for (int i = 0; i < 30; i++) {
+			window(limiter, 100, false);
+		}
+		int slow = limiter.getLimit();
+		assertTrue(slow < baseline / 2, "limit " + slow + " at ten times the latency, " + baseline + " before");
+		assertTrue(slow >= 4);
+
+		// Latency back at the baseline lets it grow again
+		for (int i = 0; i < 10; i++) {
+			window(limiter, 10, false);
+		}
+		assertTrue(limiter.getLimit() > slow, "limit " + limiter.getLimit() + " after recovering from " + slow);
+	}
+
+	@Test
+	void latencyWithinTheToleranceDoesNotShrinkTheLimit() {
+		AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(20, 4, 200, 2.0, 0.7);
+		window(limiter, 10, false);
+		int limit = limiter.getLimit();
+
+		window(limiter, 19, false);
+		assertTrue(limiter.getLimit() > limit);
+	}
+
+	@Test
+	void failuresBackOffMultiplicativelyDownToTheMinimum() {
+		AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(20, 4, 200, 2.0, 0.7);
+		window(limiter, 10, true);
+		assertEquals(18, limiter.getLimit());
+		window(limiter, 10, true);
+		assertEquals(16, limiter.getLimit());
+
+		for (int i = 0; i < 30; i++) {
+			window(limiter, 10, true);
+		}
+		assertEquals(4, limiter.getLimit());
+	}
+
+	@Test
+	void idleLimiterDoesNotGrow() {
+		AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(20, 4, 200, 2.0, 0.7);
+		// One request at a time never uses half the limit
+		for (int i = 0; i < 5 * WINDOW; i++) {
+			assertTrue(limiter.tryAcquire(false));
+			limiter.release(millis(10), false);
+		}
+		assertEquals(20, limiter.getLimit());
+	}
+
+	@Test
+	void lowPriorityRequestsOnlyGetTheirShare() {
+		AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(20, 4, 200, 2.0, 0.7);
+		for (int i = 0; i < 14; i++) {
+			assertTrue(limiter.tryAcquire(true));
+		}
+		assertFalse(limiter.tryAcquire(true));
+		for (int i = 0; i < 6; i++) {
+			assertTrue(limiter.tryAcquire(false));
+		}
+		assertFalse(limiter.tryAcquire(false));
+		assertEquals(20, limiter.getInFlight());
+	}
+
+	@Test
+	void filterShedsListScansFirstAndBacksOffOnServerErrors() throws Exception {
+		SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+		ConcurrencyLimitFilter filter = new ConcurrencyLimitFilter(new ObjectMapper().findAndRegisterModules(),
+				meterRegistry, new MockEnvironment().withProperty("property.limiter.buyer-read.initial-limit", "4"), 4,
+				2.0, 0.7, 1);
+
+		// Each handler issues the next request while it still holds its slot: two list scans use the
+		// low-priority share of four, a third is turned away, a lookup still gets in
+		MockHttpServletResponse thirdScan = new MockHttpServletResponse();
+		MockHttpServletResponse lookup = new MockHttpServletResponse();
+		filter.doFilter(get("/properties/approved"), new MockHttpServletResponse(),
+				chain(() -> filter.doFilter(get("/properties/filter"), new MockHttpServletResponse(),
+						chain(() -> {
+							filter.doFilter(get("/properties/approved"), thirdScan, chain(() -> {
+							}));
+							filter.doFilter(get("/properties/11111111-1111-1111-1111-111111111111"), lookup,
+									chain(() -> {
+									}));
+						}))));
+
+		assertEquals(503, thirdScan.getStatus());
+		assertEquals("1", thirdScan.getHeader("Retry-After"));
+		assertTrue(thirdScan.getContentAsString().contains("OVERLOADED"));
+		assertEquals(200, lookup.getStatus());
+		assertEquals(1, meterRegistry.get("property.limiter.rejected").tag("endpoint_class", "buyer_read")
+				.tag("priority", "low").counter().count());
+
+		// A window of server errors shrinks the seller write limit and leaves buyer reads alone
+		for (int i = 0; i < WINDOW; i++) {
+			MockHttpServletRequest request = new MockHttpServletRequest("POST", "/properties");
+			filter.doFilter(request, new MockHttpServletResponse(), new MockFilterChain(servlet(() -> {
+			}, 500)));
+		}
+		assertEquals(18, limit(meterRegistry, "seller_write"));
+		assertEquals(4, limit(meterRegistry, "buyer_read"));
+	}
+
+	@Test
+	void sellerReadsUseTheSellerLimitAndShedResponsesAreNoDrops() throws Exception {
+		SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+		ConcurrencyLimitFilter filter = new ConcurrencyLimitFilter(new ObjectMapper().findAndRegisterModules(),
+				meterRegistry, new MockEnvironment(), 4, 2.0, 0.7, 1);
+
+		for (String path : new String[] { "/properties/owner/aaaaaaaa-aaaa-aaaa-aaaa-aaaaaaaaaaaa/stats",
+				"/properties/11111111-1111-1111-1111-111111111111/views", "/properties/ingest/tracking" }) {
+			List<Double> inFlight = new ArrayList<>();
+			filter.doFilter(get(path), new MockHttpServletResponse(), chain(() -> {
+				inFlight.add(inFlight(meterRegistry, "seller_write"));
+				inFlight.add(inFlight(meterRegistry, "buyer_read"));
+			}));
+			assertEquals(List.of(1.0, 0.0), inFlight, path);
+		}
+
+		// 503s were shed further in (coalescing cap, open breaker) and must not shrink the limit
+		for (int i = 0; i < WINDOW; i++) {
+			filter.doFilter(get("/properties/11111111-1111-1111-1111-111111111111"), new MockHttpServletResponse(),
+					new MockFilterChain(servlet(() -> {
+					}, 503)));
+		}
+		assertEquals(20, limit(meterRegistry, "buyer_read"));
+	}
+
+	/**
+	 * Feeds one window of samples, holding as many slots at once as the limit allows so the window
+	 * counts as busy.
+	 */
+	private static void window(AdaptiveConcurrencyLimiter limiter, long rttMillis, boolean dropped) {
+		int samples = 0;
+		while (samples < WINDOW) {
+			int held = 0;
+			while (held < WINDOW - samples && limiter.tryAcquire(false)) {
+				held++;
+			}
+			for (int i = 0; i < held; i++) {
+				limiter.release(millis(rttMillis), dropped);
+			}
+			samples += held;
+		}
+	}
+
+	private static long millis(long millis) {
+		return TimeUnit.MILLISECONDS.toNanos(millis);
+	}
+
+	private static double limit(SimpleMeterRegistry meterRegistry, String endpointClass) {
+		return meterRegistry.get("property.limiter.limit").tag("endpoint_class", endpointClass).gauge().value();
+	}
+
+	private static double inFlight(SimpleMeterRegistry meterRegistry, String endpointClass) {
+		return meterRegistry.get("property.limiter.inflight").tag("endpoint_class", endpointClass).gauge().value();
+	}
+
+	private interface Handler {
+		void handle() throws Exception;
+	}
+
+	private static FilterChain chain(Handler handler) {
+		return new MockFilterChain(servlet(handler, 200));
+	}
+
+	private static HttpServlet servlet(Handler handler, int status) {
+		return new HttpServlet() {
+			@Override
+			protected void service(HttpServletRequest request, HttpServletResponse response) {
+				try {
+					handler.handle();
+				} catch (Exception ex) {
+					throw new IllegalStateException(ex);
+				}
+				response.setStatus(status);
+			}
+		};
+	}
+
+	private static MockHttpServletRequest get(String path) {
+		return new MockHttpServletRequest("GET", path);
+	}
+}
@@ -0,0 +1,132 @@
+package com.realState.property_service.module.audit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.util.List;
+import java.util.UUID;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import com.realState.property_service.common.actor.RequestActor;
+import com.realState.property_service.common.filter.ActorFilter;
+import com.realState.property_service.database.enums.ApprovalStatusEnum;
+import com.realState.property_service.database.enums.PropertyEventTypeEnum;
+import com.realState.property_service.database.enums.StateEnum;
+import com.realState.property_service.database.enums.StatusEnum;
+import com.realState.property_service.database.enums.TypeEnum;
+import com.realState.property_service.module.audit.dto.PropertyAuditDTO;
+import com.realState.property_service.module.audit.dto.PropertyHistoryDTO;
+import com.realState.property_service.module.audit.service.PropertyAuditService;
+import com.realState.property_service.module.location.dto.CreateLocationDTO;
+import com.realState.property_service.module.property.dto.CreatePropertyDTO;
+import com.realState.property_service.module.property.service.PropertyService;
+
+/**
+ * Guards the audit trail: every transition lands with its actor, including the one the gateway
+ * names in the actor header, and history pages by keyset.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class PropertyAuditTest {
+
+	@Autowired
+	private MockMvc mockMvc;
+
+	@Autowired
+	private PropertyService propertyService;
+
+	@Autowired
+	private PropertyAuditService propertyAuditService;
+
+	@Test
+	void transitionsAreRecordedAndPagedNewestFirst() throws InterruptedException {
+		UUID id;
+		RequestActor.set("seller-1");
+		try {
+			id = propertyService.createProperty(property()).getId();
+			propertyService.submitApprovalRequest(id);
+		} finally {
+			RequestActor.clear();
+		}
+		propertyService.approveProperty(id);
+		propertyService.updatePropertyStatus(id, StatusEnum.Sold);
+
+		List<PropertyAuditDTO> all = awaitHistory(id, 4);
+		assertEquals(List.of(PropertyEventTypeEnum.status_changed, PropertyEventTypeEnum.approved,
+				PropertyEventTypeEnum.submitted, PropertyEventTypeEnum.created),
+				all.stream().map(PropertyAuditDTO::getEventType).toList());
+		assertEquals(RequestActor.SYSTEM, all.get(1).getActor());
+		assertEquals(ApprovalStatusEnum.pending_approval, all.get(1).getPreviousApprovalStatus());
+		assertEquals(ApprovalStatusEnum.approved, all.get(1).getApprovalStatus());
+		assertEquals("seller-1", all.get(3).getActor());
+		assertNull(all.get(3).getPreviousApprovalStatus());
+
+		PropertyHistoryDTO first = propertyAuditService.getHistory(id, null, 3);
+		assertEquals(all.subList(0, 3).stream().map(PropertyAuditDTO::getId).toList(),
+				first.getEntries().stream().map(PropertyAuditDTO::getId).toList());
+		PropertyHistoryDTO second = propertyAuditService.getHistory(id, first.getNextBefore(), 3);
+		assertEquals(List.of(all.get(3).getId()), second.getEntries().stream().map(PropertyAuditDTO::getId).toList());
+		assertNull(second.getNextBefore());
+	}
+
+	@Test
+	void actorHeaderOfTheRequestIsRecorded() throws Exception {
+		UUID id = propertyService.createProperty(property()).getId();
+
+		mockMvc.perform(patch("/properties/{id}/submit", id).header(ActorFilter.ACTOR_HEADER, "seller-42"))
+				.andExpect(status().isOk());
+		mockMvc.perform(patch("/properties/{id}/approve", id))
+				.andExpect(status().isOk());
+
+		awaitHistory(id, 3);
+		mockMvc.perform(get("/properties/{id}/history", id))
+				.andExpect(status().isOk())
+				.andExpect(jsonPath("$.data.entries[0].eventType").value("approved"))
+				.andExpect(jsonPath("$.data.entries[0].actor").value(RequestActor.SYSTEM))
+				.andExpect(jsonPath("$.data.entries[1].eventType").value("submitted"))
+				.andExpect(jsonPath("$.data.entries[1].actor").value("seller-42"));
+		// The actor does not outlive its request on the pooled thread
+		assertEquals(RequestActor.SYSTEM, RequestActor.current());
+	}
+
+	private List<PropertyAuditDTO> awaitHistory(UUID id, int expected) throws InterruptedException {
+		long deadline = System.currentTimeMillis() + 5000;
+		List<PropertyAuditDTO> entries = propertyAuditService.getHistory(id, null, 100).getEntries();
+		while (entries.size() < expected && System.currentTimeMillis() < deadline) {
+			Thread.sleep(50);
+			entries = propertyAuditService.getHistory(id, null, 100).getEntries();
+		}
+		return entries;
+	}
+
+	private static CreatePropertyDTO property() {
+		CreateLocationDTO location = new CreateLocationDTO();
+		location.setAddress("Main Road");
+		location.setCity("Pokhara");
+		location.setState(StateEnum.Gandaki);
+		location.setCountry("Nepal");
+		location.setZipcode(33700);
+		location.setLatitude(28.21f);
+		location.setLongitude(83.99f);
+
+		CreatePropertyDTO dto = new CreatePropertyDTO();
+		dto.setTitle("Audited");
+		dto.setDescription("Description");
+		dto.setOwnerId(UUID.randomUUID());
+		dto.setType(TypeEnum.House);
+		dto.setStatus(StatusEnum.Available);
+		dto.setLocation(location);
+		return dto;
+	}
+}
@@ -0,0 +1,142 @@
+package com.realState.property_service.module.enquiry;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.realState.property_service.common.utils.ApiResponse;
+import com.realState.property_service.module.enquiry.client.EnquiryServiceClient;
+import com.realState.property_service.module.enquiry.service.EnquiryCountService;
+import com.realState.property_service.module.property.dto.PropertyDTO;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * Runs the enquiry count decoration against a local stub of enquiry-service's batch endpoint.
+ */
+class EnquiryCountServiceTest {
+
+	private final ObjectMapper objectMapper = new ObjectMapper();
+	private final AtomicInteger calls = new AtomicInteger();
+	private volatile long delayMillis;
+	private volatile int statusCode = 200;
+
+	private HttpServer stub;
+
+	@BeforeEach
+	void startStub() throws IOException {
+		stub = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+		stub.createContext("/enquiry/property/counts", this::answerCounts);
+		stub.setExecutor(null);
+		stub.start();
+	}
+
+	private EnquiryCountService enquiryCountService(long waitMillis) {
+		EnquiryServiceClient client = new EnquiryServiceClient(objectMapper,
+				"http://localhost:" + stub.getAddress().getPort(), 2000);
+		return new EnquiryCountService(client, new SimpleMeterRegistry(), true, 1000, 30, waitMillis, 5, 10_000);
+	}
+
+	@AfterEach
+	void stopStub() {
+		stub.stop(0);
+	}
+
+	/** Answers every requested id with a count equal to its position in the request (1-based). */
+	private void answerCounts(HttpExchange exchange) throws IOException {
+		calls.incrementAndGet();
+		JsonNode ids = objectMapper.readTree(exchange.getRequestBody()).path("property_ids");
+		StringBuilder data = new StringBuilder();
+		for (int i = 0; i < ids.size(); i++) {
+			data.append(i == 0 ? "" : ",").append('"').append(ids.get(i).asText()).append("\":").append(i + 1);
+		}
+		byte[] body = ("{\"success\":true,\"data\":{" + data + "}}").getBytes(StandardCharsets.UTF_8);
+		try {
+			Thread.sleep(delayMillis);
+		} catch (InterruptedException ex) {
+			Thread.currentThread().interrupt();
+		}
+		exchange.sendResponseHeaders(statusCode, body.length);
+		try (OutputStream out = exchange.getResponseBody()) {
+			out.write(body);
+		}
+	}
+
+	private static ApiResponse<List<PropertyDTO>> page(int size) {
+		List<PropertyDTO> properties = new ArrayList<>();
+		for (int i = 0; i < size; i++) {
+			PropertyDTO property = new PropertyDTO();
+			property.setId(UUID.randomUUID());
+			property.setTitle("Property " + i);
+			properties.add(property);
+		}
+		return ApiResponse.success(properties, new ApiResponse.MetaData(size, 1, 1, size), "Fetched");
+	}
+
+	@Test
+	void wholePageIsCountedInOneCallAndThenServedFromCache() {
+		EnquiryCountService enquiryCountService = enquiryCountService(2000);
+		ApiResponse<List<PropertyDTO>> page = page(10);
+
+		ApiResponse<List<PropertyDTO>> first = enquiryCountService.withEnquiryCounts(page);
+		ApiResponse<List<PropertyDTO>> second = enquiryCountService.withEnquiryCounts(page);
+
+		assertEquals(1, calls.get());
+		for (int i = 0; i < 10; i++) {
+			assertEquals((long) (i + 1), first.getData().get(i).getEnquiryCount());
+			assertEquals((long) (i + 1), second.getData().get(i).getEnquiryCount());
+			// Cached DTOs are copied, never decorated in place
+			assertNull(page.getData().get(i).getEnquiryCount());
+		}
+		assertSame(page.getMeta(), first.getMeta());
+	}
+
+	@Test
+	void slowEnquiryServiceDegradesToNoCountsAndLateAnswerFillsCache() throws InterruptedException {
+		EnquiryCountService enquiryCountService = enquiryCountService(200);
+		delayMillis = 600;
+		ApiResponse<List<PropertyDTO>> page = page(3);
+
+		long start = System.nanoTime();
+		ApiResponse<List<PropertyDTO>> degraded = enquiryCountService.withEnquiryCounts(page);
+		long elapsedMillis = (System.nanoTime() - start) / 1_000_000;
+
+		assertTrue(elapsedMillis < 500, "waited " + elapsedMillis + " ms for a slow enquiry service");
+		assertEquals(3, degraded.getData().size());
+		degraded.getData().forEach(property -> assertNull(property.getEnquiryCount()));
+
+		Thread.sleep(800);
+		delayMillis = 0;
+		ApiResponse<List<PropertyDTO>> later = enquiryCountService.withEnquiryCounts(page);
+		assertEquals(1, calls.get());
+		assertEquals(1L, later.getData().get(0).getEnquiryCount());
+	}
+
+	@Test
+	void failingEnquiryServiceLeavesCountsOut() {
+		statusCode = 500;
+
+		ApiResponse<List<PropertyDTO>> response = enquiryCountService(200).withEnquiryCounts(page(2));
+
+		assertTrue(response.isSuccess());
+		response.getData().forEach(property -> assertNull(property.getEnquiryCount()));
+	}
+}
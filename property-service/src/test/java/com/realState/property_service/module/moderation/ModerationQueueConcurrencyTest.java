@@ -0,0 +1,176 @@
+package com.realState.property_service.module.moderation;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.realState.property_service.common.exceptions.property.ModerationLeaseException;
+import com.realState.property_service.database.enums.ApprovalStatusEnum;
+import com.realState.property_service.database.enums.StateEnum;
+import com.realState.property_service.database.repository.PropertyRepository;
+import com.realState.property_service.module.location.dto.CreateLocationDTO;
+import com.realState.property_service.module.moderation.dto.ModerationClaimDTO;
+import com.realState.property_service.module.moderation.dto.ModerationDecisionDTO;
+import com.realState.property_service.module.moderation.service.ModerationService;
+import com.realState.property_service.module.property.dto.CreatePropertyDTO;
+import com.realState.property_service.module.property.dto.PropertyDTO;
+import com.realState.property_service.module.property.service.PropertyService;
+
+import jakarta.persistence.EntityManager;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class ModerationQueueConcurrencyTest {
+
+	private static final int PENDING_PROPERTIES = 40;
+	private static final int MODERATORS = 6;
+
+	@Autowired
+	private PropertyService propertyService;
+
+	@Autowired
+	private ModerationService moderationService;
+
+	@Autowired
+	private PropertyRepository propertyRepository;
+
+	@Autowired
+	private JdbcTemplate jdbcTemplate;
+
+	@Autowired
+	private EntityManager entityManager;
+
+	@Autowired
+	private PlatformTransactionManager transactionManager;
+
+	@Test
+	void parallelModeratorsProcessEachPendingPropertyExactlyOnce() throws Exception {
+		List<UUID> pendingIds = new ArrayList<>();
+		for (int i = 0; i < PENDING_PROPERTIES; i++) {
+			pendingIds.add(createPendingProperty("Queue item " + i));
+		}
+
+		Map<UUID, AtomicInteger> processed = new ConcurrentHashMap<>();
+		CountDownLatch start = new CountDownLatch(1);
+		ExecutorService pool = Executors.newFixedThreadPool(MODERATORS);
+		List<Future<?>> moderators = new ArrayList<>();
+		for (int m = 0; m < MODERATORS; m++) {
+			String moderatorId = "moderator-" + m;
+			moderators.add(pool.submit(() -> {
+				start.await();
+				while (true) {
+					ModerationClaimDTO claim = moderationService.claim(moderatorId, 4);
+					if (claim.getProperties().isEmpty()) {
+						return null;
+					}
+					for (PropertyDTO property : claim.getProperties()) {
+						processed.computeIfAbsent(property.getId(), id -> new AtomicInteger()).incrementAndGet();
+						moderationService.complete(property.getId(), decision(claim.getLeaseToken(),
+								property.getTitle().hashCode() % 2 == 0 ? ApprovalStatusEnum.approved
+										: ApprovalStatusEnum.rejected));
+					}
+				}
+			}));
+		}
+		start.countDown();
+		for (Future<?> moderator : moderators) {
+			moderator.get(60, TimeUnit.SECONDS);
+		}
+		pool.shutdown();
+
+		for (UUID id : pendingIds) {
+			assertEquals(1, processed.getOrDefault(id, new AtomicInteger()).get(),
+					"property " + id + " must be claimed exactly once");
+			ApprovalStatusEnum finalStatus = propertyService.getPropertyById(id).getApprovalStatus();
+			assertTrue(finalStatus == ApprovalStatusEnum.approved || finalStatus == ApprovalStatusEnum.rejected);
+		}
+	}
+
+	@Test
+	void completingWithoutHoldingTheLeaseIsRejected() {
+		UUID propertyId = createPendingProperty("Leased elsewhere");
+
+		assertThrows(ModerationLeaseException.class,
+				() -> moderationService.complete(propertyId, decision(UUID.randomUUID(), ApprovalStatusEnum.approved)));
+		assertEquals(ApprovalStatusEnum.pending_approval, propertyService.getPropertyById(propertyId).getApprovalStatus());
+	}
+
+	@Test
+	void leasesKeepTheQueuePositionAndUpdatedAt() {
+		UUID propertyId = createPendingProperty("Oldest in queue");
+		LocalDateTime submittedAt = LocalDateTime.of(2001, 1, 1, 0, 0);
+		new TransactionTemplate(transactionManager).executeWithoutResult(status -> entityManager
+				.createQuery("UPDATE Property p SET p.updatedAt = :updatedAt WHERE p.id = :id")
+				.setParameter("updatedAt", submittedAt).setParameter("id", propertyId).executeUpdate());
+
+		// The schema H2 builds from the entities lacks V2's ON UPDATE CURRENT_TIMESTAMP; add it for this test
+		jdbcTemplate.execute("ALTER TABLE properties ALTER COLUMN updated_at SET ON UPDATE CURRENT_TIMESTAMP(6)");
+		try {
+			ModerationClaimDTO claim = moderationService.claim("moderator-a", 1);
+			assertEquals(List.of(propertyId), claim.getProperties().stream().map(PropertyDTO::getId).toList());
+			assertEquals(submittedAt, propertyRepository.findById(propertyId).orElseThrow().getUpdatedAt());
+
+			moderationService.renew(claim.getLeaseToken());
+			assertEquals(submittedAt, propertyRepository.findById(propertyId).orElseThrow().getUpdatedAt());
+
+			assertEquals(1, moderationService.release(claim.getLeaseToken()));
+			assertEquals(submittedAt, propertyRepository.findById(propertyId).orElseThrow().getUpdatedAt());
+
+			// Released, it is still the oldest item and goes to the next claimer first
+			ModerationClaimDTO next = moderationService.claim("moderator-b", 1);
+			assertEquals(List.of(propertyId), next.getProperties().stream().map(PropertyDTO::getId).toList());
+			moderationService.complete(propertyId, decision(next.getLeaseToken(), ApprovalStatusEnum.approved));
+			assertTrue(propertyRepository.findById(propertyId).orElseThrow().getUpdatedAt().isAfter(submittedAt));
+		} finally {
+			jdbcTemplate.execute("ALTER TABLE properties ALTER COLUMN updated_at DROP ON UPDATE");
+		}
+	}
+
+	private UUID createPendingProperty(String title) {
+		CreateLocationDTO location = new CreateLocationDTO();
+		location.setAddress("Lakeside");
+		location.setCity("Pokhara");
+		location.setState(StateEnum.Gandaki);
+		location.setCountry("Nepal");
+		location.setZipcode(33700);
+		location.setLatitude(28.21f);
+		location.setLongitude(83.96f);
+
+		CreatePropertyDTO dto = new CreatePropertyDTO();
+		dto.setTitle(title);
+		dto.setOwnerId(UUID.randomUUID());
+		dto.setLocation(location);
+
+		UUID id = propertyService.createProperty(dto).getId();
+		propertyService.submitApprovalRequest(id);
+		return id;
+	}
+
+	private static ModerationDecisionDTO decision(UUID leaseToken, ApprovalStatusEnum decision) {
+		ModerationDecisionDTO dto = new ModerationDecisionDTO();
+		dto.setLeaseToken(leaseToken);
+		dto.setDecision(decision);
+		return dto;
+	}
+}
@@ -0,0 +1,212 @@
+package com.realState.property_service.module.outbox;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.realState.property_service.database.enums.PropertyEventTypeEnum;
+import com.realState.property_service.database.enums.StateEnum;
+import com.realState.property_service.database.repository.OutboxRelayLeaseRepository;
+import com.realState.property_service.database.repository.PropertyOutboxRepository;
+import com.realState.property_service.database.repository.PropertyRepository;
+import com.realState.property_service.module.location.dto.CreateLocationDTO;
+import com.realState.property_service.module.outbox.dto.PropertyChangeEventDTO;
+import com.realState.property_service.module.outbox.service.OutboxRelay;
+import com.realState.property_service.module.outbox.sink.OutboxEventSink;
+import com.realState.property_service.module.property.dto.CreatePropertyDTO;
+import com.realState.property_service.module.property.service.PropertyService;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * Guards the outbox relay: events of one property are published in commit order, failed batches are
+ * redelivered, and only the lease holder relays. The scheduled relay is disabled in tests, so each test
+ * drives its own relays.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class OutboxRelayTest {
+
+	@Autowired
+	private PropertyService propertyService;
+
+	@Autowired
+	private PropertyRepository propertyRepository;
+
+	@Autowired
+	private PropertyOutboxRepository outboxRepository;
+
+	@Autowired
+	private OutboxRelayLeaseRepository leaseRepository;
+
+	@Autowired
+	private PlatformTransactionManager transactionManager;
+
+	@Autowired
+	private ObjectMapper objectMapper;
+
+	@BeforeEach
+	void freeLease() {
+		leaseRepository.deleteAll();
+	}
+
+	@Test
+	void concurrentWritesOfOnePropertyArePublishedInCommitOrder() throws Exception {
+		UUID id = propertyService.createProperty(property()).getId();
+
+		// The first writer allocates its event and then holds its transaction open
+		CountDownLatch firstWritten = new CountDownLatch(1);
+		CountDownLatch commitFirst = new CountDownLatch(1);
+		CompletableFuture<Void> first = CompletableFuture.runAsync(() -> new TransactionTemplate(transactionManager)
+				.executeWithoutResult(status -> {
+					patchTitle(id, "First");
+					firstWritten.countDown();
+					await(commitFirst);
+				}));
+		assertTrue(firstWritten.await(10, TimeUnit.SECONDS));
+		CompletableFuture<Void> second = CompletableFuture.runAsync(() -> patchTitle(id, "Second"));
+		Thread.sleep(300);
+		commitFirst.countDown();
+		first.get(10, TimeUnit.SECONDS);
+		second.get(10, TimeUnit.SECONDS);
+
+		List<PropertyChangeEventDTO> published = new ArrayList<>();
+		relay(published::addAll).relay();
+
+		List<PropertyChangeEventDTO> events = published.stream().filter(e -> e.getPropertyId().equals(id)).toList();
+		assertEquals(List.of(PropertyEventTypeEnum.created, PropertyEventTypeEnum.updated,
+				PropertyEventTypeEnum.updated), events.stream().map(PropertyChangeEventDTO::getType).toList());
+		// The last event published is the state that was committed last
+		String committedTitle = propertyRepository.findById(id).orElseThrow().getTitle();
+		assertEquals("Second", committedTitle);
+		assertEquals(committedTitle, objectMapper.readTree(events.get(2).getPayload()).get("title").asText());
+	}
+
+	@Test
+	void deleteRacingAnUpdateIsPublishedInCommitOrder() throws Exception {
+		UUID id = propertyService.createProperty(property()).getId();
+
+		// The delete runs first and holds its transaction open; the update has to wait for it
+		CountDownLatch deleted = new CountDownLatch(1);
+		CountDownLatch commitDelete = new CountDownLatch(1);
+		CompletableFuture<Void> delete = CompletableFuture.runAsync(() -> new TransactionTemplate(transactionManager)
+				.executeWithoutResult(status -> {
+					propertyService.deletePropertyById(id);
+					deleted.countDown();
+					await(commitDelete);
+				}));
+		assertTrue(deleted.await(10, TimeUnit.SECONDS));
+		CompletableFuture<Void> update = CompletableFuture.runAsync(() -> patchTitle(id, "Updated"));
+		Thread.sleep(300);
+		commitDelete.countDown();
+		delete.get(10, TimeUnit.SECONDS);
+		// The update either lost the race or came too late: either way the property is gone
+		update.handle((result, ex) -> null).get(10, TimeUnit.SECONDS);
+
+		List<PropertyChangeEventDTO> published = new ArrayList<>();
+		relay(published::addAll).relay();
+
+		List<PropertyEventTypeEnum> types = published.stream().filter(e -> e.getPropertyId().equals(id))
+				.map(PropertyChangeEventDTO::getType).toList();
+		assertEquals(PropertyEventTypeEnum.created, types.get(0));
+		assertEquals(PropertyEventTypeEnum.deleted, types.get(types.size() - 1));
+		assertTrue(propertyRepository.findById(id).isEmpty());
+	}
+
+	@Test
+	void failedBatchesAreRedeliveredFromTheSameEvent() {
+		UUID id = propertyService.createProperty(property()).getId();
+
+		AtomicBoolean brokerDown = new AtomicBoolean(true);
+		List<List<PropertyChangeEventDTO>> attempts = new ArrayList<>();
+		OutboxRelay relay = relay(events -> {
+			attempts.add(events);
+			if (brokerDown.get()) {
+				throw new IllegalStateException("broker down");
+			}
+		});
+		relay.relay();
+		assertEquals(1, attempts.size());
+		assertTrue(outboxRepository.countByPublishedAtIsNull() > 0);
+
+		brokerDown.set(false);
+		relay.relay();
+		assertEquals(attempts.get(0).get(0).getEventId(), attempts.get(1).get(0).getEventId());
+		assertEquals(1, attempts.stream().skip(1).flatMap(List::stream).filter(e -> e.getPropertyId().equals(id))
+				.count());
+		assertEquals(0, outboxRepository.countByPublishedAtIsNull());
+
+		int delivered = attempts.size();
+		relay.relay();
+		assertEquals(delivered, attempts.size());
+	}
+
+	@Test
+	void onlyTheLeaseHolderRelays() {
+		List<PropertyChangeEventDTO> holderEvents = new ArrayList<>();
+		OutboxRelay holder = relay(holderEvents::addAll);
+		holder.relay();
+
+		UUID id = propertyService.createProperty(property()).getId();
+		List<PropertyChangeEventDTO> otherEvents = new ArrayList<>();
+		relay(otherEvents::addAll).relay();
+		assertEquals(List.of(), otherEvents);
+
+		holder.relay();
+		assertEquals(1, holderEvents.stream().filter(e -> e.getPropertyId().equals(id)).count());
+	}
+
+	private OutboxRelay relay(OutboxEventSink sink) {
+		return new OutboxRelay(outboxRepository, leaseRepository, sink, transactionManager, new SimpleMeterRegistry(),
+				100, 7, 30000);
+	}
+
+	private void patchTitle(UUID id, String title) {
+		try {
+			propertyService.patchPropertyById(id, objectMapper.readTree("{\"title\":\"" + title + "\"}"));
+		} catch (Exception ex) {
+			throw new IllegalStateException(ex);
+		}
+	}
+
+	private static void await(CountDownLatch latch) {
+		try {
+			latch.await(10, TimeUnit.SECONDS);
+		} catch (InterruptedException ex) {
+			Thread.currentThread().interrupt();
+		}
+	}
+
+	private static CreatePropertyDTO property() {
+		CreateLocationDTO location = new CreateLocationDTO();
+		location.setAddress("New Road");
+		location.setCity("Kathmandu");
+		location.setState(StateEnum.Bagmati);
+		location.setCountry("Nepal");
+		location.setZipcode(44600);
+		location.setLatitude(27.70f);
+		location.setLongitude(85.31f);
+
+		CreatePropertyDTO dto = new CreatePropertyDTO();
+		dto.setTitle("Outbox item");
+		dto.setOwnerId(UUID.randomUUID());
+		dto.setLocation(location);
+		return dto;
+	}
+}
@@ -0,0 +1,140 @@
+package com.realState.property_service.module.property;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.realState.property_service.common.exceptions.property.PropertyNotFoundException;
+import com.realState.property_service.database.enums.ApprovalStatusEnum;
+import com.realState.property_service.database.enums.PropertyFieldEnum;
+import com.realState.property_service.database.enums.StateEnum;
+import com.realState.property_service.database.enums.StatusEnum;
+import com.realState.property_service.database.enums.TypeEnum;
+import com.realState.property_service.database.repository.PropertyArchiveRepository;
+import com.realState.property_service.database.repository.PropertyRepository;
+import com.realState.property_service.module.location.dto.CreateLocationDTO;
+import com.realState.property_service.module.property.archive.ColdStorageMover;
+import com.realState.property_service.module.property.cache.PropertyIdFilter;
+import com.realState.property_service.module.property.dto.CreatePropertyDTO;
+import com.realState.property_service.module.property.dto.PropertyDTO;
+import com.realState.property_service.module.property.service.PropertyService;
+
+import jakarta.persistence.EntityManager;
+
+/**
+ * Guards cold storage: old rejected listings leave the live table and are still found by detail
+ * reads, owner listings (full and sparse), owner stats and the id filter.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class ColdStorageMoverTest {
+
+	@Autowired
+	private ColdStorageMover coldStorageMover;
+
+	@Autowired
+	private PropertyService propertyService;
+
+	@Autowired
+	private PropertyRepository propertyRepository;
+
+	@Autowired
+	private PropertyArchiveRepository propertyArchiveRepository;
+
+	@Autowired
+	private PropertyIdFilter propertyIdFilter;
+
+	@Autowired
+	private EntityManager entityManager;
+
+	@Autowired
+	private PlatformTransactionManager transactionManager;
+
+	@Test
+	void movesColdListingsAndKeepsThemReadable() {
+		UUID ownerId = UUID.randomUUID();
+		UUID cold = create(ownerId, true, 60);
+		UUID recentRejected = create(ownerId, true, 1);
+		UUID draft = create(ownerId, false, 60);
+
+		assertTrue(coldStorageMover.run() >= 1);
+		assertFalse(propertyRepository.existsById(cold));
+		assertTrue(propertyArchiveRepository.existsById(cold));
+		assertTrue(propertyRepository.existsById(recentRejected));
+		assertTrue(propertyRepository.existsById(draft));
+
+		PropertyDTO archived = propertyService.getPropertyById(cold);
+		assertEquals(ApprovalStatusEnum.rejected, archived.getApprovalStatus());
+		assertEquals("Dharan", archived.getLocation().getCity());
+
+		// Live listings come first, the archived one fills the last page
+		List<PropertyDTO> all = propertyService.getAllOwnerProperty(ownerId, 0, 10).getData();
+		assertEquals(List.of(recentRejected, draft, cold), all.stream().map(PropertyDTO::getId).toList());
+		assertEquals(cold, propertyService.getAllOwnerProperty(ownerId, 2, 1).getData().get(0).getId());
+		assertEquals(3, propertyService.getAllOwnerProperty(ownerId, 0, 1).getMeta().getTotalItems());
+
+		// The sparse-fieldset listing continues into the archive the same way
+		Set<PropertyFieldEnum> fields = PropertyFieldEnum.parse("id,approvalStatus,city");
+		List<Map<String, Object>> rows = propertyService.getAllOwnerPropertyFields(ownerId, fields, 0, 10).getData();
+		assertEquals(List.of(recentRejected, draft, cold), rows.stream().map(row -> row.get("id")).toList());
+		assertEquals(ApprovalStatusEnum.rejected, rows.get(2).get("approvalStatus"));
+		assertEquals(Map.of("city", "Dharan"), rows.get(2).get("location"));
+		assertEquals(3, propertyService.getAllOwnerPropertyFields(ownerId, fields, 0, 1).getMeta().getTotalItems());
+		assertTrue(propertyService.getAllPropertyFields(fields, 0, 1).getMeta().getTotalItems()
+				>= propertyRepository.count() + 1);
+
+		assertEquals(3, propertyService.getOwnerPropertyStats(ownerId).getTotal());
+		assertEquals(2, propertyService.getOwnerPropertyStats(ownerId).getByApprovalStatus()
+				.get(ApprovalStatusEnum.rejected));
+
+		propertyIdFilter.rebuild();
+		assertTrue(propertyIdFilter.mightContain(cold));
+
+		// Archived listings are read-only
+		assertThrows(PropertyNotFoundException.class,
+				() -> propertyService.updatePropertyStatus(cold, StatusEnum.Sold));
+	}
+
+	private UUID create(UUID ownerId, boolean reject, int ageDays) {
+		CreateLocationDTO location = new CreateLocationDTO();
+		location.setAddress("Main Road");
+		location.setCity("Dharan");
+		location.setState(StateEnum.Koshi);
+		location.setCountry("Nepal");
+		location.setZipcode(56700);
+		location.setLatitude(26.81f);
+		location.setLongitude(87.28f);
+
+		CreatePropertyDTO dto = new CreatePropertyDTO();
+		dto.setTitle("Cold");
+		dto.setDescription("Description");
+		dto.setOwnerId(ownerId);
+		dto.setType(TypeEnum.House);
+		dto.setStatus(StatusEnum.Available);
+		dto.setLocation(location);
+		UUID id = propertyService.createProperty(dto).getId();
+		if (reject) {
+			propertyService.rejectProperty(id);
+		}
+		new TransactionTemplate(transactionManager).executeWithoutResult(status -> entityManager
+				.createQuery("UPDATE Property p SET p.updatedAt = :updatedAt WHERE p.id = :id")
+				.setParameter("updatedAt", LocalDateTime.now().minusDays(ageDays))
+				.setParameter("id", id)
+				.executeUpdate());
+		return id;
+	}
+}
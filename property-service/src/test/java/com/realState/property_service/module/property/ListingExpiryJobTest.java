@@ -0,0 +1,104 @@
+package com.realState.property_service.module.property;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.realState.property_service.database.enums.ApprovalStatusEnum;
+import com.realState.property_service.database.enums.StateEnum;
+import com.realState.property_service.database.enums.StatusEnum;
+import com.realState.property_service.database.enums.TypeEnum;
+import com.realState.property_service.database.repository.PropertyRepository;
+import com.realState.property_service.module.location.dto.CreateLocationDTO;
+import com.realState.property_service.module.property.dto.CreatePropertyDTO;
+import com.realState.property_service.module.property.dto.ListingExpiryResultDTO;
+import com.realState.property_service.module.property.expiry.ListingExpiryJob;
+import com.realState.property_service.module.property.service.PropertyService;
+
+import jakarta.persistence.EntityManager;
+
+/**
+ * Guards listing expiry: only stale approved listings are archived, and a dry run changes nothing.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class ListingExpiryJobTest {
+
+	@Autowired
+	private ListingExpiryJob listingExpiryJob;
+
+	@Autowired
+	private PropertyService propertyService;
+
+	@Autowired
+	private PropertyRepository propertyRepository;
+
+	@Autowired
+	private EntityManager entityManager;
+
+	@Autowired
+	private PlatformTransactionManager transactionManager;
+
+	@Test
+	void archivesOnlyStaleApprovedListings() {
+		UUID staleApproved = create(true, 400);
+		UUID staleDraft = create(false, 400);
+		UUID freshApproved = create(true, 0);
+
+		ListingExpiryResultDTO dryRun = listingExpiryJob.run(true);
+		assertTrue(dryRun.isComplete());
+		assertTrue(dryRun.getProperties() >= 1);
+		assertEquals(ApprovalStatusEnum.approved, approvalStatus(staleApproved));
+
+		ListingExpiryResultDTO run = listingExpiryJob.run(false);
+		assertTrue(run.isComplete());
+		assertEquals(dryRun.getProperties(), run.getProperties());
+		assertEquals(ApprovalStatusEnum.archived, approvalStatus(staleApproved));
+		assertEquals(ApprovalStatusEnum.draft, approvalStatus(staleDraft));
+		assertEquals(ApprovalStatusEnum.approved, approvalStatus(freshApproved));
+
+		assertEquals(0, listingExpiryJob.run(false).getProperties());
+	}
+
+	private ApprovalStatusEnum approvalStatus(UUID id) {
+		return propertyRepository.findById(id).orElseThrow().getApprovalStatus();
+	}
+
+	private UUID create(boolean approve, int ageDays) {
+		CreateLocationDTO location = new CreateLocationDTO();
+		location.setAddress("Main Road");
+		location.setCity("Biratnagar");
+		location.setState(StateEnum.Koshi);
+		location.setCountry("Nepal");
+		location.setZipcode(56613);
+		location.setLatitude(26.45f);
+		location.setLongitude(87.27f);
+
+		CreatePropertyDTO dto = new CreatePropertyDTO();
+		dto.setTitle("Expiry");
+		dto.setDescription("Description");
+		dto.setOwnerId(UUID.randomUUID());
+		dto.setType(TypeEnum.Land);
+		dto.setStatus(StatusEnum.Available);
+		dto.setLocation(location);
+		UUID id = propertyService.createProperty(dto).getId();
+		if (approve) {
+			propertyService.approveProperty(id);
+		}
+		new TransactionTemplate(transactionManager).executeWithoutResult(status -> entityManager
+				.createQuery("UPDATE Property p SET p.updatedAt = :updatedAt WHERE p.id = :id")
+				.setParameter("updatedAt", LocalDateTime.now().minusDays(ageDays))
+				.setParameter("id", id)
+				.executeUpdate());
+		return id;
+	}
+}
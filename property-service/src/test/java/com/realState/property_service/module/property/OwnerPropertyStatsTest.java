@@ -0,0 +1,92 @@
+package com.realState.property_service.module.property;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.UUID;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import com.realState.property_service.database.enums.ApprovalStatusEnum;
+import com.realState.property_service.database.enums.StateEnum;
+import com.realState.property_service.database.enums.StatusEnum;
+import com.realState.property_service.database.enums.TypeEnum;
+import com.realState.property_service.module.location.dto.CreateLocationDTO;
+import com.realState.property_service.module.property.dto.CreatePropertyDTO;
+import com.realState.property_service.module.property.dto.OwnerPropertyStatsDTO;
+import com.realState.property_service.module.property.service.PropertyService;
+
+import jakarta.persistence.EntityManagerFactory;
+
+/**
+ * Guards owner portfolio statistics: zero-filled counts from one grouped query per table, served
+ * from the cache without a query until a write to the owner's properties evicts them.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class OwnerPropertyStatsTest {
+
+	@Autowired
+	private PropertyService propertyService;
+
+	@Autowired
+	private EntityManagerFactory entityManagerFactory;
+
+	@Test
+	void countsAreCachedUntilTheOwnerWrites() {
+		UUID ownerId = UUID.randomUUID();
+		create(ownerId, StatusEnum.Available);
+		UUID rented = create(ownerId, StatusEnum.Rented);
+		UUID available = create(ownerId, StatusEnum.Available);
+		propertyService.approveProperty(rented);
+		propertyService.approveProperty(available);
+		Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+		statistics.clear();
+
+		OwnerPropertyStatsDTO stats = propertyService.getOwnerPropertyStats(ownerId);
+		assertEquals(3, stats.getTotal());
+		assertEquals(ApprovalStatusEnum.values().length, stats.getByApprovalStatus().size());
+		assertEquals(StatusEnum.values().length, stats.getByStatus().size());
+		assertEquals(1L, stats.getByApprovalStatus().get(ApprovalStatusEnum.draft));
+		assertEquals(2L, stats.getByApprovalStatus().get(ApprovalStatusEnum.approved));
+		assertEquals(0L, stats.getByApprovalStatus().get(ApprovalStatusEnum.rejected));
+		assertEquals(2L, stats.getByStatus().get(StatusEnum.Available));
+		assertEquals(1L, stats.getByStatus().get(StatusEnum.Rented));
+		assertEquals(0L, stats.getByStatus().get(StatusEnum.Sold));
+		// One grouped query over the live table and one over the archive
+		assertEquals(2, statistics.getPrepareStatementCount());
+
+		statistics.clear();
+		assertEquals(3, propertyService.getOwnerPropertyStats(ownerId).getTotal());
+		assertEquals(0, statistics.getPrepareStatementCount());
+
+		propertyService.updatePropertyStatus(available, StatusEnum.Sold);
+		stats = propertyService.getOwnerPropertyStats(ownerId);
+		assertEquals(1L, stats.getByStatus().get(StatusEnum.Available));
+		assertEquals(1L, stats.getByStatus().get(StatusEnum.Sold));
+	}
+
+	private UUID create(UUID ownerId, StatusEnum status) {
+		CreateLocationDTO location = new CreateLocationDTO();
+		location.setAddress("Main Road");
+		location.setCity("Lalitpur");
+		location.setState(StateEnum.Bagmati);
+		location.setCountry("Nepal");
+		location.setZipcode(44700);
+		location.setLatitude(27.67f);
+		location.setLongitude(85.32f);
+
+		CreatePropertyDTO dto = new CreatePropertyDTO();
+		dto.setTitle("Stats");
+		dto.setDescription("Description");
+		dto.setOwnerId(ownerId);
+		dto.setType(TypeEnum.House);
+		dto.setStatus(status);
+		dto.setLocation(location);
+		return propertyService.createProperty(dto).getId();
+	}
+}
@@ -0,0 +1,93 @@
+package com.realState.property_service.module.property;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.List;
+import java.util.UUID;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import com.realState.property_service.database.enums.StateEnum;
+import com.realState.property_service.database.enums.StatusEnum;
+import com.realState.property_service.database.enums.TypeEnum;
+import com.realState.property_service.module.location.dto.CreateLocationDTO;
+import com.realState.property_service.module.property.cache.PropertyDetailCache;
+import com.realState.property_service.module.property.dto.CreatePropertyDTO;
+import com.realState.property_service.module.property.dto.PropertyBatchDTO;
+import com.realState.property_service.module.property.dto.PropertyDTO;
+import com.realState.property_service.module.property.service.PropertyService;
+
+import jakarta.persistence.EntityManagerFactory;
+
+/**
+ * Guards the batch lookup: request order is kept with duplicates collapsed, missing ids are
+ * reported, uncached ids are loaded by one query and cached ids by none.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class PropertyBatchLookupTest {
+
+	@Autowired
+	private PropertyService propertyService;
+
+	@Autowired
+	private PropertyDetailCache propertyDetailCache;
+
+	@Autowired
+	private EntityManagerFactory entityManagerFactory;
+
+	@Test
+	void keepsRequestOrderAndLoadsUncachedIdsInOneQuery() {
+		UUID first = create("First");
+		UUID second = create("Second");
+		UUID missing = UUID.randomUUID();
+		List<UUID> ids = List.of(second, missing, first, second);
+		propertyDetailCache.clear();
+		Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+		statistics.clear();
+
+		PropertyBatchDTO batch = propertyService.getPropertiesByIds(ids);
+		assertEquals(List.of(second, first), batch.getProperties().stream().map(PropertyDTO::getId).toList());
+		assertEquals(List.of("Second", "First"),
+				batch.getProperties().stream().map(PropertyDTO::getTitle).toList());
+		assertEquals(List.of(missing), batch.getMissingIds());
+		assertEquals(1, statistics.getPrepareStatementCount());
+
+		// Found ids are now cached; only the missing id still goes to the database
+		statistics.clear();
+		batch = propertyService.getPropertiesByIds(ids);
+		assertEquals(List.of(second, first), batch.getProperties().stream().map(PropertyDTO::getId).toList());
+		assertEquals(List.of(missing), batch.getMissingIds());
+		assertEquals(1, statistics.getPrepareStatementCount());
+
+		statistics.clear();
+		batch = propertyService.getPropertiesByIds(List.of(first, second));
+		assertEquals(List.of(first, second), batch.getProperties().stream().map(PropertyDTO::getId).toList());
+		assertEquals(0, statistics.getPrepareStatementCount());
+	}
+
+	private UUID create(String title) {
+		CreateLocationDTO location = new CreateLocationDTO();
+		location.setAddress("Main Road");
+		location.setCity("Kathmandu");
+		location.setState(StateEnum.Bagmati);
+		location.setCountry("Nepal");
+		location.setZipcode(44600);
+		location.setLatitude(27.71f);
+		location.setLongitude(85.32f);
+
+		CreatePropertyDTO dto = new CreatePropertyDTO();
+		dto.setTitle(title);
+		dto.setDescription("Description");
+		dto.setOwnerId(UUID.randomUUID());
+		dto.setType(TypeEnum.House);
+		dto.setStatus(StatusEnum.Available);
+		dto.setLocation(location);
+		return propertyService.createProperty(dto).getId();
+	}
+}
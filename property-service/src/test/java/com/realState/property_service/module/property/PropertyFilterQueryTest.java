@@ -0,0 +1,170 @@
+package com.realState.property_service.module.property;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.RequestBuilder;
+
+import com.realState.property_service.common.resilience.CircuitBreaker;
+import com.realState.property_service.database.enums.PropertySortEnum;
+import com.realState.property_service.database.enums.StateEnum;
+import com.realState.property_service.database.enums.StatusEnum;
+import com.realState.property_service.database.enums.TypeEnum;
+import com.realState.property_service.module.location.dto.CreateLocationDTO;
+import com.realState.property_service.module.property.cache.StaleReadCache;
+import com.realState.property_service.module.property.dto.CreatePropertyDTO;
+import com.realState.property_service.module.property.dto.PropertyDTO;
+import com.realState.property_service.module.property.dto.PropertyFilterDTO;
+import com.realState.property_service.module.property.service.PropertyService;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.persistence.EntityManagerFactory;
+
+/**
+ * Guards the compiled buyer filter: multi-value sets, city and sort, answered by one joined SELECT,
+ * invalid filters rejected as bad input rather than as a database failure, and include rejected
+ * alongside sparse fields instead of silently dropping the enquiry counts.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class PropertyFilterQueryTest {
+
+	@Autowired
+	private MockMvc mockMvc;
+
+	@Autowired
+	private PropertyService propertyService;
+
+	@Autowired
+	private EntityManagerFactory entityManagerFactory;
+
+	@Autowired
+	private StaleReadCache staleReadCache;
+
+	@Autowired
+	private MeterRegistry meterRegistry;
+
+	private Statistics statistics;
+	private String city;
+
+	@BeforeEach
+	void createProperties() {
+		// A city of its own keeps rows from other tests in the shared context out of the results
+		city = "Filter-" + UUID.randomUUID();
+		create("Bravo", StateEnum.Bagmati, StatusEnum.Available, true);
+		create("Alpha", StateEnum.Gandaki, StatusEnum.Rented, true);
+		create("Charlie", StateEnum.Koshi, StatusEnum.Available, true);
+		create("Delta", StateEnum.Bagmati, StatusEnum.Available, false);
+
+		statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+		statistics.clear();
+	}
+
+	@Test
+	void multiValueStatesAreOneJoinedSelect() {
+		PropertyFilterDTO filter = filter();
+		filter.setStates(EnumSet.of(StateEnum.Bagmati, StateEnum.Gandaki));
+
+		List<PropertyDTO> found = propertyService.filterProperties(filter).getData();
+
+		assertEquals(Set.of("Bravo", "Alpha"), Set.copyOf(titles(found)));
+		assertEquals(1, statistics.getPrepareStatementCount());
+	}
+
+	@Test
+	void statusSetAndTitleSortAscending() {
+		PropertyFilterDTO filter = filter();
+		filter.setStatuses(EnumSet.of(StatusEnum.Available, StatusEnum.Sold));
+		filter.setTypes(EnumSet.of(TypeEnum.House));
+		filter.setSort(PropertySortEnum.TITLE);
+		filter.setAscending(true);
+
+		assertEquals(List.of("Bravo", "Charlie"), titles(propertyService.filterProperties(filter).getData()));
+	}
+
+	@Test
+	void invalidFiltersAreBadInputAndLeaveTheBreakerClosed() {
+		PropertyFilterDTO filter = filter();
+		filter.setSize(500);
+
+		// More rejections than the breaker's failure threshold
+		for (int i = 0; i < 10; i++) {
+			assertThrows(IllegalArgumentException.class,
+					() -> staleReadCache.read("filter:invalid", () -> propertyService.filterProperties(filter)));
+		}
+		assertEquals(CircuitBreaker.State.CLOSED.ordinal(),
+				meterRegistry.get("property.circuit.state").tag("name", "buyer_read").gauge().value());
+		assertEquals(2, propertyService.filterProperties(filter()).getData().stream()
+				.filter(p -> p.getStatus() == StatusEnum.Available).count());
+	}
+
+	@Test
+	void includeCannotBeCombinedWithFields() throws Exception {
+		RequestBuilder[] requests = {
+				get("/properties/filter").param("fields", "id,title").param("include", "enquiryCounts"),
+				get("/properties/approved").param("fields", "id,title").param("include", "enquiryCounts"),
+				post("/properties/owner/").param("fields", "id,title").param("include", "enquiryCounts")
+						.contentType(MediaType.APPLICATION_JSON).content("{\"ownerId\":\"" + UUID.randomUUID() + "\"}") };
+		for (RequestBuilder request : requests) {
+			mockMvc.perform(request)
+					.andExpect(status().isBadRequest())
+					.andExpect(jsonPath("$.errorCode").value("INVALID_ARGUMENT"))
+					.andExpect(jsonPath("$.message").value("include and fields cannot be combined"));
+		}
+	}
+
+	private PropertyFilterDTO filter() {
+		PropertyFilterDTO filter = new PropertyFilterDTO();
+		filter.setCity(city);
+		filter.setPage(0);
+		filter.setSize(10);
+		return filter;
+	}
+
+	private void create(String title, StateEnum state, StatusEnum status, boolean approve) {
+		CreateLocationDTO location = new CreateLocationDTO();
+		location.setAddress("Main Road");
+		location.setCity(city);
+		location.setState(state);
+		location.setCountry("Nepal");
+		location.setZipcode(44600);
+		location.setLatitude(27.71f);
+		location.setLongitude(85.32f);
+
+		CreatePropertyDTO dto = new CreatePropertyDTO();
+		dto.setTitle(title);
+		dto.setDescription("Description");
+		dto.setOwnerId(UUID.randomUUID());
+		dto.setType(TypeEnum.House);
+		dto.setStatus(status);
+		dto.setLocation(location);
+		UUID id = propertyService.createProperty(dto).getId();
+		if (approve) {
+			propertyService.approveProperty(id);
+		}
+	}
+
+	private static List<String> titles(List<PropertyDTO> properties) {
+		return properties.stream().map(PropertyDTO::getTitle).toList();
+	}
+}
@@ -0,0 +1,117 @@
+package com.realState.property_service.module.property;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import java.util.UUID;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import com.realState.property_service.database.enums.StateEnum;
+import com.realState.property_service.database.enums.StatusEnum;
+import com.realState.property_service.database.enums.TypeEnum;
+import com.realState.property_service.database.repository.PropertyListingRepository;
+import com.realState.property_service.module.location.dto.CreateLocationDTO;
+import com.realState.property_service.module.location.dto.UpdateLocationDTO;
+import com.realState.property_service.module.property.dto.CreatePropertyDTO;
+import com.realState.property_service.module.property.dto.PropertyDTO;
+import com.realState.property_service.module.property.dto.PropertyFilterDTO;
+import com.realState.property_service.module.property.dto.UpdatePropertyDTO;
+import com.realState.property_service.module.property.listing.PropertyListingChecker;
+import com.realState.property_service.module.property.listing.PropertyListingProjector;
+import com.realState.property_service.module.property.service.PropertyService;
+
+/**
+ * Guards the buyer listing read table: it follows approvals, property and location edits, status
+ * flips and rejections, and a rebuild repairs whatever the checker finds.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class PropertyListingProjectionTest {
+
+	@Autowired
+	private PropertyService propertyService;
+
+	@Autowired
+	private PropertyListingRepository propertyListingRepository;
+
+	@Autowired
+	private PropertyListingProjector propertyListingProjector;
+
+	@Autowired
+	private PropertyListingChecker propertyListingChecker;
+
+	@Test
+	void followsPropertyAndLocationWrites() {
+		String city = "Listing-" + UUID.randomUUID();
+		UUID id = create(city);
+		assertFalse(propertyListingRepository.existsById(id));
+		assertTrue(findIn(city).isEmpty());
+
+		propertyService.approveProperty(id);
+		assertEquals(List.of(id), findIn(city));
+
+		String movedTo = "Listing-" + UUID.randomUUID();
+		UpdateLocationDTO location = new UpdateLocationDTO();
+		location.setCity(movedTo);
+		UpdatePropertyDTO update = new UpdatePropertyDTO();
+		update.setTitle("Renamed");
+		update.setLocation(location);
+		propertyService.updatePropertyById(id, update);
+		assertTrue(findIn(city).isEmpty());
+		assertEquals(List.of(id), findIn(movedTo));
+		assertEquals("Renamed", propertyListingRepository.findById(id).orElseThrow().getTitle());
+
+		propertyService.updatePropertyStatus(id, StatusEnum.Sold);
+		assertEquals(StatusEnum.Sold, propertyListingRepository.findById(id).orElseThrow().getStatus());
+
+		propertyService.rejectProperty(id);
+		assertFalse(propertyListingRepository.existsById(id));
+	}
+
+	@Test
+	void rebuildRepairsWhatTheCheckerFinds() {
+		UUID id = create("Listing-" + UUID.randomUUID());
+		propertyService.approveProperty(id);
+		propertyListingRepository.deleteById(id);
+
+		assertTrue(propertyListingChecker.check().getMissing() >= 1);
+
+		propertyListingProjector.rebuild();
+		assertTrue(propertyListingRepository.existsById(id));
+		assertTrue(propertyListingChecker.check().isConsistent());
+	}
+
+	private List<UUID> findIn(String city) {
+		PropertyFilterDTO filter = new PropertyFilterDTO();
+		filter.setCity(city);
+		filter.setPage(0);
+		filter.setSize(10);
+		return propertyService.filterProperties(filter).getData().stream().map(PropertyDTO::getId).toList();
+	}
+
+	private UUID create(String city) {
+		CreateLocationDTO location = new CreateLocationDTO();
+		location.setAddress("Main Road");
+		location.setCity(city);
+		location.setState(StateEnum.Lumbini);
+		location.setCountry("Nepal");
+		location.setZipcode(32900);
+		location.setLatitude(27.70f);
+		location.setLongitude(83.45f);
+
+		CreatePropertyDTO dto = new CreatePropertyDTO();
+		dto.setTitle("Listing");
+		dto.setDescription("Description");
+		dto.setOwnerId(UUID.randomUUID());
+		dto.setType(TypeEnum.House);
+		dto.setStatus(StatusEnum.Available);
+		dto.setLocation(location);
+		return propertyService.createProperty(dto).getId();
+	}
+}
@@ -0,0 +1,101 @@
+package com.realState.property_service.module.property;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import java.util.UUID;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.realState.property_service.database.enums.StateEnum;
+import com.realState.property_service.database.enums.StatusEnum;
+import com.realState.property_service.module.location.dto.CreateLocationDTO;
+import com.realState.property_service.module.property.dto.CreatePropertyDTO;
+import com.realState.property_service.module.property.dto.PropertyDTO;
+import com.realState.property_service.module.property.service.PropertyService;
+
+import jakarta.persistence.EntityManagerFactory;
+
+/**
+ * Guards the number of JDBC statements issued by the partial-update paths.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class PropertyPatchStatementCountTest {
+
+	@Autowired
+	private PropertyService propertyService;
+
+	@Autowired
+	private EntityManagerFactory entityManagerFactory;
+
+	@Autowired
+	private ObjectMapper objectMapper;
+
+	private Statistics statistics;
+	private UUID propertyId;
+
+	@BeforeEach
+	void createProperty() {
+		CreateLocationDTO location = new CreateLocationDTO();
+		location.setAddress("Durbar Marg");
+		location.setCity("Kathmandu");
+		location.setState(StateEnum.Bagmati);
+		location.setCountry("Nepal");
+		location.setZipcode(44600);
+		location.setLatitude(27.71f);
+		location.setLongitude(85.32f);
+
+		CreatePropertyDTO dto = new CreatePropertyDTO();
+		dto.setTitle("Original title");
+		dto.setDescription("Original description");
+		dto.setOwnerId(UUID.randomUUID());
+		dto.setLocation(location);
+		propertyId = propertyService.createProperty(dto).getId();
+
+		statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+		statistics.clear();
+	}
+
+	@Test
+	void titlePatchIsOneSelectOneUpdateAndTheOutboxInsert() throws Exception {
+		PropertyDTO patched = propertyService.patchPropertyById(propertyId,
+				objectMapper.readTree("{\"title\":\"New title\",\"description\":null}"));
+
+		assertEquals(3, statistics.getPrepareStatementCount());
+		assertEquals("New title", patched.getTitle());
+		assertNull(patched.getDescription());
+		assertEquals("Kathmandu", patched.getLocation().getCity());
+	}
+
+	@Test
+	void nestedLocationPatchDoesNotReloadTheLocation() throws Exception {
+		propertyService.patchPropertyById(propertyId, objectMapper.readTree("{\"location\":{\"city\":\"Lalitpur\"}}"));
+
+		assertEquals(3, statistics.getPrepareStatementCount());
+		assertEquals(1, statistics.getEntityUpdateCount());
+	}
+
+	@Test
+	void noOpPatchOnlyReads() throws Exception {
+		propertyService.patchPropertyById(propertyId, objectMapper.readTree("{\"title\":\"Original title\"}"));
+
+		assertEquals(1, statistics.getPrepareStatementCount());
+	}
+
+	@Test
+	void statusFlipIsOneScalarSelectOneUpdateAndTheOutboxInsert() {
+		propertyService.updatePropertyStatus(propertyId, StatusEnum.Sold);
+
+		assertEquals(3, statistics.getPrepareStatementCount());
+		assertEquals(0, statistics.getEntityLoadCount());
+		assertEquals(StatusEnum.Sold, propertyService.getPropertyById(propertyId).getStatus());
+	}
+}
@@ -0,0 +1,95 @@
+package com.realState.property_service.module.property;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import com.realState.property_service.database.enums.PropertyFieldEnum;
+import com.realState.property_service.database.enums.StateEnum;
+import com.realState.property_service.database.enums.StatusEnum;
+import com.realState.property_service.database.enums.TypeEnum;
+import com.realState.property_service.module.location.dto.CreateLocationDTO;
+import com.realState.property_service.module.property.dto.CreatePropertyDTO;
+import com.realState.property_service.module.property.service.PropertyService;
+
+import jakarta.persistence.EntityManagerFactory;
+
+/**
+ * Guards sparse fieldsets: rows carry only the requested fields in request order (location fields
+ * nested), the SELECT reads only their columns without loading entities, and unknown fields are
+ * rejected.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class PropertySparseFieldsTest {
+
+	@Autowired
+	private PropertyService propertyService;
+
+	@Autowired
+	private EntityManagerFactory entityManagerFactory;
+
+	@Test
+	void selectsOnlyTheRequestedColumns() {
+		UUID ownerId = UUID.randomUUID();
+		create(ownerId, "Older");
+		create(ownerId, "Newer");
+		Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+		statistics.clear();
+
+		Set<PropertyFieldEnum> fields = PropertyFieldEnum.parse("title,city,id");
+		List<Map<String, Object>> rows = propertyService.getAllOwnerPropertyFields(ownerId, fields, 0, 10).getData();
+
+		assertEquals(List.of("Newer", "Older"), rows.stream().map(row -> row.get("title")).toList());
+		for (Map<String, Object> row : rows) {
+			// Location fields stay nested as in the full response
+			assertEquals(List.of("title", "location", "id"), List.copyOf(row.keySet()));
+			assertEquals(Map.of("city", "Pokhara"), row.get("location"));
+		}
+		assertEquals(0, statistics.getEntityLoadCount());
+		String select = Arrays.stream(statistics.getQueries())
+				.filter(query -> query.contains(" from properties ") && !query.contains("count("))
+				.findFirst().orElseThrow();
+		List<String> columns = Arrays.stream(select.substring(select.indexOf("select ") + 7, select.indexOf(" from "))
+				.split(",")).map(column -> column.substring(column.indexOf('.') + 1)).sorted().toList();
+		assertEquals(List.of("city", "id", "title"), columns);
+	}
+
+	@Test
+	void unknownFieldsAreRejected() {
+		assertThrows(IllegalArgumentException.class, () -> PropertyFieldEnum.parse("id,price"));
+		assertThrows(IllegalArgumentException.class, () -> PropertyFieldEnum.parse(" , "));
+	}
+
+	private void create(UUID ownerId, String title) {
+		CreateLocationDTO location = new CreateLocationDTO();
+		location.setAddress("Lakeside");
+		location.setCity("Pokhara");
+		location.setState(StateEnum.Gandaki);
+		location.setCountry("Nepal");
+		location.setZipcode(33700);
+		location.setLatitude(28.21f);
+		location.setLongitude(83.96f);
+
+		CreatePropertyDTO dto = new CreatePropertyDTO();
+		dto.setTitle(title);
+		dto.setDescription("A long description that listing cards do not need");
+		dto.setOwnerId(ownerId);
+		dto.setType(TypeEnum.House);
+		dto.setStatus(StatusEnum.Available);
+		dto.setLocation(location);
+		propertyService.createProperty(dto);
+	}
+}
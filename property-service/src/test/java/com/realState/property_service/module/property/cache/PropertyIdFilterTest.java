@@ -0,0 +1,140 @@
+package com.realState.property_service.module.property.cache;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import java.util.UUID;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.realState.property_service.common.exceptions.property.PropertyNotFoundException;
+import com.realState.property_service.database.enums.StateEnum;
+import com.realState.property_service.database.repository.PropertyArchiveRepository;
+import com.realState.property_service.database.repository.PropertyRepository;
+import com.realState.property_service.module.location.dto.CreateLocationDTO;
+import com.realState.property_service.module.property.dto.CreatePropertyDTO;
+import com.realState.property_service.module.property.dto.PropertyBatchDTO;
+import com.realState.property_service.module.property.dto.PropertyDTO;
+import com.realState.property_service.module.property.service.PropertyService;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.persistence.EntityManagerFactory;
+
+/**
+ * Guards the property id filter: lookups of ids that do not exist cost one primary key probe, ids
+ * created on another instance are still found, and a rebuild picks up ids the filter was never told
+ * about.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class PropertyIdFilterTest {
+
+	@Autowired
+	private PropertyService propertyService;
+
+	@Autowired
+	private PropertyIdFilter propertyIdFilter;
+
+	@Autowired
+	private PropertyRepository propertyRepository;
+
+	@Autowired
+	private PropertyArchiveRepository propertyArchiveRepository;
+
+	@Autowired
+	private EntityManagerFactory entityManagerFactory;
+
+	@Autowired
+	private MeterRegistry meterRegistry;
+
+	@Test
+	void missingIdsOnlyProbeTheLiveTable() {
+		propertyIdFilter.rebuild();
+		UUID missing = UUID.randomUUID();
+		double absent = meterRegistry.counter("property.idfilter.lookups", "result", "absent").count();
+		Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+		statistics.clear();
+
+		assertThrows(PropertyNotFoundException.class, () -> propertyService.getPropertyById(missing));
+		assertEquals(1, statistics.getPrepareStatementCount());
+		assertEquals(absent + 1, meterRegistry.counter("property.idfilter.lookups", "result", "absent").count());
+
+		statistics.clear();
+		PropertyBatchDTO batch = propertyService.getPropertiesByIds(List.of(missing));
+		assertEquals(List.of(missing), batch.getMissingIds());
+		assertEquals(1, statistics.getPrepareStatementCount());
+	}
+
+	@Test
+	void idsCreatedOnAnotherInstanceAreStillFound() {
+		// Swap in a filter built before the creates, as on an instance that did not serve them
+		PropertyIdFilter other = new PropertyIdFilter(propertyRepository, propertyArchiveRepository,
+				new SimpleMeterRegistry(), true, 1000, 0.01);
+		other.rebuild();
+		UUID single = propertyService.createProperty(property()).getId();
+		UUID batched = propertyService.createProperty(property()).getId();
+		Object own = ReflectionTestUtils.getField(propertyIdFilter, "current");
+		ReflectionTestUtils.setField(propertyIdFilter, "current", ReflectionTestUtils.getField(other, "current"));
+		try {
+			assertFalse(propertyIdFilter.mightContain(single));
+			double missed = meterRegistry.counter("property.idfilter.missed").count();
+
+			assertEquals(single, propertyService.getPropertyById(single).getId());
+			PropertyBatchDTO batch = propertyService.getPropertiesByIds(List.of(batched));
+			assertEquals(List.of(batched), batch.getProperties().stream().map(PropertyDTO::getId).toList());
+			assertEquals(List.of(), batch.getMissingIds());
+
+			// Found ids are added, so later lookups take the regular path
+			assertTrue(propertyIdFilter.mightContain(single));
+			assertTrue(propertyIdFilter.mightContain(batched));
+			assertEquals(missed + 2, meterRegistry.counter("property.idfilter.missed").count());
+		} finally {
+			ReflectionTestUtils.setField(propertyIdFilter, "current", own);
+		}
+	}
+
+	@Test
+	void rebuildPicksUpIdsCreatedSinceTheLastBuild() {
+		// A filter of its own, so creates through the service do not add to it
+		PropertyIdFilter filter = new PropertyIdFilter(propertyRepository, propertyArchiveRepository,
+				new SimpleMeterRegistry(), true, 1000, 0.01);
+		UUID before = propertyService.createProperty(property()).getId();
+		assertTrue(filter.mightContain(UUID.randomUUID()));
+
+		filter.rebuild();
+		assertTrue(filter.mightContain(before));
+		UUID after = propertyService.createProperty(property()).getId();
+		assertFalse(filter.mightContain(after));
+
+		filter.rebuild();
+		assertTrue(filter.mightContain(after));
+		assertTrue(filter.mightContain(before));
+	}
+
+	private static CreatePropertyDTO property() {
+		CreateLocationDTO location = new CreateLocationDTO();
+		location.setAddress("Bhanu Chowk");
+		location.setCity("Dharan");
+		location.setState(StateEnum.Koshi);
+		location.setCountry("Nepal");
+		location.setZipcode(56700);
+		location.setLatitude(26.81f);
+		location.setLongitude(87.28f);
+
+		CreatePropertyDTO dto = new CreatePropertyDTO();
+		dto.setTitle("Filtered listing");
+		dto.setOwnerId(UUID.randomUUID());
+		dto.setLocation(location);
+		return dto;
+	}
+}
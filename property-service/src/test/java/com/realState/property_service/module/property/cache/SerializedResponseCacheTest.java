@@ -0,0 +1,158 @@
+package com.realState.property_service.module.property.cache;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import java.util.zip.GZIPInputStream;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.realState.property_service.common.cache.CatalogVersion;
+import com.realState.property_service.common.utils.ApiResponse;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * Guards the serialized response cache: a hit returns the bytes of the first response, gzip is
+ * only sent to clients that accept it, a catalog version bump retires every entry, and concurrent
+ * misses on one key load once between them.
+ */
+class SerializedResponseCacheTest {
+
+	private final ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+	private final CatalogVersion catalogVersion = new CatalogVersion();
+	private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+	private final ExecutorService executor = Executors.newCachedThreadPool();
+	private final AtomicInteger loads = new AtomicInteger();
+
+	@AfterEach
+	void shutDown() {
+		executor.shutdownNow();
+	}
+
+	@Test
+	void hitReturnsTheBytesOfTheFirstResponse() {
+		SerializedResponseCache cache = cache(true);
+
+		byte[] first = cache.serve("approved:page=0", 0, null, loader("page")).getBody();
+		byte[] second = cache.serve("approved:page=0", 0, null, loader("other")).getBody();
+
+		assertArrayEquals(first, second);
+		assertEquals(1, loads.get());
+		assertEquals(1, requests("hit"));
+		assertEquals(1, requests("miss"));
+	}
+
+	@Test
+	void gzipIsOnlySentToClientsThatAcceptIt() throws IOException {
+		SerializedResponseCache cache = cache(true);
+		Supplier<ApiResponse<List<String>>> large = loader("x".repeat(2000));
+
+		ResponseEntity<byte[]> plain = cache.serve("large", 0, null, large);
+		assertNull(plain.getHeaders().getFirst(HttpHeaders.CONTENT_ENCODING));
+		ResponseEntity<byte[]> compressed = cache.serve("large", 0, "gzip, deflate", large);
+		assertEquals("gzip", compressed.getHeaders().getFirst(HttpHeaders.CONTENT_ENCODING));
+		assertTrue(compressed.getBody().length < plain.getBody().length);
+		assertArrayEquals(plain.getBody(), gunzip(compressed.getBody()));
+		assertEquals(HttpHeaders.ACCEPT_ENCODING, compressed.getHeaders().getFirst(HttpHeaders.VARY));
+
+		// Small bodies and a cache with gzip turned off answer plain JSON even when gzip is accepted
+		assertNull(cache.serve("small", 0, "gzip", loader("x")).getHeaders().getFirst(HttpHeaders.CONTENT_ENCODING));
+		assertNull(cache(false).serve("large", 0, "gzip", large).getHeaders()
+				.getFirst(HttpHeaders.CONTENT_ENCODING));
+	}
+
+	@Test
+	void catalogVersionBumpRetiresCachedBodies() throws IOException {
+		SerializedResponseCache cache = cache(true);
+		cache.serve("approved:page=0", 0, null, loader("before"));
+
+		catalogVersion.bumpAfterCommit();
+		byte[] body = cache.serve("approved:page=0", 0, null, loader("after")).getBody();
+
+		assertEquals("after", objectMapper.readTree(body).path("data").get(0).asText());
+		assertEquals(2, loads.get());
+		assertEquals(2, requests("miss"));
+	}
+
+	@Test
+	void concurrentMissesLoadOnce() throws Exception {
+		SerializedResponseCache cache = cache(true);
+		CountDownLatch release = new CountDownLatch(1);
+		Supplier<ApiResponse<List<String>>> slow = () -> {
+			await(release);
+			return loader("page").get();
+		};
+
+		List<Future<byte[]>> responses = new ArrayList<>();
+		for (int i = 0; i < 8; i++) {
+			responses.add(executor.submit(() -> cache.serve("approved:page=0", 0, null, slow).getBody()));
+		}
+		long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+		while (flightCalls("leader") + flightCalls("coalesced") < 8) {
+			assertTrue(System.nanoTime() < deadline, "requests did not reach the loader");
+			Thread.sleep(5);
+		}
+		release.countDown();
+
+		byte[] first = responses.get(0).get(10, TimeUnit.SECONDS);
+		for (Future<byte[]> response : responses) {
+			assertArrayEquals(first, response.get(10, TimeUnit.SECONDS));
+		}
+		assertEquals(1, loads.get());
+		assertEquals(1, flightCalls("leader"));
+	}
+
+	private SerializedResponseCache cache(boolean gzipEnabled) {
+		return new SerializedResponseCache(objectMapper, catalogVersion, mock(SharedCacheTier.class), meterRegistry,
+				true, 100, 5, gzipEnabled, true, 100);
+	}
+
+	private Supplier<ApiResponse<List<String>>> loader(String value) {
+		return () -> {
+			loads.incrementAndGet();
+			return ApiResponse.success(List.of(value));
+		};
+	}
+
+	private double requests(String result) {
+		return meterRegistry.get("property.response.cache.requests").tag("result", result).counter().count();
+	}
+
+	private double flightCalls(String result) {
+		return meterRegistry.get("property.singleflight.calls").tag("flight", "listing").tag("result", result)
+				.counter().count();
+	}
+
+	private static byte[] gunzip(byte[] body) throws IOException {
+		try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(body))) {
+			return in.readAllBytes();
+		}
+	}
+
+	private static void await(CountDownLatch latch) {
+		try {
+			latch.await(10, TimeUnit.SECONDS);
+		} catch (InterruptedException ex) {
+			Thread.currentThread().interrupt();
+		}
+	}
+}
@@ -0,0 +1,161 @@
+package com.realState.property_service.module.property.cache;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.BooleanSupplier;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.realState.property_service.common.cache.CatalogVersion;
+import com.realState.property_service.common.cache.shared.EmbeddedRedisServer;
+import com.realState.property_service.common.cache.shared.RedisSharedCache;
+import com.realState.property_service.database.enums.ApprovalStatusEnum;
+import com.realState.property_service.database.enums.StateEnum;
+import com.realState.property_service.database.enums.StatusEnum;
+import com.realState.property_service.database.enums.TypeEnum;
+import com.realState.property_service.module.location.dto.LocationDTO;
+import com.realState.property_service.module.property.dto.PropertyDTO;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * Two instances sharing one Redis-protocol server: entries written by one are read by the other,
+ * and a write on one evicts the other's local copies.
+ */
+class SharedCacheTierTest {
+
+	private EmbeddedRedisServer server;
+	private Replica first;
+	private Replica second;
+
+	private final class Replica {
+		final CatalogVersion catalogVersion = new CatalogVersion();
+		final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+		final PropertyDetailCache detailCache = new PropertyDetailCache(catalogVersion, meterRegistry, true, 100, 30);
+		final OwnerStatsCache ownerStatsCache = new OwnerStatsCache(catalogVersion, meterRegistry, true, 100, 60);
+		final RedisSharedCache sharedCache = new RedisSharedCache("127.0.0.1", server.getPort(), "", 0, 1000, 4);
+		final SharedCacheTier tier = new SharedCacheTier(sharedCache, catalogVersion, detailCache, ownerStatsCache,
+				meterRegistry, 300, 60, 5, 5000);
+
+		double invalidations() {
+			return meterRegistry.find("property.cache.shared.invalidations").counters().stream()
+					.mapToDouble(counter -> counter.count()).sum();
+		}
+	}
+
+	@BeforeEach
+	void start() throws Exception {
+		server = new EmbeddedRedisServer();
+		first = new Replica();
+		second = new Replica();
+		long before = second.catalogVersion.current();
+		first.tier.subscribe();
+		second.tier.subscribe();
+		// Subscribing bumps the catalog version once the subscription is live
+		await(() -> second.catalogVersion.current() != before);
+	}
+
+	@AfterEach
+	void stop() throws Exception {
+		first.sharedCache.close();
+		second.sharedCache.close();
+		server.close();
+	}
+
+	@Test
+	void propertiesWrittenByOneInstanceAreReadByAnother() {
+		PropertyDTO dto = property();
+		first.tier.putProperties(List.of(dto), first.catalogVersion.current());
+
+		PropertyDTO read = second.tier.getProperties(List.of(dto.getId(), UUID.randomUUID())).get(dto.getId());
+
+		assertNotNull(read);
+		assertEquals(dto.getTitle(), read.getTitle());
+		assertEquals(dto.getApprovalStatus(), read.getApprovalStatus());
+		assertEquals(dto.getUpdatedAt(), read.getUpdatedAt());
+		assertEquals(dto.getLocation().getCity(), read.getLocation().getCity());
+		assertEquals(dto.getLocation().getLatitude(), read.getLocation().getLatitude());
+		assertNull(read.getLocation().getZipcode());
+	}
+
+	@Test
+	void writeOnOneInstanceInvalidatesTheOther() {
+		PropertyDTO dto = property();
+		first.tier.putProperties(List.of(dto), first.catalogVersion.current());
+		second.detailCache.put(dto, second.catalogVersion.current());
+		long generation = second.tier.pageGeneration();
+		byte[] page = "[]".getBytes(StandardCharsets.UTF_8);
+		second.tier.putPage("approved:0:10", generation, second.catalogVersion.current(), page);
+		assertArrayEquals(page, first.tier.getPage("approved:0:10", first.tier.pageGeneration()));
+		long secondVersion = second.catalogVersion.current();
+
+		first.tier.invalidateAfterCommit(dto.getId(), dto.getOwnerId());
+
+		await(() -> second.catalogVersion.current() != secondVersion);
+		assertNull(second.detailCache.get(dto.getId()));
+		assertFalse(server.containsKey("property:dto:" + dto.getId()));
+		assertTrue(second.tier.pageGeneration() > generation);
+		assertNull(second.tier.getPage("approved:0:10", second.tier.pageGeneration()));
+		assertTrue(second.invalidations() >= 1);
+	}
+
+	@Test
+	void lostSubscriptionDropsLocalEntriesOnReconnect() throws Exception {
+		PropertyDTO dto = property();
+		second.detailCache.put(dto, second.catalogVersion.current());
+		long secondVersion = second.catalogVersion.current();
+
+		server.disconnectClients();
+
+		await(() -> second.catalogVersion.current() != secondVersion);
+		assertNull(second.detailCache.get(dto.getId()));
+	}
+
+	private static void await(BooleanSupplier condition) {
+		long deadline = System.currentTimeMillis() + 5000;
+		while (!condition.getAsBoolean()) {
+			assertTrue(System.currentTimeMillis() < deadline, "condition not met in time");
+			try {
+				Thread.sleep(10);
+			} catch (InterruptedException ex) {
+				Thread.currentThread().interrupt();
+				return;
+			}
+		}
+	}
+
+	private static PropertyDTO property() {
+		LocationDTO location = new LocationDTO();
+		location.setId(7L);
+		location.setAddress("Lakeside");
+		location.setCity("Pokhara");
+		location.setState(StateEnum.Gandaki);
+		location.setCountry("Nepal");
+		location.setLatitude(28.21f);
+		location.setLongitude(83.96f);
+
+		PropertyDTO dto = new PropertyDTO();
+		dto.setId(UUID.randomUUID());
+		dto.setTitle("Lake view ताल");
+		dto.setDescription("Description");
+		dto.setType(TypeEnum.House);
+		dto.setStatus(StatusEnum.Available);
+		dto.setApprovalStatus(ApprovalStatusEnum.approved);
+		dto.setOwnerId(UUID.randomUUID());
+		dto.setCreatedAt(LocalDateTime.now().minusDays(3));
+		dto.setUpdatedAt(LocalDateTime.now());
+		dto.setLocation(location);
+		return dto;
+	}
+}
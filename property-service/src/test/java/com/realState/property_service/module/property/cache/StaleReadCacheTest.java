@@ -0,0 +1,172 @@
+package com.realState.property_service.module.property.cache;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataRetrievalFailureException;
+
+import com.realState.property_service.common.cache.CatalogVersion;
+import com.realState.property_service.common.exceptions.OverloadedException;
+import com.realState.property_service.common.exceptions.property.PropertyNotFoundException;
+import com.realState.property_service.common.resilience.CircuitBreaker;
+import com.realState.property_service.common.utils.ApiResponse;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * Guards serving stale buyer reads: the last-known-good copy answers database failures while the
+ * breaker is closed and every read while it is open, the breaker probes again once the open period
+ * is over, and outdated copies are served while one background refresh reloads them.
+ */
+class StaleReadCacheTest {
+
+	private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+	private final CatalogVersion catalogVersion = new CatalogVersion();
+	private final List<StaleReadCache> caches = new ArrayList<>();
+
+	@AfterEach
+	void stopRefreshers() {
+		caches.forEach(StaleReadCache::stop);
+	}
+
+	@Test
+	void failuresAreAnsweredFromTheLastCopyWhileTheBreakerIsClosed() {
+		// No revalidate window, so every read goes to the loader
+		StaleReadCache cache = cache(0, 3, 10000);
+		assertFresh("v1", cache.read("approved:1", () -> ApiResponse.success("v1")));
+
+		ApiResponse<String> stale = cache.read("approved:1", unavailable());
+		assertEquals("v1", stale.getData());
+		assertTrue(stale.getStale());
+		assertNotNull(stale.getDataAsOf());
+		assertEquals(1, served("error"));
+		assertEquals(CircuitBreaker.State.CLOSED.ordinal(), circuitState());
+
+		// Without a copy the failure reaches the caller
+		assertThrows(DataRetrievalFailureException.class, () -> cache.read("approved:2", unavailable()));
+
+		// An answer from the database, even an error, retires the copy
+		assertThrows(PropertyNotFoundException.class, () -> cache.read("approved:1", () -> {
+			throw new PropertyNotFoundException("gone");
+		}));
+		assertThrows(DataRetrievalFailureException.class, () -> cache.read("approved:1", unavailable()));
+	}
+
+	@Test
+	void openBreakerServesTheLastCopyWithoutReadingUntilTheProbeSucceeds() throws Exception {
+		StaleReadCache cache = cache(0, 2, 300);
+		assertFresh("v1", cache.read("approved:1", () -> ApiResponse.success("v1")));
+		cache.read("approved:1", unavailable());
+		cache.read("approved:1", unavailable());
+		assertEquals(CircuitBreaker.State.OPEN.ordinal(), circuitState());
+
+		AtomicInteger loads = new AtomicInteger();
+		Supplier<ApiResponse<String>> loader = () -> {
+			loads.incrementAndGet();
+			return ApiResponse.success("v2");
+		};
+		ApiResponse<String> stale = cache.read("approved:1", loader);
+		assertEquals("v1", stale.getData());
+		assertTrue(stale.getStale());
+		assertEquals(0, loads.get());
+		assertEquals(1, served("circuit_open"));
+		assertThrows(OverloadedException.class, () -> cache.read("approved:2", loader));
+
+		// Once the open period is over a single probe reads again and closes the breaker
+		Thread.sleep(400);
+		assertFresh("v2", cache.read("approved:1", loader));
+		assertEquals(1, loads.get());
+		assertEquals(CircuitBreaker.State.CLOSED.ordinal(), circuitState());
+	}
+
+	@Test
+	void outdatedCopiesAreServedWhileOneRefreshReloadsThem() throws Exception {
+		StaleReadCache cache = cache(30, 3, 10000);
+		assertFresh("v1", cache.read("approved:1", () -> ApiResponse.success("v1")));
+
+		// Within the revalidate window the copy at the current version needs no read
+		assertFresh("v1", cache.read("approved:1", () -> {
+			throw new AssertionError("fresh copy was reloaded");
+		}));
+
+		catalogVersion.bumpAfterCommit();
+		ApiResponse<String> stale = cache.read("approved:1", () -> ApiResponse.success("v2"));
+		assertEquals("v1", stale.getData());
+		assertTrue(stale.getStale());
+		assertEquals(1, served("revalidate"));
+
+		long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+		while (meterRegistry.get("property.stale.refresh").tag("result", "success").counter().count() < 1) {
+			assertTrue(System.nanoTime() < deadline, "background refresh did not finish");
+			Thread.sleep(10);
+		}
+		assertFresh("v2", cache.read("approved:1", () -> {
+			throw new AssertionError("refreshed copy was reloaded");
+		}));
+	}
+
+	@Test
+	void breakerLetsOneProbeThroughAfterTheOpenPeriod() throws Exception {
+		List<String> transitions = new ArrayList<>();
+		CircuitBreaker breaker = new CircuitBreaker(2, 100, (from, to) -> transitions.add(from + "->" + to));
+		breaker.onFailure();
+		assertTrue(breaker.tryAcquire());
+		breaker.onFailure();
+		assertFalse(breaker.tryAcquire());
+
+		Thread.sleep(150);
+		assertTrue(breaker.tryAcquire());
+		assertFalse(breaker.tryAcquire());
+		breaker.onFailure();
+		assertEquals(CircuitBreaker.State.OPEN, breaker.getState());
+
+		// A shed probe says nothing about the resource and frees the slot for the next one
+		Thread.sleep(150);
+		assertTrue(breaker.tryAcquire());
+		breaker.onIgnored();
+		assertEquals(CircuitBreaker.State.HALF_OPEN, breaker.getState());
+		assertTrue(breaker.tryAcquire());
+		breaker.onSuccess();
+		assertTrue(breaker.tryAcquire());
+		assertEquals(List.of("CLOSED->OPEN", "OPEN->HALF_OPEN", "HALF_OPEN->OPEN", "OPEN->HALF_OPEN",
+				"HALF_OPEN->CLOSED"), transitions);
+	}
+
+	private StaleReadCache cache(long revalidateSeconds, int failureThreshold, long openMillis) {
+		StaleReadCache cache = new StaleReadCache(catalogVersion, meterRegistry, true, 100, revalidateSeconds, 600,
+				failureThreshold, openMillis);
+		caches.add(cache);
+		return cache;
+	}
+
+	private double served(String reason) {
+		return meterRegistry.get("property.stale.served").tag("reason", reason).counter().count();
+	}
+
+	private double circuitState() {
+		return meterRegistry.get("property.circuit.state").tag("name", "buyer_read").gauge().value();
+	}
+
+	private static Supplier<ApiResponse<String>> unavailable() {
+		return () -> {
+			throw new DataRetrievalFailureException("database down");
+		};
+	}
+
+	private static void assertFresh(String expected, ApiResponse<String> response) {
+		assertEquals(expected, response.getData());
+		assertNull(response.getStale());
+	}
+}
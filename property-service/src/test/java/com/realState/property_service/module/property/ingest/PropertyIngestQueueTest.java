@@ -0,0 +1,134 @@
+package com.realState.property_service.module.property.ingest;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.test.context.ActiveProfiles;
+
+import com.realState.property_service.common.exceptions.property.IngestQueueFullException;
+import com.realState.property_service.common.handler.GlobalExceptionHandler;
+import com.realState.property_service.common.utils.ApiResponse;
+import com.realState.property_service.database.enums.IngestStatusEnum;
+import com.realState.property_service.database.enums.StateEnum;
+import com.realState.property_service.database.repository.PropertyRepository;
+import com.realState.property_service.module.location.dto.CreateLocationDTO;
+import com.realState.property_service.module.property.dto.CreatePropertyDTO;
+import com.realState.property_service.module.property.dto.PropertyDTO;
+import com.realState.property_service.module.property.dto.PropertyIngestStatusDTO;
+import com.realState.property_service.module.property.service.PropertyService;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * Guards the asynchronous ingest queue: a full or stopping queue rejects with 429 instead of
+ * stranding requests, and a failed group commit falls back to one create per request. Each test
+ * runs its own queue so it controls capacity, batch size and the writer's lifetime.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class PropertyIngestQueueTest {
+
+	@Autowired
+	private PropertyService propertyService;
+
+	@Autowired
+	private PropertyRepository propertyRepository;
+
+	@Test
+	void fullAndStoppedQueuesRejectWith429() throws Exception {
+		CountDownLatch release = new CountDownLatch(1);
+		PropertyService blocked = mock(PropertyService.class);
+		when(blocked.createProperties(anyList())).thenAnswer(invocation -> {
+			release.await(10, TimeUnit.SECONDS);
+			return propertyService.createProperties(invocation.getArgument(0));
+		});
+		PropertyIngestQueue queue = new PropertyIngestQueue(blocked, new SimpleMeterRegistry(), true, 1, 1, 0, 100);
+		queue.start();
+
+		// The writer holds the first request, the second fills the queue, the third is turned away
+		PropertyIngestStatusDTO first = queue.submit(property("First"));
+		verify(blocked, timeout(5000)).createProperties(anyList());
+		PropertyIngestStatusDTO second = queue.submit(property("Second"));
+		IngestQueueFullException full = assertThrows(IngestQueueFullException.class,
+				() -> queue.submit(property("Third")));
+
+		ResponseEntity<ApiResponse<Object>> response = new GlobalExceptionHandler().handleIngestQueueFull(full);
+		assertEquals(HttpStatus.TOO_MANY_REQUESTS, response.getStatusCode());
+		assertEquals("1", response.getHeaders().getFirst(HttpHeaders.RETRY_AFTER));
+
+		// Accepted requests are still written on shutdown, later ones are rejected
+		release.countDown();
+		queue.stop();
+		assertEquals(IngestStatusEnum.created, queue.getStatus(first.getTrackingId()).getStatus());
+		assertEquals(IngestStatusEnum.created, queue.getStatus(second.getTrackingId()).getStatus());
+		assertThrows(IngestQueueFullException.class, () -> queue.submit(property("Late")));
+	}
+
+	@Test
+	void failedGroupCommitFallsBackToOneCreatePerRequest() throws Exception {
+		SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+		// A wide window so the three requests share one batch
+		PropertyIngestQueue queue = new PropertyIngestQueue(propertyService, meterRegistry, true, 10, 3, 2000, 100);
+		queue.start();
+		long before = propertyRepository.count();
+
+		CreatePropertyDTO broken = property("Broken");
+		broken.setLocation(null);
+		List<PropertyIngestStatusDTO> submitted = List.of(queue.submit(property("Good one")), queue.submit(broken),
+				queue.submit(property("Good two")));
+		queue.stop();
+
+		PropertyIngestStatusDTO goodOne = queue.getStatus(submitted.get(0).getTrackingId());
+		PropertyIngestStatusDTO failed = queue.getStatus(submitted.get(1).getTrackingId());
+		PropertyIngestStatusDTO goodTwo = queue.getStatus(submitted.get(2).getTrackingId());
+		assertEquals(IngestStatusEnum.created, goodOne.getStatus());
+		assertEquals(IngestStatusEnum.created, goodTwo.getStatus());
+		assertEquals(IngestStatusEnum.failed, failed.getStatus());
+		assertNull(failed.getPropertyId());
+		assertNotNull(failed.getError());
+
+		// The rolled back batch left nothing behind, the retries created each good row once
+		assertEquals(before + 2, propertyRepository.count());
+		PropertyDTO created = propertyService.getPropertyById(goodOne.getPropertyId());
+		assertEquals("Good one", created.getTitle());
+		assertTrue(propertyRepository.existsById(goodTwo.getPropertyId()));
+		assertEquals(0, meterRegistry.summary("property.ingest.batch.size").count());
+		assertEquals(1, meterRegistry.counter("property.ingest.requests", "result", "failed").count());
+	}
+
+	private static CreatePropertyDTO property(String title) {
+		CreateLocationDTO location = new CreateLocationDTO();
+		location.setAddress("Durbar Marg");
+		location.setCity("Kathmandu");
+		location.setState(StateEnum.Bagmati);
+		location.setCountry("Nepal");
+		location.setZipcode(44600);
+		location.setLatitude(27.71f);
+		location.setLongitude(85.32f);
+
+		CreatePropertyDTO dto = new CreatePropertyDTO();
+		dto.setTitle(title);
+		dto.setOwnerId(UUID.randomUUID());
+		dto.setLocation(location);
+		return dto;
+	}
+}
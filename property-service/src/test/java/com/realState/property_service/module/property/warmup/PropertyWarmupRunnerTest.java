@@ -0,0 +1,111 @@
+package com.realState.property_service.module.property.warmup;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.atMost;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.sql.Connection;
+import java.util.List;
+import java.util.UUID;
+
+import javax.sql.DataSource;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.realState.property_service.database.enums.StateEnum;
+import com.realState.property_service.database.enums.StatusEnum;
+import com.realState.property_service.database.enums.TypeEnum;
+import com.realState.property_service.database.repository.PropertyRepository;
+import com.realState.property_service.module.property.cache.PropertyDetailCache;
+import com.realState.property_service.module.property.cache.SerializedResponseCache;
+import com.realState.property_service.module.property.cache.StaleReadCache;
+import com.realState.property_service.module.property.controller.PropertyController;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * Guards the warm-up's limits: it runs the configured number of iterations and no more, stops at
+ * its time budget part way through an iteration, survives failing calls, and never goes through
+ * the detail endpoint that counts views.
+ */
+class PropertyWarmupRunnerTest {
+
+	// Every status/type/state combination, each also unset
+	private static final int FILTER_CALLS = (StatusEnum.values().length + 1) * (TypeEnum.values().length + 1)
+			* (StateEnum.values().length + 1);
+
+	private final PropertyController controller = mock(PropertyController.class);
+	private final PropertyRepository propertyRepository = mock(PropertyRepository.class);
+	private final SerializedResponseCache responseCache = mock(SerializedResponseCache.class);
+	private final PropertyDetailCache propertyDetailCache = mock(PropertyDetailCache.class);
+	private final StaleReadCache staleReadCache = mock(StaleReadCache.class);
+	private final DataSource dataSource = mock(DataSource.class);
+	private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+	@BeforeEach
+	void sampleIds() throws Exception {
+		when(dataSource.getConnection()).thenReturn(mock(Connection.class));
+		when(propertyRepository.findIdsOrdered(any()))
+				.thenReturn(List.of(UUID.randomUUID(), UUID.randomUUID(), UUID.randomUUID()));
+	}
+
+	@Test
+	void runsTheConfiguredIterations() {
+		runner(30000, 3).run(null);
+
+		verify(controller, times(3 * 2)).getApprovedProperty(anyInt(), anyInt(), any());
+		verify(controller, times(3 * FILTER_CALLS)).filterPropertiesWithParams(any(), any());
+		verify(controller, times(3 * 3)).readPropertyById(any());
+		verify(controller, never()).getPropertyById(any());
+		// Caches are cleared before every iteration but the first
+		verify(responseCache, times(2)).clear();
+		verify(propertyDetailCache, times(2)).clear();
+		verify(staleReadCache, times(2)).clear();
+	}
+
+	@Test
+	void stopsAtTheTimeBudget() {
+		when(controller.getApprovedProperty(anyInt(), anyInt(), any())).thenAnswer(invocation -> {
+			Thread.sleep(150);
+			return null;
+		});
+
+		long started = System.nanoTime();
+		runner(250, 100).run(null);
+		long elapsedMs = (System.nanoTime() - started) / 1_000_000;
+
+		// The budget runs out among the approved pages of the first iteration
+		assertTrue(elapsedMs < 2000, "warm-up took " + elapsedMs + " ms");
+		verify(controller, atLeastOnce()).getApprovedProperty(anyInt(), anyInt(), any());
+		verify(controller, atMost(2)).getApprovedProperty(anyInt(), anyInt(), any());
+		verify(controller, never()).filterPropertiesWithParams(any(), any());
+		verify(controller, never()).readPropertyById(any());
+		verify(responseCache, never()).clear();
+	}
+
+	@Test
+	void failingCallsAreCountedAndDoNotStopTheWarmUp() {
+		when(controller.readPropertyById(any())).thenThrow(new IllegalStateException("database down"));
+
+		runner(30000, 2).run(null);
+
+		verify(controller, times(2 * 3)).readPropertyById(any());
+		assertEquals(2 * 3, meterRegistry.get("property.warmup.calls").tag("result", "failed").counter().count());
+		assertEquals(2 * (2 + FILTER_CALLS),
+				meterRegistry.get("property.warmup.calls").tag("result", "success").counter().count());
+	}
+
+	private PropertyWarmupRunner runner(long budgetMs, int iterations) {
+		return new PropertyWarmupRunner(controller, propertyRepository, responseCache, propertyDetailCache,
+				staleReadCache, dataSource, meterRegistry, true, budgetMs, iterations, 2, 3);
+	}
+}
@@ -0,0 +1,128 @@
+package com.realState.property_service.module.savedsearch;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.UUID;
+
+import com.realState.property_service.database.enums.StateEnum;
+import com.realState.property_service.database.enums.StatusEnum;
+import com.realState.property_service.database.enums.TypeEnum;
+import com.realState.property_service.module.savedsearch.matcher.SavedSearchMatcher;
+import com.realState.property_service.module.savedsearch.matcher.SavedSearchQuery;
+
+/**
+ * Indexes N random saved searches and times matching random approved listings against them.
+ * <p>
+ * Run with scripts/saved-search-benchmark.sh [searches] [listings]. Not a test: surefire skips it.
+ */
+public final class SavedSearchMatcherBenchmark {
+
+	// One city per district, as most buyers search within a single town
+	private static final int CITIES = 77;
+
+	private SavedSearchMatcherBenchmark() {
+	}
+
+	public static void main(String[] args) {
+		int searches = args.length > 0 ? Integer.parseInt(args[0]) : 1_000_000;
+		int listings = args.length > 1 ? Integer.parseInt(args[1]) : 10_000;
+		Random random = new Random(7);
+
+		List<SavedSearchQuery> queries = randomQueries(random, searches);
+		Runtime runtime = Runtime.getRuntime();
+		System.gc();
+		long heapBefore = runtime.totalMemory() - runtime.freeMemory();
+		long started = System.nanoTime();
+		SavedSearchMatcher matcher = new SavedSearchMatcher();
+		queries.forEach(matcher::put);
+		long indexMillis = (System.nanoTime() - started) / 1_000_000;
+		System.gc();
+		long heapAfter = runtime.totalMemory() - runtime.freeMemory();
+
+		// Warm up the match path before measuring
+		for (int i = 0; i < 5_000; i++) {
+			matchRandom(matcher, random);
+		}
+
+		long[] nanos = new long[listings];
+		long matches = 0;
+		for (int i = 0; i < listings; i++) {
+			long start = System.nanoTime();
+			matches += matchRandom(matcher, random);
+			nanos[i] = System.nanoTime() - start;
+		}
+		Arrays.sort(nanos);
+
+		System.out.printf("searches=%d indexed in %d ms, index heap ~%d MB%n", matcher.size(), indexMillis,
+				(heapAfter - heapBefore) / (1024 * 1024));
+		long total = Arrays.stream(nanos).sum();
+		System.out.printf("listings=%d avg matches=%.1f p50=%.1f us p99=%.1f us max=%.1f us, %.1f ns per match%n",
+				listings, (double) matches / listings, nanos[listings / 2] / 1000.0,
+				nanos[(int) (listings * 0.99)] / 1000.0, nanos[listings - 1] / 1000.0,
+				matches == 0 ? 0.0 : (double) total / matches);
+	}
+
+	/**
+	 * Searches shaped like buyers' filters: over half pinned to a city (some also to a circle inside
+	 * it), some to a circle of up to 25 km only, the rest to one or two states; most ask for available
+	 * listings of one type.
+	 */
+	static List<SavedSearchQuery> randomQueries(Random random, int count) {
+		List<SavedSearchQuery> queries = new ArrayList<>(count);
+		for (int i = 0; i < count; i++) {
+			Set<StatusEnum> statuses = random.nextInt(10) < 7 ? EnumSet.of(StatusEnum.Available) : Set.of();
+			Set<TypeEnum> types = random.nextInt(10) < 7
+					? EnumSet.of(TypeEnum.values()[random.nextInt(TypeEnum.values().length)])
+					: Set.of();
+			Set<StateEnum> states = EnumSet.noneOf(StateEnum.class);
+			String city = null;
+			Double latitude = null;
+			Double longitude = null;
+			Double radiusKm = null;
+
+			int shape = random.nextInt(100);
+			if (shape < 55) {
+				city = randomCity(random);
+			} else {
+				states.add(StateEnum.values()[random.nextInt(StateEnum.values().length)]);
+				if (random.nextBoolean()) {
+					states.add(StateEnum.values()[random.nextInt(StateEnum.values().length)]);
+				}
+			}
+			if (shape < 10 || shape >= 85) {
+				latitude = randomLatitude(random);
+				longitude = randomLongitude(random);
+				radiusKm = 1 + random.nextDouble() * 24;
+			}
+			queries.add(SavedSearchQuery.of(i + 1, UUID.randomUUID(), statuses, types, states, city, latitude,
+					longitude, radiusKm));
+		}
+		return queries;
+	}
+
+	static String randomCity(Random random) {
+		return "City-" + random.nextInt(CITIES);
+	}
+
+	static double randomLatitude(Random random) {
+		return 26.5 + random.nextDouble() * 3.5;
+	}
+
+	static double randomLongitude(Random random) {
+		return 80.2 + random.nextDouble() * 7.9;
+	}
+
+	private static int matchRandom(SavedSearchMatcher matcher, Random random) {
+		return matcher.match(
+				StatusEnum.values()[random.nextInt(StatusEnum.values().length)],
+				TypeEnum.values()[random.nextInt(TypeEnum.values().length)],
+				StateEnum.values()[random.nextInt(StateEnum.values().length)],
+				randomCity(random),
+				randomLatitude(random),
+				randomLongitude(random)).size();
+	}
+}
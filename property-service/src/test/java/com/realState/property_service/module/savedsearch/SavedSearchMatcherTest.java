@@ -0,0 +1,89 @@
+package com.realState.property_service.module.savedsearch;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.Test;
+
+import com.realState.property_service.database.enums.StateEnum;
+import com.realState.property_service.database.enums.StatusEnum;
+import com.realState.property_service.database.enums.TypeEnum;
+import com.realState.property_service.module.savedsearch.matcher.SavedSearchMatcher;
+import com.realState.property_service.module.savedsearch.matcher.SavedSearchQuery;
+
+/**
+ * Checks the indexed matcher against a brute-force scan of the same searches.
+ */
+class SavedSearchMatcherTest {
+
+	@Test
+	void indexedMatchesEqualBruteForce() {
+		Random random = new Random(42);
+		SavedSearchMatcher matcher = new SavedSearchMatcher();
+		List<SavedSearchQuery> queries = SavedSearchMatcherBenchmark.randomQueries(random, 5_000);
+		queries.forEach(matcher::put);
+
+		// Remove and re-add some searches so freed slots are reused
+		for (int i = 0; i < queries.size(); i += 7) {
+			matcher.remove(queries.get(i).getId());
+		}
+		for (int i = 0; i < queries.size(); i += 14) {
+			matcher.put(queries.get(i));
+		}
+		Set<Long> removed = IntStream.range(0, queries.size())
+				.filter(i -> i % 7 == 0 && i % 14 != 0)
+				.mapToObj(i -> queries.get(i).getId())
+				.collect(Collectors.toSet());
+
+		for (int i = 0; i < 2_000; i++) {
+			StatusEnum status = StatusEnum.values()[random.nextInt(StatusEnum.values().length)];
+			TypeEnum type = TypeEnum.values()[random.nextInt(TypeEnum.values().length)];
+			StateEnum state = StateEnum.values()[random.nextInt(StateEnum.values().length)];
+			String city = SavedSearchMatcherBenchmark.randomCity(random);
+			double latitude = SavedSearchMatcherBenchmark.randomLatitude(random);
+			double longitude = SavedSearchMatcherBenchmark.randomLongitude(random);
+
+			Set<Long> expected = queries.stream()
+					.filter(q -> !removed.contains(q.getId()))
+					.filter(q -> q.matches(status, type, state, SavedSearchQuery.normalizeCity(city), latitude,
+							longitude))
+					.map(SavedSearchQuery::getId)
+					.collect(Collectors.toSet());
+			List<SavedSearchQuery> actual = matcher.match(status, type, state, city, latitude, longitude);
+
+			assertEquals(expected, actual.stream().map(SavedSearchQuery::getId).collect(Collectors.toSet()));
+			assertEquals(expected.size(), actual.size());
+		}
+	}
+
+	@Test
+	void emptyCriteriaMatchEverythingAndCityIgnoresCase() {
+		SavedSearchMatcher matcher = new SavedSearchMatcher();
+		UUID buyer = UUID.randomUUID();
+		matcher.put(SavedSearchQuery.of(1, buyer, Set.of(), Set.of(), Set.of(), null, null, null, null));
+		matcher.put(SavedSearchQuery.of(2, buyer, EnumSet.of(StatusEnum.Available), Set.of(), Set.of(), " pokhara ",
+				null, null, null));
+		matcher.put(SavedSearchQuery.of(3, buyer, Set.of(), EnumSet.of(TypeEnum.Land), Set.of(), null, 27.7, 85.3,
+				5.0));
+
+		assertEquals(Set.of(1L, 2L), ids(matcher.match(StatusEnum.Available, TypeEnum.House, StateEnum.Gandaki,
+				"Pokhara", 28.2, 83.98)));
+		assertEquals(Set.of(1L, 3L), ids(matcher.match(StatusEnum.Sold, TypeEnum.Land, StateEnum.Bagmati,
+				"Kathmandu", 27.71, 85.32)));
+
+		matcher.remove(1);
+		assertEquals(Set.of(), ids(matcher.match(StatusEnum.Sold, TypeEnum.House, StateEnum.Koshi, "Dharan",
+				26.8, 87.28)));
+	}
+
+	private static Set<Long> ids(List<SavedSearchQuery> queries) {
+		return queries.stream().map(SavedSearchQuery::getId).collect(Collectors.toSet());
+	}
+}
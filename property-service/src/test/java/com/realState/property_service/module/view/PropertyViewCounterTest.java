@@ -0,0 +1,163 @@
+package com.realState.property_service.module.view;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import javax.sql.DataSource;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import com.realState.property_service.common.exceptions.property.PropertyNotFoundException;
+import com.realState.property_service.database.entity.PropertyViewId;
+import com.realState.property_service.database.enums.StateEnum;
+import com.realState.property_service.database.repository.PropertyRepository;
+import com.realState.property_service.database.repository.PropertyViewRepository;
+import com.realState.property_service.module.location.dto.CreateLocationDTO;
+import com.realState.property_service.module.property.cache.PropertyDetailCache;
+import com.realState.property_service.module.property.cache.SerializedResponseCache;
+import com.realState.property_service.module.property.cache.StaleReadCache;
+import com.realState.property_service.module.property.controller.PropertyController;
+import com.realState.property_service.module.property.dto.CreatePropertyDTO;
+import com.realState.property_service.module.property.service.PropertyService;
+import com.realState.property_service.module.property.warmup.PropertyWarmupRunner;
+import com.realState.property_service.module.view.dto.PropertyViewsDTO;
+import com.realState.property_service.module.view.service.PropertyViewCounter;
+import com.realState.property_service.module.view.service.PropertyViewService;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Guards the write-behind view counts: concurrent views are neither lost nor double counted, seller
+ * reads see them before and after the flush, and the warm-up's reads are not counted.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class PropertyViewCounterTest {
+
+	@Autowired
+	private PropertyService propertyService;
+
+	@Autowired
+	private PropertyViewCounter propertyViewCounter;
+
+	@Autowired
+	private PropertyViewService propertyViewService;
+
+	@Autowired
+	private PropertyViewRepository propertyViewRepository;
+
+	@Autowired
+	private PropertyController propertyController;
+
+	@Autowired
+	private PropertyRepository propertyRepository;
+
+	@Autowired
+	private SerializedResponseCache responseCache;
+
+	@Autowired
+	private PropertyDetailCache propertyDetailCache;
+
+	@Autowired
+	private StaleReadCache staleReadCache;
+
+	@Autowired
+	private DataSource dataSource;
+
+	@Autowired
+	private MeterRegistry meterRegistry;
+
+	@Test
+	void concurrentViewsAreCountedBeforeAndAfterTheFlush() throws Exception {
+		UUID id = propertyService.createProperty(property()).getId();
+		LocalDate today = LocalDate.now();
+
+		ExecutorService executor = Executors.newFixedThreadPool(8);
+		try {
+			List<Future<?>> views = new ArrayList<>();
+			for (int thread = 0; thread < 8; thread++) {
+				views.add(executor.submit(() -> {
+					for (int i = 0; i < 1000; i++) {
+						propertyViewCounter.record(id);
+					}
+				}));
+			}
+			for (Future<?> view : views) {
+				view.get();
+			}
+		} finally {
+			executor.shutdown();
+		}
+
+		PropertyViewsDTO pending = propertyViewService.getViews(id, 7);
+		assertEquals(8000, pending.getTotal());
+		assertEquals(7, pending.getDays().size());
+		assertEquals(today, pending.getDays().get(6).getDate());
+		assertEquals(8000, pending.getDays().get(6).getViews());
+		assertEquals(0, pending.getDays().get(0).getViews());
+
+		propertyViewCounter.flush();
+		assertEquals(0, propertyViewCounter.pendingViews(id, today));
+		assertEquals(8000, propertyViewRepository.findById(new PropertyViewId(id, today)).orElseThrow().getViews());
+
+		// The second flush adds to the existing row
+		for (int i = 0; i < 5; i++) {
+			propertyViewCounter.record(id);
+		}
+		assertEquals(8005, propertyViewService.getViews(id, 1).getTotal());
+		propertyViewCounter.flush();
+		assertEquals(8005, propertyViewRepository.findById(new PropertyViewId(id, today)).orElseThrow().getViews());
+		assertEquals(8005, propertyViewService.getViews(id, 30).getDays().get(29).getViews());
+	}
+
+	@Test
+	void warmUpReadsPropertiesWithoutCountingViews() {
+		UUID id = propertyService.createProperty(property()).getId();
+		propertyDetailCache.clear();
+
+		// Sampling every id, so the new property is among the warm-up's detail reads
+		new PropertyWarmupRunner(propertyController, propertyRepository, responseCache, propertyDetailCache,
+				staleReadCache, dataSource, meterRegistry, true, 30000, 1, 1, 100_000).run(null);
+
+		assertNotNull(propertyDetailCache.get(id));
+		assertEquals(0, propertyViewCounter.pendingViews(id, LocalDate.now()));
+	}
+
+	@Test
+	void unknownPropertiesAndWindowsAreRejected() {
+		assertThrows(PropertyNotFoundException.class, () -> propertyViewService.getViews(UUID.randomUUID(), 7));
+		UUID id = propertyService.createProperty(property()).getId();
+		assertThrows(IllegalArgumentException.class, () -> propertyViewService.getViews(id, 0));
+		assertThrows(IllegalArgumentException.class, () -> propertyViewService.getViews(id, 366));
+	}
+
+	private static CreatePropertyDTO property() {
+		CreateLocationDTO location = new CreateLocationDTO();
+		location.setAddress("Lakeside");
+		location.setCity("Pokhara");
+		location.setState(StateEnum.Gandaki);
+		location.setCountry("Nepal");
+		location.setZipcode(33700);
+		location.setLatitude(28.21f);
+		location.setLongitude(83.96f);
+
+		CreatePropertyDTO dto = new CreatePropertyDTO();
+		dto.setTitle("Lakeside flat");
+		dto.setDescription("Two rooms facing Phewa");
+		dto.setOwnerId(UUID.randomUUID());
+		dto.setLocation(location);
+		return dto;
+	}
+}
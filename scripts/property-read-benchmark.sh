@@ -0,0 +1,57 @@
+#!/usr/bin/env sh
+# Compares buyer read throughput and tail latency between property-service (Spring MVC + JDBC) and
+# property-read-service (WebFlux + R2DBC) under the same concurrency. While the load runs it samples
+# each service's busy database connections (hikaricp.connections.active vs r2dbc.pool.acquired), so
+# connections held per in-flight request can be compared alongside p99.
+#
+# Needs `hey` (https://github.com/rakyll/hey) and both services reachable, e.g. via
+# `docker compose --profile reactive up` with their ports published.
+#
+# Usage: scripts/property-read-benchmark.sh [concurrency] [requests]
+set -eu
+
+CONCURRENCY=${1:-200}
+REQUESTS=${2:-20000}
+MVC_URL=${MVC_URL:-http://localhost:8080}
+REACTIVE_URL=${REACTIVE_URL:-http://localhost:8081}
+ENDPOINT=${ENDPOINT:-/properties/approved?page=1&size=20}
+
+metric() {
+    curl -s "$1/actuator/metrics/$2" | sed -n 's/.*"statistic":"VALUE","value":\([0-9.]*\).*/\1/p'
+}
+
+sample_connections() {
+    base=$1
+    name=$2
+    out=$3
+    : > "$out"
+    while :; do
+        metric "$base" "$name" >> "$out"
+        sleep 0.5
+    done
+}
+
+run() {
+    label=$1
+    base=$2
+    pool_metric=$3
+    samples=$(mktemp)
+
+    sample_connections "$base" "$pool_metric" "$samples" &
+    sampler=$!
+    report=$(hey -c "$CONCURRENCY" -n "$REQUESTS" "$base$ENDPOINT")
+    kill "$sampler" 2>/dev/null || true
+
+    rps=$(echo "$report" | sed -n 's/.*Requests\/sec:[[:space:]]*\([0-9.]*\).*/\1/p')
+    p99=$(echo "$report" | sed -n 's/.*99% in \([0-9.]*\) secs.*/\1/p')
+    peak=$(sort -n "$samples" | tail -1)
+    avg=$(awk '{ s += $1; n++ } END { if (n) printf "%.1f", s / n; else print "n/a" }' "$samples")
+    rm -f "$samples"
+
+    printf '%-10s req/s=%-10s p99=%-8ss db_connections avg=%-6s peak=%s\n' \
+        "$label" "$rps" "$p99" "$avg" "${peak:-n/a}"
+}
+
+echo "GET $ENDPOINT, concurrency=$CONCURRENCY, requests=$REQUESTS"
+run "mvc" "$MVC_URL" "hikaricp.connections.active"
+run "reactive" "$REACTIVE_URL" "r2dbc.pool.acquired"
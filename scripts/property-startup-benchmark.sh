@@ -0,0 +1,86 @@
+#!/usr/bin/env sh
+# Compares property-service startup across the Dockerfile targets: plain JVM, Spring AOT + AppCDS,
+# and (with --native) the GraalVM native image. For each image it records time-to-ready (until
+# /actuator/health/readiness reports UP) and the latency of the first GET /properties/approved.
+#
+# Needs the compose stack's mysql-property container running on the realState_net network.
+#
+# Usage: scripts/property-startup-benchmark.sh [--native] [runs]
+set -eu
+
+NATIVE=false
+if [ "${1:-}" = "--native" ]; then
+    NATIVE=true
+    shift
+fi
+RUNS=${1:-5}
+
+ROOT=$(cd "$(dirname "$0")/.." && pwd)
+NETWORK=${NETWORK:-real_state_microservices_realState_net}
+PORT=${PORT:-18080}
+DB_URL=${SPRING_DATASOURCE_URL:-jdbc:mysql://mysql-property:3306/realState_property_mysql}
+DB_USER=${SPRING_DATASOURCE_USERNAME:-root}
+DB_PASSWORD=${SPRING_DATASOURCE_PASSWORD:-root}
+
+now_ms() {
+    date +%s%3N
+}
+
+build() {
+    target=$1
+    tag=$2
+    if [ -n "$target" ]; then
+        docker build -q --target "$target" -t "$tag" "$ROOT/property-service" >/dev/null
+    else
+        docker build -q -t "$tag" "$ROOT/property-service" >/dev/null
+    fi
+}
+
+measure() {
+    tag=$1
+    start=$(now_ms)
+    container=$(docker run -d --rm --network "$NETWORK" -p "$PORT:8080" \
+        -e SPRING_DATASOURCE_URL="$DB_URL" \
+        -e SPRING_DATASOURCE_USERNAME="$DB_USER" \
+        -e SPRING_DATASOURCE_PASSWORD="$DB_PASSWORD" \
+        "$tag")
+
+    until curl -fs "http://localhost:$PORT/actuator/health/readiness" 2>/dev/null | grep -q '"UP"'; do
+        if [ $(( $(now_ms) - start )) -gt 120000 ]; then
+            echo "$tag did not become ready within 120s" >&2
+            docker logs "$container" | tail -20 >&2
+            docker stop "$container" >/dev/null
+            exit 1
+        fi
+        sleep 0.05
+    done
+    ready=$(( $(now_ms) - start ))
+
+    first=$(curl -s -o /dev/null -w '%{time_total}' "http://localhost:$PORT/properties/approved")
+    rss=$(docker stats --no-stream --format '{{.MemUsage}}' "$container" | cut -d/ -f1)
+
+    docker stop "$container" >/dev/null
+    echo "$ready $first $rss"
+}
+
+report() {
+    name=$1
+    tag=$2
+    echo "== $name"
+    i=1
+    while [ "$i" -le "$RUNS" ]; do
+        set -- $(measure "$tag")
+        printf '  run %d: ready %6d ms, first request %ss, rss %s\n' "$i" "$1" "$2" "$3"
+        i=$((i + 1))
+    done
+}
+
+build "" property-service:bench-jvm
+build aot property-service:bench-aot
+report "jvm" property-service:bench-jvm
+report "aot + appcds" property-service:bench-aot
+
+if [ "$NATIVE" = true ]; then
+    build native property-service:bench-native
+    report "native" property-service:bench-native
+fi
@@ -0,0 +1,14 @@
+#!/usr/bin/env sh
+# Times the in-memory saved-search matcher: indexes N random saved searches, then matches random
+# approved listings against them and prints build time, index heap and match latency percentiles.
+#
+# Usage: scripts/saved-search-benchmark.sh [searches] [listings]
+set -eu
+
+SEARCHES=${1:-1000000}
+LISTINGS=${2:-10000}
+cd "$(dirname "$0")/../property-service"
+
+mvn -B -q test-compile
+java -Xmx2g -cp target/classes:target/test-classes \
+    com.realState.property_service.module.savedsearch.SavedSearchMatcherBenchmark "$SEARCHES" "$LISTINGS"